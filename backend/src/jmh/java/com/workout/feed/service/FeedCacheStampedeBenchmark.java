@@ -0,0 +1,145 @@
+package com.workout.feed.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 콜드 캐시 stampede 한 번(요청 {@code requests}개가 비어 있는 헬스장 윈도우를 동시에 조회)을 처리하는 데 걸리는 시간과, 그동안 요청
+ * 스레드(Tomcat 워커)가 묶여 있던 시간을 비교합니다. DB 적재와 Redis 왕복은 지연으로 흉내 냅니다.
+ * <ul>
+ *   <li>{@code singleFlight}: 현재 방식. 노드 내 follower 는 leader 의 future 를 기다리고, 노드 간 락은 leader 만 잡음</li>
+ *   <li>{@code lockPerRequest}: 이전 방식. 모든 요청이 분산 락을 차례로 잡고 캐시를 다시 확인</li>
+ *   <li>{@code none}: 합치지 않음. 모든 요청이 DB 를 조회</li>
+ * </ul>
+ * 라운드당 DB 조회 수와 스레드 점유 시간(ms)은 종료 시 출력합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedCacheStampedeBenchmark {
+
+  private static final long DB_LOAD_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+  private static final long REDIS_ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+  @Param({"singleFlight", "lockPerRequest", "none"})
+  public String strategy;
+
+  @Param({"64"})
+  public int requests;
+
+  private ExecutorService workers;
+  private final AtomicInteger dbLoads = new AtomicInteger();
+  private final LongAdder busyNanos = new LongAdder();
+  private int rounds;
+
+  private volatile boolean cached;
+  private SingleFlight<Long> singleFlight;
+  private ReentrantLock distributedLock;
+
+  @Setup(Level.Trial)
+  public void startWorkers() {
+    workers = Executors.newFixedThreadPool(requests);
+  }
+
+  @Setup(Level.Invocation)
+  public void coldCache() {
+    cached = false;
+    singleFlight = new SingleFlight<>();
+    distributedLock = new ReentrantLock(true);
+  }
+
+  @TearDown(Level.Trial)
+  public void report() {
+    workers.shutdownNow();
+    System.out.printf("%n[%s] per stampede: dbLoads=%.1f, threadBusyMs=%.1f%n", strategy,
+        (double) dbLoads.get() / rounds, busyNanos.sum() / 1e6 / rounds);
+  }
+
+  @Benchmark
+  public void coldStampede() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>(requests);
+    for (int i = 0; i < requests; i++) {
+      futures.add(workers.submit(() -> {
+        start.await();
+        long startedAt = System.nanoTime();
+        read();
+        busyNanos.add(System.nanoTime() - startedAt);
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    rounds++;
+  }
+
+  private void read() throws InterruptedException {
+    redisRoundTrip(); // ZSET 조회
+    if (cached) {
+      return;
+    }
+    switch (strategy) {
+      case "singleFlight" -> singleFlight.run(1L, this::loadUnderLock, 5, TimeUnit.SECONDS);
+      case "lockPerRequest" -> loadUnderLock();
+      default -> loadWindow();
+    }
+    redisRoundTrip(); // 적재 후 다시 조회
+  }
+
+  private void loadUnderLock() {
+    try {
+      if (!distributedLock.tryLock(5, TimeUnit.SECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    try {
+      redisRoundTrip(); // 락 획득 + hasKey 재확인
+      if (!cached) {
+        loadWindow();
+      }
+    } finally {
+      distributedLock.unlock();
+    }
+  }
+
+  private void loadWindow() {
+    dbLoads.incrementAndGet();
+    LockSupport.parkNanos(DB_LOAD_NANOS);
+    redisRoundTrip(); // 윈도우 적재
+    cached = true;
+  }
+
+  private static void redisRoundTrip() {
+    LockSupport.parkNanos(REDIS_ROUND_TRIP_NANOS);
+  }
+}
@@ -0,0 +1,91 @@
+package com.workout.global.config;
+
+import com.workout.feed.dto.FeedGridResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 피드 그리드 상세 캐시 값의 직렬화 비교.
+ * <ul>
+ *   <li>{@code sharedJson*}: 기존 공용 직렬화기(default typing 이 켜진 {@code redisObjectMapper}). record 는 타입 정보 없이
+ *   기록되어 {@code Object}로는 되읽지 못하므로, 대상 타입을 지정해 읽습니다.</li>
+ *   <li>{@code smile*}/{@code json*}: {@link TypedJacksonRedisSerializer}</li>
+ * </ul>
+ * 항목당 바이트 수는 시작 시 한 번 출력합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedGridSerializerBenchmark {
+
+  private final FeedGridResponse detail = new FeedGridResponse(123_456L,
+      "https://cdn.workout.example/images/2025/08/1f0c2a7e-5b1d-4c3e-9a0f-7d2b8e6c4a11.jpg",
+      "https://cdn.workout.example/images/2025/08/1f0c2a7e-5b1d-4c3e-9a0f-7d2b8e6c4a11_thumb.jpg",
+      "https://cdn.workout.example/images/2025/08/1f0c2a7e-5b1d-4c3e-9a0f-7d2b8e6c4a11_medium.jpg",
+      "헬스하는김철수",
+      "https://cdn.workout.example/profiles/8d3e1b42-0c6f-4a9e-b7d5-2f1a9c8e6b30.png");
+
+  private GenericJackson2JsonRedisSerializer sharedJson;
+  private TypedJacksonRedisSerializer<FeedGridResponse> smile;
+  private TypedJacksonRedisSerializer<FeedGridResponse> json;
+
+  private byte[] sharedJsonBytes;
+  private byte[] smileBytes;
+  private byte[] jsonBytes;
+
+  @Setup
+  public void setUp() {
+    sharedJson = new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper());
+    smile = TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class);
+    json = TypedJacksonRedisSerializer.of("json", FeedGridResponse.class);
+
+    sharedJsonBytes = sharedJson.serialize(detail);
+    smileBytes = smile.serialize(detail);
+    jsonBytes = json.serialize(detail);
+    System.out.printf("%nbytes/entry: sharedJson=%d, json=%d, smile=%d%n", sharedJsonBytes.length,
+        jsonBytes.length, smileBytes.length);
+  }
+
+  @Benchmark
+  public byte[] sharedJsonSerialize() {
+    return sharedJson.serialize(detail);
+  }
+
+  @Benchmark
+  public FeedGridResponse sharedJsonDeserialize() {
+    return sharedJson.deserialize(sharedJsonBytes, FeedGridResponse.class);
+  }
+
+  @Benchmark
+  public byte[] jsonSerialize() {
+    return json.serialize(detail);
+  }
+
+  @Benchmark
+  public FeedGridResponse jsonDeserialize() {
+    return json.deserialize(jsonBytes);
+  }
+
+  @Benchmark
+  public byte[] smileSerialize() {
+    return smile.serialize(detail);
+  }
+
+  @Benchmark
+  public FeedGridResponse smileDeserialize() {
+    return smile.deserialize(smileBytes);
+  }
+}
@@ -0,0 +1,191 @@
+package com.workout.utils.service;
+
+import com.workout.utils.domain.ImagePurpose;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 1건을 디스크에 내려놓는 처리량과 그때 발생하는 파일 I/O 량을 비교합니다.
+ * <ul>
+ *   <li>{@code streaming}: 현재 방식. {@link FileService#stage}가 스트림을 한 번 읽으며 스테이징 파일에 쓰고 SHA-256 을 계산</li>
+ *   <li>{@code transferTo}: 이전 방식. {@code MultipartFile.transferTo}만 하고 해시는 계산하지 않음 (중복 제거 없음)</li>
+ *   <li>{@code transferToThenHash}: {@code transferTo} 후 저장한 파일을 다시 읽어 해시를 계산하는 단순한 중복 제거</li>
+ * </ul>
+ * {@code part}는 Tomcat 이 업로드 파트를 둔 위치를 흉내 냅니다. {@code memory}는 메모리의 바이트 배열이고, {@code disk}는 임시
+ * 파일이라 {@code transferTo}가 이름 변경(rename)으로 끝납니다. (Spring Boot 기본 {@code file-size-threshold}는 0 이므로 운영은
+ * {@code disk}에 가까움) 업로드당 쓰기/읽기 바이트는 {@code /proc/self/io}의 {@code wchar}/{@code rchar} 차이로 재며, 종료 시
+ * 출력합니다. (Linux 전용, 측정용 read 자체의 수백 바이트 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UploadStagingBenchmark {
+
+  private static final Path PROC_IO = Path.of("/proc/self/io");
+
+  @Param({"streaming", "transferTo", "transferToThenHash"})
+  public String strategy;
+
+  @Param({"memory", "disk"})
+  public String part;
+
+  @Param({"262144", "4194304"})
+  public int size;
+
+  private Path uploadDir;
+  private Path partDir;
+  private FileService fileService;
+  private byte[] content;
+  private MultipartFile upload;
+  private Path stored;
+
+  private long uploads;
+  private long writtenBytes;
+  private long readBytes;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    uploadDir = Files.createTempDirectory("upload-bench-");
+    partDir = Files.createTempDirectory("upload-part-");
+    fileService = new FileService(null, null, null, null, null, null);
+    ReflectionTestUtils.setField(fileService, "uploadDir", uploadDir.toString());
+    fileService.init();
+    content = new byte[size];
+    new Random(42).nextBytes(content);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpUpload() throws IOException {
+    upload = "disk".equals(part) ? DiskPart.write(partDir, content)
+        : new MockMultipartFile("file", "photo.jpg", "image/jpeg", content);
+  }
+
+  @TearDown(Level.Invocation)
+  public void cleanUp() throws IOException {
+    Files.deleteIfExists(stored);
+    if (upload instanceof DiskPart diskPart) {
+      Files.deleteIfExists(diskPart.path);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void report() throws IOException {
+    System.out.printf("%n[%s/%s/%d] per upload: writtenBytes=%.0f, readBytes=%.0f%n", strategy,
+        part, size, (double) writtenBytes / uploads, (double) readBytes / uploads);
+    Files.walk(uploadDir).sorted((a, b) -> b.compareTo(a)).map(Path::toFile)
+        .forEach(File::delete);
+    Files.deleteIfExists(partDir);
+  }
+
+  @Benchmark
+  public String upload() throws IOException, NoSuchAlgorithmException {
+    long[] before = procIo();
+    String hash = switch (strategy) {
+      case "streaming" -> {
+        StagedFile staged = fileService.stage(upload, ImagePurpose.BODY);
+        stored = fileService.getStagingPath(staged.getStagedFileName());
+        yield staged.getContentHash();
+      }
+      case "transferTo" -> {
+        stored = uploadDir.resolve(UUID.randomUUID() + ".jpg");
+        upload.transferTo(stored.toFile());
+        yield null;
+      }
+      default -> {
+        stored = uploadDir.resolve(UUID.randomUUID() + ".jpg");
+        upload.transferTo(stored.toFile());
+        yield sha256(stored);
+      }
+    };
+    long[] after = procIo();
+    uploads++;
+    readBytes += after[0] - before[0];
+    writtenBytes += after[1] - before[1];
+    return hash;
+  }
+
+  private static String sha256(Path file) throws IOException, NoSuchAlgorithmException {
+    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * {rchar, wchar}
+   */
+  private static long[] procIo() throws IOException {
+    long rchar = 0;
+    long wchar = 0;
+    for (String line : Files.readAllLines(PROC_IO)) {
+      if (line.startsWith("rchar:")) {
+        rchar = Long.parseLong(line.substring(6).trim());
+      } else if (line.startsWith("wchar:")) {
+        wchar = Long.parseLong(line.substring(6).trim());
+      }
+    }
+    return new long[]{rchar, wchar};
+  }
+
+  /**
+   * 임시 파일에 놓인 업로드 파트. Tomcat 의 디스크 파트처럼 {@code transferTo}는 파일을 옮깁니다.
+   */
+  private static final class DiskPart extends MockMultipartFile {
+
+    private final Path path;
+
+    private DiskPart(Path path, byte[] content) {
+      super("file", "photo.jpg", "image/jpeg", content);
+      this.path = path;
+    }
+
+    static DiskPart write(Path dir, byte[] content) throws IOException {
+      Path path = Files.write(dir.resolve(UUID.randomUUID() + ".part"), content);
+      return new DiskPart(path, content);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+      Files.move(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
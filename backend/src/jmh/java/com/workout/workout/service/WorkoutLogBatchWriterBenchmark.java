@@ -0,0 +1,181 @@
+package com.workout.workout.service;
+
+import com.workout.workout.domain.log.FeedbackOwnerType;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest.WorkoutExerciseDto;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest.WorkoutSetDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 운동 일지 1건의 하위 트리(운동, 세트, 피드백)를 저장하는 처리량(logs/s)을 세트 수별로 비교합니다.
+ * <ul>
+ *   <li>{@code batchWriter}: 현재 방식. {@link WorkoutLogBatchWriter}가 테이블마다 multi-row INSERT 한 번</li>
+ *   <li>{@code perRow}: 이전 방식(IDENTITY 전략의 Hibernate 저장)처럼 행마다 INSERT 한 번 후 생성 키 조회</li>
+ * </ul>
+ * DB 는 H2 인메모리(MySQL 모드)이고 스키마는 V1/V11 마이그레이션의 해당 컬럼만 옮겼습니다. 네트워크 왕복이 없으므로 문장 수 차이가
+ * 실제 MySQL 보다 작게 나타납니다. 운동 1개당 세트 4개, 세트 4개당 피드백 1개, 일지 피드백 1개로 구성합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2) // H2 자체의 JIT 워밍업이 길어 넉넉히 둠
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkoutLogBatchWriterBenchmark {
+
+  private static final int SETS_PER_EXERCISE = 4;
+  private static final Long AUTHOR_ID = 1L;
+
+  @Param({"batchWriter", "perRow"})
+  public String strategy;
+
+  @Param({"8", "32", "120"})
+  public int setCount;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private WorkoutLogBatchWriter batchWriter;
+  private WorkoutLogCreateRequest request;
+  private long workoutLogId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:workout_log_bench;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    batchWriter = new WorkoutLogBatchWriter(jdbcTemplate, new SimpleMeterRegistry());
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS workout_exercise (
+            id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+            workout_log_id BIGINT NOT NULL,
+            exercise_id    BIGINT NOT NULL,
+            log_order      INT    NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS workout_set (
+            id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+            workout_exercise_id BIGINT         NOT NULL,
+            set_order           INT            NOT NULL,
+            weight              DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+            reps                INT            NOT NULL,
+            CONSTRAINT fk_set_wo_exercise FOREIGN KEY (workout_exercise_id)
+                REFERENCES workout_exercise (id) ON DELETE CASCADE
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS feedback (
+            id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+            author_id      BIGINT      NOT NULL,
+            content        TEXT        NOT NULL,
+            workout_log_id BIGINT      NOT NULL,
+            owner_type     VARCHAR(20) NOT NULL,
+            owner_id       BIGINT      NOT NULL,
+            created_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            updated_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+        )""");
+    jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_feedback_log_owner "
+        + "ON feedback (workout_log_id, owner_type, owner_id, author_id)");
+    request = request(setCount);
+  }
+
+  @TearDown(Level.Iteration)
+  public void truncate() {
+    jdbcTemplate.execute("DELETE FROM feedback");
+    jdbcTemplate.execute("DELETE FROM workout_set");
+    jdbcTemplate.execute("DELETE FROM workout_exercise");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public void writeLog() {
+    long logId = ++workoutLogId;
+    transactionTemplate.executeWithoutResult(status -> {
+      if ("batchWriter".equals(strategy)) {
+        batchWriter.write(logId, AUTHOR_ID, request);
+      } else {
+        writePerRow(logId);
+      }
+    });
+  }
+
+  private void writePerRow(long logId) {
+    for (WorkoutExerciseDto exercise : request.workoutExercises()) {
+      long exerciseId = insert(
+          "INSERT INTO workout_exercise (workout_log_id, exercise_id, log_order) VALUES (?, ?, ?)",
+          logId, exercise.exerciseId(), exercise.order());
+      for (WorkoutSetDto set : exercise.workoutSets()) {
+        long setId = insert(
+            "INSERT INTO workout_set (workout_exercise_id, set_order, weight, reps) "
+                + "VALUES (?, ?, ?, ?)", exerciseId, set.order(), set.weight(), set.reps());
+        if (set.feedback() != null) {
+          insertFeedback(logId, set.feedback(), FeedbackOwnerType.SET, setId);
+        }
+      }
+    }
+    insertFeedback(logId, request.logFeedback(), FeedbackOwnerType.LOG, logId);
+  }
+
+  private void insertFeedback(long logId, String content, FeedbackOwnerType ownerType,
+      long ownerId) {
+    insert("INSERT INTO feedback (author_id, content, workout_log_id, owner_type, owner_id) "
+        + "VALUES (?, ?, ?, ?, ?)", AUTHOR_ID, content, logId, ownerType.name(), ownerId);
+  }
+
+  private long insert(String sql, Object... values) {
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+      for (int i = 0; i < values.length; i++) {
+        ps.setObject(i + 1, values[i]);
+      }
+      return ps;
+    }, keyHolder);
+    // H2 는 기본값 컬럼(created_at 등)도 생성 키로 돌려주므로 첫 컬럼(id)만 사용
+    return ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+  }
+
+  private static WorkoutLogCreateRequest request(int setCount) {
+    List<WorkoutExerciseDto> exercises = new ArrayList<>();
+    for (int e = 0; e * SETS_PER_EXERCISE < setCount; e++) {
+      List<WorkoutSetDto> sets = new ArrayList<>();
+      for (int s = 0; s < SETS_PER_EXERCISE && e * SETS_PER_EXERCISE + s < setCount; s++) {
+        sets.add(new WorkoutSetDto(s + 1, BigDecimal.valueOf(60 + s * 5L), 10 - s,
+            (s == SETS_PER_EXERCISE - 1) ? "마지막 세트 자세 무너짐" : null));
+      }
+      exercises.add(new WorkoutExerciseDto(e + 1L, e + 1, sets));
+    }
+    return new WorkoutLogCreateRequest(LocalDate.of(2025, 3, 1), "오늘 컨디션 좋음", exercises);
+  }
+}
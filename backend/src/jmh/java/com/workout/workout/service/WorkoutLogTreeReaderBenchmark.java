@@ -0,0 +1,205 @@
+package com.workout.workout.service;
+
+import com.workout.support.WorkoutLogSchema;
+import com.workout.workout.dto.log.WorkoutLogResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.FeedbackResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutExerciseResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutSetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 한 달치 운동 일지(달력 화면)를 읽어 응답으로 조립하는 데 걸리는 시간을 비교합니다.
+ * <ul>
+ *   <li>{@code treeReader}: 현재 방식. {@link WorkoutLogTreeReader}가 정렬된 조인 한 번 + 피드백 한 번으로 읽고 행 순서대로 조립</li>
+ *   <li>{@code fourQueries}: 이전 방식. 일지/운동/세트/피드백을 따로 읽고 {@code groupingBy} 맵으로 조립 (엔티티 대신 같은 컬럼을
+ *   JDBC 로 읽어 Hibernate 비용은 제외)</li>
+ * </ul>
+ * 회원 한 명의 한 달에 {@code logs}개 일지, 일지마다 운동 5개 x 세트 4개, 일지 피드백 1개와 운동마다 세트 피드백 1개를 둡니다.
+ * H2 인메모리(MySQL 모드)라 쿼리 수 차이는 네트워크 왕복 없이 나타납니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2) // H2 자체의 JIT 워밍업이 길어 넉넉히 둠
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkoutLogTreeReaderBenchmark {
+
+  private static final long MEMBER_ID = 1L;
+  private static final long TRAINER_ID = 2L;
+  private static final int EXERCISES_PER_LOG = 5;
+  private static final int SETS_PER_EXERCISE = 4;
+  private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+  @Param({"treeReader", "fourQueries"})
+  public String strategy;
+
+  @Param({"12", "24"})
+  public int logs;
+
+  private SingleConnectionDataSource dataSource;
+  private NamedParameterJdbcTemplate namedJdbcTemplate;
+  private WorkoutLogTreeReader reader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:workout_log_tree_bench;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    reader = new WorkoutLogTreeReader(namedJdbcTemplate, new SimpleMeterRegistry());
+    WorkoutLogSchema.create(jdbcTemplate);
+    seed(jdbcTemplate);
+
+    // 두 방식이 같은 응답을 만드는지 먼저 확인
+    List<WorkoutLogResponse> expected = reader.readByMemberAndDate(MEMBER_ID, MONTH.atDay(1),
+        MONTH.atEndOfMonth());
+    if (expected.size() != logs
+        || !expected.equals(readWithFourQueries(MONTH.atDay(1), MONTH.atEndOfMonth()))) {
+      throw new IllegalStateException("treeReader and fourQueries disagree");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Benchmark
+  public List<WorkoutLogResponse> readMonth() {
+    LocalDate start = MONTH.atDay(1);
+    LocalDate end = MONTH.atEndOfMonth();
+    return "treeReader".equals(strategy)
+        ? reader.readByMemberAndDate(MEMBER_ID, start, end)
+        : readWithFourQueries(start, end);
+  }
+
+  private List<WorkoutLogResponse> readWithFourQueries(LocalDate start, LocalDate end) {
+    List<Map<String, Object>> logRows = namedJdbcTemplate.queryForList(
+        "SELECT id, workout_date FROM workout_log WHERE member_id = :memberId "
+            + "AND workout_date BETWEEN :start AND :end ORDER BY workout_date DESC",
+        new MapSqlParameterSource("memberId", MEMBER_ID).addValue("start", start)
+            .addValue("end", end));
+    if (logRows.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Long> logIds = logRows.stream().map(row -> (Long) row.get("ID")).toList();
+    List<Map<String, Object>> exerciseRows = namedJdbcTemplate.queryForList(
+        "SELECT we.id, we.workout_log_id, e.name, we.log_order FROM workout_exercise we "
+            + "JOIN exercise e ON e.id = we.exercise_id WHERE we.workout_log_id IN (:ids) "
+            + "ORDER BY we.log_order", new MapSqlParameterSource("ids", logIds));
+    List<Long> exerciseIds = exerciseRows.stream().map(row -> (Long) row.get("ID")).toList();
+    List<Map<String, Object>> setRows = exerciseIds.isEmpty() ? Collections.emptyList()
+        : namedJdbcTemplate.queryForList(
+            "SELECT id, workout_exercise_id, set_order, weight, reps FROM workout_set "
+                + "WHERE workout_exercise_id IN (:ids) ORDER BY set_order",
+            new MapSqlParameterSource("ids", exerciseIds));
+    List<Map<String, Object>> feedbackRows = namedJdbcTemplate.queryForList(
+        "SELECT f.id, f.content, m.name AS author_name, f.owner_type, f.owner_id "
+            + "FROM feedback f JOIN member m ON m.id = f.author_id "
+            + "WHERE f.workout_log_id IN (:ids)", new MapSqlParameterSource("ids", logIds));
+
+    Map<String, Map<Long, Set<FeedbackResponse>>> feedbacks = feedbackRows.stream()
+        .collect(Collectors.groupingBy(row -> (String) row.get("OWNER_TYPE"),
+            Collectors.groupingBy(row -> (Long) row.get("OWNER_ID"),
+                Collectors.mapping(row -> new FeedbackResponse((Long) row.get("ID"),
+                    (String) row.get("AUTHOR_NAME"), (String) row.get("CONTENT")),
+                    Collectors.toSet()))));
+    Map<Long, Set<FeedbackResponse>> logFeedbacks = feedbacks.getOrDefault("LOG", Map.of());
+    Map<Long, Set<FeedbackResponse>> exerciseFeedbacks =
+        feedbacks.getOrDefault("EXERCISE", Map.of());
+    Map<Long, Set<FeedbackResponse>> setFeedbacks = feedbacks.getOrDefault("SET", Map.of());
+
+    Map<Long, List<WorkoutSetResponse>> setsByExerciseId = setRows.stream()
+        .collect(Collectors.groupingBy(row -> (Long) row.get("WORKOUT_EXERCISE_ID"),
+            Collectors.mapping(row -> new WorkoutSetResponse((Long) row.get("ID"),
+                (Integer) row.get("SET_ORDER"), (BigDecimal) row.get("WEIGHT"),
+                (Integer) row.get("REPS"),
+                setFeedbacks.getOrDefault((Long) row.get("ID"), Set.of())),
+                Collectors.toList())));
+    Map<Long, List<WorkoutExerciseResponse>> exercisesByLogId = exerciseRows.stream()
+        .collect(Collectors.groupingBy(row -> (Long) row.get("WORKOUT_LOG_ID"),
+            Collectors.mapping(row -> new WorkoutExerciseResponse((Long) row.get("ID"),
+                (String) row.get("NAME"), (Integer) row.get("LOG_ORDER"),
+                setsByExerciseId.getOrDefault((Long) row.get("ID"), List.of()),
+                exerciseFeedbacks.getOrDefault((Long) row.get("ID"), Set.of())),
+                Collectors.toList())));
+
+    return logRows.stream().map(row -> {
+      Long logId = (Long) row.get("ID");
+      return new WorkoutLogResponse(logId, ((Date) row.get("WORKOUT_DATE")).toLocalDate(),
+          logFeedbacks.getOrDefault(logId, Set.of()),
+          exercisesByLogId.getOrDefault(logId, List.of()));
+    }).toList();
+  }
+
+  /**
+   * 조회 대상 회원의 한 달 일지와, 범위 밖(다른 달, 다른 회원) 일지를 같은 양만큼 넣습니다.
+   */
+  private void seed(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.update("INSERT INTO member (id, name) VALUES (?, '회원'), (?, '트레이너')",
+        MEMBER_ID, TRAINER_ID);
+    for (int e = 1; e <= 20; e++) {
+      jdbcTemplate.update("INSERT INTO exercise (id, name) VALUES (?, ?)", e, "운동 " + e);
+    }
+    long exerciseRowId = 0;
+    long setRowId = 0;
+    long logId = 0;
+    for (long memberId : new long[]{MEMBER_ID, TRAINER_ID}) {
+      for (YearMonth month : new YearMonth[]{MONTH.minusMonths(1), MONTH}) {
+        for (int l = 0; l < logs; l++) {
+          logId++;
+          jdbcTemplate.update(
+              "INSERT INTO workout_log (id, member_id, workout_date) VALUES (?, ?, ?)",
+              logId, memberId, month.atDay(1 + l % month.lengthOfMonth()));
+          jdbcTemplate.update("INSERT INTO feedback "
+                  + "(author_id, content, workout_log_id, owner_type, owner_id) "
+                  + "VALUES (?, '오늘 컨디션 좋음', ?, 'LOG', ?)", TRAINER_ID, logId, logId);
+          for (int e = 0; e < EXERCISES_PER_LOG; e++) {
+            exerciseRowId++;
+            jdbcTemplate.update("INSERT INTO workout_exercise "
+                    + "(id, workout_log_id, exercise_id, log_order) VALUES (?, ?, ?, ?)",
+                exerciseRowId, logId, 1 + (l + e) % 20, e + 1);
+            for (int s = 0; s < SETS_PER_EXERCISE; s++) {
+              setRowId++;
+              jdbcTemplate.update("INSERT INTO workout_set "
+                      + "(id, workout_exercise_id, set_order, weight, reps) VALUES (?, ?, ?, ?, ?)",
+                  setRowId, exerciseRowId, s + 1, BigDecimal.valueOf(60 + 5L * s), 10 - s);
+            }
+            jdbcTemplate.update("INSERT INTO feedback "
+                    + "(author_id, content, workout_log_id, owner_type, owner_id) "
+                    + "VALUES (?, '마지막 세트 자세 무너짐', ?, 'SET', ?)", memberId, logId,
+                setRowId);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.workout.batch.config;
+
+import com.workout.workout.service.WorkoutStatsWriter;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기존 운동 기록으로 {@code workout_exercise_weekly_stat} 집계 테이블을 채우는 배치.
+ * <p>
+ * 운동 일지나 집계 행이 있는 회원을 ID 순으로 스트리밍하여, 청크(회원 묶음)마다 해당 회원들의 집계를 전체 기록에서 다시 계산해 덮어쓰고
+ * 원본에 없는 행은 지웁니다. 전체 회원을 훑으므로 집계 도입 시나 집계 방식이 바뀌었을 때만 {@code BatchTriggerController}로 수동
+ * 실행하며, 커밋 후 갱신하지 못한 구간은 {@link RepairWorkoutStatsBatchConfig}가 매일 복구합니다. 일지를 모두 지운 회원도 집계 행이
+ * 남아 있으면 대상에 포함되어 정리됩니다.
+ */
+@Slf4j
+@Configuration
+public class BackfillWorkoutStatsBatchConfig {
+
+  private static final int CHUNK_SIZE = 100;
+  private static final String MEMBER_IDS_SQL =
+      "SELECT member_id FROM workout_log "
+          + "UNION SELECT member_id FROM workout_exercise_weekly_stat "
+          + "ORDER BY member_id";
+
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+  private final DataSource dataSource;
+  private final WorkoutStatsWriter workoutStatsWriter;
+
+  public BackfillWorkoutStatsBatchConfig(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager, DataSource dataSource,
+      WorkoutStatsWriter workoutStatsWriter) {
+    this.jobRepository = jobRepository;
+    this.transactionManager = transactionManager;
+    this.dataSource = dataSource;
+    this.workoutStatsWriter = workoutStatsWriter;
+  }
+
+  @Bean
+  public Job backfillWorkoutStatsJob() {
+    return new JobBuilder("backfillWorkoutStatsJob", jobRepository)
+        .start(backfillWorkoutStatsStep())
+        .build();
+  }
+
+  @Bean
+  public Step backfillWorkoutStatsStep() {
+    return new StepBuilder("backfillWorkoutStatsStep", jobRepository)
+        .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+        .reader(workoutMemberIdReader())
+        .writer(workoutStatsBackfillWriter())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<Long> workoutMemberIdReader() {
+    return new JdbcCursorItemReaderBuilder<Long>()
+        .name("workoutMemberIdReader")
+        .dataSource(dataSource)
+        .sql(MEMBER_IDS_SQL)
+        .fetchSize(CHUNK_SIZE)
+        .rowMapper((rs, rowNum) -> rs.getLong("member_id"))
+        .build();
+  }
+
+  private ItemWriter<Long> workoutStatsBackfillWriter() {
+    return chunk -> {
+      List<Long> memberIds = List.copyOf(chunk.getItems());
+      workoutStatsWriter.refreshMembers(memberIds);
+      log.info("운동 집계 백필: 회원 {}명 재계산 (마지막 memberId: {})", memberIds.size(),
+          memberIds.get(memberIds.size() - 1));
+    };
+  }
+}
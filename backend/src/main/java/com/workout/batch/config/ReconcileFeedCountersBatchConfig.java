@@ -0,0 +1,119 @@
+package com.workout.batch.config;
+
+import com.workout.feed.repository.FeedCount;
+import com.workout.feed.service.FeedCounterStore;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * MySQL 을 기준으로 Redis 의 피드 좋아요/댓글 카운터를 재계산하는 배치.
+ * <p>
+ * INCR/DECR 만으로 유지되는 카운터는 Redis flush 나 afterCommit 훅 실패 시 영구히 어긋나므로, 주기적으로 집계 결과를 스트리밍하여
+ * 청크마다 이미 있는 카운터 키만 덮어씁니다. ({@link FeedCounterStore#overwriteAllIfPresent}) 없는 키는 조회 시 COUNT 로 복구되므로
+ * 만들지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class ReconcileFeedCountersBatchConfig {
+
+  private static final int CHUNK_SIZE = 1000;
+  private static final String FEED_LIKE_COUNT_KEY_PREFIX = "counts:like:feed:";
+  private static final String FEED_COMMENT_COUNT_KEY_PREFIX = "counts:comment:feed:";
+
+  // 좋아요/댓글이 없는 피드도 0 으로 덮어쓰기 위해 feed 기준 LEFT JOIN
+  private static final String LIKE_COUNT_SQL =
+      "SELECT f.id AS feed_id, COUNT(l.id) AS cnt FROM feed f "
+          + "LEFT JOIN likes l ON l.target_type = 'FEED' AND l.target_id = f.id "
+          + "GROUP BY f.id ORDER BY f.id";
+  private static final String COMMENT_COUNT_SQL =
+      "SELECT f.id AS feed_id, COUNT(c.id) AS cnt FROM feed f "
+          + "LEFT JOIN comment c ON c.feed_id = f.id "
+          + "GROUP BY f.id ORDER BY f.id";
+
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+  private final DataSource dataSource;
+  private final FeedCounterStore feedCounterStore;
+
+  public ReconcileFeedCountersBatchConfig(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager, DataSource dataSource,
+      FeedCounterStore feedCounterStore) {
+    this.jobRepository = jobRepository;
+    this.transactionManager = transactionManager;
+    this.dataSource = dataSource;
+    this.feedCounterStore = feedCounterStore;
+  }
+
+  @Bean
+  public Job reconcileFeedCountersJob() {
+    return new JobBuilder("reconcileFeedCountersJob", jobRepository)
+        .start(reconcileLikeCountersStep())
+        .next(reconcileCommentCountersStep())
+        .build();
+  }
+
+  @Bean
+  public Step reconcileLikeCountersStep() {
+    return new StepBuilder("reconcileLikeCountersStep", jobRepository)
+        .<FeedCount, FeedCount>chunk(CHUNK_SIZE, transactionManager)
+        .reader(feedLikeCountReader())
+        .writer(feedCountWriter(FEED_LIKE_COUNT_KEY_PREFIX))
+        .build();
+  }
+
+  @Bean
+  public Step reconcileCommentCountersStep() {
+    return new StepBuilder("reconcileCommentCountersStep", jobRepository)
+        .<FeedCount, FeedCount>chunk(CHUNK_SIZE, transactionManager)
+        .reader(feedCommentCountReader())
+        .writer(feedCountWriter(FEED_COMMENT_COUNT_KEY_PREFIX))
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<FeedCount> feedLikeCountReader() {
+    return countReader("feedLikeCountReader", LIKE_COUNT_SQL);
+  }
+
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<FeedCount> feedCommentCountReader() {
+    return countReader("feedCommentCountReader", COMMENT_COUNT_SQL);
+  }
+
+  private JdbcCursorItemReader<FeedCount> countReader(String name, String sql) {
+    return new JdbcCursorItemReaderBuilder<FeedCount>()
+        .name(name)
+        .dataSource(dataSource)
+        .sql(sql)
+        .fetchSize(CHUNK_SIZE)
+        .rowMapper((rs, rowNum) -> new FeedCount(rs.getLong("feed_id"), rs.getLong("cnt")))
+        .build();
+  }
+
+  private ItemWriter<FeedCount> feedCountWriter(String keyPrefix) {
+    return chunk -> {
+      Map<String, Long> counters = new LinkedHashMap<>();
+      for (FeedCount feedCount : chunk.getItems()) {
+        counters.put(keyPrefix + feedCount.feedId(), feedCount.count());
+      }
+      feedCounterStore.overwriteAllIfPresent(counters);
+      log.info("카운터 재계산 {}: {}건 확인", keyPrefix, counters.size());
+    };
+  }
+}
@@ -0,0 +1,89 @@
+package com.workout.batch.config;
+
+import com.workout.workout.service.WorkoutStatsWriter;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 커밋 후 갱신하지 못해 {@code workout_stat_dirty_week}에 기록된 (회원, 주) 구간만 다시 집계하는 배치.
+ * <p>
+ * 전체 회원을 훑는 {@link BackfillWorkoutStatsBatchConfig}와 달리 기록된 구간 수만큼만 일하므로 매일 실행해도 부담이 없습니다. 구간마다
+ * {@link WorkoutStatsWriter#repairWeek}로 기록을 지우고 재집계하며, 청크가 실패하면 기록이 남아 다음 실행 때 다시 처리됩니다.
+ */
+@Slf4j
+@Configuration
+public class RepairWorkoutStatsBatchConfig {
+
+  private static final int CHUNK_SIZE = 100;
+  private static final String DIRTY_WEEKS_SQL =
+      "SELECT member_id, week_start FROM workout_stat_dirty_week ORDER BY member_id, week_start";
+
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+  private final DataSource dataSource;
+  private final WorkoutStatsWriter workoutStatsWriter;
+
+  public RepairWorkoutStatsBatchConfig(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager, DataSource dataSource,
+      WorkoutStatsWriter workoutStatsWriter) {
+    this.jobRepository = jobRepository;
+    this.transactionManager = transactionManager;
+    this.dataSource = dataSource;
+    this.workoutStatsWriter = workoutStatsWriter;
+  }
+
+  @Bean
+  public Job repairWorkoutStatsJob() {
+    return new JobBuilder("repairWorkoutStatsJob", jobRepository)
+        .start(repairWorkoutStatsStep())
+        .build();
+  }
+
+  @Bean
+  public Step repairWorkoutStatsStep() {
+    return new StepBuilder("repairWorkoutStatsStep", jobRepository)
+        .<DirtyWeek, DirtyWeek>chunk(CHUNK_SIZE, transactionManager)
+        .reader(dirtyWeekReader())
+        .writer(dirtyWeekWriter())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<DirtyWeek> dirtyWeekReader() {
+    return new JdbcCursorItemReaderBuilder<DirtyWeek>()
+        .name("dirtyWeekReader")
+        .dataSource(dataSource)
+        .sql(DIRTY_WEEKS_SQL)
+        .fetchSize(CHUNK_SIZE)
+        .rowMapper((rs, rowNum) -> new DirtyWeek(rs.getLong("member_id"),
+            rs.getDate("week_start").toLocalDate()))
+        .build();
+  }
+
+  private ItemWriter<DirtyWeek> dirtyWeekWriter() {
+    return chunk -> {
+      for (DirtyWeek week : chunk) {
+        workoutStatsWriter.repairWeek(week.memberId(), week.weekStart());
+      }
+      log.info("운동 집계 복구: {}개 구간 재계산", chunk.size());
+    };
+  }
+
+  record DirtyWeek(Long memberId, LocalDate weekStart) {
+
+  }
+}
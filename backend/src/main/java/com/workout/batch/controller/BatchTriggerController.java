@@ -25,10 +25,18 @@ public class BatchTriggerController {
 
   private final Job sendPtReminderJob;
 
+  private final Job reconcileFeedCountersJob;
+
+  private final Job backfillWorkoutStatsJob;
+
   public BatchTriggerController(JobLauncher jobLauncher,
-      @Qualifier("sendPtReminderJob") Job sendPtReminderJob) {
+      @Qualifier("sendPtReminderJob") Job sendPtReminderJob,
+      @Qualifier("reconcileFeedCountersJob") Job reconcileFeedCountersJob,
+      @Qualifier("backfillWorkoutStatsJob") Job backfillWorkoutStatsJob) {
     this.jobLauncher = jobLauncher;
     this.sendPtReminderJob = sendPtReminderJob;
+    this.reconcileFeedCountersJob = reconcileFeedCountersJob;
+    this.backfillWorkoutStatsJob = backfillWorkoutStatsJob;
   }
 
   @PostMapping("/pt-reminder")
@@ -63,4 +71,40 @@ public class BatchTriggerController {
       return ResponseEntity.internalServerError().body("배치 실행 실패: " + e.getMessage());
     }
   }
+
+  @PostMapping("/feed-counters")
+  public ResponseEntity<String> runReconcileFeedCountersJobManually() {
+    try {
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addString("runId", UUID.randomUUID().toString())
+          .toJobParameters();
+
+      log.info("수동 피드 카운터 재계산 배치 작업을 시작합니다.");
+      jobLauncher.run(reconcileFeedCountersJob, jobParameters);
+
+      return ResponseEntity.ok("피드 카운터 재계산 배치 작업 시작됨.");
+
+    } catch (Exception e) {
+      log.error("수동 피드 카운터 재계산 배치 실행 중 오류 발생", e);
+      return ResponseEntity.internalServerError().body("배치 실행 실패: " + e.getMessage());
+    }
+  }
+
+  @PostMapping("/workout-stats")
+  public ResponseEntity<String> runBackfillWorkoutStatsJobManually() {
+    try {
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addString("runId", UUID.randomUUID().toString())
+          .toJobParameters();
+
+      log.info("수동 운동 집계 백필 배치 작업을 시작합니다.");
+      jobLauncher.run(backfillWorkoutStatsJob, jobParameters);
+
+      return ResponseEntity.ok("운동 집계 백필 배치 작업 시작됨.");
+
+    } catch (Exception e) {
+      log.error("수동 운동 집계 백필 배치 실행 중 오류 발생", e);
+      return ResponseEntity.internalServerError().body("배치 실행 실패: " + e.getMessage());
+    }
+  }
 }
\ No newline at end of file
@@ -18,9 +18,11 @@ public class BatchJobScheduler {
 
   private final JobLauncher jobLauncher;
   private final Job sendPtReminderJob;
+  private final Job reconcileFeedCountersJob;
+  private final Job repairWorkoutStatsJob;
 
-
-  @Scheduled(cron = "0 0 20 * * *") // 초 분 시 일 월 요일
+  // 실제 FCM 알림을 보내므로 설정으로 켤 때만 실행 (기본 "-" = 비활성, 켤 때 "0 0 20 * * *")
+  @Scheduled(cron = "${pt.reminder.cron:-}") // 초 분 시 일 월 요일
   public void runPtReminderJob() {
     try {
       // 1. "내일" 날짜 계산
@@ -38,4 +40,35 @@ public class BatchJobScheduler {
       log.error("PT 알림 배치 작업 실행 중 오류 발생", e);
     }
   }
+
+  @Scheduled(cron = "0 30 4 * * *") // 트래픽이 적은 새벽 시간대
+  public void runReconcileFeedCountersJob() {
+    try {
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addString("runId", UUID.randomUUID().toString())
+          .toJobParameters();
+
+      log.info("피드 카운터 재계산 배치 작업을 시작합니다.");
+      jobLauncher.run(reconcileFeedCountersJob, jobParameters);
+
+    } catch (Exception e) {
+      log.error("피드 카운터 재계산 배치 작업 실행 중 오류 발생", e);
+    }
+  }
+
+  // 커밋 후 갱신하지 못한 운동 집계 구간만 복구 (전체 백필은 BatchTriggerController 로 수동 실행)
+  @Scheduled(cron = "0 0 5 * * *")
+  public void runRepairWorkoutStatsJob() {
+    try {
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addString("runId", UUID.randomUUID().toString())
+          .toJobParameters();
+
+      log.info("운동 집계 복구 배치 작업을 시작합니다.");
+      jobLauncher.run(repairWorkoutStatsJob, jobParameters);
+
+    } catch (Exception e) {
+      log.error("운동 집계 복구 배치 작업 실행 중 오류 발생", e);
+    }
+  }
 }
\ No newline at end of file
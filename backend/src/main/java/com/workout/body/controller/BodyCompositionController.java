@@ -5,6 +5,8 @@ package com.workout.body.controller;
 import com.workout.auth.domain.UserPrincipal;
 import com.workout.body.dto.BodyCompositionDto;
 import com.workout.body.dto.BodyCompositionResponse;
+import com.workout.body.dto.BodyTrendResolution;
+import com.workout.body.dto.BodyTrendResponse;
 import com.workout.body.service.BodyCompositionService;
 import com.workout.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +90,29 @@ public class BodyCompositionController {
     return ResponseEntity.ok(ApiResponse.of(bodyInfoPage));
   }
 
+  @Operation(summary = "체성분 추이 조회",
+      description = "로그인한 사용자의 기간(startDate ~ endDate) 체성분 추이를 일/주/월 단위 평균으로 조회합니다. "
+          + "resolution 을 생략하면 기간에 따라 자동으로 선택합니다. (3개월 이하 일, 2년 이하 주, 그 이상 월)",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 날짜 형식 또는 기간"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+  })
+  @GetMapping("/trend")
+  public ResponseEntity<ApiResponse<BodyTrendResponse>> getBodyTrend(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false) BodyTrendResolution resolution) {
+
+    Long userId = userPrincipal.getUserId();
+    BodyTrendResponse trend = bodyCompositionService.findTrend(userId, startDate, endDate,
+        resolution);
+
+    return ResponseEntity.ok(ApiResponse.of(trend));
+  }
+
   @Operation(summary = "체성분 데이터 삭제",
       description = "특정 ID의 체성분 데이터를 삭제합니다. 본인 데이터만 삭제 가능합니다.",
       security = @SecurityRequirement(name = "cookieAuth"))
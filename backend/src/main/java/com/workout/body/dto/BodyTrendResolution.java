@@ -0,0 +1,10 @@
+package com.workout.body.dto;
+
+/**
+ * 체성분 추이 조회 시 측정값을 묶는 구간 단위
+ */
+public enum BodyTrendResolution {
+  DAILY,
+  WEEKLY, // 월요일 시작
+  MONTHLY
+}
@@ -0,0 +1,23 @@
+package com.workout.body.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 구간별 체성분 평균. 구간 안에 해당 항목 측정값이 없으면 {@code null} 입니다.
+ */
+public record BodyTrendResponse(
+    BodyTrendResolution resolution,
+    List<Point> points
+) {
+
+  public record Point(
+      LocalDate date, // 구간 시작일
+      Double weightKg,
+      Double fatKg,
+      Double muscleMassKg,
+      int measurements
+  ) {
+
+  }
+}
@@ -2,6 +2,7 @@ package com.workout.body.repository;
 
 import com.workout.body.domain.BodyComposition;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +15,8 @@ public interface BodyCompositionRepository extends JpaRepository<BodyComposition
   Page<BodyComposition> findByMemberIdAndMeasurementDateBetweenOrderByMeasurementDateDesc(
       Long memberId, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
+  List<BodyComposition> findAllByMemberIdOrderByMeasurementDateAsc(Long memberId);
+
   Optional<BodyComposition> findByIdAndMemberId(Long id, Long memberId);
   Optional<BodyComposition> findByMemberIdAndMeasurementDate(Long memberId, LocalDate measurementDate);
 }
\ No newline at end of file
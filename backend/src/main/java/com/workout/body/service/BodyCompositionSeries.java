@@ -0,0 +1,198 @@
+package com.workout.body.service;
+
+import com.workout.body.domain.BodyComposition;
+import com.workout.body.dto.BodyTrendResolution;
+import com.workout.body.dto.BodyTrendResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 회원의 체성분 기록을 측정일(epoch day) 오름차순의 원시 배열로 보관하는 불변 시계열.
+ * <p>
+ * 값이 없는 항목은 {@code NaN}으로 저장합니다. 수정은 배열을 복사한 새 인스턴스를 반환하므로 읽는 쪽은 잠금 없이 사용할 수 있습니다.
+ */
+final class BodyCompositionSeries {
+
+  private final int[] epochDays;
+  private final double[] weightKg;
+  private final double[] fatKg;
+  private final double[] muscleMassKg;
+
+  private BodyCompositionSeries(int[] epochDays, double[] weightKg, double[] fatKg,
+      double[] muscleMassKg) {
+    this.epochDays = epochDays;
+    this.weightKg = weightKg;
+    this.fatKg = fatKg;
+    this.muscleMassKg = muscleMassKg;
+  }
+
+  /**
+   * @param rows 측정일 오름차순. 같은 날짜가 여러 건이면 마지막 값을 사용합니다.
+   */
+  static BodyCompositionSeries of(List<BodyComposition> rows) {
+    int size = rows.size();
+    int[] days = new int[size];
+    double[] weights = new double[size];
+    double[] fats = new double[size];
+    double[] muscles = new double[size];
+
+    int count = 0;
+    for (BodyComposition row : rows) {
+      int day = (int) row.getMeasurementDate().toEpochDay();
+      if (count == 0 || days[count - 1] != day) {
+        count++;
+      }
+      days[count - 1] = day;
+      weights[count - 1] = toDouble(row.getWeightKg());
+      fats[count - 1] = toDouble(row.getFatKg());
+      muscles[count - 1] = toDouble(row.getMuscleMassKg());
+    }
+    return new BodyCompositionSeries(Arrays.copyOf(days, count), Arrays.copyOf(weights, count),
+        Arrays.copyOf(fats, count), Arrays.copyOf(muscles, count));
+  }
+
+  int size() {
+    return epochDays.length;
+  }
+
+  /**
+   * 해당 날짜의 측정값을 추가하거나 덮어쓴 새 시계열을 반환합니다.
+   */
+  BodyCompositionSeries upsert(LocalDate date, BigDecimal weight, BigDecimal fat,
+      BigDecimal muscleMass) {
+    int day = (int) date.toEpochDay();
+    int index = Arrays.binarySearch(epochDays, day);
+    if (index >= 0) {
+      BodyCompositionSeries updated = new BodyCompositionSeries(epochDays, weightKg.clone(),
+          fatKg.clone(), muscleMassKg.clone());
+      updated.set(index, weight, fat, muscleMass);
+      return updated;
+    }
+
+    int insertAt = -index - 1;
+    BodyCompositionSeries inserted = new BodyCompositionSeries(insert(epochDays, insertAt, day),
+        insert(weightKg, insertAt), insert(fatKg, insertAt), insert(muscleMassKg, insertAt));
+    inserted.set(insertAt, weight, fat, muscleMass);
+    return inserted;
+  }
+
+  /**
+   * {@code [from, to]} 구간의 측정값을 {@code resolution} 단위로 묶어 평균을 냅니다. 배열을 한 번 순회합니다.
+   */
+  List<BodyTrendResponse.Point> downsample(LocalDate from, LocalDate to,
+      BodyTrendResolution resolution) {
+    int start = lowerBound((int) from.toEpochDay());
+    int end = lowerBound((int) to.toEpochDay() + 1);
+    List<BodyTrendResponse.Point> points = new ArrayList<>();
+
+    Bucket bucket = null;
+    for (int i = start; i < end; i++) {
+      int day = epochDays[i];
+      if (bucket == null || day >= bucket.endDay) {
+        if (bucket != null) {
+          points.add(bucket.toPoint());
+        }
+        bucket = new Bucket(day, resolution);
+      }
+      bucket.add(weightKg[i], fatKg[i], muscleMassKg[i]);
+    }
+    if (bucket != null) {
+      points.add(bucket.toPoint());
+    }
+    return points;
+  }
+
+  private void set(int index, BigDecimal weight, BigDecimal fat, BigDecimal muscleMass) {
+    weightKg[index] = toDouble(weight);
+    fatKg[index] = toDouble(fat);
+    muscleMassKg[index] = toDouble(muscleMass);
+  }
+
+  private int lowerBound(int day) {
+    int index = Arrays.binarySearch(epochDays, day);
+    return (index >= 0) ? index : -index - 1;
+  }
+
+  private static int[] insert(int[] source, int index, int value) {
+    int[] target = new int[source.length + 1];
+    System.arraycopy(source, 0, target, 0, index);
+    System.arraycopy(source, index, target, index + 1, source.length - index);
+    target[index] = value;
+    return target;
+  }
+
+  private static double[] insert(double[] source, int index) {
+    double[] target = new double[source.length + 1];
+    System.arraycopy(source, 0, target, 0, index);
+    System.arraycopy(source, index, target, index + 1, source.length - index);
+    return target;
+  }
+
+  private static double toDouble(BigDecimal value) {
+    return (value != null) ? value.doubleValue() : Double.NaN;
+  }
+
+  /**
+   * 하나의 구간에 속한 측정값의 합계. 항목마다 값이 있는 측정 수를 따로 셉니다.
+   */
+  private static final class Bucket {
+
+    private final int startDay;
+    private final int endDay; // exclusive
+    private double weightSum;
+    private double fatSum;
+    private double muscleSum;
+    private int weightCount;
+    private int fatCount;
+    private int muscleCount;
+    private int measurements;
+
+    private Bucket(int day, BodyTrendResolution resolution) {
+      switch (resolution) {
+        case DAILY -> {
+          this.startDay = day;
+          this.endDay = day + 1;
+        }
+        case WEEKLY -> {
+          // epoch day 0 (1970-01-01) 은 목요일이므로 +3 하면 월요일이 0
+          this.startDay = day - Math.floorMod(day + 3, 7);
+          this.endDay = startDay + 7;
+        }
+        default -> {
+          LocalDate monthStart = LocalDate.ofEpochDay(day).withDayOfMonth(1);
+          this.startDay = (int) monthStart.toEpochDay();
+          this.endDay = (int) monthStart.plusMonths(1).toEpochDay();
+        }
+      }
+    }
+
+    private void add(double weight, double fat, double muscle) {
+      measurements++;
+      if (!Double.isNaN(weight)) {
+        weightSum += weight;
+        weightCount++;
+      }
+      if (!Double.isNaN(fat)) {
+        fatSum += fat;
+        fatCount++;
+      }
+      if (!Double.isNaN(muscle)) {
+        muscleSum += muscle;
+        muscleCount++;
+      }
+    }
+
+    private BodyTrendResponse.Point toPoint() {
+      return new BodyTrendResponse.Point(LocalDate.ofEpochDay(startDay),
+          average(weightSum, weightCount), average(fatSum, fatCount),
+          average(muscleSum, muscleCount), measurements);
+    }
+
+    private static Double average(double sum, int count) {
+      return (count == 0) ? null : Math.round(sum / count * 100) / 100.0;
+    }
+  }
+}
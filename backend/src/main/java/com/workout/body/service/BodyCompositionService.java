@@ -3,6 +3,8 @@ package com.workout.body.service;
 import com.workout.body.domain.BodyComposition;
 import com.workout.body.dto.BodyCompositionDto;
 import com.workout.body.dto.BodyCompositionResponse;
+import com.workout.body.dto.BodyTrendResolution;
+import com.workout.body.dto.BodyTrendResponse;
 import com.workout.body.repository.BodyCompositionRepository;
 import com.workout.global.exception.RestApiException;
 import com.workout.global.exception.errorcode.BodyErrorCode;
@@ -11,6 +13,7 @@ import com.workout.member.service.MemberService;
 import com.workout.pt.service.contract.PTContractService;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,12 +27,15 @@ public class BodyCompositionService {
   private final BodyCompositionRepository bodyCompositionRepository;
   private final MemberService memberService;
   private final PTContractService pTContractService;
+  private final BodyTrendCache bodyTrendCache;
 
   public BodyCompositionService(BodyCompositionRepository bodyCompositionRepository,
-      MemberService memberService, PTContractService pTContractService) {
+      MemberService memberService, PTContractService pTContractService,
+      BodyTrendCache bodyTrendCache) {
     this.bodyCompositionRepository = bodyCompositionRepository;
     this.memberService = memberService;
     this.pTContractService = pTContractService;
+    this.bodyTrendCache = bodyTrendCache;
   }
 
   public Page<BodyCompositionResponse> findByUserIdAndDateRange(Long memberId, LocalDate startDate,
@@ -45,10 +51,15 @@ public class BodyCompositionService {
     BodyComposition bodyComposition = bodyCompositionRepository.findByIdAndMemberId(id, memberId)
         .orElseThrow(() -> new RestApiException(BodyErrorCode.BODY_COMPOSITION_NOT_FOUND));
     bodyCompositionRepository.delete(bodyComposition);
+    bodyTrendCache.invalidateAfterCommit(memberId);
   }
 
   @Transactional
   public Long saveOrUpdateBodyComposition(BodyCompositionDto bodyCompositionDto, Long memberId) {
+    bodyTrendCache.upsertAfterCommit(memberId, bodyCompositionDto.getMeasurementDate(),
+        bodyCompositionDto.getWeightKg(), bodyCompositionDto.getFatKg(),
+        bodyCompositionDto.getMuscleMassKg());
+
     Optional<BodyComposition> existingData = bodyCompositionRepository.findByMemberIdAndMeasurementDate(
         memberId, bodyCompositionDto.getMeasurementDate());
 
@@ -85,6 +96,35 @@ public class BodyCompositionService {
     bodyComposition.setFatKg(dto.getFatKg());
     bodyComposition.setWeightKg(dto.getWeightKg());
     bodyComposition.setMuscleMassKg(dto.getMuscleMassKg());
+    bodyTrendCache.invalidateAfterCommit(memberId);
+  }
+
+  /**
+   * 기간 내 체성분 추이를 구간 평균으로 반환합니다. {@code resolution}이 없으면 기간 길이에 따라 고릅니다.
+   */
+  public BodyTrendResponse findTrend(Long memberId, LocalDate startDate, LocalDate endDate,
+      BodyTrendResolution resolution) {
+    if (startDate.isAfter(endDate)) {
+      throw new RestApiException(BodyErrorCode.INVALID_DATE_RANGE);
+    }
+    BodyTrendResolution effective = (resolution != null) ? resolution
+        : defaultResolution(startDate, endDate);
+    return new BodyTrendResponse(effective,
+        bodyTrendCache.get(memberId).downsample(startDate, endDate, effective));
+  }
+
+  public BodyTrendResponse findTrendByTrainer(Long trainerId, Long memberId, LocalDate startDate,
+      LocalDate endDate, BodyTrendResolution resolution) {
+    pTContractService.validateClientBodyDataAccess(trainerId, memberId);
+    return findTrend(memberId, startDate, endDate, resolution);
+  }
+
+  private static BodyTrendResolution defaultResolution(LocalDate startDate, LocalDate endDate) {
+    long days = ChronoUnit.DAYS.between(startDate, endDate);
+    if (days <= 92) {
+      return BodyTrendResolution.DAILY;
+    }
+    return (days <= 731) ? BodyTrendResolution.WEEKLY : BodyTrendResolution.MONTHLY;
   }
 
   public Page<BodyCompositionResponse> findDataByTrainer(Long trainerId, Long memberId,
@@ -0,0 +1,132 @@
+package com.workout.body.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workout.body.repository.BodyCompositionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 체성분 시계열({@link BodyCompositionSeries})을 노드 로컬(JVM)에 보관합니다.
+ * <p>
+ * 체성분 값은 컬럼 단위로 암호화되어 있어 행마다 복호화가 필요하므로, 회원의 전체 기록을 처음 조회할 때 한 번만 읽어 원시 배열로 만들고 이후
+ * 추이 조회는 배열만 훑습니다. 저장/수정이 커밋되면 이 노드의 시계열은 바로 고치고, 다른 노드에는 Redis pub/sub 으로 무효화를 전파하여
+ * 다음 조회 때 다시 만들게 합니다.
+ */
+@Slf4j
+@Component
+public class BodyTrendCache implements MessageListener {
+
+  static final String INVALIDATION_CHANNEL = "body:trend:invalidate";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Cache<Long, BodyCompositionSeries> seriesByMember;
+  private final BodyCompositionRepository bodyCompositionRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public BodyTrendCache(BodyCompositionRepository bodyCompositionRepository,
+      StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer listenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${body.trend.cache.max-size:10000}") long maxSize,
+      @Value("${body.trend.cache.ttl:1h}") Duration ttl) {
+    this.bodyCompositionRepository = bodyCompositionRepository;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.seriesByMember = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl) // 조회가 계속되어도 무효화를 놓친 항목은 ttl 안에 다시 읽음
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, seriesByMember, "bodyTrend");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  BodyCompositionSeries get(Long memberId) {
+    return seriesByMember.get(memberId, id -> BodyCompositionSeries.of(
+        bodyCompositionRepository.findAllByMemberIdOrderByMeasurementDateAsc(id)));
+  }
+
+  /**
+   * 커밋 후 이 노드에 시계열이 있으면 해당 날짜 값을 고치고, 다른 노드에는 무효화를 발행합니다.
+   */
+  public void upsertAfterCommit(Long memberId, LocalDate measurementDate, BigDecimal weightKg,
+      BigDecimal fatKg, BigDecimal muscleMassKg) {
+    afterCommit(() -> {
+      seriesByMember.asMap().computeIfPresent(memberId,
+          (id, series) -> series.upsert(measurementDate, weightKg, fatKg, muscleMassKg));
+      publish(memberId);
+    });
+  }
+
+  /**
+   * 측정일 변경이나 삭제처럼 위치를 알 수 없는 변경은 커밋 후 시계열을 버립니다. (다음 조회 때 다시 생성)
+   */
+  public void invalidateAfterCommit(Long memberId) {
+    afterCommit(() -> {
+      seriesByMember.invalidate(memberId);
+      publish(memberId);
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator < 0) {
+      log.warn("Ignoring malformed body trend invalidation message: {}", body);
+      return;
+    }
+    if (nodeId.equals(body.substring(0, separator))) {
+      return; // 이 노드는 이미 반영함
+    }
+    try {
+      seriesByMember.invalidate(Long.valueOf(body.substring(separator + 1)));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring malformed body trend invalidation message: {}", body);
+    }
+  }
+
+  private void publish(Long memberId) {
+    try {
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + memberId);
+    } catch (Exception e) {
+      // 발행 실패 시 다른 노드는 TTL 만료로 수렴
+      log.warn("Failed to publish body trend invalidation for memberId: {}. Reason: {}",
+          memberId, e.getMessage());
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
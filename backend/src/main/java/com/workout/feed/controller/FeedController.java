@@ -16,8 +16,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +56,18 @@ public class FeedController {
     return ResponseEntity.ok(ApiResponse.of(feeds));
   }
 
+  @Operation(summary = "홈 타임라인 조회 (커서 기반)", description = "내 헬스장과 PT 로 연결된 트레이너/회원의 피드를 최신순으로 조회합니다.")
+  @GetMapping("/home")
+  public ResponseEntity<ApiResponse<List<FeedGridResponse>>> getHomeTimeline(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "이 피드 ID보다 오래된 게시물을 조회 (아래로 스크롤)") @RequestParam(required = false) Long lastFeedId,
+      @Parameter(description = "한 번에 가져올 개수") @RequestParam(defaultValue = "20") int size) {
+
+    Long userId = userPrincipal.getUserId();
+    List<FeedGridResponse> feeds = feedService.getHomeTimeline(userId, lastFeedId, size);
+    return ResponseEntity.ok(ApiResponse.of(feeds));
+  }
+
   @Operation(summary = "피드 요약 조회", description = "피드의 좋야요, 댓글 수 등을 조회")
   @GetMapping("/{feedId}")
   public ResponseEntity<ApiResponse<FeedSummaryResponse>> getFeedSummary(
@@ -68,6 +79,17 @@ public class FeedController {
     return ResponseEntity.ok(ApiResponse.of(feeds));
   }
 
+  @Operation(summary = "피드 요약 일괄 조회", description = "여러 피드의 좋아요, 댓글 수 등을 한 번에 조회 (최대 50개)")
+  @GetMapping("/summaries")
+  public ResponseEntity<ApiResponse<List<FeedSummaryResponse>>> getFeedSummaries(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "피드 ID 목록") @RequestParam List<Long> feedIds) {
+
+    Long userId = userPrincipal.getUserId();
+    List<FeedSummaryResponse> summaries = feedService.getFeedSummaries(feedIds, userId);
+    return ResponseEntity.ok(ApiResponse.of(summaries));
+  }
+
   @Operation(summary = "피드 작성", description = "이미지 파일을 업로드하여 새로운 피드를 작성합s니다.")
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<ApiResponse<Long>> createFeed(
@@ -103,13 +125,24 @@ public class FeedController {
   //endregion
 
   //region Comment
-  @Operation(summary = "특정 피드의 댓글 목록 조회")
+  @Operation(summary = "특정 피드의 댓글 목록 조회 (커서 기반)", description = "최상위 댓글을 오래된 순으로 조회합니다. 각 댓글에는 대댓글 수와 앞쪽 대댓글 일부가 포함되며, sliceInfo.nextCursor 를 lastCommentId 로 넘겨 다음 페이지를 조회합니다.")
   @GetMapping("/{feedId}/comments")
   public ResponseEntity<ApiResponse<List<CommentResponse>>> getComments(
       @Parameter(description = "피드 ID") @PathVariable Long feedId,
-      Pageable pageable) {
-    Page<CommentResponse> comments = commentService.getComments(feedId, pageable);
-    return ResponseEntity.ok(ApiResponse.of(comments));
+      @Parameter(description = "이 댓글 ID 이후의 댓글을 조회") @RequestParam(required = false) Long lastCommentId,
+      @Parameter(description = "한 번에 가져올 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+    Slice<CommentResponse> comments = commentService.getComments(feedId, lastCommentId, size);
+    return ResponseEntity.ok(ApiResponse.of(comments, CommentResponse::getCommentId));
+  }
+
+  @Operation(summary = "대댓글 목록 조회 (커서 기반)", description = "댓글에 달린 대댓글을 오래된 순으로 조회합니다. sliceInfo.nextCursor 를 lastReplyId 로 넘겨 다음 페이지를 조회합니다.")
+  @GetMapping("/comments/{commentId}/replies")
+  public ResponseEntity<ApiResponse<List<CommentResponse>>> getReplies(
+      @Parameter(description = "부모 댓글 ID") @PathVariable Long commentId,
+      @Parameter(description = "이 대댓글 ID 이후의 대댓글을 조회 (응답에 포함된 마지막 대댓글 ID)") @RequestParam(required = false) Long lastReplyId,
+      @Parameter(description = "한 번에 가져올 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+    Slice<CommentResponse> replies = commentService.getReplies(commentId, lastReplyId, size);
+    return ResponseEntity.ok(ApiResponse.of(replies, CommentResponse::getCommentId));
   }
 
   @Operation(summary = "댓글 또는 대댓글 작성")
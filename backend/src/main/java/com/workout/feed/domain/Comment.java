@@ -44,6 +44,12 @@ public class Comment extends BaseEntity {
   @Column(nullable = false)
   private String content;
 
+  /**
+   * 직계 대댓글 수. {@code CommentRepository}의 원자적 UPDATE 로만 변경됩니다.
+   */
+  @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+  private int replyCount;
+
   @Builder
   public Comment(Feed feed, Member member, String content, Comment parent) {
     this.feed = feed;
@@ -16,6 +16,7 @@ public class CommentResponse {
   private final String authorProfileImageUrl;
   private final Instant createdAt;
   private final Long parentId;
+  private final int replyCount;
   @Setter
   private List<CommentResponse> replies;
 
@@ -26,6 +27,7 @@ public class CommentResponse {
     this.authorProfileImageUrl = comment.getMember().getProfileImageUri();
     this.createdAt = comment.getCreatedAt();
     this.parentId = (comment.getParent() != null) ? comment.getParent().getId() : null;
+    this.replyCount = comment.getReplyCount();
     this.replies = Collections.emptyList();
   }
 
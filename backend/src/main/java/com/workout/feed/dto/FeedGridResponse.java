@@ -1,16 +1,21 @@
 package com.workout.feed.dto;
 
 import com.workout.feed.domain.Feed;
+import com.workout.utils.domain.ImageTier;
 
 public record FeedGridResponse(
     Long feedId,
     String imageUrl,
+    String thumbnailUrl,
+    String mediumUrl,
     String authorUsername,
     String authorProfileImageUrl
 ) {
 
   public static FeedGridResponse from(Feed feed) {
-    return new FeedGridResponse(feed.getId(), feed.getImageUrl(), feed.getMember().getName(),
+    return new FeedGridResponse(feed.getId(), feed.getImageUrl(),
+        ImageTier.THUMBNAIL.variantUrl(feed.getImageUrl()),
+        ImageTier.MEDIUM.variantUrl(feed.getImageUrl()), feed.getMember().getName(),
         feed.getMember().getProfileImageUri());
   }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.workout.feed.repository;
 
 import com.workout.feed.domain.Comment;
 import java.util.List;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -19,11 +18,42 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
   List<Comment> findByParentId(Long parentId);
 
-  @Query(value = "SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.feed.id = :feedId AND c.parent IS NULL",
-      countQuery = "SELECT count(c) FROM Comment c WHERE c.feed.id = :feedId AND c.parent IS NULL")
-  Page<Comment> findByFeedIdAndParentIsNull(@Param("feedId") Long feedId, Pageable pageable);
+  @Query("SELECT c.id FROM Comment c WHERE c.parent.id IN :parentIds")
+  List<Long> findIdsByParentIdIn(@Param("parentIds") List<Long> parentIds);
 
-  @Query("SELECT c FROM Comment c JOIN FETCH c.member m JOIN FETCH c.parent p WHERE p.id IN :parentIds")
-  List<Comment> findRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
-}
+  @Modifying
+  @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+  int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+  long countByFeedId(Long feedId);
+
+  @Query("SELECT new com.workout.feed.repository.FeedCount(c.feed.id, COUNT(c)) FROM Comment c "
+      + "WHERE c.feed.id IN :feedIds GROUP BY c.feed.id")
+  List<FeedCount> countGroupByFeedId(@Param("feedIds") List<Long> feedIds);
+
+  @Query("SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.feed.id = :feedId AND c.parent IS NULL ORDER BY c.id ASC")
+  List<Comment> findParentCommentsFirstPage(@Param("feedId") Long feedId, Pageable pageable);
+
+  @Query("SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.feed.id = :feedId AND c.parent IS NULL AND c.id > :lastCommentId ORDER BY c.id ASC")
+  List<Comment> findParentCommentsWithCursor(@Param("feedId") Long feedId, @Param("lastCommentId") Long lastCommentId, Pageable pageable);
 
+  @Query("SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.parent.id = :parentId ORDER BY c.id ASC")
+  List<Comment> findRepliesFirstPage(@Param("parentId") Long parentId, Pageable pageable);
+
+  @Query("SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.parent.id = :parentId AND c.id > :lastReplyId ORDER BY c.id ASC")
+  List<Comment> findRepliesWithCursor(@Param("parentId") Long parentId, @Param("lastReplyId") Long lastReplyId, Pageable pageable);
+
+  /**
+   * 부모 댓글마다 가장 오래된 대댓글 최대 {@code limit}개의 ID. (parent_comment_id, id) 인덱스만 사용합니다.
+   */
+  @Query(value = "SELECT r.id FROM (SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.id) AS rn "
+      + "FROM comment c WHERE c.parent_comment_id IN (:parentIds)) r WHERE r.rn <= :limit", nativeQuery = true)
+  List<Long> findFirstReplyIdsByParentIds(@Param("parentIds") List<Long> parentIds, @Param("limit") int limit);
+
+  @Query("SELECT c FROM Comment c JOIN FETCH c.member m WHERE c.id IN :ids ORDER BY c.id ASC")
+  List<Comment> findAllWithMemberByIdIn(@Param("ids") List<Long> ids);
+
+  @Modifying
+  @Query(value = "UPDATE comment SET reply_count = reply_count + :delta WHERE id = :commentId", nativeQuery = true)
+  int addReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+}
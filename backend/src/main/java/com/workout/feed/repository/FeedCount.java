@@ -0,0 +1,8 @@
+package com.workout.feed.repository;
+
+/**
+ * 피드별 집계 결과 (좋아요 수/댓글 수 GROUP BY 조회용)
+ */
+public record FeedCount(Long feedId, Long count) {
+
+}
@@ -25,4 +25,13 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
 
   @Query("SELECT f FROM Feed f JOIN FETCH f.member m WHERE f.id IN :ids ORDER BY f.id DESC")
   List<Feed> findAllByIdInOrderByIdDesc(@Param("ids") List<Long> ids);
-}
\ No newline at end of file
+
+  @Query("SELECT f.id FROM Feed f WHERE f.gym.id = :gymId OR f.member.id IN :authorIds ORDER BY f.id DESC")
+  List<Long> findIdsByGymIdOrMemberIdIn(@Param("gymId") Long gymId, @Param("authorIds") List<Long> authorIds, Pageable pageable);
+
+  @Query("SELECT f.id FROM Feed f WHERE f.member.id IN :authorIds ORDER BY f.id DESC")
+  List<Long> findIdsByMemberIdIn(@Param("authorIds") List<Long> authorIds, Pageable pageable);
+
+  @Query("SELECT f.id FROM Feed f WHERE f.gym.id = :gymId ORDER BY f.id DESC")
+  List<Long> findIdsByGymId(@Param("gymId") Long gymId, Pageable pageable);
+}
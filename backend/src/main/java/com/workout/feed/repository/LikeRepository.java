@@ -2,6 +2,7 @@ package com.workout.feed.repository;
 
 import com.workout.feed.domain.Like;
 import com.workout.feed.domain.LikeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,6 +16,22 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
   Optional<Like> findByMemberIdAndTargetTypeAndTargetId(Long userId, LikeType targetType,
       Long targetId);
 
+  @Query("SELECT l.targetId FROM Like l WHERE l.member.id = :memberId AND l.targetType = :targetType")
+  List<Long> findTargetIdsByMemberIdAndTargetType(@Param("memberId") Long memberId,
+      @Param("targetType") LikeType targetType);
+
+  long countByTargetTypeAndTargetId(LikeType targetType, Long targetId);
+
+  @Query("SELECT new com.workout.feed.repository.FeedCount(l.targetId, COUNT(l)) FROM Like l "
+      + "WHERE l.targetType = :targetType AND l.targetId IN :targetIds GROUP BY l.targetId")
+  List<FeedCount> countGroupByTargetId(@Param("targetType") LikeType targetType,
+      @Param("targetIds") List<Long> targetIds);
+
+  @Query("SELECT l.targetId FROM Like l WHERE l.member.id = :memberId "
+      + "AND l.targetType = :targetType AND l.targetId IN :targetIds")
+  List<Long> findLikedTargetIds(@Param("memberId") Long memberId,
+      @Param("targetType") LikeType targetType, @Param("targetIds") List<Long> targetIds);
+
   @Modifying
   @Query("DELETE FROM Like l WHERE l.targetType = :targetType AND l.targetId = :targetId")
   void deleteAllByTargetTypeAndTargetId(@Param("targetType") LikeType targetType,
@@ -13,13 +13,15 @@ import com.workout.global.exception.errorcode.CommentErrorCode;
 import com.workout.global.exception.errorcode.FeedErrorCode;
 import com.workout.member.domain.Member;
 import com.workout.member.service.MemberService;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -30,23 +32,44 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 public class CommentService {
 
   private static final String FEED_COMMENT_COUNT_KEY_PREFIX = "counts:comment:feed:";
+  private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+  private static final int INLINE_REPLY_LIMIT = 3;
+  private static final int MAX_PAGE_SIZE = 100;
   private final CommentRepository commentRepository;
   private final MemberService memberService;
   private final FeedRepository feedRepository;
-  private final RedisTemplate<String, Object> redisTemplate;
-
-
-  public Page<CommentResponse> getComments(Long feedId, Pageable pageable) {
-    Page<Comment> parentComments = commentRepository.findByFeedIdAndParentIsNull(feedId, pageable);
-
-    Page<CommentResponse> responsePage = parentComments.map(CommentResponse::from);
-
-    List<Long> parentIds = parentComments.getContent().stream()
+  private final FeedCounterStore feedCounterStore;
+
+
+  /**
+   * 최상위 댓글을 ID 커서로 조회합니다. 각 댓글에는 대댓글 수와 가장 오래된 대댓글 최대 {@value #INLINE_REPLY_LIMIT}개가 포함되며,
+   * 나머지는 {@link #getReplies}로 이어서 조회합니다.
+   * <p>
+   * {@code size + 1}개를 읽어 다음 페이지 존재 여부를 COUNT 없이 판단합니다. {@code size}는 최대 {@value #MAX_PAGE_SIZE}개로
+   * 줄입니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<CommentResponse> getComments(Long feedId, Long lastCommentId, int requestedSize) {
+    int size = pageSize(requestedSize);
+    Pageable pageable = PageRequest.of(0, size + 1);
+    List<Comment> fetched = (lastCommentId != null)
+        ? commentRepository.findParentCommentsWithCursor(feedId, lastCommentId, pageable)
+        : commentRepository.findParentCommentsFirstPage(feedId, pageable);
+    boolean hasNext = fetched.size() > size;
+    List<Comment> parentComments = hasNext ? fetched.subList(0, size) : fetched;
+
+    List<CommentResponse> responses = parentComments.stream().map(CommentResponse::from).toList();
+
+    List<Long> parentIdsWithReplies = parentComments.stream()
+        .filter(comment -> comment.getReplyCount() > 0)
         .map(Comment::getId)
-        .collect(Collectors.toList());
+        .toList();
 
-    if (!parentIds.isEmpty()) {
-      List<Comment> replies = commentRepository.findRepliesByParentIds(parentIds);
+    if (!parentIdsWithReplies.isEmpty()) {
+      List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIdsWithReplies,
+          INLINE_REPLY_LIMIT);
+      List<Comment> replies = replyIds.isEmpty() ? List.of()
+          : commentRepository.findAllWithMemberByIdIn(replyIds);
 
       Map<Long, List<CommentResponse>> repliesByParentId = replies.stream()
           .collect(Collectors.groupingBy(
@@ -54,14 +77,30 @@ public class CommentService {
               Collectors.mapping(CommentResponse::from, Collectors.toList())
           ));
 
-      responsePage.getContent().forEach(parentDto -> {
+      responses.forEach(parentDto -> {
         if (repliesByParentId.containsKey(parentDto.getCommentId())) {
           parentDto.setReplies(repliesByParentId.get(parentDto.getCommentId()));
         }
       });
     }
 
-    return responsePage;
+    return new SliceImpl<>(responses, PageRequest.of(0, size), hasNext);
+  }
+
+  /**
+   * 특정 댓글의 대댓글을 ID 커서로 조회합니다. {@code size}는 최대 {@value #MAX_PAGE_SIZE}개로 줄입니다.
+   */
+  @Transactional(readOnly = true)
+  public Slice<CommentResponse> getReplies(Long commentId, Long lastReplyId, int requestedSize) {
+    int size = pageSize(requestedSize);
+    Pageable pageable = PageRequest.of(0, size + 1);
+    List<Comment> fetched = (lastReplyId != null)
+        ? commentRepository.findRepliesWithCursor(commentId, lastReplyId, pageable)
+        : commentRepository.findRepliesFirstPage(commentId, pageable);
+    boolean hasNext = fetched.size() > size;
+    List<Comment> replies = hasNext ? fetched.subList(0, size) : fetched;
+    return new SliceImpl<>(replies.stream().map(CommentResponse::from).toList(),
+        PageRequest.of(0, size), hasNext);
   }
 
   @Transactional
@@ -83,10 +122,13 @@ public class CommentService {
     Comment comment = Comment.builder().feed(feed).member(member).content(request.content())
         .parent(parent).build();
     Comment savedComment = commentRepository.save(comment);
+    if (parent != null) {
+      commentRepository.addReplyCount(parent.getId(), 1);
+    }
     TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
       @Override
       public void afterCommit() {
-        redisTemplate.opsForValue().increment(FEED_COMMENT_COUNT_KEY_PREFIX + feed.getId());
+        feedCounterStore.incrementIfPresent(FEED_COMMENT_COUNT_KEY_PREFIX + feed.getId(), 1);
       }
     });
     return savedComment.getId();
@@ -100,14 +142,18 @@ public class CommentService {
     }
 
     Long feedId = comment.getFeed().getId();
+    Long parentId = (comment.getParent() != null) ? comment.getParent().getId() : null;
     long deletedCount = deleteCommentAndChildren(comment);
+    if (parentId != null && deletedCount > 0) {
+      commentRepository.addReplyCount(parentId, -1);
+    }
 
     if (deletedCount > 0) {
       TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
         @Override
         public void afterCommit() {
-          redisTemplate.opsForValue()
-              .decrement(FEED_COMMENT_COUNT_KEY_PREFIX + feedId, deletedCount);
+          feedCounterStore.incrementIfPresent(FEED_COMMENT_COUNT_KEY_PREFIX + feedId,
+              -deletedCount);
         }
       });
     }
@@ -118,15 +164,52 @@ public class CommentService {
         .orElseThrow(() -> new RestApiException(CommentErrorCode.NOT_FOUND));
   }
 
+  /**
+   * 댓글과 모든 하위 댓글을 삭제하고 삭제된 개수를 반환합니다.
+   * <p>
+   * 트리를 한 단계씩 IN 쿼리로 내려가며 ID 를 모은 뒤(깊이당 SELECT 1회), 가장 깊은 단계부터 일괄 DELETE 합니다. 엔티티를 하나씩
+   * 로딩/삭제하지 않고, 부모 FK 의 CASCADE 깊이 제한에도 걸리지 않습니다.
+   */
   private long deleteCommentAndChildren(Comment comment) {
-    long count = 1;
-    List<Comment> children = commentRepository.findByParentId(comment.getId());
-    if (children != null && !children.isEmpty()) {
-      for (Comment child : children) {
-        count += deleteCommentAndChildren(child);
+    List<List<Long>> levels = new ArrayList<>();
+    List<Long> level = List.of(comment.getId());
+    while (!level.isEmpty()) {
+      levels.add(level);
+      level = findChildIds(level);
+    }
+
+    long count = 0;
+    for (int depth = levels.size() - 1; depth >= 0; depth--) {
+      for (List<Long> chunk : chunk(levels.get(depth))) {
+        count += commentRepository.deleteAllByIdIn(chunk);
       }
     }
-    commentRepository.delete(comment);
     return count;
   }
-}
\ No newline at end of file
+
+  private List<Long> findChildIds(List<Long> parentIds) {
+    List<Long> childIds = new ArrayList<>();
+    for (List<Long> chunk : chunk(parentIds)) {
+      childIds.addAll(commentRepository.findIdsByParentIdIn(chunk));
+    }
+    return childIds;
+  }
+
+  /**
+   * 요청 크기를 1..{@value #MAX_PAGE_SIZE}로 맞춥니다. 0 이하는 잘못된 요청입니다.
+   */
+  private static int pageSize(int requestedSize) {
+    if (requestedSize <= 0) {
+      throw new RestApiException(CommentErrorCode.INVALID_PARAMETER);
+    }
+    return Math.min(requestedSize, MAX_PAGE_SIZE);
+  }
+
+  private static List<List<Long>> chunk(List<Long> ids) {
+    List<List<Long>> chunks = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+      chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+    }
+    return chunks;
+  }
+}
@@ -1,18 +1,22 @@
 package com.workout.feed.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.workout.feed.domain.Feed;
 import com.workout.feed.domain.LikeType;
 import com.workout.feed.dto.FeedGridResponse;
 import com.workout.feed.dto.FeedSummaryResponse;
+import com.workout.feed.repository.CommentRepository;
+import com.workout.feed.repository.FeedCount;
 import com.workout.feed.repository.FeedRepository;
 import com.workout.feed.repository.LikeRepository;
 import com.workout.global.exception.RestApiException;
 import com.workout.global.exception.errorcode.FeedErrorCode;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,14 +27,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,20 +49,49 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedCacheService {
 
   private static final String GYM_FEEDS_KEY_PREFIX = "gym:feeds:";
-  private static final String FEEDS_DETAILS_KEY = "feeds:details";
   private static final String LOCK_GYM_FEEDS_KEY_PREFIX = "lock:gym:feeds:";
   private static final String FEED_LIKE_COUNT_KEY_PREFIX = "counts:like:feed:";
   private static final String FEED_COMMENT_COUNT_KEY_PREFIX = "counts:comment:feed:";
+  private static final Long WINDOW_COMPLETE_MARKER = 0L;
+  private static final int INITIAL_LOAD_SIZE = 100;
+  private static final int TRIM_BATCH_SIZE = 500;
+  private static final long LOAD_WAIT_SECONDS = 5;
+
+  /**
+   * 헬스장별로 진행 중인 캐시 적재 작업 (노드 내 single-flight)
+   */
+  private final SingleFlight<Long> windowLoads = new SingleFlight<>();
 
   private final FeedRepository feedRepository;
   private final RedisTemplate<String, Object> redisTemplate;
   private final RedissonClient redissonClient;
-  private final ObjectMapper objectMapper;
   private final LikeRepository likeRepository;
+  private final CommentRepository commentRepository;
+  private final FeedLocalCache feedLocalCache;
+  private final LikeBatchWriter likeBatchWriter;
+  private final LikedFeedStore likedFeedStore;
+  private final FeedDetailsStore feedDetailsStore;
+  private final FeedCounterStore feedCounterStore;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${feed.cache.window-size:300}")
+  private int windowSize;
+
+  @Value("${feed.cache.details-ttl:3d}")
+  private Duration detailsTtl;
 
   @CircuitBreaker(name = "redis-circuit", fallbackMethod = "fallbackToDB")
   public List<FeedGridResponse> getFeedsForGrid(Long gymId, Long lastFeedId, Long firstFeedId,
       int size) {
+    return readFromCache(gymId, lastFeedId, firstFeedId, size, true);
+  }
+
+  /**
+   * @param loadOnMiss 헬스장 ZSET 이 없을 때 캐시 적재를 시도할지 여부. 적재 후 다시 읽을 때는 false 로 호출하여 재귀를 한 번으로
+   *                   제한합니다.
+   */
+  private List<FeedGridResponse> readFromCache(Long gymId, Long lastFeedId, Long firstFeedId,
+      int size, boolean loadOnMiss) {
     final String gymFeedsKey = GYM_FEEDS_KEY_PREFIX + gymId;
     ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
 
@@ -68,7 +105,23 @@ public class FeedCacheService {
     }
 
     if (feedIdsObj == null || feedIdsObj.isEmpty()) {
-      return getFeedsFromDBWithLock(gymId, lastFeedId, firstFeedId, size);
+      if (!Boolean.TRUE.equals(redisTemplate.hasKey(gymFeedsKey))) {
+        if (loadOnMiss) {
+          awaitWindowLoad(gymId);
+          return readFromCache(gymId, lastFeedId, firstFeedId, size, false);
+        }
+        // 적재에 실패했거나 락 대기 시간 초과 → 이번 요청은 DB 에서 직접 응답
+        return fetchFeedsFromRepository(gymId, lastFeedId, firstFeedId, size).stream()
+            .map(FeedGridResponse::from).toList();
+      }
+      if (firstFeedId != null) {
+        // 최신 피드는 항상 윈도우 안에 있으므로 새 피드가 없는 것
+        return Collections.emptyList();
+      }
+      // 커서가 캐시 윈도우 아래로 내려감 → cold tier(DB)
+      recordWindowLookup("miss");
+      return fetchFeedsFromRepository(gymId, lastFeedId, null, size).stream()
+          .map(FeedGridResponse::from).toList();
     }
 
     List<String> feedIds = feedIdsObj.stream()
@@ -78,43 +131,83 @@ public class FeedCacheService {
     if (lastFeedId != null) {
       feedIds.remove(String.valueOf(lastFeedId));
     }
+    // 마커가 포함되면 윈도우가 헬스장의 가장 오래된 피드까지 담고 있음
+    boolean reachedBottom = feedIds.remove(String.valueOf(WINDOW_COMPLETE_MARKER));
 
     if (feedIds.size() > size) {
       feedIds = feedIds.subList(0, size);
     }
 
-    if (feedIds.isEmpty()) {
-      return Collections.emptyList();
+    // 윈도우 하단에 걸친 페이지는 모자란 만큼 DB 에서 이어서 채움
+    List<Feed> coldTail = Collections.emptyList();
+    if (firstFeedId == null && feedIds.size() < size && !reachedBottom) {
+      Long coldCursor =
+          feedIds.isEmpty() ? lastFeedId : Long.valueOf(feedIds.get(feedIds.size() - 1));
+      coldTail = (coldCursor != null)
+          ? feedRepository.findOlderFeedsByGymIdWithCursor(gymId, coldCursor,
+          PageRequest.of(0, size - feedIds.size()))
+          : feedRepository.findByGymIdFirstPage(gymId, PageRequest.of(0, size));
+      recordWindowLookup(coldTail.isEmpty() ? "hit" : "partial");
+    } else if (firstFeedId == null) {
+      recordWindowLookup("hit");
     }
 
-    List<Object> cachedDetails = redisTemplate.opsForHash()
-        .multiGet(FEEDS_DETAILS_KEY, Collections.unmodifiableCollection(feedIds));
-
-    Map<String, FeedGridResponse> feedDetailsMap = new HashMap<>();
-    List<String> missingFeedIds = new ArrayList<>();
-    for (int i = 0; i < feedIds.size(); i++) {
-      if (cachedDetails.get(i) != null) {
-        feedDetailsMap.put(feedIds.get(i),
-            objectMapper.convertValue(cachedDetails.get(i), FeedGridResponse.class));
-      } else {
-        missingFeedIds.add(feedIds.get(i));
-      }
+    if (feedIds.isEmpty()) {
+      return coldTail.stream().map(FeedGridResponse::from).toList();
     }
 
-    if (!missingFeedIds.isEmpty()) {
-      List<Long> missingIds = missingFeedIds.stream().map(Long::valueOf).toList();
+    List<Long> pageIds = feedIds.stream().map(Long::valueOf).toList();
+    Map<Long, FeedGridResponse> feedDetailsMap = feedDetailsStore.getAll(pageIds);
+    List<Long> missingIds = pageIds.stream().filter(id -> !feedDetailsMap.containsKey(id))
+        .toList();
+
+    if (!missingIds.isEmpty()) {
       List<Feed> fetchedFeeds = feedRepository.findAllByIdInOrderByIdDesc(missingIds);
 
       if (!fetchedFeeds.isEmpty()) {
-        Map<String, FeedGridResponse> newCacheEntries = fetchedFeeds.stream()
-            .collect(
-                Collectors.toMap(feed -> String.valueOf(feed.getId()), FeedGridResponse::from));
-        redisTemplate.opsForHash().putAll(FEEDS_DETAILS_KEY, newCacheEntries);
-        fetchedFeeds.forEach(
-            feed -> feedDetailsMap.put(String.valueOf(feed.getId()), FeedGridResponse.from(feed)));
+        Map<Long, FeedGridResponse> newCacheEntries = fetchedFeeds.stream()
+            .collect(Collectors.toMap(Feed::getId, FeedGridResponse::from));
+        feedDetailsStore.putAll(newCacheEntries);
+        feedDetailsMap.putAll(newCacheEntries);
       }
     }
-    return feedIds.stream().map(feedDetailsMap::get).filter(Objects::nonNull).toList();
+    List<FeedGridResponse> result = pageIds.stream().map(feedDetailsMap::get)
+        .filter(Objects::nonNull).collect(Collectors.toCollection(ArrayList::new));
+    coldTail.forEach(feed -> result.add(FeedGridResponse.from(feed)));
+    return result;
+  }
+
+  /**
+   * 헬스장 ZSET 을 윈도우 크기로 자르고, 기록된 지 TTL 이 지난 상세 캐시를 정리합니다.
+   * <p>
+   * 잘려 나간 구간은 {@code findOlderFeedsByGymIdWithCursor}로 조회되며, 만료된 상세 정보는 다음 조회 시 DB 에서 다시 채워집니다.
+   */
+  @Scheduled(fixedDelayString = "${feed.cache.trim-interval-ms:600000}")
+  public void trimCache() {
+    try {
+      int trimmedGyms = 0;
+      ScanOptions options = ScanOptions.scanOptions().match(GYM_FEEDS_KEY_PREFIX + "*")
+          .count(TRIM_BATCH_SIZE).build();
+      try (Cursor<String> keys = redisTemplate.scan(options)) {
+        while (keys.hasNext()) {
+          Long removed = redisTemplate.opsForZSet().removeRange(keys.next(), 0, -(windowSize + 1));
+          if (removed != null && removed > 0) {
+            trimmedGyms++;
+          }
+        }
+      }
+
+      long expiredDetails = feedDetailsStore.evictExpired(detailsTtl, TRIM_BATCH_SIZE);
+
+      log.info("Trimmed feed cache: {} gym windows, {} expired details.", trimmedGyms,
+          expiredDetails);
+    } catch (DataAccessException e) {
+      log.warn("Failed to trim feed cache. Reason: {}", e.getMessage());
+    }
+  }
+
+  private void recordWindowLookup(String result) {
+    meterRegistry.counter("feed.cache.window", "result", result).increment();
   }
 
   @Transactional(readOnly = true)
@@ -131,42 +224,139 @@ public class FeedCacheService {
         FEED_COMMENT_COUNT_KEY_PREFIX + feedIdStr
     );
     List<Object> counts = redisTemplate.opsForValue().multiGet(countKeys);
-    Long likeCount =
-        (counts != null && counts.get(0) != null) ? ((Number) counts.get(0)).longValue() : 0L;
-    Long commentCount =
-        (counts != null && counts.get(1) != null) ? ((Number) counts.get(1)).longValue() : 0L;
+    Long likeCount = (counts != null && counts.get(0) != null)
+        ? ((Number) counts.get(0)).longValue()
+        : feedCounterStore.rebuild(countKeys.get(0),
+            () -> likeRepository.countByTargetTypeAndTargetId(LikeType.FEED, feedId));
+    Long commentCount = (counts != null && counts.get(1) != null)
+        ? ((Number) counts.get(1)).longValue()
+        : feedCounterStore.rebuild(countKeys.get(1), () -> commentRepository.countByFeedId(feedId));
 
     boolean isLiked = false;
     if (userId != null) {
-      isLiked = likeRepository.findByMemberIdAndTargetTypeAndTargetId(userId, LikeType.FEED, feedId)
-          .isPresent();
+      isLiked = likedFeedStore.isLiked(userId, feedId);
+      // 아직 플러시되지 않은 토글 반영
+      isLiked ^= likeBatchWriter.hasPendingFlip(userId, feedId);
     }
 
     return FeedSummaryResponse.of(feed, likeCount, commentCount, isLiked);
   }
 
-  private List<FeedGridResponse> getFeedsFromDBWithLock(Long gymId, Long lastFeedId,
-      Long firstFeedId, int size) {
+  /**
+   * 여러 피드의 요약 정보를 한 번에 조회합니다. (JOIN FETCH 1회 + MGET 1회 + SMISMEMBER 1회)
+   * <p>
+   * 카운터 키가 없는 피드는 피드마다 COUNT 하지 않고, 좋아요/댓글 종류별 GROUP BY 한 번으로 모아서 복구합니다.
+   * <p>
+   * 존재하지 않는 피드는 결과에서 제외되며, 결과는 요청한 ID 순서를 따릅니다.
+   */
+  @Transactional(readOnly = true)
+  public List<FeedSummaryResponse> getFeedSummaries(List<Long> feedIds, Long userId) {
+    List<Long> distinctIds = feedIds.stream().distinct().toList();
+    if (distinctIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // 1. 피드 + 작성자 한 번에 조회
+    Map<Long, Feed> feedsById = feedRepository.findAllByIdInOrderByIdDesc(distinctIds).stream()
+        .collect(Collectors.toMap(Feed::getId, feed -> feed));
+    List<Long> foundIds = distinctIds.stream().filter(feedsById::containsKey).toList();
+    if (foundIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // 2. 모든 카운터 키를 MGET 한 번으로 조회 ([like_1, comment_1, like_2, comment_2, ...])
+    List<String> countKeys = new ArrayList<>(foundIds.size() * 2);
+    for (Long feedId : foundIds) {
+      countKeys.add(FEED_LIKE_COUNT_KEY_PREFIX + feedId);
+      countKeys.add(FEED_COMMENT_COUNT_KEY_PREFIX + feedId);
+    }
+    List<Object> counts = redisTemplate.opsForValue().multiGet(countKeys);
+
+    // 3. 요청자가 좋아요한 피드 ID 를 회원별 좋아요 SET 에서 한 번에 조회
+    Set<Long> likedIds = (userId != null)
+        ? likedFeedStore.findLikedAmong(userId, foundIds)
+        : Collections.emptySet();
+
+    // 4. 키가 없는 카운터는 종류별 GROUP BY COUNT 한 번으로 복구
+    Map<String, Long> countsByKey = new HashMap<>();
+    List<Long> missingLikeIds = new ArrayList<>();
+    List<Long> missingCommentIds = new ArrayList<>();
+    for (int i = 0; i < foundIds.size(); i++) {
+      Object likeValue = (counts != null) ? counts.get(i * 2) : null;
+      Object commentValue = (counts != null) ? counts.get(i * 2 + 1) : null;
+      if (likeValue != null) {
+        countsByKey.put(countKeys.get(i * 2), ((Number) likeValue).longValue());
+      } else {
+        missingLikeIds.add(foundIds.get(i));
+      }
+      if (commentValue != null) {
+        countsByKey.put(countKeys.get(i * 2 + 1), ((Number) commentValue).longValue());
+      } else {
+        missingCommentIds.add(foundIds.get(i));
+      }
+    }
+    Map<String, Long> rebuilt = new HashMap<>();
+    if (!missingLikeIds.isEmpty()) {
+      rebuilt.putAll(countGrouped(FEED_LIKE_COUNT_KEY_PREFIX, missingLikeIds,
+          likeRepository.countGroupByTargetId(LikeType.FEED, missingLikeIds)));
+    }
+    if (!missingCommentIds.isEmpty()) {
+      rebuilt.putAll(countGrouped(FEED_COMMENT_COUNT_KEY_PREFIX, missingCommentIds,
+          commentRepository.countGroupByFeedId(missingCommentIds)));
+    }
+    feedCounterStore.rebuildAll(rebuilt);
+    countsByKey.putAll(rebuilt);
+
+    List<FeedSummaryResponse> responses = new ArrayList<>(foundIds.size());
+    for (Long feedId : foundIds) {
+      boolean isLiked = userId != null
+          && (likedIds.contains(feedId) ^ likeBatchWriter.hasPendingFlip(userId, feedId));
+      responses.add(FeedSummaryResponse.of(feedsById.get(feedId),
+          countsByKey.get(FEED_LIKE_COUNT_KEY_PREFIX + feedId),
+          countsByKey.get(FEED_COMMENT_COUNT_KEY_PREFIX + feedId), isLiked));
+    }
+    return responses;
+  }
+
+  /**
+   * GROUP BY 결과를 카운터 키별 값으로 바꿉니다. 결과에 없는 피드(좋아요/댓글 0개)는 0 입니다.
+   */
+  private static Map<String, Long> countGrouped(String keyPrefix, List<Long> feedIds,
+      List<FeedCount> grouped) {
+    Map<String, Long> countsByKey = new HashMap<>();
+    feedIds.forEach(feedId -> countsByKey.put(keyPrefix + feedId, 0L));
+    grouped.forEach(row -> countsByKey.put(keyPrefix + row.feedId(), row.count()));
+    return countsByKey;
+  }
+
+  /**
+   * 헬스장 윈도우 적재를 single-flight 로 수행합니다.
+   * <p>
+   * 같은 노드에서 동시에 miss 가 난 요청들은 하나의 적재 작업(future)을 공유하고, 노드 간에는 Redisson 락으로 한 노드만 DB 를
+   * 조회합니다. 락 대기는 Redisson 의 unlock pub/sub 알림으로 깨어나므로 sleep 후 재시도하지 않습니다.
+   */
+  private void awaitWindowLoad(Long gymId) {
+    boolean leader = windowLoads.run(gymId, () -> loadWindow(gymId), LOAD_WAIT_SECONDS,
+        TimeUnit.SECONDS);
+    meterRegistry.counter("feed.cache.load", "role", leader ? "leader" : "follower").increment();
+  }
+
+  private void loadWindow(Long gymId) {
     final String lockKey = LOCK_GYM_FEEDS_KEY_PREFIX + gymId;
     RLock lock = redissonClient.getLock(lockKey);
-    List<FeedGridResponse> result = Collections.emptyList();
     try {
-      boolean isLocked = lock.tryLock(5, 10, TimeUnit.SECONDS);
-      if (!isLocked) {
-        log.warn("Failed to acquire lock for {}. Waiting and retrying from cache.", lockKey);
-        Thread.sleep(200);
-        return getFeedsForGrid(gymId, lastFeedId, firstFeedId, size);
+      if (!lock.tryLock(LOAD_WAIT_SECONDS, 10, TimeUnit.SECONDS)) {
+        log.warn("Failed to acquire lock for {}. Serving from DB.", lockKey);
+        return;
       }
       try {
-        if (redisTemplate.hasKey(GYM_FEEDS_KEY_PREFIX + gymId)) {
-          return getFeedsForGrid(gymId, lastFeedId, firstFeedId, size);
-        }
-
-        List<Feed> feedsFromDB = feedRepository.findByGymIdFirstPage(gymId, PageRequest.of(0, 100));
-        if (!feedsFromDB.isEmpty()) {
-          populateCache(gymId, feedsFromDB);
-          result = feedsFromDB.stream().limit(size).map(FeedGridResponse::from).toList();
+        // 락을 기다리는 동안 다른 노드가 이미 적재했을 수 있음
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(GYM_FEEDS_KEY_PREFIX + gymId))) {
+          return;
         }
+        List<Feed> feedsFromDB = feedRepository.findByGymIdFirstPage(gymId,
+            PageRequest.of(0, INITIAL_LOAD_SIZE));
+        populateCache(gymId, feedsFromDB, feedsFromDB.size() < INITIAL_LOAD_SIZE);
       } finally {
         if (lock.isHeldByCurrentThread()) {
           lock.unlock();
@@ -176,7 +366,6 @@ public class FeedCacheService {
       Thread.currentThread().interrupt();
       log.error("Thread interrupted while waiting for lock.", e);
     }
-    return result;
   }
 
   public List<FeedGridResponse> fallbackToDB(Long gymId, Long lastFeedId, Long firstFeedId,
@@ -199,35 +388,35 @@ public class FeedCacheService {
     }
   }
 
-  private void populateCache(Long gymId, List<Feed> feeds) {
+  private void populateCache(Long gymId, List<Feed> feeds, boolean complete) {
     final String gymFeedsKey = GYM_FEEDS_KEY_PREFIX + gymId;
 
-    Map<String, FeedGridResponse> feedDetailsMap = feeds.stream()
-        .collect(Collectors.toMap(
-            feed -> String.valueOf(feed.getId()),
-            FeedGridResponse::from
-        ));
+    Map<Long, FeedGridResponse> feedDetailsMap = feeds.stream()
+        .collect(Collectors.toMap(Feed::getId, FeedGridResponse::from));
 
     Set<ZSetOperations.TypedTuple<Object>> tuples = feeds.stream()
         .map(feed -> new DefaultTypedTuple<>(
             (Object) feed.getId(),
             (double) feed.getId()
         ))
-        .collect(Collectors.toSet());
+        .collect(Collectors.toCollection(HashSet::new));
+    if (complete) {
+      // 헬스장의 모든 피드를 담았다면 가장 낮은 점수에 마커를 두어 윈도우 하단에서 DB 조회를 생략
+      tuples.add(new DefaultTypedTuple<>((Object) WINDOW_COMPLETE_MARKER, 0.0));
+    }
 
-    redisTemplate.execute(new SessionCallback<>() {
+    // 윈도우/버킷/인덱스 키는 슬롯이 달라 MULTI 대신 파이프라인으로 보냄. 상세를 먼저 쓰고, 빠진 상세는 조회 시 DB 에서 재적재
+    redisTemplate.executePipelined(new SessionCallback<>() {
       @Override
-      public <K, V> List<Object> execute(RedisOperations<K, V> operations)
+      public <K, V> Object execute(RedisOperations<K, V> operations)
           throws DataAccessException {
-        operations.multi();
         if (!feedDetailsMap.isEmpty()) {
-          ((RedisTemplate<String, Object>) operations).opsForHash()
-              .putAll(FEEDS_DETAILS_KEY, feedDetailsMap);
+          feedDetailsStore.putAll((RedisTemplate<String, Object>) operations, feedDetailsMap);
         }
         if (!tuples.isEmpty()) {
           ((RedisTemplate<String, Object>) operations).opsForZSet().add(gymFeedsKey, tuples);
         }
-        return operations.exec();
+        return null;
       }
     });
 
@@ -236,41 +425,42 @@ public class FeedCacheService {
 
   public void addFeedToCache(Feed feed) {
     final String gymFeedsKey = GYM_FEEDS_KEY_PREFIX + feed.getGym().getId();
-    final String feedIdStr = String.valueOf(feed.getId());
     final FeedGridResponse response = FeedGridResponse.from(feed);
 
-    redisTemplate.execute(new SessionCallback<>() {
+    redisTemplate.executePipelined(new SessionCallback<>() {
       @Override
-      public <K, V> List<Object> execute(RedisOperations<K, V> operations)
+      public <K, V> Object execute(RedisOperations<K, V> operations)
           throws DataAccessException {
-        operations.multi();
+        feedDetailsStore.putAll((RedisTemplate<String, Object>) operations,
+            Map.of(feed.getId(), response));
         ((RedisTemplate<String, Object>) operations).opsForZSet()
             .add(gymFeedsKey, feed.getId(), (double) feed.getId());
-        ((RedisTemplate<String, Object>) operations).opsForHash()
-            .put(FEEDS_DETAILS_KEY, feedIdStr, response);
-        return operations.exec();
+        ((RedisTemplate<String, Object>) operations).opsForZSet()
+            .removeRange(gymFeedsKey, 0, -(windowSize + 1));
+        return null;
       }
     });
+    feedLocalCache.invalidateGym(feed.getGym().getId());
   }
 
   public void removeFeedFromCache(Feed feed) {
     final String gymFeedsKey = GYM_FEEDS_KEY_PREFIX + feed.getGym().getId();
     final String feedIdStr = String.valueOf(feed.getId());
 
-    redisTemplate.execute(new SessionCallback<>() {
+    redisTemplate.executePipelined(new SessionCallback<>() {
       @Override
-      public <K, V> List<Object> execute(RedisOperations<K, V> operations)
+      public <K, V> Object execute(RedisOperations<K, V> operations)
           throws DataAccessException {
-        operations.multi();
-        ((RedisTemplate<String, Object>) operations).opsForZSet().remove(gymFeedsKey, feedIdStr);
-        ((RedisTemplate<String, Object>) operations).opsForHash()
-            .delete(FEEDS_DETAILS_KEY, feedIdStr);
-        ((RedisTemplate<String, Object>) operations).delete(List.of(
-            FEED_LIKE_COUNT_KEY_PREFIX + feedIdStr,
-            FEED_COMMENT_COUNT_KEY_PREFIX + feedIdStr
-        ));
-        return operations.exec();
+        ((RedisTemplate<String, Object>) operations).opsForZSet()
+            .remove(gymFeedsKey, feed.getId());
+        feedDetailsStore.delete((RedisTemplate<String, Object>) operations, feed.getId());
+        // 카운터 키끼리도 슬롯이 다를 수 있으므로 키마다 DEL
+        ((RedisTemplate<String, Object>) operations).delete(FEED_LIKE_COUNT_KEY_PREFIX + feedIdStr);
+        ((RedisTemplate<String, Object>) operations)
+            .delete(FEED_COMMENT_COUNT_KEY_PREFIX + feedIdStr);
+        return null;
       }
     });
+    feedLocalCache.invalidateGym(feed.getGym().getId());
   }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.workout.feed.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 좋아요/댓글 카운터 키({@code counts:*:feed:{id}})의 증감과 복구를 담당합니다.
+ * <p>
+ * 증감은 키가 있을 때만 적용합니다. INCRBY 가 없는 키를 0 에서 만들면 COUNT 복구가 다시 일어나지 않고 부분 값이 남으므로, 키가 없으면 항상
+ * {@link #rebuild}로 DB COUNT 결과를 씁니다. 복구한 키에는 {@code feed.counter.rebuild-ttl}을 두어, COUNT 와 SET 사이에 커밋된
+ * 증감이 빠졌더라도 만료 후 다시 COUNT 하게 합니다. 재집계 배치도 이미 있는 키만 같은 TTL 로 덮어쓰므로 TTL 없는 카운터 키는 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedCounterStore {
+
+  private static final byte[] INCRBY_IF_EXISTS_SCRIPT = (
+      "if redis.call('EXISTS', KEYS[1]) == 1 then "
+          + "return redis.call('INCRBY', KEYS[1], ARGV[1]) end "
+          + "return nil").getBytes(StandardCharsets.UTF_8);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final Duration rebuildTtl;
+
+  public FeedCounterStore(RedisTemplate<String, Object> redisTemplate,
+      @Value("${feed.counter.rebuild-ttl:10m}") Duration rebuildTtl) {
+    this.redisTemplate = redisTemplate;
+    this.rebuildTtl = rebuildTtl;
+  }
+
+  /**
+   * 카운터 키가 있으면 {@code delta}만큼 더합니다. 키가 없으면 아무것도 하지 않습니다.
+   */
+  public void incrementIfPresent(String countKey, long delta) {
+    redisTemplate.execute((RedisCallback<Object>) connection ->
+        incrementIfPresent(connection, countKey, delta));
+  }
+
+  /**
+   * 여러 카운터 키에 {@link #incrementIfPresent(String, long)}를 파이프라인 한 번으로 적용합니다.
+   */
+  public void incrementAllIfPresent(Map<String, Long> deltasByKey) {
+    if (deltasByKey.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      deltasByKey.forEach((countKey, delta) -> incrementIfPresent(connection, countKey, delta));
+      return null;
+    });
+  }
+
+  /**
+   * 카운터 키가 없을 때(Redis flush, 만료 등) 인덱스 COUNT 한 번으로 복구합니다. 동시에 다른 요청이 먼저 복구했다면 덮어쓰지 않습니다.
+   */
+  public long rebuild(String countKey, LongSupplier countQuery) {
+    long count = countQuery.getAsLong();
+    try {
+      redisTemplate.opsForValue().setIfAbsent(countKey, count, rebuildTtl);
+    } catch (DataAccessException e) {
+      log.warn("Failed to rebuild counter {}. Reason: {}", countKey, e.getMessage());
+    }
+    return count;
+  }
+
+  /**
+   * 여러 카운터 키를 GROUP BY 집계 결과로 한 번에 복구합니다. (파이프라인 SET NX 한 번)
+   */
+  public void rebuildAll(Map<String, Long> countsByKey) {
+    if (countsByKey.isEmpty()) {
+      return;
+    }
+    try {
+      redisTemplate.executePipelined(new SessionCallback<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations)
+            throws DataAccessException {
+          RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+          countsByKey.forEach((countKey, count) ->
+              ops.opsForValue().setIfAbsent(countKey, count, rebuildTtl));
+          return null;
+        }
+      });
+    } catch (DataAccessException e) {
+      log.warn("Failed to rebuild {} counters. Reason: {}", countsByKey.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 이미 있는 카운터 키만 재집계 결과로 덮어쓰고 복구 TTL 을 둡니다. (재집계 배치용, 키마다 SET XX 를 파이프라인 한 번으로)
+   * <p>
+   * 없는 키는 조회 시 {@link #rebuild}가 맡으므로 만들지 않습니다. 한 번도 조회되지 않은 피드의 키를 매일 만들지 않고, 키마다 따로 쓰므로
+   * Redis Cluster 에서 슬롯이 달라도 됩니다.
+   */
+  public void overwriteAllIfPresent(Map<String, Long> countsByKey) {
+    if (countsByKey.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        countsByKey.forEach((countKey, count) ->
+            ops.opsForValue().setIfPresent(countKey, count, rebuildTtl));
+        return null;
+      }
+    });
+  }
+
+  private static Object incrementIfPresent(RedisConnection connection, String countKey,
+      long delta) {
+    return connection.scriptingCommands().eval(INCRBY_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1,
+        countKey.getBytes(StandardCharsets.UTF_8),
+        Long.toString(delta).getBytes(StandardCharsets.UTF_8));
+  }
+}
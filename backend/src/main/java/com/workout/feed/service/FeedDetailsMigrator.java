@@ -0,0 +1,96 @@
+package com.workout.feed.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 단일 해시({@code feeds:details})에 남아 있는 피드 상세 캐시를 버킷 해시로 옮기는 일회성 마이그레이터.
+ * <p>
+ * 기동 시 레거시 키가 있을 때만 동작하며, HSCAN 으로 나누어 읽고 HSETNX 로 옮기므로 새 레이아웃에 이미 기록된 값은 덮어쓰지 않습니다.
+ * 여러 노드가 동시에 실행해도 결과는 같습니다.
+ * <p>
+ * hash tag 를 붙이기 전의 버킷 해시({@code feeds:details:n})와 전역 인덱스({@code feeds:details:index})는 옮기지 않고 지웁니다.
+ * (캐시 miss 로 DB 에서 재적재됨)
+ */
+@Slf4j
+@Component
+public class FeedDetailsMigrator implements ApplicationRunner {
+
+  private static final int MIGRATION_BATCH_SIZE = 500;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final FeedDetailsStore feedDetailsStore;
+
+  public FeedDetailsMigrator(RedisTemplate<String, Object> redisTemplate,
+      FeedDetailsStore feedDetailsStore) {
+    this.redisTemplate = redisTemplate;
+    this.feedDetailsStore = feedDetailsStore;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    try {
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(FeedDetailsStore.LEGACY_DETAILS_KEY))) {
+        long migrated = migrate();
+        redisTemplate.delete(FeedDetailsStore.LEGACY_DETAILS_KEY);
+        log.info("피드 상세 캐시 마이그레이션 완료: {}건을 버킷 해시로 이동", migrated);
+      }
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(FeedDetailsStore.LEGACY_INDEX_KEY))) {
+        // 키마다 슬롯이 다를 수 있으므로 하나씩 삭제하고, 인덱스는 마지막에 지움 (중간 실패 시 다음 기동에 재시도)
+        feedDetailsStore.legacyBucketKeys().forEach(redisTemplate::delete);
+        redisTemplate.delete(FeedDetailsStore.LEGACY_INDEX_KEY);
+        log.info("hash tag 이전 피드 상세 버킷 해시와 인덱스를 삭제했습니다.");
+      }
+    } catch (DataAccessException e) {
+      // 레거시 키가 남아 있으면 다음 기동 시 다시 시도. 옮기지 못한 항목은 캐시 miss 로 DB 에서 재적재됨
+      log.warn("Failed to migrate legacy feed details hash. Reason: {}", e.getMessage());
+    }
+  }
+
+  private long migrate() {
+    long migrated = 0;
+    Map<String, Object> batch = new HashMap<>();
+    ScanOptions options = ScanOptions.scanOptions().count(MIGRATION_BATCH_SIZE).build();
+    try (Cursor<Map.Entry<Object, Object>> entries = redisTemplate.opsForHash()
+        .scan(FeedDetailsStore.LEGACY_DETAILS_KEY, options)) {
+      while (entries.hasNext()) {
+        Map.Entry<Object, Object> entry = entries.next();
+        batch.put(String.valueOf(entry.getKey()), entry.getValue());
+        if (batch.size() >= MIGRATION_BATCH_SIZE) {
+          migrated += flush(batch);
+        }
+      }
+    }
+    return migrated + flush(batch);
+  }
+
+  private int flush(Map<String, Object> batch) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    List<Map.Entry<String, Object>> entries = List.copyOf(batch.entrySet());
+    redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        entries.forEach(entry -> feedDetailsStore.putIfAbsent(ops,
+            Long.valueOf(entry.getKey()), entry.getValue()));
+        return null;
+      }
+    });
+    batch.clear();
+    return entries.size();
+  }
+}
@@ -0,0 +1,218 @@
+package com.workout.feed.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workout.feed.dto.FeedGridResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 그리드 상세 캐시를 {@code feeds:details:{feedId % N}} 버킷 해시로 나누어 보관합니다.
+ * <p>
+ * 단일 해시 하나에 모든 피드가 몰리면 Redis Cluster 에서 한 슬롯에 고정되고 리샤딩도 어려우므로, 피드 ID 기준으로 N 개의 키에 분산합니다.
+ * 버킷 수를 바꾸면 기존 버킷 키는 조회되지 않으므로(캐시 miss 후 DB 재적재) 운영 중에는 변경하지 않습니다.
+ * <p>
+ * 상세 값은 {@code feedDetailsRedisTemplate}의 타입 고정 직렬화기(기본 Smile)로 저장됩니다. 이 템플릿은 공용 템플릿과 같은 커넥션
+ * 팩토리를 쓰므로, 호출 측의 파이프라인 안에서 호출해도 같은 커넥션에 묶여 함께 실행됩니다. 버킷들은 서로 다른 슬롯에 있으므로 MULTI 로
+ * 묶지 않습니다.
+ * <p>
+ * 해시 필드에는 TTL 을 걸 수 없어 기록 시각을 버킷별 {@code feeds:details:index:{n}} ZSET 에 함께 남기고, 만료 정리는 이 인덱스를
+ * 기준으로 합니다. 인덱스도 버킷과 같은 hash tag 를 써서 같은 슬롯에 놓이며, 한 키에 모든 쓰기가 몰리지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedDetailsStore {
+
+  static final String LEGACY_DETAILS_KEY = "feeds:details";
+  static final String LEGACY_INDEX_KEY = "feeds:details:index";
+  private static final String DETAILS_BUCKET_KEY_PREFIX = "feeds:details:";
+  private static final String DETAILS_INDEX_KEY_PREFIX = "feeds:details:index:";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisTemplate<String, FeedGridResponse> feedDetailsRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int bucketCount;
+
+  public FeedDetailsStore(RedisTemplate<String, Object> redisTemplate,
+      RedisTemplate<String, FeedGridResponse> feedDetailsRedisTemplate, ObjectMapper objectMapper,
+      @Value("${feed.cache.details-buckets:64}") int bucketCount) {
+    this.redisTemplate = redisTemplate;
+    this.feedDetailsRedisTemplate = feedDetailsRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.bucketCount = bucketCount;
+  }
+
+  String bucketKey(Long feedId) {
+    return DETAILS_BUCKET_KEY_PREFIX + "{" + bucket(feedId) + "}";
+  }
+
+  String indexKey(Long feedId) {
+    return indexKey(bucket(feedId));
+  }
+
+  /**
+   * 버킷 키에 hash tag 를 붙이기 전 레이아웃({@code feeds:details:n})의 버킷 키. (마이그레이션 정리용)
+   */
+  List<String> legacyBucketKeys() {
+    List<String> keys = new ArrayList<>(bucketCount);
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      keys.add(DETAILS_BUCKET_KEY_PREFIX + bucket);
+    }
+    return keys;
+  }
+
+  private int bucket(Long feedId) {
+    return Math.floorMod(feedId, bucketCount);
+  }
+
+  private static String indexKey(int bucket) {
+    return DETAILS_INDEX_KEY_PREFIX + "{" + bucket + "}";
+  }
+
+  /**
+   * 버킷별 HMGET 을 파이프라인 1회로 조회합니다. 캐시에 없는 피드는 결과에 포함되지 않습니다.
+   */
+  public Map<Long, FeedGridResponse> getAll(List<Long> feedIds) {
+    if (feedIds.isEmpty()) {
+      return new HashMap<>();
+    }
+    Map<String, List<Long>> idsByBucket = groupByBucket(feedIds);
+    List<String> bucketKeys = new ArrayList<>(idsByBucket.keySet());
+
+    List<Object> replies = feedDetailsRedisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        for (String bucketKey : bucketKeys) {
+          feedDetailsRedisTemplate.<String, FeedGridResponse>opsForHash()
+              .multiGet(bucketKey, toFields(idsByBucket.get(bucketKey)));
+        }
+        return null;
+      }
+    });
+
+    Map<Long, FeedGridResponse> details = new HashMap<>();
+    for (int i = 0; i < bucketKeys.size(); i++) {
+      List<Long> ids = idsByBucket.get(bucketKeys.get(i));
+      List<?> values = (List<?>) replies.get(i);
+      for (int j = 0; j < ids.size(); j++) {
+        Object value = (values != null) ? values.get(j) : null;
+        if (value instanceof FeedGridResponse detail) {
+          details.put(ids.get(j), detail);
+        }
+      }
+    }
+    return details;
+  }
+
+  /**
+   * 단독 호출용. 다른 쓰기와 함께 보낼 때는 {@link #putAll(RedisOperations, Map)}을 사용합니다.
+   */
+  public void putAll(Map<Long, FeedGridResponse> details) {
+    if (details.isEmpty()) {
+      return;
+    }
+    redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        putAll((RedisTemplate<String, Object>) operations, details);
+        return null;
+      }
+    });
+  }
+
+  /**
+   * 호출 측의 파이프라인에 상세 정보와 기록 시각 인덱스를 적재합니다.
+   */
+  public void putAll(RedisOperations<String, Object> operations,
+      Map<Long, FeedGridResponse> details) {
+    Map<String, Map<String, FeedGridResponse>> byBucket = new LinkedHashMap<>();
+    details.forEach((feedId, response) -> byBucket
+        .computeIfAbsent(bucketKey(feedId), key -> new HashMap<>())
+        .put(String.valueOf(feedId), response));
+    byBucket.forEach((bucketKey, entries) -> feedDetailsRedisTemplate
+        .<String, FeedGridResponse>opsForHash().putAll(bucketKey, entries));
+
+    double now = System.currentTimeMillis();
+    details.keySet().forEach(feedId ->
+        operations.opsForZSet().add(indexKey(feedId), feedId, now));
+  }
+
+  /**
+   * 이미 값이 있으면 덮어쓰지 않습니다. (레거시 해시 마이그레이션용, 값은 공용 템플릿으로 읽은 객체)
+   */
+  void putIfAbsent(RedisOperations<String, Object> operations, Long feedId, Object legacyDetail) {
+    feedDetailsRedisTemplate.<String, FeedGridResponse>opsForHash().putIfAbsent(bucketKey(feedId),
+        String.valueOf(feedId), objectMapper.convertValue(legacyDetail, FeedGridResponse.class));
+    operations.opsForZSet().addIfAbsent(indexKey(feedId), feedId, System.currentTimeMillis());
+  }
+
+  /**
+   * 호출 측의 파이프라인에 상세 정보 삭제를 적재합니다.
+   */
+  public void delete(RedisOperations<String, Object> operations, Long feedId) {
+    feedDetailsRedisTemplate.opsForHash().delete(bucketKey(feedId), String.valueOf(feedId));
+    operations.opsForZSet().remove(indexKey(feedId), feedId);
+  }
+
+  /**
+   * 기록된 지 {@code ttl}이 지난 상세 정보를 버킷별 인덱스에서 배치 단위로 찾아 삭제하고, 삭제한 건수를 반환합니다.
+   */
+  public long evictExpired(Duration ttl, int batchSize) {
+    long evicted = 0;
+    double maxScore = System.currentTimeMillis() - ttl.toMillis();
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      evicted += evictExpired(indexKey(bucket), maxScore, batchSize);
+    }
+    return evicted;
+  }
+
+  private long evictExpired(String indexKey, double maxScore, int batchSize) {
+    long evicted = 0;
+    Set<Object> expired;
+    do {
+      expired = redisTemplate.opsForZSet()
+          .rangeByScore(indexKey, Double.NEGATIVE_INFINITY, maxScore, 0, batchSize);
+      if (expired == null || expired.isEmpty()) {
+        break;
+      }
+      List<Long> feedIds = expired.stream().map(obj -> ((Number) obj).longValue()).toList();
+      redisTemplate.executePipelined(new SessionCallback<>() {
+        @Override
+        public <K, V> Object execute(RedisOperations<K, V> operations)
+            throws DataAccessException {
+          RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+          feedIds.forEach(feedId -> delete(ops, feedId));
+          return null;
+        }
+      });
+      evicted += feedIds.size();
+    } while (expired.size() == batchSize);
+    return evicted;
+  }
+
+  private Map<String, List<Long>> groupByBucket(Collection<Long> feedIds) {
+    Map<String, List<Long>> idsByBucket = new LinkedHashMap<>();
+    for (Long feedId : feedIds) {
+      idsByBucket.computeIfAbsent(bucketKey(feedId), key -> new ArrayList<>()).add(feedId);
+    }
+    return idsByBucket;
+  }
+
+  private static List<String> toFields(List<Long> feedIds) {
+    return feedIds.stream().map(String::valueOf).toList();
+  }
+}
@@ -0,0 +1,124 @@
+package com.workout.feed.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workout.feed.dto.FeedGridResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헬스장 피드 그리드 페이지를 노드 로컬(JVM)에 보관하는 L1 캐시.
+ * <p>
+ * L2(Redis) 앞단에서 인기 헬스장의 첫 페이지 조회가 Redis 왕복 없이 끝나도록 합니다. 피드가 추가/삭제되면 Redis pub/sub 으로
+ * 모든 노드에 해당 헬스장의 페이지 무효화를 전파합니다.
+ * <p>
+ * 피드 상세는 페이지 항목({@link FeedGridResponse})에 이미 담겨 있으므로 피드 ID 단위의 상세 L1 은 따로 두지 않습니다. (상세만 단건으로
+ * 조회하는 경로가 없음)
+ * <p>
+ * 헬스장마다 무효화 세대(generation)를 두어, 무효화 이전에 시작된 적재 결과는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedLocalCache implements MessageListener {
+
+  static final String INVALIDATION_CHANNEL = "feeds:l1:invalidate";
+
+  private final Cache<GridPageKey, List<FeedGridResponse>> gridPages;
+  private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public FeedLocalCache(StringRedisTemplate stringRedisTemplate,
+      RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+      @Value("${feed.cache.local.max-size:2000}") long maxSize,
+      @Value("${feed.cache.local.ttl:5s}") Duration ttl) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.gridPages = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, gridPages, "feedGridL1");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  public List<FeedGridResponse> getOrLoad(Long gymId, Long lastFeedId, Long firstFeedId, int size,
+      Supplier<List<FeedGridResponse>> loader) {
+    GridPageKey key = new GridPageKey(gymId, lastFeedId, firstFeedId, size);
+    List<FeedGridResponse> cached = gridPages.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    AtomicLong generation = generation(gymId);
+    long loadGeneration = generation.get();
+    List<FeedGridResponse> loaded = loader.get();
+    // 빈 결과는 캐시하지 않음 (L2 워밍 전의 일시적인 miss 를 고정시키지 않기 위함)
+    if (loaded != null && !loaded.isEmpty() && generation.get() == loadGeneration) {
+      List<FeedGridResponse> page = List.copyOf(loaded);
+      gridPages.put(key, page);
+      // 넣는 사이에 무효화가 지나갔으면 되돌림 (무효화는 세대를 먼저 올린 뒤 페이지를 지움)
+      if (generation.get() != loadGeneration) {
+        gridPages.asMap().remove(key, page);
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * 로컬 캐시를 즉시 비우고, 다른 노드에도 무효화 메시지를 발행합니다.
+   */
+  public void invalidateGym(Long gymId) {
+    evictGym(gymId);
+    try {
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(gymId));
+    } catch (Exception e) {
+      // 발행 실패 시 다른 노드는 TTL 만료로 수렴
+      log.warn("Failed to publish L1 invalidation for gymId: {}. Reason: {}", gymId,
+          e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      evictGym(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring malformed L1 invalidation message: {}", body);
+    }
+  }
+
+  private void evictGym(Long gymId) {
+    generation(gymId).incrementAndGet();
+    gridPages.asMap().keySet().removeIf(key -> key.gymId().equals(gymId));
+  }
+
+  private AtomicLong generation(Long gymId) {
+    return generations.computeIfAbsent(gymId, id -> new AtomicLong());
+  }
+
+  record GridPageKey(Long gymId, Long lastFeedId, Long firstFeedId, int size) {
+
+  }
+}
@@ -12,8 +12,11 @@ import com.workout.global.exception.RestApiException;
 import com.workout.global.exception.errorcode.FeedErrorCode;
 import com.workout.member.domain.Member;
 import com.workout.member.service.MemberService;
+import com.workout.utils.domain.ImagePurpose;
+import com.workout.utils.domain.UserFile;
 import com.workout.utils.dto.FileResponse;
 import com.workout.utils.service.FileService;
+import com.workout.utils.service.StagedFile;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,35 +28,52 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @RequiredArgsConstructor
 public class FeedService {
 
+  private static final int MAX_SUMMARY_BATCH_SIZE = 50;
+
   private final MemberService memberService;
   private final FeedRepository feedRepository;
   private final FileService fileService;
   private final LikeRepository likeRepository;
   private final FeedCacheService feedCacheService;
   private final CommentRepository commentRepository;
+  private final FeedLocalCache feedLocalCache;
+  private final HomeTimelineService homeTimelineService;
 
   public List<FeedGridResponse> getFeedsForGrid(Long gymId, Long lastFeedId, Long firstFeedId,
       int size) {
-    return feedCacheService.getFeedsForGrid(gymId, lastFeedId, firstFeedId, size);
+    return feedLocalCache.getOrLoad(gymId, lastFeedId, firstFeedId, size,
+        () -> feedCacheService.getFeedsForGrid(gymId, lastFeedId, firstFeedId, size));
+  }
+
+  public List<FeedGridResponse> getHomeTimeline(Long userId, Long lastFeedId, int size) {
+    return homeTimelineService.getHomeTimeline(userId, lastFeedId, size);
   }
 
   public FeedSummaryResponse getFeedSummary(Long feedId, Long userId) {
     return feedCacheService.getFeedSummary(feedId, userId);
   }
 
-  @Transactional
-  public Long createFeed(FeedCreateRequest request, Long userId) {
-    Member member = memberService.findById(userId);
-    FileResponse savedFile = fileService.uploadFeedImages(request.image(), member);
-    Feed feed = request.toEntity(member, savedFile.getFileUrl());
-    feedRepository.save(feed);
+  public List<FeedSummaryResponse> getFeedSummaries(List<Long> feedIds, Long userId) {
+    if (feedIds == null || feedIds.isEmpty() || feedIds.size() > MAX_SUMMARY_BATCH_SIZE) {
+      throw new RestApiException(FeedErrorCode.INVALID_PARAMETER);
+    }
+    return feedCacheService.getFeedSummaries(feedIds, userId);
+  }
 
-    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-      @Override
-      public void afterCommit() {
-        feedCacheService.addFeedToCache(feed);
-      }
+  /**
+   * 이미지를 트랜잭션 밖에서 먼저 스테이징한 뒤, 피드와 파일 레코드만 짧은 트랜잭션으로 저장합니다.
+   */
+  public Long createFeed(FeedCreateRequest request, Long userId) {
+    StagedFile image = fileService.stage(request.image(), ImagePurpose.FEED);
+    Feed feed = fileService.commitStaged(List.of(image), status -> {
+      Member member = memberService.findById(userId);
+      UserFile savedFile = fileService.register(image, member, null);
+      return feedRepository.save(
+          request.toEntity(member, FileResponse.from(savedFile).getFileUrl()));
     });
+
+    feedCacheService.addFeedToCache(feed);
+    homeTimelineService.fanOut(feed.getId(), userId, feed.getGym().getId());
     return feed.getId();
   }
 
@@ -68,7 +88,7 @@ public class FeedService {
     likeRepository.deleteAllByTargetTypeAndTargetId(LikeType.FEED, feedId);
     commentRepository.deleteAllByFeedId(feedId); // 피드에 달린 모든 댓글 삭제
     feedRepository.delete(feed);
-    fileService.deletePhysicalFile(feed.getImageUrl());
+    fileService.releaseOwnedFile(userId, feed.getImageUrl()); // 물리 파일은 커밋 후 삭제
 
     TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
       @Override
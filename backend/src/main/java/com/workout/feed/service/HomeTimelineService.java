@@ -0,0 +1,269 @@
+package com.workout.feed.service;
+
+import com.workout.feed.domain.Feed;
+import com.workout.feed.dto.FeedGridResponse;
+import com.workout.feed.repository.FeedRepository;
+import com.workout.member.repository.MemberRepository;
+import com.workout.pt.domain.contract.PTContractStatus;
+import com.workout.pt.repository.PTContractRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원별 홈 타임라인(헬스장 피드 + PT 로 연결된 트레이너/회원의 피드)을 fan-out-on-write 로 유지합니다.
+ * <p>
+ * 새 피드는 커밋 후 {@code timeline:member:{id}} ZSET 에 push 되며, 각 타임라인은 {@code feed.timeline.size}개로
+ * 잘립니다. 회원 수가 {@code feed.timeline.push-threshold}를 넘는 헬스장은 push 하지 않고 pull 대상으로 표시하여, 읽을 때 헬스장
+ * ZSET 과 병합합니다. 타임라인은 최근 조회한 회원에게만 유지되며(TTL), 없으면 첫 조회 시 DB 에서 채웁니다.
+ */
+@Slf4j
+@Service
+public class HomeTimelineService {
+
+  private static final String TIMELINE_KEY_PREFIX = "timeline:member:";
+  private static final String PULL_GYMS_KEY = "timeline:pull-gyms";
+  private static final int FANOUT_CHUNK_SIZE = 500;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final FeedRepository feedRepository;
+  private final MemberRepository memberRepository;
+  private final PTContractRepository ptContractRepository;
+  private final FeedCacheService feedCacheService;
+  private final FeedDetailsStore feedDetailsStore;
+  private final ThreadPoolTaskExecutor fanoutExecutor;
+  private final MeterRegistry meterRegistry;
+  private final int timelineSize;
+  private final long pushThreshold;
+  private final Duration timelineTtl;
+
+  public HomeTimelineService(RedisTemplate<String, Object> redisTemplate,
+      FeedRepository feedRepository, MemberRepository memberRepository,
+      PTContractRepository ptContractRepository, FeedCacheService feedCacheService,
+      FeedDetailsStore feedDetailsStore,
+      @Qualifier("timelineFanoutExecutor") ThreadPoolTaskExecutor fanoutExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${feed.timeline.size:500}") int timelineSize,
+      @Value("${feed.timeline.push-threshold:5000}") long pushThreshold,
+      @Value("${feed.timeline.ttl:7d}") Duration timelineTtl) {
+    this.redisTemplate = redisTemplate;
+    this.feedRepository = feedRepository;
+    this.memberRepository = memberRepository;
+    this.ptContractRepository = ptContractRepository;
+    this.feedCacheService = feedCacheService;
+    this.feedDetailsStore = feedDetailsStore;
+    this.fanoutExecutor = fanoutExecutor;
+    this.meterRegistry = meterRegistry;
+    this.timelineSize = timelineSize;
+    this.pushThreshold = pushThreshold;
+    this.timelineTtl = timelineTtl;
+
+    Gauge.builder("feed.timeline.fanout.queue.depth",
+            () -> fanoutExecutor.getThreadPoolExecutor().getQueue().size())
+        .description("대기 중인 타임라인 fan-out 작업 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 피드 작성 커밋 후 호출됩니다. 큐가 가득 차면 호출 스레드에서 실행됩니다.
+   */
+  public void fanOut(Long feedId, Long authorId, Long gymId) {
+    fanoutExecutor.execute(() -> {
+      try {
+        pushToAudience(feedId, authorId, gymId);
+      } catch (Exception e) {
+        // 누락된 피드는 타임라인 재생성(TTL 만료 후 첫 조회) 시 DB 에서 복구됨
+        log.error("Failed to fan out feedId: {} to home timelines", feedId, e);
+      }
+    });
+  }
+
+  public List<FeedGridResponse> getHomeTimeline(Long memberId, Long lastFeedId, int size) {
+    final String timelineKey = TIMELINE_KEY_PREFIX + memberId;
+    Long gymId = memberRepository.findGymIdById(memberId).orElse(null);
+    boolean pullGym = gymId != null
+        && Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(PULL_GYMS_KEY, gymId));
+
+    if (!Boolean.TRUE.equals(redisTemplate.hasKey(timelineKey))) {
+      seedTimeline(timelineKey, memberId, gymId, pullGym);
+    }
+
+    List<Long> pushedIds = readPushedIds(timelineKey, lastFeedId, size);
+    Map<Long, FeedGridResponse> page = loadDetails(timelineKey, pushedIds);
+
+    if (pullGym) {
+      // 대형 헬스장 피드는 push 하지 않았으므로 헬스장 캐시에서 같은 구간을 가져와 병합
+      feedCacheService.getFeedsForGrid(gymId, lastFeedId, null, size)
+          .forEach(feed -> page.putIfAbsent(feed.feedId(), feed));
+    }
+
+    return page.values().stream()
+        .sorted(Comparator.comparing(FeedGridResponse::feedId).reversed())
+        .limit(size)
+        .toList();
+  }
+
+  /**
+   * 커서 이전 구간을 읽고 TTL 을 연장합니다. (ZREVRANGEBYSCORE + EXPIRE 파이프라인 1회, 점수 0 인 자리표시 멤버는 제외)
+   */
+  @SuppressWarnings("unchecked")
+  private List<Long> readPushedIds(String timelineKey, Long lastFeedId, int size) {
+    double maxScore = (lastFeedId != null) ? lastFeedId - 1 : Double.POSITIVE_INFINITY;
+    List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        ops.opsForZSet().reverseRangeByScore(timelineKey, 1, maxScore, 0, size);
+        ops.expire(timelineKey, timelineTtl);
+        return null;
+      }
+    });
+    Set<Object> idsObj = (Set<Object>) results.get(0);
+    return (idsObj == null) ? Collections.emptyList()
+        : idsObj.stream().map(obj -> ((Number) obj).longValue()).toList();
+  }
+
+  private void pushToAudience(Long feedId, Long authorId, Long gymId) {
+    Set<Long> audience = new LinkedHashSet<>();
+    audience.add(authorId);
+    audience.addAll(ptContractRepository.findCounterpartIds(authorId, PTContractStatus.ACTIVE));
+
+    if (memberRepository.countByGymId(gymId) > pushThreshold) {
+      redisTemplate.opsForSet().add(PULL_GYMS_KEY, gymId);
+      meterRegistry.counter("feed.timeline.fanout", "mode", "pull").increment();
+    } else {
+      audience.addAll(memberRepository.findIdsByGymId(gymId));
+      meterRegistry.counter("feed.timeline.fanout", "mode", "push").increment();
+    }
+
+    List<Long> memberIds = new ArrayList<>(audience);
+    for (int from = 0; from < memberIds.size(); from += FANOUT_CHUNK_SIZE) {
+      pushChunk(feedId, memberIds.subList(from, Math.min(from + FANOUT_CHUNK_SIZE,
+          memberIds.size())));
+    }
+  }
+
+  /**
+   * 타임라인이 이미 있는 회원에게만 push 합니다. (EXISTS 파이프라인 1회 + ZADD/ZREMRANGEBYRANK 파이프라인 1회)
+   */
+  private void pushChunk(Long feedId, List<Long> memberIds) {
+    List<String> keys = memberIds.stream().map(id -> TIMELINE_KEY_PREFIX + id).toList();
+
+    List<Object> exists = redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        keys.forEach(ops::hasKey);
+        return null;
+      }
+    });
+
+    List<String> activeKeys = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      if (Boolean.TRUE.equals(exists.get(i))) {
+        activeKeys.add(keys.get(i));
+      }
+    }
+    if (activeKeys.isEmpty()) {
+      return;
+    }
+
+    redisTemplate.executePipelined(new SessionCallback<>() {
+      @Override
+      public <K, V> Object execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        for (String key : activeKeys) {
+          ops.opsForZSet().add(key, feedId, (double) feedId);
+          ops.opsForZSet().removeRange(key, 0, -(timelineSize + 1));
+        }
+        return null;
+      }
+    });
+  }
+
+  private void seedTimeline(String timelineKey, Long memberId, Long gymId, boolean pullGym) {
+    List<Long> counterpartIds = ptContractRepository.findCounterpartIds(memberId,
+        PTContractStatus.ACTIVE);
+    PageRequest pageable = PageRequest.of(0, timelineSize);
+
+    List<Long> feedIds;
+    if (gymId == null || pullGym) {
+      feedIds = counterpartIds.isEmpty() ? Collections.emptyList()
+          : feedRepository.findIdsByMemberIdIn(counterpartIds, pageable);
+    } else if (counterpartIds.isEmpty()) {
+      feedIds = feedRepository.findIdsByGymId(gymId, pageable);
+    } else {
+      feedIds = feedRepository.findIdsByGymIdOrMemberIdIn(gymId, counterpartIds, pageable);
+    }
+
+    Set<ZSetOperations.TypedTuple<Object>> tuples = feedIds.stream()
+        .map(id -> new DefaultTypedTuple<>((Object) id, (double) id))
+        .collect(Collectors.toSet());
+    // 빈 타임라인도 키가 있어야 push 대상이 되므로 점수 0 의 자리표시 멤버를 둠 (조회는 점수 1 이상만)
+    tuples.add(new DefaultTypedTuple<>((Object) 0L, 0.0));
+
+    redisTemplate.execute(new SessionCallback<>() {
+      @Override
+      public <K, V> List<Object> execute(RedisOperations<K, V> operations)
+          throws DataAccessException {
+        RedisTemplate<String, Object> ops = (RedisTemplate<String, Object>) operations;
+        operations.multi();
+        ops.opsForZSet().add(timelineKey, tuples);
+        ops.expire(timelineKey, timelineTtl);
+        return operations.exec();
+      }
+    });
+    log.debug("Seeded home timeline for memberId: {} with {} feeds.", memberId, feedIds.size());
+  }
+
+  /**
+   * 상세 캐시에서 피드 정보를 채우고, DB 에도 없는(삭제된) 피드는 타임라인에서 제거합니다.
+   */
+  private Map<Long, FeedGridResponse> loadDetails(String timelineKey, List<Long> feedIds) {
+    Map<Long, FeedGridResponse> cached = feedDetailsStore.getAll(feedIds);
+    List<Long> missingIds = feedIds.stream().filter(id -> !cached.containsKey(id)).toList();
+
+    if (!missingIds.isEmpty()) {
+      Map<Long, FeedGridResponse> fetched = feedRepository.findAllByIdInOrderByIdDesc(missingIds)
+          .stream().collect(Collectors.toMap(Feed::getId, FeedGridResponse::from));
+      if (!fetched.isEmpty()) {
+        feedDetailsStore.putAll(fetched);
+        cached.putAll(fetched);
+      }
+      Object[] deletedIds = missingIds.stream().filter(id -> !fetched.containsKey(id)).toArray();
+      if (deletedIds.length > 0) {
+        redisTemplate.opsForZSet().remove(timelineKey, deletedIds);
+      }
+    }
+
+    Map<Long, FeedGridResponse> page = new LinkedHashMap<>();
+    feedIds.stream().map(cached::get).filter(Objects::nonNull)
+        .forEach(feed -> page.put(feed.feedId(), feed));
+    return page;
+  }
+}
@@ -0,0 +1,229 @@
+package com.workout.feed.service;
+
+import com.workout.feed.domain.LikeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 피드 좋아요 토글을 메모리에 모았다가 주기적으로 일괄 반영하는 write-behind 버퍼.
+ * <p>
+ * 같은 (회원, 피드) 쌍의 토글은 플러시 구간 안에서 합쳐지며(짝수 번이면 상쇄), 남은 변경분은 한 번의 JDBC 배치와 한 번의 Redis
+ * 파이프라인으로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class LikeBatchWriter {
+
+  private static final String FEED_LIKE_COUNT_KEY_PREFIX = "counts:like:feed:";
+  private static final String INSERT_LIKE_SQL =
+      "INSERT IGNORE INTO likes (member_id, target_type, target_id) VALUES (?, ?, ?)";
+  private static final String DELETE_LIKE_SQL =
+      "DELETE FROM likes WHERE member_id = ? AND target_type = ? AND target_id = ?";
+  private static final String SELECT_EXISTING_SQL =
+      "SELECT member_id, target_id FROM likes WHERE target_type = :targetType "
+          + "AND member_id IN (:memberIds) AND target_id IN (:targetIds)";
+
+  /**
+   * (회원, 피드) 별 플러시 대기 중인 토글 횟수
+   */
+  private final ConcurrentHashMap<LikeKey, Integer> pendingToggles = new ConcurrentHashMap<>();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FeedCounterStore feedCounterStore;
+  private final LikedFeedStore likedFeedStore;
+  private final Counter toggleCounter;
+  private final Counter flushedRowCounter;
+  private final Timer flushTimer;
+
+  public LikeBatchWriter(JdbcTemplate jdbcTemplate,
+      NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      TransactionTemplate transactionTemplate, FeedCounterStore feedCounterStore,
+      LikedFeedStore likedFeedStore, MeterRegistry meterRegistry,
+      @Value("${feed.like.flush-interval-ms:200}") long flushIntervalMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.feedCounterStore = feedCounterStore;
+    this.likedFeedStore = likedFeedStore;
+
+    this.toggleCounter = Counter.builder("feed.like.toggles")
+        .description("접수된 좋아요 토글 수")
+        .register(meterRegistry);
+    this.flushedRowCounter = Counter.builder("feed.like.flushed.rows")
+        .description("병합 후 DB에 반영된 좋아요 변경 수")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("feed.like.flush")
+        .description("좋아요 버퍼 플러시 소요 시간")
+        .register(meterRegistry);
+    Gauge.builder("feed.like.queue.depth", pendingToggles, Map::size)
+        .description("플러시 대기 중인 (회원, 피드) 쌍의 수")
+        .register(meterRegistry);
+    Gauge.builder("feed.like.flush.interval", () -> flushIntervalMs)
+        .description("플러시 주기 (ms)")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  public void enqueue(Long memberId, Long feedId) {
+    pendingToggles.merge(new LikeKey(memberId, feedId), 1, Integer::sum);
+    toggleCounter.increment();
+  }
+
+  /**
+   * 아직 플러시되지 않은 토글이 DB 상태를 뒤집는지 여부 (이 노드 기준)
+   */
+  public boolean hasPendingFlip(Long memberId, Long feedId) {
+    Integer toggles = pendingToggles.get(new LikeKey(memberId, feedId));
+    return toggles != null && toggles % 2 == 1;
+  }
+
+  @Scheduled(fixedDelayString = "${feed.like.flush-interval-ms:200}")
+  public void flush() {
+    if (pendingToggles.isEmpty()) {
+      return;
+    }
+
+    List<LikeKey> flips = new ArrayList<>();
+    Map<LikeKey, Integer> drained = new HashMap<>();
+    for (LikeKey key : pendingToggles.keySet()) {
+      Integer toggles = pendingToggles.remove(key);
+      if (toggles == null) {
+        continue;
+      }
+      drained.put(key, toggles);
+      if (toggles % 2 == 1) { // 짝수 번의 토글은 서로 상쇄
+        flips.add(key);
+      }
+    }
+    if (flips.isEmpty()) {
+      return;
+    }
+
+    FlushResult result;
+    try {
+      result = flushTimer.record(() -> writeToDatabase(flips));
+    } catch (RuntimeException e) {
+      // 커밋되지 않았으면 원인과 관계없이(쿼리 실패, 커넥션 획득/커밋 실패 등) 다음 플러시에서 다시 시도
+      log.error("Failed to flush {} like toggles. Re-queueing.", flips.size(), e);
+      drained.forEach((key, toggles) -> pendingToggles.merge(key, toggles, Integer::sum));
+      return;
+    }
+    flushedRowCounter.increment(flips.size());
+    applyCountDeltas(result.countDeltas());
+    likedFeedStore.applyChanges(result.addedByMember(), result.removedByMember());
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private FlushResult writeToDatabase(List<LikeKey> flips) {
+    return transactionTemplate.execute(status -> {
+      Set<LikeKey> existing = findExisting(flips);
+
+      List<Object[]> inserts = new ArrayList<>();
+      List<Object[]> deletes = new ArrayList<>();
+      List<LikeKey> insertKeys = new ArrayList<>();
+      List<LikeKey> deleteKeys = new ArrayList<>();
+      for (LikeKey key : flips) {
+        Object[] args = {key.memberId(), LikeType.FEED.name(), key.feedId()};
+        if (existing.contains(key)) {
+          deletes.add(args);
+          deleteKeys.add(key);
+        } else {
+          inserts.add(args);
+          insertKeys.add(key);
+        }
+      }
+
+      FlushResult result = new FlushResult(new HashMap<>(), new HashMap<>(), new HashMap<>());
+      if (!inserts.isEmpty()) {
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts);
+        accumulate(result.countDeltas(), result.addedByMember(), insertKeys, counts, 1L);
+      }
+      if (!deletes.isEmpty()) {
+        int[] counts = jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes);
+        accumulate(result.countDeltas(), result.removedByMember(), deleteKeys, counts, -1L);
+      }
+      return result;
+    });
+  }
+
+  private Set<LikeKey> findExisting(List<LikeKey> keys) {
+    Set<Long> memberIds = new HashSet<>();
+    Set<Long> feedIds = new HashSet<>();
+    keys.forEach(key -> {
+      memberIds.add(key.memberId());
+      feedIds.add(key.feedId());
+    });
+
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("targetType", LikeType.FEED.name())
+        .addValue("memberIds", memberIds)
+        .addValue("targetIds", feedIds);
+
+    Set<LikeKey> existing = new HashSet<>();
+    namedParameterJdbcTemplate.query(SELECT_EXISTING_SQL, params, (RowCallbackHandler) rs ->
+        existing.add(new LikeKey(rs.getLong("member_id"), rs.getLong("target_id"))));
+    return existing;
+  }
+
+  private void accumulate(Map<Long, Long> deltas, Map<Long, Set<Long>> changedByMember,
+      List<LikeKey> keys, int[] counts, long sign) {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+        LikeKey key = keys.get(i);
+        deltas.merge(key.feedId(), sign, Long::sum);
+        changedByMember.computeIfAbsent(key.memberId(), id -> new HashSet<>()).add(key.feedId());
+      }
+    }
+  }
+
+  private void applyCountDeltas(Map<Long, Long> deltas) {
+    deltas.values().removeIf(delta -> delta == 0L);
+    if (deltas.isEmpty()) {
+      return;
+    }
+    Map<String, Long> deltasByKey = new HashMap<>();
+    deltas.forEach((feedId, delta) -> deltasByKey.put(FEED_LIKE_COUNT_KEY_PREFIX + feedId, delta));
+    try {
+      // 키가 없는 피드는 건너뜀 (다음 조회 때 COUNT 로 복구)
+      feedCounterStore.incrementAllIfPresent(deltasByKey);
+    } catch (Exception e) {
+      // DB 는 이미 커밋됨. 카운터는 재집계 전까지 어긋날 수 있음
+      log.error("Failed to apply like count deltas to Redis: {}", deltas, e);
+    }
+  }
+
+  record LikeKey(Long memberId, Long feedId) {
+
+  }
+
+  private record FlushResult(Map<Long, Long> countDeltas, Map<Long, Set<Long>> addedByMember,
+                             Map<Long, Set<Long>> removedByMember) {
+
+  }
+}
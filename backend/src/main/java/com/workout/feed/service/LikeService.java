@@ -1,59 +1,28 @@
 package com.workout.feed.service;
 
-import com.workout.feed.domain.Like;
 import com.workout.feed.domain.LikeType;
-import com.workout.feed.repository.LikeRepository;
-import com.workout.member.domain.Member;
 import com.workout.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
-  private static final String FEED_LIKE_COUNT_KEY_PREFIX = "counts:like:feed:";
-  private final LikeRepository likeRepository;
+  private final LikeBatchWriter likeBatchWriter;
   private final MemberService memberService;
-  private final RedisTemplate<String, Object> redisTemplate; // RedisTemplate 직접 주입
 
-  @Transactional
+  /**
+   * 좋아요 토글을 버퍼에 적재합니다. DB 반영과 Redis 카운터 갱신은 {@link LikeBatchWriter}가 일괄 처리합니다.
+   * <p>
+   * 존재하지 않는 회원의 토글은 플러시 때가 아니라 요청 시점에 거절합니다. (MEMBER_NOT_FOUND)
+   */
   public void toggleLike(Long userId, LikeType targetType, Long targetId) {
     if (targetType != LikeType.FEED) {
       return;
     }
 
-    final String likeCountKey = FEED_LIKE_COUNT_KEY_PREFIX + targetId;
-
-    likeRepository.findByMemberIdAndTargetTypeAndTargetId(userId, targetType, targetId)
-        .ifPresentOrElse(
-            like -> { // 좋아요 취소
-              likeRepository.delete(like);
-              TransactionSynchronizationManager.registerSynchronization(
-                  new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                      redisTemplate.opsForValue().decrement(likeCountKey);
-                    }
-                  });
-            },
-            () -> { // 좋아요 추가
-              Member member = memberService.findById(userId);
-              Like newLike = Like.builder().member(member).targetType(targetType).targetId(targetId)
-                  .build();
-              likeRepository.save(newLike);
-              TransactionSynchronizationManager.registerSynchronization(
-                  new TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                      redisTemplate.opsForValue().increment(likeCountKey);
-                    }
-                  });
-            }
-        );
+    memberService.findById(userId);
+    likeBatchWriter.enqueue(userId, targetId);
   }
 }
\ No newline at end of file
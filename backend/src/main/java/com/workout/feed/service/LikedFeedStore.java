@@ -0,0 +1,201 @@
+package com.workout.feed.service;
+
+import com.workout.feed.domain.LikeType;
+import com.workout.feed.repository.LikeRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별로 좋아요한 피드 ID 를 Redis SET 에 보관하여 isLiked 판정을 DB 없이 처리합니다.
+ * <p>
+ * SET 은 최초 조회 시 MySQL 에서 지연 적재되며, 적재 완료 여부는 {@link #WARM_MARKER} 멤버로 구분합니다. 이후 변경은
+ * {@link LikeBatchWriter}의 플러시 커밋 후 반영됩니다.
+ * <p>
+ * 플러시는 반영할 때마다 회원별 version 키를 올립니다. 적재는 DB 를 읽기 전의 version 이 그대로일 때만 SET 을 쓰므로, DB 조회와 SADD 사이에
+ * 커밋된 취소가 적재에 덮여 "좋아요"로 남지 않습니다. 두 키는 같은 hash tag 를 써서 클러스터에서도 한 스크립트로 다룹니다.
+ */
+@Slf4j
+@Component
+public class LikedFeedStore {
+
+  private static final String MEMBER_LIKED_FEEDS_KEY_PREFIX = "liked:feeds:member:";
+  private static final String VERSION_KEY_SUFFIX = ":version";
+  private static final Long WARM_MARKER = -1L;
+  private static final Duration LIKED_SET_TTL = Duration.ofDays(3);
+
+  /**
+   * KEYS: [SET, version], ARGV: [적재 전 version(없으면 빈 값), TTL(초), 멤버...]. version 이 바뀌었으면 쓰지 않고 0 을 반환합니다.
+   */
+  private static final byte[] WARM_SCRIPT = (
+      "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+          + "redis.call('DEL', KEYS[1]) "
+          + "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "return 1").getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * KEYS: [SET, version], ARGV: [TTL(초), 추가 개수 n, 추가 멤버 n개, 삭제 멤버...]. version 은 항상 올리고, SET 은 적재된 경우에만
+   * 고칩니다. (없으면 다음 조회 때 DB 기준으로 적재)
+   */
+  private static final byte[] APPLY_SCRIPT = (
+      "redis.call('INCR', KEYS[2]) "
+          + "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+          + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+          + "local adds = tonumber(ARGV[2]) "
+          + "for i = 3, 2 + adds do redis.call('SADD', KEYS[1], ARGV[i]) end "
+          + "for i = 3 + adds, #ARGV do redis.call('SREM', KEYS[1], ARGV[i]) end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+          + "return 1").getBytes(StandardCharsets.UTF_8);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final LikeRepository likeRepository;
+
+  public LikedFeedStore(RedisTemplate<String, Object> redisTemplate,
+      LikeRepository likeRepository) {
+    this.redisTemplate = redisTemplate;
+    this.likeRepository = likeRepository;
+  }
+
+  public boolean isLiked(Long memberId, Long feedId) {
+    return !findLikedAmong(memberId, List.of(feedId)).isEmpty();
+  }
+
+  /**
+   * 주어진 피드 중 회원이 좋아요한 피드 ID 를 반환합니다. (SMISMEMBER 1회, 미적재 시 DB 1회)
+   */
+  public Set<Long> findLikedAmong(Long memberId, List<Long> feedIds) {
+    if (feedIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+    final String key = likedKey(memberId);
+
+    try {
+      Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, toMembers(feedIds));
+
+      if (result != null && Boolean.TRUE.equals(result.get(WARM_MARKER))) {
+        Set<Long> liked = new HashSet<>();
+        for (Long feedId : feedIds) {
+          if (Boolean.TRUE.equals(result.get(feedId))) {
+            liked.add(feedId);
+          }
+        }
+        return liked;
+      }
+
+      Set<Long> allLiked = warm(memberId);
+      Set<Long> liked = new HashSet<>(feedIds);
+      liked.retainAll(allLiked);
+      return liked;
+    } catch (DataAccessException e) {
+      log.warn("Liked set lookup failed for memberId: {}. Falling back to DB. Reason: {}",
+          memberId, e.getMessage());
+      return new HashSet<>(likeRepository.findLikedTargetIds(memberId, LikeType.FEED, feedIds));
+    }
+  }
+
+  /**
+   * 커밋된 좋아요 변경분을 회원별 SET 에 반영합니다. 파이프라인 1회.
+   * <p>
+   * 적재되지 않은 SET 은 건드리지 않고 version 만 올리므로, TTL 없는 부분 SET 이 생기지 않고 진행 중인 적재는 버려집니다.
+   */
+  public void applyChanges(Map<Long, Set<Long>> addedByMember,
+      Map<Long, Set<Long>> removedByMember) {
+    if (addedByMember.isEmpty() && removedByMember.isEmpty()) {
+      return;
+    }
+    Set<Long> memberIds = new HashSet<>(addedByMember.keySet());
+    memberIds.addAll(removedByMember.keySet());
+    try {
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        for (Long memberId : memberIds) {
+          Set<Long> added = addedByMember.getOrDefault(memberId, Collections.emptySet());
+          Set<Long> removed = removedByMember.getOrDefault(memberId, Collections.emptySet());
+          List<byte[]> keysAndArgs = new ArrayList<>(added.size() + removed.size() + 4);
+          keysAndArgs.add(bytes(likedKey(memberId)));
+          keysAndArgs.add(bytes(versionKey(memberId)));
+          keysAndArgs.add(bytes(Long.toString(LIKED_SET_TTL.toSeconds())));
+          keysAndArgs.add(bytes(Integer.toString(added.size())));
+          added.forEach(feedId -> keysAndArgs.add(serialize(feedId)));
+          removed.forEach(feedId -> keysAndArgs.add(serialize(feedId)));
+          connection.scriptingCommands().eval(APPLY_SCRIPT, ReturnType.INTEGER, 2,
+              keysAndArgs.toArray(new byte[0][]));
+        }
+        return null;
+      });
+    } catch (Exception e) {
+      // 어긋난 SET 은 TTL 만료 후 재적재됨
+      log.error("Failed to apply liked-set changes to Redis", e);
+    }
+  }
+
+  /**
+   * DB 기준으로 SET 을 다시 채웁니다. DB 를 읽는 동안 플러시가 반영되었다면(version 변경) 쓰지 않고 읽은 결과만 반환합니다.
+   */
+  Set<Long> warm(Long memberId) {
+    byte[] versionKey = bytes(versionKey(memberId));
+    byte[] version = redisTemplate.execute(
+        (RedisCallback<byte[]>) connection -> connection.stringCommands().get(versionKey));
+
+    List<Long> likedIds = likeRepository.findTargetIdsByMemberIdAndTargetType(memberId,
+        LikeType.FEED);
+
+    List<byte[]> keysAndArgs = new ArrayList<>(likedIds.size() + 5);
+    keysAndArgs.add(bytes(likedKey(memberId)));
+    keysAndArgs.add(versionKey);
+    keysAndArgs.add((version != null) ? version : new byte[0]);
+    keysAndArgs.add(bytes(Long.toString(LIKED_SET_TTL.toSeconds())));
+    for (Object member : toMembers(likedIds)) {
+      keysAndArgs.add(serialize(member));
+    }
+    Long written = redisTemplate.execute((RedisCallback<Long>) connection ->
+        connection.scriptingCommands().eval(WARM_SCRIPT, ReturnType.INTEGER, 2,
+            keysAndArgs.toArray(new byte[0][])));
+    if (Long.valueOf(1L).equals(written)) {
+      log.debug("Warmed liked set for memberId: {} with {} feeds.", memberId, likedIds.size());
+    } else {
+      log.debug("Skipped warming liked set for memberId: {} (changed while loading).", memberId);
+    }
+    return new HashSet<>(likedIds);
+  }
+
+  @SuppressWarnings("unchecked")
+  private byte[] serialize(Object member) {
+    return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(member);
+  }
+
+  private static String likedKey(Long memberId) {
+    return MEMBER_LIKED_FEEDS_KEY_PREFIX + "{" + memberId + "}";
+  }
+
+  private static String versionKey(Long memberId) {
+    return likedKey(memberId) + VERSION_KEY_SUFFIX;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Object[] toMembers(Collection<Long> feedIds) {
+    Object[] members = new Object[feedIds.size() + 1];
+    members[0] = WARM_MARKER;
+    int i = 1;
+    for (Long feedId : feedIds) {
+      members[i++] = feedId;
+    }
+    return members;
+  }
+}
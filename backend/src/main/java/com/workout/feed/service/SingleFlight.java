@@ -0,0 +1,56 @@
+package com.workout.feed.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키별로 동시에 들어온 적재 요청을 하나의 작업으로 합칩니다. (노드 내 single-flight)
+ * <p>
+ * 먼저 들어온 호출(leader)이 작업을 실행하고, 그동안 같은 키로 들어온 호출(follower)은 leader 의 future 를 최대 제한 시간까지 기다립니다.
+ * follower 는 sleep 후 재시도하지 않고 완료 알림으로 깨어나며, 작업이 실패하거나 시간이 지나도 예외 없이 돌아가 호출 측이 다음 경로(DB 직접
+ * 조회 등)를 고르게 합니다.
+ */
+@Slf4j
+final class SingleFlight<K> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * @return 이 호출이 작업을 실행했으면(leader) {@code true}
+   * @throws RuntimeException leader 의 작업이 던진 예외 (follower 에게는 전파하지 않음)
+   */
+  boolean run(K key, Runnable task, long timeout, TimeUnit unit) {
+    CompletableFuture<Void> flight = new CompletableFuture<>();
+    CompletableFuture<Void> existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      await(key, existing, timeout, unit);
+      return false;
+    }
+
+    try {
+      task.run();
+      flight.complete(null);
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+    return true;
+  }
+
+  private static void await(Object key, CompletableFuture<Void> flight, long timeout,
+      TimeUnit unit) {
+    try {
+      flight.get(timeout, unit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("Shared load for key: {} did not complete. Reason: {}", key, e.getMessage());
+    }
+  }
+}
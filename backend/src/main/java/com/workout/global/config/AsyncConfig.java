@@ -0,0 +1,77 @@
+package com.workout.global.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 요청 스레드 밖에서 처리하는 후속 작업용 스레드 풀.
+ * <p>
+ * 큐가 가득 차면 기본적으로 {@link ThreadPoolExecutor.CallerRunsPolicy}로 호출 스레드가 직접 처리하여, 작업이 쌓이는 만큼 요청 처리
+ * 속도가 늦춰지도록(backpressure) 합니다. 요청 스레드에서 돌리면 안 되는 무거운 작업은 {@link ThreadPoolExecutor.AbortPolicy}로
+ * 거절하고, 호출 측이 거절 건수를 기록한 뒤 대체 경로로 넘깁니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+  @Bean
+  public ThreadPoolTaskExecutor timelineFanoutExecutor(
+      @Value("${feed.timeline.fanout.pool-size:2}") int poolSize,
+      @Value("${feed.timeline.fanout.queue-capacity:1000}") int queueCapacity) {
+    return boundedExecutor("timeline-fanout-", poolSize, queueCapacity);
+  }
+
+  /**
+   * 축소본 생성. 이미지 디코딩/리사이즈를 업로드 요청 스레드에서 하지 않도록 큐가 가득 차면 거절합니다. (축소본이 없으면 원본으로 리다이렉트)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor imageProcessingExecutor(
+      @Value("${image.variants.pool-size:2}") int poolSize,
+      @Value("${image.variants.queue-capacity:200}") int queueCapacity) {
+    return boundedExecutor("image-variants-", poolSize, queueCapacity,
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * 커밋 후 물리 파일/축소본 삭제. 축소본 생성 큐와 나눠, 생성 작업이 밀려도 삭제가 거절되거나 늦어지지 않게 합니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor fileCleanupExecutor(
+      @Value("${upload.cleanup.pool-size:1}") int poolSize,
+      @Value("${upload.cleanup.queue-capacity:1000}") int queueCapacity) {
+    return boundedExecutor("file-cleanup-", poolSize, queueCapacity);
+  }
+
+  /**
+   * 운동 집계 재계산. 커밋 후 콜백에서 제출되므로 큐가 가득 차면 거절하고, 호출 측이 해당 구간을 복구 대상으로 기록합니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor workoutStatsExecutor(
+      @Value("${workout.stats.pool-size:1}") int poolSize,
+      @Value("${workout.stats.queue-capacity:1000}") int queueCapacity) {
+    return boundedExecutor("workout-stats-", poolSize, queueCapacity,
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize,
+      int queueCapacity) {
+    return boundedExecutor(threadNamePrefix, poolSize, queueCapacity,
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize,
+      int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    return executor;
+  }
+}
@@ -3,11 +3,15 @@ package com.workout.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.workout.feed.dto.FeedGridResponse;
+import com.workout.workout.dto.log.CachedWorkoutLog;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
@@ -32,6 +36,61 @@ public class RedisConfig {
     return template;
   }
 
+  /**
+   * 피드 그리드 상세 캐시 전용 템플릿. 값은 {@code feed.cache.serializer} 포맷(smile/json)으로 타입 정보 없이 저장됩니다.
+   * <p>
+   * 파이프라인 응답도 값 직렬화기로 복원되므로 value/hashValue 모두 같은 직렬화기를 사용합니다.
+   */
+  @Bean
+  public RedisTemplate<String, FeedGridResponse> feedDetailsRedisTemplate(
+      RedisConnectionFactory connectionFactory,
+      @Value("${feed.cache.serializer:smile}") String format) {
+    RedisTemplate<String, FeedGridResponse> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+
+    StringRedisSerializer stringSerializer = new StringRedisSerializer();
+    TypedJacksonRedisSerializer<FeedGridResponse> detailSerializer =
+        TypedJacksonRedisSerializer.of(format, FeedGridResponse.class);
+
+    template.setKeySerializer(stringSerializer);
+    template.setValueSerializer(detailSerializer);
+    template.setHashKeySerializer(stringSerializer);
+    template.setHashValueSerializer(detailSerializer);
+    return template;
+  }
+
+  /**
+   * 조립된 운동 일지 문서 캐시 전용 템플릿. 값은 {@code workout.log.cache.serializer} 포맷(smile/json)으로 저장됩니다.
+   */
+  @Bean
+  public RedisTemplate<String, CachedWorkoutLog> workoutLogRedisTemplate(
+      RedisConnectionFactory connectionFactory,
+      @Value("${workout.log.cache.serializer:smile}") String format) {
+    RedisTemplate<String, CachedWorkoutLog> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+
+    StringRedisSerializer stringSerializer = new StringRedisSerializer();
+    TypedJacksonRedisSerializer<CachedWorkoutLog> documentSerializer =
+        TypedJacksonRedisSerializer.of(format, CachedWorkoutLog.class);
+
+    template.setKeySerializer(stringSerializer);
+    template.setValueSerializer(documentSerializer);
+    template.setHashKeySerializer(stringSerializer);
+    template.setHashValueSerializer(documentSerializer);
+    return template;
+  }
+
+  /**
+   * 노드 간 캐시 무효화 메시지(pub/sub)를 수신하기 위한 리스너 컨테이너
+   */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory connectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    return container;
+  }
+
   /**
    * Redis 캐싱에만 사용할 전용 ObjectMapper Bean을 생성합니다.
    * 이름 충돌을 피하기 위해 @Bean("redisObjectMapper")로 이름을 명시합니다.
@@ -63,6 +63,7 @@ public class SecurityConfig {
                 "/actuator/**",
                 "/api/auth/**",
                 "/api/sync/**",
+                "/images/**",            // nginx 가 공개 서빙하는 이미지와 동일하게 공개
                 "/v3/api-docs/**",       // OpenAPI 3.0 스펙 JSON/YAML 파일
                 "/swagger-ui.html",      // Swagger UI 메인 HTML 페이지
                 "/swagger-ui/**")
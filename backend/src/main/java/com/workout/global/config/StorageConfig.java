@@ -0,0 +1,73 @@
+package com.workout.global.config;
+
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * {@code storage.type=s3}일 때 사용할 S3 클라이언트.
+ * <p>
+ * {@code storage.s3.endpoint}를 지정하면 MinIO 같은 S3 호환 저장소를 사용하며, 이 경우 보통 path-style 주소가 필요합니다. 접근 키가
+ * 없으면 AWS 기본 자격 증명(환경 변수, 인스턴스 프로파일 등)을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class StorageConfig {
+
+  @Value("${storage.s3.region}")
+  private String region;
+  @Value("${storage.s3.endpoint:}")
+  private String endpoint;
+  @Value("${storage.s3.path-style:false}")
+  private boolean pathStyle;
+  @Value("${storage.s3.access-key:}")
+  private String accessKey;
+  @Value("${storage.s3.secret-key:}")
+  private String secretKey;
+
+  @Bean(destroyMethod = "close")
+  public S3Client s3Client() {
+    var builder = S3Client.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(s3Configuration());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public S3Presigner s3Presigner() {
+    var builder = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(s3Configuration());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  private S3Configuration s3Configuration() {
+    return S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build();
+  }
+
+  private AwsCredentialsProvider credentialsProvider() {
+    if (StringUtils.hasText(accessKey)) {
+      return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+    return DefaultCredentialsProvider.create();
+  }
+}
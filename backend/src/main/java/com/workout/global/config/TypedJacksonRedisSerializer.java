@@ -0,0 +1,79 @@
+package com.workout.global.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 단일 타입 전용 Redis 직렬화기. 캐시 DTO 처럼 타입이 고정된 값에 사용합니다.
+ * <p>
+ * {@code redisObjectMapper}와 달리 default typing 을 쓰지 않으므로 값마다 클래스 이름이 붙지 않고, 읽을 때도
+ * {@code convertValue} 없이 바로 대상 타입으로 복원됩니다. {@code smile} 포맷은 같은 데이터를 바이너리 JSON 으로 저장합니다.
+ * <p>
+ * 캐시 값이므로 해석할 수 없는 값(포맷 전환 이전에 기록된 값 등)은 예외 대신 {@code null}, 즉 miss 로 취급하여 DB 에서 다시 채워지게
+ * 합니다.
+ */
+@Slf4j
+public class TypedJacksonRedisSerializer<T> implements RedisSerializer<T> {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final ObjectMapper mapper;
+  private final Class<T> type;
+
+  private TypedJacksonRedisSerializer(ObjectMapper mapper, Class<T> type) {
+    this.mapper = mapper;
+    this.type = type;
+  }
+
+  /**
+   * @param format {@code smile}(바이너리) 또는 {@code json}
+   */
+  public static <T> TypedJacksonRedisSerializer<T> of(String format, Class<T> type) {
+    ObjectMapper mapper = switch (format) {
+      case "smile" -> new ObjectMapper(new SmileFactory());
+      case "json" -> new ObjectMapper();
+      default -> throw new IllegalArgumentException(
+          "Unsupported cache serializer format: " + format);
+    };
+    mapper.registerModule(new JavaTimeModule());
+    mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return new TypedJacksonRedisSerializer<>(mapper, type);
+  }
+
+  @Override
+  public byte[] serialize(T value) throws SerializationException {
+    if (value == null) {
+      return EMPTY;
+    }
+    try {
+      return mapper.writeValueAsBytes(value);
+    } catch (IOException e) {
+      throw new SerializationException("Could not write " + type.getSimpleName(), e);
+    }
+  }
+
+  @Override
+  public T deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    try {
+      return mapper.readValue(bytes, type);
+    } catch (IOException e) {
+      log.debug("Treating unreadable cached {} as a miss. Reason: {}", type.getSimpleName(),
+          e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public Class<?> getTargetType() {
+    return type;
+  }
+}
@@ -3,7 +3,9 @@ package com.workout.global.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
+import java.util.function.Function;
 
 
 @Schema(description = "API 공통 응답 래퍼")
@@ -12,20 +14,33 @@ public record ApiResponse<T>(
     @Schema(description = "실제 응답 데이터 (페이징 시 리스트)") // [수정]
     T data,
     @Schema(description = "페이징 정보 (페이징 응답이 아닐 경우 null)") // [수정]
-    PageInfo pageInfo // 페이징 정보 (페이징이 없는 경우 null)
+    PageInfo pageInfo, // 페이징 정보 (페이징이 없는 경우 null)
+    @Schema(description = "커서 기반 다음 페이지 정보 (커서 조회가 아닐 경우 null)")
+    SliceInfo sliceInfo
 ) {
   /**
    * 페이징이 없는 단일/리스트 데이터 응답을 위한 정적 팩토리 메소드
    */
   public static <T> ApiResponse<T> of(T data) {
-    return new ApiResponse<>(data, null);
+    return new ApiResponse<>(data, null, null);
   }
 
   /**
    * 페이징된 데이터 응답을 위한 정적 팩토리 메소드
    */
   public static <T> ApiResponse<List<T>> of(Page<T> page) {
-    return new ApiResponse<>(page.getContent(), PageInfo.from(page));
+    return new ApiResponse<>(page.getContent(), PageInfo.from(page), null);
+  }
+
+  /**
+   * 커서(ID) 기반 조회 응답을 위한 정적 팩토리 메소드. 다음 커서는 마지막 항목의 ID 입니다.
+   */
+  public static <T> ApiResponse<List<T>> of(Slice<T> slice, Function<T, Long> cursorOf) {
+    List<T> content = slice.getContent();
+    Long nextCursor = (slice.hasNext() && !content.isEmpty())
+        ? cursorOf.apply(content.get(content.size() - 1)) : null;
+    return new ApiResponse<>(content, null,
+        new SliceInfo(slice.getSize(), slice.hasNext(), nextCursor));
   }
 
   /**
@@ -34,6 +49,6 @@ public record ApiResponse<T>(
    * @return an ApiResponse instance with both data and pageInfo set to null
    */
   public static ApiResponse<Void> empty() {
-    return new ApiResponse<>(null, null);
+    return new ApiResponse<>(null, null, null);
   }
 }
\ No newline at end of file
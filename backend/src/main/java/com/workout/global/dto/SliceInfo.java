@@ -0,0 +1,21 @@
+package com.workout.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 커서(ID) 기반 조회의 다음 페이지 정보를 담는 DTO
+ *
+ * @param size       요청한 페이지 당 데이터 수
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지를 조회할 때 넘길 커서 (마지막 항목의 ID, 다음 페이지가 없으면 null)
+ */
+public record SliceInfo(
+    @Schema(description = "페이지 당 데이터 수", example = "20")
+    int size,
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+    @Schema(description = "다음 페이지 조회 시 사용할 커서 (다음 페이지가 없으면 null)", example = "105")
+    Long nextCursor
+) {
+
+}
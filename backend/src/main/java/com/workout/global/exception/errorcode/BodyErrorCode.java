@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum BodyErrorCode implements ErrorCode {
   BODY_COMPOSITION_NOT_FOUND(HttpStatus.NOT_FOUND, "체성분이 존재하지 않습니다."),
-  NOT_ALLOWED(HttpStatus.FORBIDDEN, "접근히 허용되지 않습니다.");
+  NOT_ALLOWED(HttpStatus.FORBIDDEN, "접근히 허용되지 않습니다."),
+  INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
   private final HttpStatus httpStatus;
   private final String message;
 }
@@ -16,6 +16,8 @@ public enum FileErrorCode implements ErrorCode {
   FILE_STORAGE_FAILED(HttpStatus.CONFLICT, " 파일 저장에 실패했습니다"),
   FILE_DELETE_FAILED(HttpStatus.CONFLICT, "파일 삭제가 실패했습니다."),
   FILE_DELETION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "물리적 파일 삭제에 실패했습니다."),
+  FILE_READ_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일을 읽지 못했습니다."),
+  INVALID_RANGE(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "요청한 범위가 유효하지 않습니다."),
   FAIL_HASH(HttpStatus.CONFLICT, "hash에 실패했습니다.");
 
   private final HttpStatus httpStatus;
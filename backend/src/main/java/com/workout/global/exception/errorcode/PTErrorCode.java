@@ -16,7 +16,8 @@ public enum PTErrorCode implements ErrorCode {
   INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "요청 파라미터가 유효하지 않습니다."),
   NO_REMAIN_SESSION(HttpStatus.NOT_FOUND, "남은 PT 세션이 없습니다."),
   ALREADY_PRESENT_APPOINTMENT(HttpStatus.BAD_REQUEST, "해당 시간에 이미 다른 예약이 존재합니다."),
-  INVALID_STATUS_REQUEST(HttpStatus.CONFLICT, "잘못된 상태의 요청입니다.");
+  INVALID_STATUS_REQUEST(HttpStatus.CONFLICT, "잘못된 상태의 요청입니다."),
+  BOOKING_IN_PROGRESS(HttpStatus.CONFLICT, "다른 예약을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
 
   private final HttpStatus httpStatus;
   private final String message;
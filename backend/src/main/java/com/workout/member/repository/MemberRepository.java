@@ -1,6 +1,7 @@
 package com.workout.member.repository;
 
 import com.workout.member.domain.Member;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,4 +21,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   String findFcmTokenById(@Param("memberId") Long memberId);
 
   Optional<Member> findByFcmToken(String invalidToken);
+
+  long countByGymId(Long gymId);
+
+  @Query("SELECT m.id FROM Member m WHERE m.gym.id = :gymId")
+  List<Long> findIdsByGymId(@Param("gymId") Long gymId);
+
+  @Query("SELECT m.gym.id FROM Member m WHERE m.id = :memberId")
+  Optional<Long> findGymIdById(@Param("memberId") Long memberId);
 }
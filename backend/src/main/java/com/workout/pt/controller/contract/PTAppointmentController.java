@@ -7,6 +7,7 @@ import com.workout.pt.dto.request.AppointmentRequest;
 import com.workout.pt.dto.request.AppointmentStatusUpdateRequest;
 import com.workout.pt.dto.request.AppointmentUpdateRequest;
 import com.workout.pt.dto.response.AppointmentResponse;
+import com.workout.pt.dto.response.FreeSlotResponse;
 import com.workout.pt.service.contract.PTAppointmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -60,6 +61,28 @@ public class PTAppointmentController {
 
     return ResponseEntity.ok(ApiResponse.of(appointments));
   }
+
+  @Operation(summary = "트레이너 빈 시간 조회 (공통)",
+      description = "트레이너의 예약이 없는 시간 구간 중 지정한 길이(분) 이상인 구간을 조회합니다. "
+          + "트레이너 본인 또는 진행 중인 계약의 회원만 조회할 수 있습니다. (최대 7일)",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공 (시간순)"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회 기간 또는 길이가 올바르지 않음"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "조회 권한 없음")
+  })
+  @GetMapping("/trainers/{trainerId}/free-slots")
+  public ResponseEntity<ApiResponse<List<FreeSlotResponse>>> getTrainerFreeSlots(
+      @AuthenticationPrincipal UserPrincipal user,
+      @Parameter(description = "조회할 트레이너 ID", required = true) @PathVariable Long trainerId,
+      @Parameter(description = "조회 시작일", required = true, example = "2025-01-01") @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @Parameter(description = "조회 종료일", required = true, example = "2025-01-07") @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @Parameter(description = "최소 구간 길이(분)", example = "60") @RequestParam(value = "durationMinutes", defaultValue = "60") int durationMinutes
+  ) {
+    List<FreeSlotResponse> slots = appointmentService.findTrainerFreeSlots(
+        user.getUserId(), trainerId, startDate, endDate, durationMinutes);
+    return ResponseEntity.ok(ApiResponse.of(slots));
+  }
   //region 트레이너
 
   @Operation(summary = "[트레이너] PT 수업 생성 및 확정",
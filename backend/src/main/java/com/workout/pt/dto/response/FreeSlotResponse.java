@@ -0,0 +1,13 @@
+package com.workout.pt.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트레이너의 예약이 없는 시간 구간 {@code [startTime, endTime)}
+ */
+public record FreeSlotResponse(
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+
+}
@@ -22,6 +22,23 @@ public interface PTAppointmentRepository extends JpaRepository<PTAppointment, Lo
       @Param("startTime") LocalDateTime startTime,
       @Param("endTime") LocalDateTime endTime);
 
+  // 일정 변경 승인용: 변경 대상 예약 자신은 제외
+  @Query("SELECT CASE WHEN COUNT(pa) > 0 THEN TRUE ELSE FALSE END " +
+      "FROM PTAppointment pa " +
+      "WHERE pa.contract.trainer.id = :trainerId " +
+      "AND pa.id <> :excludeId " +
+      "AND pa.status <> 'CANCELLED' " +
+      "AND pa.startTime < :endTime " +
+      "AND pa.endTime > :startTime")
+  boolean existsOverlappingAppointmentExcluding(@Param("trainerId") Long trainerId,
+      @Param("excludeId") Long excludeId,
+      @Param("startTime") LocalDateTime startTime,
+      @Param("endTime") LocalDateTime endTime);
+
+  // 트레이너 일정 인덱스 로딩용: 기준 시각 이후에 끝나는 (취소되지 않은) 예약
+  List<PTAppointment> findAllByContract_Trainer_IdAndStatusNotAndEndTimeAfter(
+      Long trainerId, PTAppointmentStatus status, LocalDateTime endTime);
+
   List<PTAppointment> findAllByContract_Member_IdAndStatus(Long memberId, PTAppointmentStatus status);
 
   List<PTAppointment> findAllByContract_Trainer_IdAndStatus(Long trainerId, PTAppointmentStatus status);
@@ -6,6 +6,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -22,4 +24,13 @@ public interface PTContractRepository extends JpaRepository<PTContract, Long> {
 
   boolean existsByTrainerIdAndMemberIdAndStatus(Long trainerId, Long memberId,
       PTContractStatus status);
+
+  /**
+   * 회원과 주어진 상태의 PT 계약으로 연결된 상대방(트레이너 또는 회원) ID
+   */
+  @Query("SELECT CASE WHEN c.member.id = :memberId THEN c.trainer.id ELSE c.member.id END "
+      + "FROM PTContract c WHERE (c.member.id = :memberId OR c.trainer.id = :memberId) "
+      + "AND c.status = :status")
+  List<Long> findCounterpartIds(@Param("memberId") Long memberId,
+      @Param("status") PTContractStatus status);
 }
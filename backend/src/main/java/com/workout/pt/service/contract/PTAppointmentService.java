@@ -13,6 +13,7 @@ import com.workout.pt.domain.contract.PTContractStatus;
 import com.workout.pt.dto.request.AppointmentRequest;
 import com.workout.pt.dto.request.AppointmentUpdateRequest;
 import com.workout.pt.dto.response.AppointmentResponse;
+import com.workout.pt.dto.response.FreeSlotResponse;
 import com.workout.pt.repository.PTAppointmentRepository;
 import com.workout.pt.repository.PTContractRepository;
 import java.time.Duration;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -34,14 +36,19 @@ public class PTAppointmentService {
   private final PTContractRepository ptContractRepository;
   private final PTContractService ptContractService;
   private final MemberService memberService;
+  private final TrainerScheduleIndex trainerScheduleIndex;
+  private final TrainerScheduleLock trainerScheduleLock;
 
   public PTAppointmentService(PTAppointmentRepository ptAppointmentRepository,
       PTContractRepository ptContractRepository, PTContractService ptContractService,
-      MemberService memberService) {
+      MemberService memberService, TrainerScheduleIndex trainerScheduleIndex,
+      TrainerScheduleLock trainerScheduleLock) {
     this.ptAppointmentRepository = ptAppointmentRepository;
     this.ptContractRepository = ptContractRepository;
     this.ptContractService = ptContractService;
     this.memberService = memberService;
+    this.trainerScheduleIndex = trainerScheduleIndex;
+    this.trainerScheduleLock = trainerScheduleLock;
   }
 
   public List<AppointmentResponse> findMyScheduledAppointmentsByPeriod(
@@ -77,7 +84,26 @@ public class PTAppointmentService {
         .collect(Collectors.toList());
   }
 
-  @Transactional
+  /**
+   * 트레이너의 예약이 없는 시간 구간을 조회합니다. 트레이너 본인 또는 진행 중인 계약의 회원만 조회할 수 있습니다. (최대 7일)
+   */
+  public List<FreeSlotResponse> findTrainerFreeSlots(Long userId, Long trainerId,
+      LocalDate startDate, LocalDate endDate, int durationMinutes) {
+    if (startDate.isAfter(endDate) || durationMinutes <= 0) {
+      throw new RestApiException(PTErrorCode.INVALID_PARAMETER);
+    }
+    if (Duration.between(startDate.atStartOfDay(), endDate.atStartOfDay()).toDays() >= 7) {
+      throw new RestApiException(PTErrorCode.INVALID_PARAMETER);
+    }
+    if (!userId.equals(trainerId) && !ptContractService.isMyClient(trainerId, userId)) {
+      throw new RestApiException(PTErrorCode.NOT_ALLOWED_ACCESS);
+    }
+
+    return trainerScheduleIndex.findFreeSlots(trainerId, startDate.atStartOfDay(),
+        endDate.plusDays(1).atStartOfDay(), Duration.ofMinutes(durationMinutes));
+  }
+
+  @Transactional(isolation = Isolation.READ_COMMITTED) // 잠금 이후 다른 노드가 커밋한 예약까지 읽기 위함
   public Long create(Long userId, AppointmentRequest request) {
     PTContract contract = ptContractRepository.findById(request.contractId())
         .orElseThrow(() -> new RestApiException(PTErrorCode.NOT_FOUND_PT_APPOINTMENT));
@@ -86,7 +112,8 @@ public class PTAppointmentService {
       throw new RestApiException(PTErrorCode.NOT_ALLOWED_ACCESS);
     }
 
-    validateNewAppointmentRequest(contract, request.startTime(), request.endTime());
+    long scheduleVersion = validateNewAppointmentRequest(contract, request.startTime(),
+        request.endTime());
 
     PTAppointment appointment = PTAppointment.builder()
         .contract(contract)
@@ -95,24 +122,35 @@ public class PTAppointmentService {
         .status(PTAppointmentStatus.SCHEDULED) // 3. 고유 상태
         .build();
 
-    try {
-      return ptAppointmentRepository.save(appointment).getId();
-    } catch (DataIntegrityViolationException e) {
-      throw new RestApiException(PTErrorCode.ALREADY_PRESENT_APPOINTMENT);
-    }
+    return saveNewAppointment(appointment, scheduleVersion);
 
   }
 
   private void checkTrainerScheduleOverlap(Long trainerId, LocalDateTime startTime,
-      LocalDateTime endTime) {
-    // 이미 해당 트레이너에게 잡힌 예약 중, 요청된 시간과 겹치는 예약이 있는지 확인
+      LocalDateTime endTime, Long appointmentId) {
+    // 이미 해당 트레이너에게 잡힌 예약 중, 요청된 시간과 겹치는 예약이 있는지 확인 (변경 대상 예약 자신은 제외)
     // 겹치는 조건: (new.start < old.end) AND (new.end > old.start)
-    if (ptAppointmentRepository.existsOverlappingAppointment(trainerId, startTime, endTime)) {
+    // 변경 요청 단계의 사전 확인이므로 잠그지 않음. 승인 시 잠금 안에서 다시 확인
+    if (trainerScheduleIndex.hasOverlap(trainerId, startTime, endTime, appointmentId)) {
       throw new RestApiException(PTErrorCode.ALREADY_PRESENT_APPOINTMENT);
     }
   }
 
-  @Transactional
+  /**
+   * 트레이너 일정 잠금을 잡은 뒤 겹침을 확인하고, 잠금 시점의 일정 version 을 반환합니다. 잠금은 트랜잭션이 끝날 때 풀리므로 같은 트레이너의
+   * 다른 예약 쓰기는 이 트랜잭션의 커밋 이후에 확인을 시작합니다.
+   */
+  private long lockAndCheckTrainerSchedule(Long trainerId, LocalDateTime startTime,
+      LocalDateTime endTime, Long excludeAppointmentId) {
+    long scheduleVersion = trainerScheduleLock.lock(trainerId);
+    if (trainerScheduleIndex.hasOverlap(trainerId, scheduleVersion, startTime, endTime,
+        excludeAppointmentId)) {
+      throw new RestApiException(PTErrorCode.ALREADY_PRESENT_APPOINTMENT);
+    }
+    return scheduleVersion;
+  }
+
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void updateStatus(Long userId, Long appointmentId, PTAppointmentStatus status) {
     PTAppointment appointment = ptAppointmentRepository.findById(appointmentId)
         .orElseThrow(() -> new RestApiException(PTErrorCode.NOT_FOUND_PT_APPOINTMENT));
@@ -124,9 +162,15 @@ public class PTAppointmentService {
     if (status == PTAppointmentStatus.COMPLETED) {
       ptContractService.deductSession(appointment.getContract().getId());
     }
+    if (status == PTAppointmentStatus.CANCELLED) {
+      Long trainerId = appointment.getContract().getTrainer().getId();
+      long scheduleVersion = trainerScheduleLock.lock(trainerId);
+      trainerScheduleLock.increment(trainerId);
+      trainerScheduleIndex.removeAfterCommit(trainerId, scheduleVersion, appointmentId);
+    }
   }
 
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public Long propose(Long userId, AppointmentRequest request) {
     PTContract contract = ptContractRepository.findById(request.contractId())
         .orElseThrow(() -> new RestApiException(PTErrorCode.NOT_FOUND_PT_APPOINTMENT));
@@ -135,7 +179,8 @@ public class PTAppointmentService {
       throw new RestApiException(PTErrorCode.NOT_ALLOWED_ACCESS);
     }
 
-    validateNewAppointmentRequest(contract, request.startTime(), request.endTime());
+    long scheduleVersion = validateNewAppointmentRequest(contract, request.startTime(),
+        request.endTime());
 
     PTAppointment appointment = PTAppointment.builder()
         .contract(contract)
@@ -144,29 +189,48 @@ public class PTAppointmentService {
         .status(PTAppointmentStatus.MEMBER_REQUESTED)
         .build();
 
+    return saveNewAppointment(appointment, scheduleVersion);
+  }
+
+  private Long saveNewAppointment(PTAppointment appointment, long scheduleVersion) {
+    Long trainerId = appointment.getContract().getTrainer().getId();
+    Long appointmentId;
     try {
-      return ptAppointmentRepository.save(appointment).getId();
+      appointmentId = ptAppointmentRepository.save(appointment).getId();
     } catch (DataIntegrityViolationException e) {
       throw new RestApiException(PTErrorCode.ALREADY_PRESENT_APPOINTMENT);
     }
+    trainerScheduleLock.increment(trainerId);
+    trainerScheduleIndex.upsertAfterCommit(trainerId, scheduleVersion, appointmentId,
+        appointment.getStartTime(), appointment.getEndTime());
+    return appointmentId;
   }
 
   private void applyAppointmentChange(PTAppointment appointment) {
+    // 요청 이후 다른 예약이 그 시간에 잡혔을 수 있으므로 잠금 안에서 다시 확인
+    Long trainerId = appointment.getContract().getTrainer().getId();
+    long scheduleVersion = lockAndCheckTrainerSchedule(trainerId,
+        appointment.getProposedStartTime(), appointment.getProposedEndTime(), appointment.getId());
+
     appointment.setStartTime(appointment.getProposedStartTime());
     appointment.setEndTime(appointment.getProposedEndTime());
     appointment.setProposedStartTime(null);
     appointment.setProposedEndTime(null);
     appointment.setStatus(PTAppointmentStatus.SCHEDULED);
+
+    trainerScheduleLock.increment(trainerId);
+    trainerScheduleIndex.upsertAfterCommit(trainerId, scheduleVersion, appointment.getId(),
+        appointment.getStartTime(), appointment.getEndTime());
   }
 
-  private void validateNewAppointmentRequest(PTContract contract, LocalDateTime startTime, LocalDateTime endTime) {
+  private long validateNewAppointmentRequest(PTContract contract, LocalDateTime startTime, LocalDateTime endTime) {
     if (contract.getStatus() != PTContractStatus.ACTIVE) {
       throw new RestApiException(PTErrorCode.INVALID_STATUS_REQUEST);
     }
     if (contract.getRemainingSessions() <= 0) {
       throw new RestApiException(PTErrorCode.NO_REMAIN_SESSION);
     }
-    checkTrainerScheduleOverlap(contract.getTrainer().getId(), startTime, endTime);
+    return lockAndCheckTrainerSchedule(contract.getTrainer().getId(), startTime, endTime, null);
   }
 
   @Transactional
@@ -203,7 +267,7 @@ public class PTAppointmentService {
 
     // 변경을 제안한 시간이 다른 스케줄과 겹치는지 확인
     checkTrainerScheduleOverlap(appointment.getContract().getTrainer().getId(),
-        request.newStartTime(), request.newEndTime());
+        request.newStartTime(), request.newEndTime(), appointmentId);
 
     appointment.setProposedStartTime(request.newStartTime());
     appointment.setProposedEndTime(request.newEndTime());
@@ -226,14 +290,14 @@ public class PTAppointmentService {
 
     // 변경을 제안한 시간이 다른 스케줄과 겹치는지 확인
     checkTrainerScheduleOverlap(appointment.getContract().getTrainer().getId(),
-        request.newStartTime(), request.newEndTime());
+        request.newStartTime(), request.newEndTime(), appointmentId);
 
     appointment.setProposedStartTime(request.newStartTime());
     appointment.setProposedEndTime(request.newEndTime());
     appointment.setStatus(PTAppointmentStatus.TRAINER_CHANGE_REQUESTED);
   }
 
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void approveChange(Long userId, Long appointmentId) {
     PTAppointment appointment = findAppointmentById(appointmentId);
 
@@ -249,7 +313,7 @@ public class PTAppointmentService {
     applyAppointmentChange(appointment);
   }
 
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public void approveChangeByMember(Long userId, Long appointmentId) {
     PTAppointment appointment = findAppointmentById(appointmentId);
 
@@ -0,0 +1,200 @@
+package com.workout.pt.service.contract;
+
+import com.workout.pt.domain.contract.PTAppointment;
+import com.workout.pt.dto.response.FreeSlotResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 트레이너의 (취소되지 않은) 예약 구간을 시작 시각 오름차순의 원시 배열로 보관하는 불변 인덱스.
+ * <p>
+ * 시각은 {@link LocalDateTime}을 UTC 기준 epoch 초로 바꾼 값이며, 구간은 {@code [start, end)} 입니다. {@code maxEnds[i]}는
+ * {@code ends[0..i]}의 최댓값(증가 수열)이라, 기존 데이터에 겹치는 예약이 있더라도 이진 탐색 한 번으로 겹침 여부를 판단할 수 있습니다.
+ * 수정은 배열을 복사한 새 인스턴스를 반환하므로 읽는 쪽은 잠금 없이 사용할 수 있습니다.
+ */
+final class TrainerSchedule {
+
+  private final long version; // pt_trainer_schedule.version 기준 (이 version 까지의 변경이 반영됨)
+  private final long loadedFrom; // 이 시각 이전에 끝난 예약은 담겨 있지 않음
+  private final long[] ids;
+  private final long[] starts;
+  private final long[] ends;
+  private final long[] maxEnds;
+
+  private TrainerSchedule(long version, long loadedFrom, long[] ids, long[] starts,
+      long[] ends) {
+    this.version = version;
+    this.loadedFrom = loadedFrom;
+    this.ids = ids;
+    this.starts = starts;
+    this.ends = ends;
+    this.maxEnds = new long[ends.length];
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < ends.length; i++) {
+      max = Math.max(max, ends[i]);
+      maxEnds[i] = max;
+    }
+  }
+
+  static TrainerSchedule of(long version, LocalDateTime loadedFrom,
+      List<PTAppointment> appointments) {
+    List<PTAppointment> sorted = new ArrayList<>(appointments);
+    sorted.sort(Comparator.comparing(PTAppointment::getStartTime)
+        .thenComparing(PTAppointment::getId));
+
+    int size = sorted.size();
+    long[] ids = new long[size];
+    long[] starts = new long[size];
+    long[] ends = new long[size];
+    for (int i = 0; i < size; i++) {
+      PTAppointment appointment = sorted.get(i);
+      ids[i] = appointment.getId();
+      starts[i] = toKey(appointment.getStartTime());
+      ends[i] = toKey(appointment.getEndTime());
+    }
+    return new TrainerSchedule(version, toKey(loadedFrom), ids, starts, ends);
+  }
+
+  static long toKey(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  static LocalDateTime fromKey(long key) {
+    return LocalDateTime.ofEpochSecond(key, 0, ZoneOffset.UTC);
+  }
+
+  int size() {
+    return ids.length;
+  }
+
+  long version() {
+    return version;
+  }
+
+  long loadedFrom() {
+    return loadedFrom;
+  }
+
+  /**
+   * {@code start} 이후의 구간은 이 인덱스만으로 판단할 수 있는지 여부. (그 이전은 로딩 범위 밖)
+   */
+  boolean covers(long start) {
+    return start >= loadedFrom;
+  }
+
+  /**
+   * {@code [start, end)}와 겹치는 예약이 있는지 확인합니다. 시작 시각이 {@code end} 보다 앞선 예약 중 가장 늦게 끝나는 예약만 보면
+   * 됩니다.
+   */
+  boolean overlaps(long start, long end) {
+    int count = lowerBound(starts, end);
+    return count > 0 && maxEnds[count - 1] > start;
+  }
+
+  /**
+   * {@code excludeId} 예약(시간을 바꾸려는 예약 자신)을 빼고 겹침을 확인합니다. 겹치는 후보가 있을 때만 후보를 하나씩 확인합니다.
+   */
+  boolean overlaps(long start, long end, long excludeId) {
+    if (!overlaps(start, end)) {
+      return false;
+    }
+    int count = lowerBound(starts, end);
+    for (int i = 0; i < count; i++) {
+      if (ends[i] > start && ids[i] != excludeId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@code [from, to)} 안에서 예약이 없는 구간 중 {@code minSeconds} 이상인 구간을 시간순으로 반환합니다.
+   */
+  List<FreeSlotResponse> freeSlots(long from, long to, long minSeconds) {
+    List<FreeSlotResponse> slots = new ArrayList<>();
+    long cursor = from;
+    for (int i = upperBound(maxEnds, from); i < starts.length && starts[i] < to; i++) {
+      if (starts[i] - cursor >= minSeconds) {
+        slots.add(new FreeSlotResponse(fromKey(cursor), fromKey(starts[i])));
+      }
+      cursor = Math.max(cursor, ends[i]);
+    }
+    if (to - cursor >= minSeconds) {
+      slots.add(new FreeSlotResponse(fromKey(cursor), fromKey(to)));
+    }
+    return slots;
+  }
+
+  /**
+   * 예약 구간을 추가하거나(이미 있으면 시각을 교체) 한 {@code nextVersion}의 새 인덱스를 반환합니다.
+   */
+  TrainerSchedule upsert(long id, long start, long end, long nextVersion) {
+    TrainerSchedule base = remove(id, nextVersion);
+    int insertAt = base.insertionPoint(start, id);
+    return new TrainerSchedule(nextVersion, loadedFrom, insert(base.ids, insertAt, id),
+        insert(base.starts, insertAt, start), insert(base.ends, insertAt, end));
+  }
+
+  /**
+   * 예약 구간을 뺀 {@code nextVersion}의 새 인덱스를 반환합니다.
+   */
+  TrainerSchedule remove(long id, long nextVersion) {
+    for (int i = 0; i < ids.length; i++) {
+      if (ids[i] == id) {
+        return new TrainerSchedule(nextVersion, loadedFrom, delete(ids, i), delete(starts, i),
+            delete(ends, i));
+      }
+    }
+    return new TrainerSchedule(nextVersion, loadedFrom, ids, starts, ends);
+  }
+
+  private int insertionPoint(long start, long id) {
+    int index = lowerBound(starts, start);
+    while (index < starts.length && starts[index] == start && ids[index] < id) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * {@code values[i] < key}인 원소의 개수 (정렬된 배열 기준)
+   */
+  private static int lowerBound(long[] values, long key) {
+    int low = 0;
+    int high = values.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * {@code values[i] <= key}인 원소의 개수 (정렬된 배열 기준)
+   */
+  private static int upperBound(long[] values, long key) {
+    return lowerBound(values, key + 1);
+  }
+
+  private static long[] insert(long[] source, int index, long value) {
+    long[] target = new long[source.length + 1];
+    System.arraycopy(source, 0, target, 0, index);
+    System.arraycopy(source, index, target, index + 1, source.length - index);
+    target[index] = value;
+    return target;
+  }
+
+  private static long[] delete(long[] source, int index) {
+    long[] target = Arrays.copyOf(source, source.length - 1);
+    System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+    return target;
+  }
+}
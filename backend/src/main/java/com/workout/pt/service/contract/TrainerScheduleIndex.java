@@ -0,0 +1,215 @@
+package com.workout.pt.service.contract;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workout.pt.domain.contract.PTAppointmentStatus;
+import com.workout.pt.dto.response.FreeSlotResponse;
+import com.workout.pt.repository.PTAppointmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트레이너별 예약 구간 인덱스({@link TrainerSchedule})를 노드 로컬(JVM)에 보관합니다.
+ * <p>
+ * 트레이너의 일정을 처음 확인할 때 최근 {@code pt.schedule.index.history} 이후에 끝나는 예약만 한 번 읽고, 이후 겹침 확인과 빈 시간
+ * 조회는 배열 이진 탐색으로 처리합니다. 예약 생성/시간 변경/취소가 커밋되면 이 노드의 인덱스는 바로 고치고, 다른 노드에는 Redis pub/sub 으로
+ * 무효화를 전파하여 다음 조회 때 다시 만들게 합니다. 로딩 범위보다 과거 구간은 DB 로 확인합니다.
+ * <p>
+ * 인덱스마다 {@code pt_trainer_schedule.version}을 함께 기록합니다. 예약 쓰기는 {@link TrainerScheduleLock} 안에서 잠금 시점의
+ * version 과 비교하여, 무효화 메시지가 늦거나 유실되어도 다른 노드의 변경을 놓치지 않습니다.
+ */
+@Slf4j
+@Component
+public class TrainerScheduleIndex implements MessageListener {
+
+  static final String INVALIDATION_CHANNEL = "pt:schedule:invalidate";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Cache<Long, TrainerSchedule> scheduleByTrainer;
+  private final PTAppointmentRepository ptAppointmentRepository;
+  private final TrainerScheduleLock trainerScheduleLock;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final MeterRegistry meterRegistry;
+  private final Duration history;
+
+  public TrainerScheduleIndex(PTAppointmentRepository ptAppointmentRepository,
+      TrainerScheduleLock trainerScheduleLock, StringRedisTemplate stringRedisTemplate,
+      RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+      @Value("${pt.schedule.index.max-size:5000}") long maxSize,
+      @Value("${pt.schedule.index.ttl:1h}") Duration ttl,
+      @Value("${pt.schedule.index.history:1d}") Duration history) {
+    this.ptAppointmentRepository = ptAppointmentRepository;
+    this.trainerScheduleLock = trainerScheduleLock;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.meterRegistry = meterRegistry;
+    this.history = history;
+    this.scheduleByTrainer = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl) // 조회가 계속되어도 무효화를 놓친 항목은 ttl 안에 다시 읽음
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, scheduleByTrainer, "ptSchedule");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * {@link TrainerScheduleLock}을 잡은 트랜잭션 안에서 겹침을 확인합니다. 인덱스의 version 이 잠금 시점의 version 과 다르면(다른 노드의
+   * 변경이 아직 반영되지 않았으면) 다시 읽어서 확인하므로, 잠금 안에서는 항상 최신 일정으로 판단합니다.
+   *
+   * @param excludeAppointmentId 시간을 바꾸려는 예약 자신 (새 예약이면 {@code null})
+   */
+  public boolean hasOverlap(Long trainerId, long lockedVersion, LocalDateTime startTime,
+      LocalDateTime endTime, Long excludeAppointmentId) {
+    return hasOverlap(trainerId, schedule(trainerId, lockedVersion), startTime, endTime,
+        excludeAppointmentId);
+  }
+
+  /**
+   * 잠금 없이 지금 인덱스로 겹침을 확인합니다. (변경 요청처럼 최종 확인이 뒤에 다시 있는 경우)
+   */
+  public boolean hasOverlap(Long trainerId, LocalDateTime startTime, LocalDateTime endTime,
+      Long excludeAppointmentId) {
+    return hasOverlap(trainerId, schedule(trainerId), startTime, endTime, excludeAppointmentId);
+  }
+
+  /**
+   * {@code [from, to)} 안에서 예약이 없는 구간 중 {@code minLength} 이상인 구간을 시간순으로 반환합니다. 로딩 범위 이전 구간은 잘라냅니다.
+   */
+  public List<FreeSlotResponse> findFreeSlots(Long trainerId, LocalDateTime from,
+      LocalDateTime to, Duration minLength) {
+    TrainerSchedule schedule = schedule(trainerId);
+    long start = Math.max(TrainerSchedule.toKey(from), schedule.loadedFrom());
+    return schedule.freeSlots(start, TrainerSchedule.toKey(to), minLength.toSeconds());
+  }
+
+  /**
+   * 커밋 후 이 노드의 인덱스가 잠금 시점 version 이면 예약 구간을 추가/교체하고(version + 1), 아니면 버립니다. 다른 노드에는 무효화를
+   * 발행합니다.
+   */
+  public void upsertAfterCommit(Long trainerId, long lockedVersion, Long appointmentId,
+      LocalDateTime startTime, LocalDateTime endTime) {
+    long start = TrainerSchedule.toKey(startTime);
+    long end = TrainerSchedule.toKey(endTime);
+    afterCommit(() -> {
+      scheduleByTrainer.asMap().computeIfPresent(trainerId,
+          (id, schedule) -> (schedule.version() == lockedVersion)
+              ? schedule.upsert(appointmentId, start, end, lockedVersion + 1) : null);
+      publish(trainerId);
+    });
+  }
+
+  /**
+   * 커밋 후 이 노드의 인덱스가 잠금 시점 version 이면 예약 구간을 빼고(취소, version + 1), 아니면 버립니다. 다른 노드에는 무효화를
+   * 발행합니다.
+   */
+  public void removeAfterCommit(Long trainerId, long lockedVersion, Long appointmentId) {
+    afterCommit(() -> {
+      scheduleByTrainer.asMap().computeIfPresent(trainerId,
+          (id, schedule) -> (schedule.version() == lockedVersion)
+              ? schedule.remove(appointmentId, lockedVersion + 1) : null);
+      publish(trainerId);
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator < 0) {
+      log.warn("Ignoring malformed trainer schedule invalidation message: {}", body);
+      return;
+    }
+    if (nodeId.equals(body.substring(0, separator))) {
+      return; // 이 노드는 이미 반영함
+    }
+    try {
+      scheduleByTrainer.invalidate(Long.valueOf(body.substring(separator + 1)));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring malformed trainer schedule invalidation message: {}", body);
+    }
+  }
+
+  private boolean hasOverlap(Long trainerId, TrainerSchedule schedule, LocalDateTime startTime,
+      LocalDateTime endTime, Long excludeAppointmentId) {
+    long start = TrainerSchedule.toKey(startTime);
+    if (!schedule.covers(start)) {
+      meterRegistry.counter("pt.schedule.index.lookup", "result", "db").increment();
+      return (excludeAppointmentId == null)
+          ? ptAppointmentRepository.existsOverlappingAppointment(trainerId, startTime, endTime)
+          : ptAppointmentRepository.existsOverlappingAppointmentExcluding(trainerId,
+              excludeAppointmentId, startTime, endTime);
+    }
+    meterRegistry.counter("pt.schedule.index.lookup", "result", "index").increment();
+    long end = TrainerSchedule.toKey(endTime);
+    return (excludeAppointmentId == null)
+        ? schedule.overlaps(start, end)
+        : schedule.overlaps(start, end, excludeAppointmentId);
+  }
+
+  /**
+   * 캐시된 인덱스를 그대로 사용합니다. 없으면 version 을 먼저 읽고 예약을 읽으므로, 그 사이 커밋된 변경이 있어도 version 은 실제보다 낮게
+   * 기록될 뿐입니다. (잠금 안의 확인에서 다시 읽음)
+   */
+  private TrainerSchedule schedule(Long trainerId) {
+    return scheduleByTrainer.get(trainerId,
+        id -> load(id, trainerScheduleLock.currentVersion(id)));
+  }
+
+  private TrainerSchedule schedule(Long trainerId, long lockedVersion) {
+    return scheduleByTrainer.asMap().compute(trainerId,
+        (id, cached) -> (cached != null && cached.version() == lockedVersion)
+            ? cached : load(id, lockedVersion));
+  }
+
+  private TrainerSchedule load(Long trainerId, long version) {
+    LocalDateTime loadedFrom = LocalDateTime.now().minus(history);
+    return TrainerSchedule.of(version, loadedFrom,
+        ptAppointmentRepository.findAllByContract_Trainer_IdAndStatusNotAndEndTimeAfter(
+            trainerId, PTAppointmentStatus.CANCELLED, loadedFrom));
+  }
+
+  private void publish(Long trainerId) {
+    try {
+      stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + trainerId);
+    } catch (Exception e) {
+      // 발행 실패 시 다른 노드의 빈 시간 조회는 TTL 만료로 수렴 (예약 쓰기는 잠금 안에서 version 으로 다시 확인)
+      log.warn("Failed to publish trainer schedule invalidation for trainerId: {}. Reason: {}",
+          trainerId, e.getMessage());
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,138 @@
+package com.workout.pt.service.contract;
+
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.PTErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트레이너 단위로 예약 쓰기(겹침 확인 + 저장)를 직렬화합니다.
+ * <p>
+ * 같은 노드의 요청은 트레이너 id 로 고른 스트라이프 잠금에서 먼저 줄을 서고, 노드 간에는 {@code pt_trainer_schedule} 행의
+ * {@code SELECT ... FOR UPDATE} 로 직렬화합니다. 두 잠금 모두 트랜잭션이 끝날 때 풀리므로 반드시 트랜잭션 안에서 호출해야 합니다. 서로
+ * 다른 트레이너의 예약은 서로 기다리지 않습니다. (스트라이프가 겹치는 경우 제외)
+ * <p>
+ * 스트라이프는 트랜잭션 안에서(계약/예약 조회 이후) 잡으므로 기다리는 요청도 DB 커넥션을 하나씩 쥐고 있습니다. 한 트레이너에 요청이 몰리면
+ * 대기 수만큼 커넥션 풀이 묶이므로, 대기 한도({@code pt.booking.lock.timeout})는 한 예약 트랜잭션(수십 ms)보다 넉넉하되 풀의
+ * {@code connection-timeout}(기본 30초)보다 훨씬 짧게 두어 다른 API 가 커넥션을 얻지 못하기 전에 409 로 돌려보냅니다.
+ * <p>
+ * 잠금 이후의 조회가 다른 트랜잭션이 방금 커밋한 예약을 보려면 호출 측 트랜잭션은 READ COMMITTED 여야 합니다.
+ */
+@Slf4j
+@Component
+public class TrainerScheduleLock {
+
+  private static final String SELECT_FOR_UPDATE_SQL =
+      "SELECT version FROM pt_trainer_schedule WHERE trainer_id = :trainerId FOR UPDATE";
+  private static final String SELECT_SQL =
+      "SELECT version FROM pt_trainer_schedule WHERE trainer_id = :trainerId";
+  private static final String INSERT_SQL =
+      "INSERT IGNORE INTO pt_trainer_schedule (trainer_id) VALUES (:trainerId)";
+  private static final String INCREMENT_SQL =
+      "UPDATE pt_trainer_schedule SET version = version + 1 WHERE trainer_id = :trainerId";
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ReentrantLock[] stripes;
+  private final Duration timeout;
+  private final Timer waitTimer;
+
+  public TrainerScheduleLock(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${pt.booking.lock.stripes:256}") int stripeCount,
+      @Value("${pt.booking.lock.timeout:2s}") Duration timeout) {
+    this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.meterRegistry = meterRegistry;
+    this.timeout = timeout;
+    this.stripes = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.waitTimer = Timer.builder("pt.booking.lock.wait")
+        .description("트레이너 예약 잠금(스트라이프 + DB 행) 획득까지 걸린 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 트레이너의 예약 잠금을 잡고, 잠금 시점의 일정 version 을 반환합니다. 잠금은 현재 트랜잭션이 끝날 때 풀립니다.
+   *
+   * @throws RestApiException 제한 시간 안에 같은 노드의 잠금을 얻지 못한 경우 ({@code BOOKING_IN_PROGRESS})
+   */
+  public long lock(Long trainerId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Trainer schedule lock requires an active transaction");
+    }
+    long startedAt = System.nanoTime();
+    ReentrantLock stripe = stripes[Math.floorMod(Long.hashCode(trainerId), stripes.length)];
+    acquire(stripe, trainerId);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        stripe.unlock();
+      }
+    });
+
+    long version = selectForUpdate(trainerId);
+    waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    return version;
+  }
+
+  /**
+   * 예약 구간이 바뀌었음을 기록합니다. {@link #lock(Long)}을 잡은 트랜잭션 안에서만 호출합니다.
+   */
+  public void increment(Long trainerId) {
+    namedParameterJdbcTemplate.update(INCREMENT_SQL, params(trainerId));
+  }
+
+  /**
+   * 잠그지 않고 현재 version 을 읽습니다. 행이 없으면 0 입니다.
+   */
+  public long currentVersion(Long trainerId) {
+    List<Long> versions = namedParameterJdbcTemplate.queryForList(SELECT_SQL, params(trainerId),
+        Long.class);
+    return versions.isEmpty() ? 0L : versions.get(0);
+  }
+
+  private void acquire(ReentrantLock stripe, Long trainerId) {
+    try {
+      if (stripe.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    meterRegistry.counter("pt.booking.lock.timeout").increment();
+    log.warn("Timed out waiting for trainer schedule lock. trainerId: {}", trainerId);
+    throw new RestApiException(PTErrorCode.BOOKING_IN_PROGRESS);
+  }
+
+  /**
+   * 첫 예약이면 잠금 행을 만든 뒤 다시 잠급니다. (동시에 만들어도 INSERT IGNORE 라 한 행만 남음)
+   */
+  private long selectForUpdate(Long trainerId) {
+    MapSqlParameterSource params = params(trainerId);
+    List<Long> versions = namedParameterJdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, params,
+        Long.class);
+    if (versions.isEmpty()) {
+      namedParameterJdbcTemplate.update(INSERT_SQL, params);
+      versions = namedParameterJdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, params,
+          Long.class);
+    }
+    return versions.get(0);
+  }
+
+  private static MapSqlParameterSource params(Long trainerId) {
+    return new MapSqlParameterSource("trainerId", trainerId);
+  }
+}
@@ -2,6 +2,8 @@ package com.workout.trainer.controller;
 
 import com.workout.auth.domain.UserPrincipal;
 import com.workout.body.dto.BodyCompositionResponse;
+import com.workout.body.dto.BodyTrendResolution;
+import com.workout.body.dto.BodyTrendResponse;
 import com.workout.body.service.BodyCompositionService;
 import com.workout.global.dto.ApiResponse;
 import com.workout.pt.service.contract.PTContractService;
@@ -171,4 +173,29 @@ public class TrainerController {
 
     return ResponseEntity.ok(ApiResponse.of(bodyInfoPage));
   }
+
+  @Operation(summary = "[트레이너 전용] 담당 회원의 체성분 추이 조회",
+      description = "트레이너가 본인의 담당 회원(memberId)의 체성분 추이를 일/주/월 단위 평균으로 조회합니다. (회원이 공개 설정을 허용한 경우)",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "회원 체성분 추이 조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 트레이너"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "담당 회원이 아니거나 회원이 정보 접근을 비공개함"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음")
+  })
+  @GetMapping("/members/{memberId}/body-trend")
+  public ResponseEntity<ApiResponse<BodyTrendResponse>> getMemberBodyTrend(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @PathVariable Long memberId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false) BodyTrendResolution resolution) {
+
+    Long trainerId = userPrincipal.getUserId();
+
+    BodyTrendResponse trend = bodyCompositionService.findTrendByTrainer(trainerId, memberId,
+        startDate, endDate, resolution);
+
+    return ResponseEntity.ok(ApiResponse.of(trend));
+  }
 }
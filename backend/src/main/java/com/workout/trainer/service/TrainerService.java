@@ -57,7 +57,7 @@ public class TrainerService {
 
     if (profileImageUri != null && !profileImageUri.equals(
         fileService.getDefaultProfileImageUrl())) {
-      fileService.deleteProfileImageFile(profileImageUri);
+      fileService.deleteProfileImageFile(trainerId, profileImageUri);
     }
 
     trainerProfileService.deleteAllProfileDetails(trainerId);
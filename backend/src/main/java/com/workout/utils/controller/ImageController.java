@@ -0,0 +1,232 @@
+package com.workout.utils.controller;
+
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.FileErrorCode;
+import com.workout.utils.domain.ImageTier;
+import com.workout.utils.service.FileService;
+import com.workout.utils.storage.BlobInfo;
+import com.workout.utils.storage.BlobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code /images/{파일 이름}} 요청을 {@link BlobStore}로 처리합니다.
+ * <p>
+ * 서명된 URL 을 지원하는 저장소(S3)는 해당 URL 로 리다이렉트하여 앱 서버가 파일을 중계하지 않게 하고, 로컬 저장소는 직접 스트리밍하며 단일
+ * 구간 Range 요청을 지원합니다. 로컬 저장소 운영 시에는 보통 nginx 가 같은 경로를 먼저 처리합니다.
+ * <p>
+ * 저장 파일 이름은 UUID 라 내용이 바뀌지 않으므로 1년 {@code immutable} 캐시를 허용하고, nginx 와 같은 형식의 ETag
+ * ({@code "수정시각(초)-크기"}, 16진수)로 조건부 요청에 304 를 응답합니다. {@code image.variants.webp}가 켜져 있으면 축소본 요청은
+ * {@code Accept}에 따라 WebP 파일로 응답합니다.
+ * <p>
+ * 축소본은 커밋 뒤 비동기로 생성되고, 지원하지 않는 형식이나 픽셀 수가 너무 큰 원본은 생성하지 않습니다. 축소본이 없으면 원본으로
+ * 짧게 캐시되는 리다이렉트를 응답하여, 응답 DTO 가 항상 내려주는 축소본 URL 이 깨지지 않게 합니다.
+ */
+@RestController
+public class ImageController {
+
+  /**
+   * nginx 가 로컬 볼륨에서 찾지 못해 앱으로 넘긴 요청에 붙이는 헤더.
+   */
+  static final String NGINX_FALLBACK_HEADER = "X-Image-Fallback";
+  private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+      .cachePublic().immutable();
+  private static final String WEBP_EXTENSION = ".webp";
+  // 축소본이 곧 생성될 수 있으므로 원본 리다이렉트는 짧게만 캐시
+  private static final CacheControl VARIANT_FALLBACK = CacheControl.maxAge(Duration.ofMinutes(1));
+
+  private final BlobStore blobStore;
+  private final MeterRegistry meterRegistry;
+  private final Duration presignTtl;
+  private final boolean webpNegotiation;
+
+  public ImageController(BlobStore blobStore, MeterRegistry meterRegistry,
+      @Value("${storage.presign-ttl:10m}") Duration presignTtl,
+      @Value("${image.variants.webp:false}") boolean webpNegotiation) {
+    this.blobStore = blobStore;
+    this.meterRegistry = meterRegistry;
+    this.presignTtl = presignTtl;
+    this.webpNegotiation = webpNegotiation;
+  }
+
+  @GetMapping("/images/{fileName:.+}")
+  public ResponseEntity<Resource> getImage(@PathVariable("fileName") String fileName,
+      @RequestHeader HttpHeaders requestHeaders) {
+    String source = requestHeaders.containsKey(NGINX_FALLBACK_HEADER) ? "nginx-fallback" : "direct";
+
+    Optional<URI> presignedUrl = blobStore.presignedGetUrl(fileName, presignTtl);
+    if (presignedUrl.isPresent()) {
+      // 서명된 URL 은 객체가 없어도 만들어지므로 축소본만 존재를 확인
+      if (ImageTier.isVariantName(fileName) && !exists(fileName)) {
+        return fallbackToOriginal(fileName, source);
+      }
+      record(source, "redirect");
+      // 서명 만료 전에 다시 요청하도록 리다이렉트 자체는 짧게만 캐시
+      return ResponseEntity.status(HttpStatus.FOUND)
+          .location(presignedUrl.get())
+          .cacheControl(CacheControl.maxAge(presignTtl.dividedBy(2)).cachePrivate())
+          .build();
+    }
+
+    boolean negotiable = webpNegotiation && ImageTier.isVariantName(fileName);
+    try {
+      String key = negotiable ? negotiate(fileName, requestHeaders) : fileName;
+      Optional<BlobInfo> found = blobStore.stat(key);
+      if (found.isEmpty()) {
+        if (ImageTier.isVariantName(fileName)) {
+          return fallbackToOriginal(fileName, source);
+        }
+        record(source, "not_found");
+        throw new RestApiException(FileErrorCode.FILE_NOT_FOUND);
+      }
+      BlobInfo blob = found.get();
+      String etag = etag(blob);
+
+      HttpHeaders headers = new HttpHeaders();
+      headers.setETag(etag);
+      headers.setLastModified(blob.lastModified());
+      headers.setCacheControl(IMMUTABLE);
+      headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+      if (negotiable) {
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+      }
+
+      if (isNotModified(requestHeaders, etag, blob)) {
+        record(source, "not_modified");
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+      }
+
+      MediaType mediaType = MediaTypeFactory.getMediaType(key)
+          .orElse(MediaType.APPLICATION_OCTET_STREAM);
+      List<HttpRange> ranges = parseRanges(requestHeaders);
+      if (ranges.size() == 1) {
+        HttpRange range = ranges.get(0);
+        long start;
+        long end;
+        try {
+          start = range.getRangeStart(blob.size());
+          end = range.getRangeEnd(blob.size());
+        } catch (IllegalArgumentException e) {
+          throw new RestApiException(FileErrorCode.INVALID_RANGE);
+        }
+        // HttpRange 는 시작 위치가 파일 크기를 넘어도 그대로 돌려주므로 직접 확인
+        if (start >= blob.size() || start > end) {
+          throw new RestApiException(FileErrorCode.INVALID_RANGE);
+        }
+        record(source, "partial");
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .headers(headers)
+            .contentType(mediaType)
+            .contentLength(end - start + 1)
+            .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + blob.size())
+            .body(new InputStreamResource(blobStore.getRange(key, start, end)));
+      }
+
+      record(source, "ok");
+      return ResponseEntity.ok()
+          .headers(headers)
+          .contentType(mediaType)
+          .contentLength(blob.size())
+          .body(new InputStreamResource(blobStore.get(key)));
+    } catch (NoSuchFileException e) {
+      throw new RestApiException(FileErrorCode.FILE_NOT_FOUND);
+    } catch (IOException e) {
+      throw new RestApiException(FileErrorCode.FILE_READ_FAILED);
+    }
+  }
+
+  /**
+   * 클라이언트가 WebP 를 받을 수 있고 WebP 축소본이 있으면 그 키를 사용합니다.
+   */
+  private String negotiate(String fileName, HttpHeaders requestHeaders) throws IOException {
+    boolean acceptsWebp = requestHeaders.getAccept().stream()
+        .anyMatch(type -> "image".equals(type.getType()) && "webp".equals(type.getSubtype()));
+    if (!acceptsWebp) {
+      return fileName;
+    }
+    String webpKey = fileName.substring(0, fileName.lastIndexOf('.')) + WEBP_EXTENSION;
+    return blobStore.exists(webpKey) ? webpKey : fileName;
+  }
+
+  /**
+   * 축소본이 없으면 같은 이름의 원본으로 리다이렉트합니다. 축소본 이름에는 원본 확장자가 없으므로 업로드 허용 확장자를 차례로 확인합니다.
+   */
+  private ResponseEntity<Resource> fallbackToOriginal(String fileName, String source) {
+    String base = ImageTier.originalBaseName(fileName);
+    for (String extension : FileService.ALLOWED_EXTENSIONS) {
+      String original = base + "." + extension;
+      if (exists(original)) {
+        record(source, "variant_fallback");
+        return ResponseEntity.status(HttpStatus.FOUND)
+            .location(URI.create("/images/" + original))
+            .cacheControl(VARIANT_FALLBACK)
+            .build();
+      }
+    }
+    record(source, "not_found");
+    throw new RestApiException(FileErrorCode.FILE_NOT_FOUND);
+  }
+
+  private boolean exists(String key) {
+    try {
+      return blobStore.exists(key);
+    } catch (IOException e) {
+      throw new RestApiException(FileErrorCode.FILE_READ_FAILED);
+    }
+  }
+
+  /**
+   * nginx 기본 ETag 와 같은 형식이라, 어느 경로에서 받은 캐시든 다른 경로에서 재검증할 수 있습니다.
+   */
+  private static String etag(BlobInfo blob) {
+    return "\"" + Long.toHexString(blob.lastModified().getEpochSecond()) + "-"
+        + Long.toHexString(blob.size()) + "\"";
+  }
+
+  private static boolean isNotModified(HttpHeaders requestHeaders, String etag, BlobInfo blob) {
+    List<String> ifNoneMatch;
+    try {
+      ifNoneMatch = requestHeaders.getIfNoneMatch();
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    if (!ifNoneMatch.isEmpty()) {
+      return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || tag.equals(etag)
+          || tag.equals("W/" + etag));
+    }
+    long ifModifiedSince = requestHeaders.getIfModifiedSince();
+    return ifModifiedSince != -1
+        && blob.lastModified().getEpochSecond() <= ifModifiedSince / 1000;
+  }
+
+  private static List<HttpRange> parseRanges(HttpHeaders requestHeaders) {
+    try {
+      return requestHeaders.getRange();
+    } catch (IllegalArgumentException e) {
+      throw new RestApiException(FileErrorCode.INVALID_RANGE);
+    }
+  }
+
+  private void record(String source, String result) {
+    meterRegistry.counter("image.requests", "source", source, "result", result).increment();
+  }
+}
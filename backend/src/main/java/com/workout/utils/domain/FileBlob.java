@@ -0,0 +1,40 @@
+package com.workout.utils.domain;
+
+import com.workout.global.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용(SHA-256)이 같은 업로드를 하나의 물리 파일로 공유하기 위한 blob.
+ * <p>
+ * 생성과 참조 카운트 변경은 동시 업로드에도 안전하도록 {@code FileBlobRepository}의 원자적 쿼리로만 수행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blob")
+public class FileBlob extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+  private String contentHash;
+
+  @Column(name = "stored_file_name", nullable = false, unique = true)
+  private String storedFileName;
+
+  @Column(name = "file_size", nullable = false)
+  private Long fileSize;
+
+  @Column(name = "ref_count", nullable = false)
+  private int refCount;
+}
@@ -0,0 +1,61 @@
+package com.workout.utils.domain;
+
+/**
+ * 원본 이미지로부터 비동기로 생성되는 축소본 등급.
+ * <p>
+ * 축소본은 원본과 같은 디렉토리에 {@code {원본 이름}_{suffix}.jpg}로 저장되므로, URL 은 DB 조회 없이 원본 URL 에서 계산됩니다.
+ * 아직 생성되지 않았거나 생성하지 않은(지원하지 않는 형식, 픽셀 수 초과) 축소본 URL 은 {@code ImageController}가 원본으로
+ * 리다이렉트합니다.
+ */
+public enum ImageTier {
+  THUMBNAIL("thumb", 320),   // 그리드 썸네일
+  MEDIUM("medium", 1080);    // 상세 화면
+
+  public static final String DEFAULT_FORMAT = "jpg";
+
+  private final String suffix;
+  private final int maxSize;
+
+  ImageTier(String suffix, int maxSize) {
+    this.suffix = suffix;
+    this.maxSize = maxSize;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * 원본 파일 이름(또는 URL)에 대응하는 축소본 이름. 예) {@code abc.png -> abc_thumb.jpg}
+   */
+  public String variantName(String original, String format) {
+    int dot = original.lastIndexOf('.');
+    String base = (dot > original.lastIndexOf('/')) ? original.substring(0, dot) : original;
+    return base + "_" + suffix + "." + format;
+  }
+
+  /**
+   * 축소본 이름({@code xxx_thumb.jpg} 등)인지 확인합니다.
+   */
+  public static boolean isVariantName(String name) {
+    return originalBaseName(name) != null;
+  }
+
+  /**
+   * 축소본 이름에서 원본 이름의 확장자 앞부분을 구합니다. 예) {@code abc_thumb.jpg -> abc}. 축소본 이름이 아니면 {@code null}.
+   */
+  public static String originalBaseName(String name) {
+    int dot = name.lastIndexOf('.');
+    String base = (dot > 0) ? name.substring(0, dot) : name;
+    for (ImageTier tier : values()) {
+      if (base.endsWith("_" + tier.suffix)) {
+        return base.substring(0, base.length() - tier.suffix.length() - 1);
+      }
+    }
+    return null;
+  }
+
+  public String variantUrl(String originalUrl) {
+    return (originalUrl != null) ? variantName(originalUrl, DEFAULT_FORMAT) : null;
+  }
+}
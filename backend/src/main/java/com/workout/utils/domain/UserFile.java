@@ -39,9 +39,12 @@ public class UserFile extends BaseEntity {
   @Column(name = "record_date") // 사진 기록 날짜
   private LocalDate recordDate;
 
-  @Column(name = "stored_file_name", nullable = false, unique = true)
+  @Column(name = "stored_file_name", nullable = false) // 같은 내용의 업로드는 하나의 물리 파일(FileBlob)을 공유
   private String storedFileName ;
 
+  @Column(name = "content_hash", length = 64) // SHA-256 (hex), 이전 업로드는 null
+  private String contentHash;
+
   @Column(name = "original_file_name")
   private String originalFileName;
 
@@ -55,11 +58,13 @@ public class UserFile extends BaseEntity {
   @Column(name = "purpose", nullable = false) // 이미지 용도 컬럼 추가
   private ImagePurpose purpose;
 
-  public static UserFile from(Member member, String storedFileName, String originalFileName,
-      Long fileSize, String fileType, ImagePurpose purpose, LocalDate recordDate) { // recordDate 파라미터 추가
+  public static UserFile from(Member member, String storedFileName, String contentHash,
+      String originalFileName, Long fileSize, String fileType, ImagePurpose purpose,
+      LocalDate recordDate) { // recordDate 파라미터 추가
     return UserFile.builder()
         .member(member)
         .storedFileName(storedFileName)
+        .contentHash(contentHash)
         .originalFileName(originalFileName)
         .fileSize(fileSize)
         .fileType(fileType)
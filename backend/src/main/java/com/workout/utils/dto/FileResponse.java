@@ -1,5 +1,7 @@
 package com.workout.utils.dto;
 
+import com.workout.utils.domain.ImagePurpose;
+import com.workout.utils.domain.ImageTier;
 import com.workout.utils.domain.UserFile;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
@@ -14,13 +16,17 @@ import lombok.Setter;
 public class FileResponse {
     private Long fileId;
     private String fileUrl;
+    private String thumbnailUrl;
     private String originalFileName;
     private LocalDate recordDate;
 
     public static FileResponse from(UserFile userFile) {
+        String fileUrl = "/images/" + userFile.getStoredFileName();
         return new FileResponse(
             userFile.getId(),
-            "/images/" + userFile.getStoredFileName(),
+            fileUrl,
+            userFile.getPurpose() == ImagePurpose.PROFILE ? null
+                : ImageTier.THUMBNAIL.variantUrl(fileUrl),
             userFile.getOriginalFileName(),
             userFile.getRecordDate()
         );
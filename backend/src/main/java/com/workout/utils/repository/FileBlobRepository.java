@@ -0,0 +1,47 @@
+package com.workout.utils.repository;
+
+import com.workout.utils.domain.FileBlob;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+  /**
+   * 같은 내용의 blob 이 없으면 새로 만들고(ref_count = 1), 있으면 참조 카운트만 올립니다.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO file_blob (content_hash, stored_file_name, file_size, ref_count) "
+      + "VALUES (:contentHash, :storedFileName, :fileSize, 1) "
+      + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+  int acquire(@Param("contentHash") String contentHash,
+      @Param("storedFileName") String storedFileName, @Param("fileSize") long fileSize);
+
+  @Query("SELECT b.storedFileName FROM FileBlob b WHERE b.contentHash = :contentHash")
+  Optional<String> findStoredFileNameByContentHash(@Param("contentHash") String contentHash);
+
+  @Query("SELECT b.id FROM FileBlob b WHERE b.storedFileName = :storedFileName")
+  Optional<Long> findIdByStoredFileName(@Param("storedFileName") String storedFileName);
+
+  @Query("SELECT b.storedFileName FROM FileBlob b WHERE b.storedFileName IN :storedFileNames")
+  List<String> findStoredFileNamesIn(
+      @Param("storedFileNames") Collection<String> storedFileNames);
+
+  @Modifying
+  @Query(value = "UPDATE file_blob SET ref_count = ref_count - 1 WHERE id = :id AND ref_count > 0",
+      nativeQuery = true)
+  int release(@Param("id") Long id);
+
+  /**
+   * 더 이상 참조되지 않는 blob 행을 삭제합니다. 삭제되었으면 1 을 반환하며, 이때만 물리 파일을 지웁니다.
+   */
+  @Modifying
+  @Query(value = "DELETE FROM file_blob WHERE id = :id AND ref_count = 0", nativeQuery = true)
+  int deleteIfUnreferenced(@Param("id") Long id);
+}
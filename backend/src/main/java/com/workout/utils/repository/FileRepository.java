@@ -3,10 +3,14 @@ package com.workout.utils.repository;
 import com.workout.utils.domain.ImagePurpose;
 import com.workout.utils.domain.UserFile;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +23,21 @@ public interface FileRepository extends JpaRepository<UserFile, Long> {
   Page<UserFile> findByMemberIdAndPurposeAndRecordDateBetweenOrderByRecordDateDesc(
       Long memberId, ImagePurpose purpose, LocalDate startDate, LocalDate endDate, Pageable pageable
   );
+
+  @Query("SELECT f.storedFileName FROM UserFile f WHERE f.storedFileName IN :storedFileNames")
+  List<String> findStoredFileNamesIn(
+      @Param("storedFileNames") Collection<String> storedFileNames);
+
+  /**
+   * 회원이 같은 저장 파일로 올린 업로드 행 하나만 삭제합니다(blob 참조 하나에 대응). 삭제되었으면 1 을 반환하며, 이때만 참조를 해제합니다.
+   */
+  @Modifying
+  @Query(value = "DELETE FROM user_file WHERE member_id = :memberId "
+      + "AND stored_file_name = :storedFileName LIMIT 1", nativeQuery = true)
+  int deleteOneByMemberIdAndStoredFileName(@Param("memberId") Long memberId,
+      @Param("storedFileName") String storedFileName);
+
+  @Modifying
+  @Query(value = "DELETE FROM user_file WHERE id = :id", nativeQuery = true)
+  int deleteOneById(@Param("id") Long id);
 }
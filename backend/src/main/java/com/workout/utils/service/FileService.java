@@ -4,23 +4,46 @@ import com.workout.global.exception.RestApiException;
 import com.workout.global.exception.errorcode.FileErrorCode;
 import com.workout.member.domain.Member;
 import com.workout.utils.domain.ImagePurpose;
+import com.workout.utils.domain.ImageTier;
 import com.workout.utils.domain.UserFile;
 import com.workout.utils.dto.FileResponse;
+import com.workout.utils.repository.FileBlobRepository;
 import com.workout.utils.repository.FileRepository;
+import com.workout.utils.storage.BlobStore;
 import jakarta.annotation.PostConstruct;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,15 +52,32 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileService {
 
   private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final String IMAGE_URL_PREFIX = "/images/";
+  static final String STAGING_DIR = ".staging";
+  public static final List<String> ALLOWED_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif", "webp");
   private final FileRepository fileRepository;
+  private final FileBlobRepository fileBlobRepository;
+  private final ImageVariantService imageVariantService;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor fileIoExecutor;
+  private final BlobStore blobStore;
 
   @Value("${upload.local.dir}")
   private String uploadDir;
   @Value("${default.profile.image.url}")
   private String defaultProfileImageUrl;
 
-  public FileService(FileRepository fileRepository) {
+  public FileService(FileRepository fileRepository, FileBlobRepository fileBlobRepository,
+      ImageVariantService imageVariantService, TransactionTemplate transactionTemplate,
+      @Qualifier("fileCleanupExecutor") ThreadPoolTaskExecutor fileIoExecutor,
+      BlobStore blobStore) {
     this.fileRepository = fileRepository;
+    this.fileBlobRepository = fileBlobRepository;
+    this.imageVariantService = imageVariantService;
+    this.transactionTemplate = transactionTemplate;
+    this.fileIoExecutor = fileIoExecutor;
+    this.blobStore = blobStore;
   }
 
   private static String getExtension(String fileName) {
@@ -51,7 +91,7 @@ public class FileService {
 
   @PostConstruct
   public void init() {
-    File directory = new File(uploadDir);
+    File directory = new File(uploadDir, STAGING_DIR);
     if (!directory.exists()) {
       boolean created = directory.mkdirs();
       if (created) {
@@ -62,73 +102,159 @@ public class FileService {
     }
   }
 
-  @Transactional
   public List<FileResponse> uploadBodyImages(final MultipartFile[] files, final LocalDate dates,
       Member member) {
     if (files == null || files.length == 0) {
       throw new RestApiException(FileErrorCode.INVALID_FILE_NAME);
     }
-    List<UserFile> userFilesToSave = new java.util.ArrayList<>();
-    for (int i = 0; i < files.length; i++) {
-      userFilesToSave.add(storeAndCreateUserFile(files[i], member, ImagePurpose.BODY, dates));
+    List<StagedFile> stagedFiles = new ArrayList<>();
+    try {
+      for (MultipartFile file : files) {
+        stagedFiles.add(stage(file, ImagePurpose.BODY));
+      }
+    } catch (RuntimeException e) {
+      stagedFiles.forEach(this::discard);
+      throw e;
     }
 
-    List<UserFile> savedFiles = fileRepository.saveAll(userFilesToSave);
+    List<UserFile> savedFiles = commitStaged(stagedFiles, status -> stagedFiles.stream()
+        .map(staged -> register(staged, member, dates))
+        .toList());
 
     return savedFiles.stream()
         .map(FileResponse::from)
         .collect(Collectors.toList());
   }
 
-  @Transactional
-  public FileResponse uploadFeedImages(final MultipartFile file, Member member) {
-    if (file == null) {
+  public FileResponse uploadProfileImage(MultipartFile file, Member member) {
+    if (member == null) {
       throw new RestApiException(FileErrorCode.INVALID_FILE_NAME);
     }
-    UserFile userFileToSave = storeAndCreateUserFile(file, member, ImagePurpose.FEED, null);
-
-    UserFile savedFile = fileRepository.save(userFileToSave);
+    StagedFile staged = stage(file, ImagePurpose.PROFILE);
 
-    return FileResponse.from(savedFile);
+    UserFile newProfileImage = commitStaged(List.of(staged), status -> {
+      // 기존 프로필 이미지 처리 (물리 파일은 커밋 후 삭제)
+      String oldFileUri = member.getProfileImageUri();
+      if (StringUtils.hasText(oldFileUri) && !oldFileUri.equals(defaultProfileImageUrl)) {
+        releaseOwnedFile(member.getId(), oldFileUri);
+      }
+      UserFile registered = register(staged, member, null);
+      member.setProfileImageUri(registered.getStoredFileName());
+      return registered;
+    });
+    return FileResponse.from(newProfileImage);
   }
 
-  @Transactional
-  public FileResponse uploadProfileImage(MultipartFile file, Member member) {
-    // 기존 프로필 이미지 처리
-    if (member == null) {
+  /**
+   * 업로드 스트림을 한 번만 읽으면서 스테이징 디렉토리에 쓰고 SHA-256 을 함께 계산합니다. 트랜잭션 밖에서 호출해야 합니다.
+   */
+  public StagedFile stage(MultipartFile file, ImagePurpose purpose) {
+    if (file == null) {
       throw new RestApiException(FileErrorCode.INVALID_FILE_NAME);
     }
+    validateFile(file);
 
-    String oldFileUri = member.getProfileImageUri();
-    if (StringUtils.hasText(oldFileUri) && !oldFileUri.equals(defaultProfileImageUrl)) {
-      deletePhysicalFile(oldFileUri);
+    String originalName = file.getOriginalFilename();
+    String stagedName = convertFileName(originalName);
+    Path dest = getStagingPath(stagedName);
+
+    String contentHash;
+    long written;
+    try (InputStream in = file.getInputStream();
+        ReadableByteChannel source = Channels.newChannel(in);
+        FileChannel target = FileChannel.open(dest, StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE)) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+      written = 0;
+      while (source.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer.array(), 0, buffer.limit());
+        while (buffer.hasRemaining()) {
+          written += target.write(buffer);
+        }
+        buffer.clear();
+      }
+      contentHash = HexFormat.of().formatHex(digest.digest());
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.error("Failed to stage file: {}", dest, e);
+      deleteQuietly(dest);
+      throw new RestApiException(FileErrorCode.FILE_STORAGE_FAILED);
     }
 
-    UserFile newProfileImage = storeAndCreateUserFile(file, member, ImagePurpose.PROFILE, null);
-    member.setProfileImageUri(newProfileImage.getStoredFileName());
-    fileRepository.save(newProfileImage);
-    return FileResponse.from(newProfileImage);
+    return new StagedFile(stagedName, contentHash, written, originalName, file.getContentType(),
+        purpose);
   }
 
-  private UserFile storeAndCreateUserFile(MultipartFile file, Member member, ImagePurpose purpose,
-      LocalDate recordDate) {
-    validateFile(file);
-
-    String originalName = file.getOriginalFilename();
-    String storedName = convertFileName(originalName);
-    String fullPath = getFullPath(storedName);
+  /**
+   * 스테이징된 파일의 DB 반영({@code dbWork})을 짧은 트랜잭션으로 실행합니다. 커밋되면 파일을 최종 위치로 옮기고, 실패하면
+   * 스테이징 파일을 지운 뒤 예외를 그대로 던집니다.
+   * <p>
+   * 파일 I/O 는 모두 트랜잭션 밖에서 일어나므로 DB 커넥션을 잡은 채 디스크를 기다리지 않습니다. 커밋 직후 프로세스가 죽어 옮기지 못한
+   * 파일은 {@link OrphanFileSweeper}가 복구합니다.
+   */
+  public <T> T commitStaged(List<StagedFile> stagedFiles, TransactionCallback<T> dbWork) {
+    T result;
+    try {
+      result = transactionTemplate.execute(dbWork);
+    } catch (RuntimeException e) {
+      stagedFiles.forEach(this::discard);
+      throw e;
+    }
+    stagedFiles.forEach(this::promote);
+    return result;
+  }
 
-    storeFile(fullPath, file);
+  /**
+   * {@link #commitStaged}의 트랜잭션 안에서 호출합니다. blob 참조를 얻고 {@link UserFile}을 저장합니다.
+   */
+  public UserFile register(StagedFile staged, Member member, LocalDate recordDate) {
+    fileBlobRepository.acquire(staged.getContentHash(), staged.getStagedFileName(),
+        staged.getFileSize());
+    String blobFileName = fileBlobRepository.findStoredFileNameByContentHash(
+            staged.getContentHash())
+        .orElseThrow(() -> new RestApiException(FileErrorCode.FILE_STORAGE_FAILED));
+    if (!blobFileName.equals(staged.getStagedFileName())) {
+      staged.reuse(blobFileName);
+    }
 
-    return UserFile.from(
+    return fileRepository.save(UserFile.from(
         member,
-        storedName,
-        originalName,
-        file.getSize(),
-        file.getContentType(),
-        purpose,
+        staged.getStoredFileName(),
+        staged.getContentHash(),
+        staged.getOriginalFileName(),
+        staged.getFileSize(),
+        staged.getContentType(),
+        staged.getPurpose(),
         recordDate
-    );
+    ));
+  }
+
+  private void promote(StagedFile staged) {
+    Path stagingPath = getStagingPath(staged.getStagedFileName());
+    if (staged.isDuplicate()) {
+      deleteQuietly(stagingPath);
+      log.info("Duplicate upload, reusing stored file: {}", staged.getStoredFileName());
+    } else {
+      try {
+        blobStore.putFile(staged.getStoredFileName(), stagingPath, staged.getContentType());
+        log.info("File stored: {}", staged.getStoredFileName());
+      } catch (IOException e) {
+        // DB 에는 이미 반영되었으므로 스테이징 파일을 남겨 두고 정리 작업에서 다시 옮김
+        log.error("Failed to promote staged file: {}", stagingPath, e);
+        return;
+      }
+    }
+
+    ImagePurpose purpose = staged.getPurpose();
+    if ((purpose == ImagePurpose.FEED || purpose == ImagePurpose.BODY)
+        && (!staged.isDuplicate() || !hasVariants(staged.getStoredFileName()))) {
+      imageVariantService.generateAfterCommit(staged.getStoredFileName());
+    }
+  }
+
+  private void discard(StagedFile staged) {
+    deleteQuietly(getStagingPath(staged.getStagedFileName()));
   }
 
   // 파일 조회
@@ -177,34 +303,22 @@ public class FileService {
   }
 
   private boolean isValidImage(String ext, String contentType) {
-    List<String> allowedExts = List.of("jpg", "jpeg", "png", "gif", "webp");
     List<String> allowedMimeTypes = List.of("image/jpeg", "image/png", "image/gif", "image/webp");
 
-    return allowedExts.contains(ext) && allowedMimeTypes.contains(contentType);
+    return ALLOWED_EXTENSIONS.contains(ext) && allowedMimeTypes.contains(contentType);
   }
 
-  public String getFullPath(String storedName) {
-    return uploadDir + File.separator + storedName;
+  Path getStagingPath(String stagedFileName) {
+    return Paths.get(uploadDir, STAGING_DIR, stagedFileName);
   }
 
-  public void storeFile(String fullPath, MultipartFile file) {
-    File dest = new File(fullPath);
-
-    if (!dest.getParentFile().exists()) {
-      boolean created = dest.getParentFile().mkdirs();
-      if (!created) {
-        log.error("Failed to create directory: {}", dest.getParentFile().getAbsolutePath());
-        throw new RestApiException(FileErrorCode.FILE_STORAGE_FAILED);
-      }
-    }
-
+  private boolean hasVariants(String storedFileName) {
     try {
-      file.transferTo(dest);
+      return blobStore.exists(
+          ImageTier.THUMBNAIL.variantName(storedFileName, ImageTier.DEFAULT_FORMAT));
     } catch (IOException e) {
-      throw new RuntimeException(e);
+      return false;
     }
-    log.info("File stored: {}", fullPath);
-
   }
 
   @Transactional
@@ -216,34 +330,81 @@ public class FileService {
       throw new RestApiException(FileErrorCode.NOT_AUTHORITY);
     }
 
-    fileRepository.delete(userFile);
-    deletePhysicalFile(userFile.getStoredFileName());
+    // 피드 삭제 등으로 이미 지워진 행이면 참조도 이미 해제되었으므로 다시 해제하지 않음
+    if (fileRepository.deleteOneById(fileId) == 0) {
+      return;
+    }
+    releaseFile(userFile.getStoredFileName());
   }
 
-  public void deleteProfileImageFile(String storedFileName) {
-    // 내부적으로 사용하는 물리적 파일 삭제 메소드를 호출합니다.
-    deletePhysicalFile(storedFileName);
+  @Transactional
+  public void deleteProfileImageFile(Long memberId, String storedFileName) {
+    releaseOwnedFile(memberId, storedFileName);
   }
 
-  public void deletePhysicalFile(String storedFileName) {
-    try {
-      String fullPath = getFullPath(storedFileName);
-      File file = new File(fullPath);
-      if (file.exists()) {
-        if (!file.delete()) {
-          throw new RestApiException(FileErrorCode.FILE_DELETION_FAILED);
-        } else {
-          log.info("Physical file deleted: {}", fullPath);
-        }
-      } else {
-        log.warn("Physical file not found for deletion: {}", fullPath);
+  /**
+   * 회원이 소유한 업로드 행 하나를 같은 트랜잭션에서 지우고, 실제로 지워졌을 때만 파일 참조를 해제합니다. 같은 업로드가 두 경로(피드 삭제,
+   * 파일 삭제)로 지워져도 참조는 한 번만 해제됩니다.
+   *
+   * @param fileUri 저장 파일 이름 또는 {@code /images/}로 시작하는 이미지 URL
+   */
+  @Transactional
+  public void releaseOwnedFile(Long memberId, String fileUri) {
+    String storedFileName = toStoredFileName(fileUri);
+    if (fileRepository.deleteOneByMemberIdAndStoredFileName(memberId, storedFileName) == 0) {
+      log.info("No upload owned by member {} for {}, skipping release", memberId, storedFileName);
+      return;
+    }
+    releaseFile(storedFileName);
+  }
+
+  /**
+   * 파일 참조를 하나 해제합니다. 더 이상 참조하는 업로드가 없으면 물리 파일과 축소본을 트랜잭션 커밋 후 별도 스레드에서 삭제하므로, 롤백되면
+   * 파일은 그대로 남습니다. 업로드 행을 지운 호출자만 사용해야 합니다.
+   */
+  private void releaseFile(String storedFileName) {
+    Optional<Long> blobId = fileBlobRepository.findIdByStoredFileName(storedFileName);
+    if (blobId.isPresent()) {
+      fileBlobRepository.release(blobId.get());
+      if (fileBlobRepository.deleteIfUnreferenced(blobId.get()) == 0) {
+        log.info("File still referenced, keeping: {}", storedFileName);
+        return;
+      }
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        fileIoExecutor.execute(() -> deletePhysicalFile(storedFileName));
       }
+    });
+  }
+
+  void deletePhysicalFile(String storedFileName) {
+    try {
+      blobStore.delete(storedFileName);
+      imageVariantService.deleteVariants(storedFileName);
+      log.info("Physical file deleted: {}", storedFileName);
     } catch (Exception e) {
       log.error("Error deleting physical file: {}", storedFileName, e);
     }
   }
 
+  private static String toStoredFileName(String fileUri) {
+    return fileUri.startsWith(IMAGE_URL_PREFIX) ? fileUri.substring(IMAGE_URL_PREFIX.length())
+        : fileUri;
+  }
+
+  static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete file: {}", path);
+    }
+  }
+
   public String getDefaultProfileImageUrl() {
     return defaultProfileImageUrl;
   }
+
 }
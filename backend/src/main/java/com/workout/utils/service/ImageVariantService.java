@@ -0,0 +1,222 @@
+package com.workout.utils.service;
+
+import com.workout.utils.domain.ImageTier;
+import com.workout.utils.storage.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업로드된 원본 이미지로부터 {@link ImageTier}별 축소본을 생성합니다.
+ * <p>
+ * 요청 트랜잭션이 커밋된 뒤 전용 스레드 풀에서 실행되며, 원본은 {@link BlobStore}에서 읽고 축소본은 로컬 임시 파일로 인코딩한 뒤
+ * 저장소로 옮기므로 완성된 파일만 노출됩니다. 풀의 큐가 가득 차면 요청 스레드에서 만들지 않고 건너뜁니다.
+ * ({@code image.variants.rejected})
+ * {@code image.variants.webp}가 켜져 있고 런타임에 WebP ImageIO 플러그인이 있으면 같은 이름의 {@code .webp} 파일도 함께
+ * 생성합니다.
+ * <p>
+ * 업로드 용량 제한(5MB)은 픽셀 수를 제한하지 못하므로(압축률이 높은 PNG 등), 디코딩 전에 헤더의 가로/세로만 읽어
+ * {@code image.variants.max-pixels}를 넘는 이미지는 건너뜁니다. 축소본이 없는 이미지의 축소본 URL 은
+ * {@code ImageController}가 원본으로 리다이렉트합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+  private static final float JPEG_QUALITY = 0.8f;
+  private static final String WEBP_FORMAT = "webp";
+
+  private final ThreadPoolTaskExecutor executor;
+  private final Timer generateTimer;
+  private final Counter rejectedCounter;
+  private final BlobStore blobStore;
+  private final boolean webpEnabled;
+  private final long maxPixels;
+
+  public ImageVariantService(
+      @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor executor,
+      MeterRegistry meterRegistry, BlobStore blobStore,
+      @Value("${image.variants.webp:false}") boolean webpEnabled,
+      @Value("${image.variants.max-pixels:40000000}") long maxPixels) {
+    this.executor = executor;
+    this.blobStore = blobStore;
+    this.maxPixels = maxPixels;
+    this.webpEnabled = webpEnabled && ImageIO.getImageWritersByFormatName(WEBP_FORMAT).hasNext();
+    this.generateTimer = Timer.builder("image.variants.generate")
+        .description("원본 1장당 축소본 생성 소요 시간")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("image.variants.rejected")
+        .description("작업 큐가 가득 차 축소본 생성을 건너뛴 원본 수")
+        .register(meterRegistry);
+    if (webpEnabled && !this.webpEnabled) {
+      log.warn("WebP 변환이 설정되었지만 WebP ImageIO writer 가 없어 JPEG 축소본만 생성합니다.");
+    }
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 축소본 생성을 예약합니다. 트랜잭션 밖에서는 바로 예약합니다.
+   */
+  public void generateAfterCommit(String storedFileName) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(storedFileName);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        submit(storedFileName);
+      }
+    });
+  }
+
+  /**
+   * 원본과 함께 축소본을 삭제합니다. 없는 파일은 무시합니다.
+   */
+  public void deleteVariants(String storedFileName) {
+    for (ImageTier tier : ImageTier.values()) {
+      deleteQuietly(tier.variantName(storedFileName, ImageTier.DEFAULT_FORMAT));
+      deleteQuietly(tier.variantName(storedFileName, WEBP_FORMAT));
+    }
+  }
+
+  private void submit(String storedFileName) {
+    try {
+      executor.execute(() -> generateTimer.record(() -> generate(storedFileName)));
+    } catch (TaskRejectedException e) {
+      // 축소본이 없으면 ImageController 가 원본으로 리다이렉트
+      rejectedCounter.increment();
+      log.warn("Image variant queue is full, skipping variants: {}", storedFileName);
+    }
+  }
+
+  void generate(String storedFileName) {
+    try {
+      BufferedImage source = read(storedFileName);
+      if (source == null) {
+        return;
+      }
+      for (ImageTier tier : ImageTier.values()) {
+        BufferedImage scaled = scale(source, tier.getMaxSize());
+        write(scaled, ImageTier.DEFAULT_FORMAT,
+            tier.variantName(storedFileName, ImageTier.DEFAULT_FORMAT));
+        if (webpEnabled) {
+          write(scaled, WEBP_FORMAT, tier.variantName(storedFileName, WEBP_FORMAT));
+        }
+      }
+      log.info("Image variants generated: {}", storedFileName);
+    } catch (IOException e) {
+      // 축소본이 없으면 클라이언트는 원본 URL 을 사용
+      log.error("Failed to generate image variants: {}", storedFileName, e);
+    }
+  }
+
+  /**
+   * 헤더에서 가로/세로를 먼저 확인하고, 픽셀 수가 제한 이내일 때만 디코딩합니다. 지원하지 않거나 너무 큰 이미지는 {@code null}.
+   */
+  private BufferedImage read(String storedFileName) throws IOException {
+    try (InputStream in = blobStore.get(storedFileName);
+        ImageInputStream input = ImageIO.createImageInputStream(in)) {
+      Iterator<ImageReader> readers = (input != null) ? ImageIO.getImageReaders(input) : null;
+      if (readers == null || !readers.hasNext()) {
+        log.warn("Unsupported image, skipping variants: {}", storedFileName);
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > maxPixels) {
+          log.warn("Image too large ({} px), skipping variants: {}", pixels, storedFileName);
+          return null;
+        }
+        return reader.read(0, reader.getDefaultReadParam());
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * 긴 변이 {@code maxSize}를 넘지 않도록 비율을 유지하여 축소합니다. 투명 영역은 흰색으로 채웁니다.
+   */
+  private static BufferedImage scale(BufferedImage source, int maxSize) {
+    double ratio = Math.min(1.0,
+        (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private void write(BufferedImage image, String format, String key) throws IOException {
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+    if (!writers.hasNext()) {
+      throw new IOException("No ImageIO writer for format: " + format);
+    }
+    ImageWriter writer = writers.next();
+    Path temp = Files.createTempFile(".variant-", ".tmp");
+    try {
+      try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+        writer.setOutput(output);
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+          param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+          if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+            param.setCompressionType(param.getCompressionTypes()[0]);
+          }
+          param.setCompressionQuality(JPEG_QUALITY);
+        }
+        writer.write(null, new IIOImage(image, null, null), param);
+      }
+      blobStore.putFile(key, temp,
+          ImageTier.DEFAULT_FORMAT.equals(format) ? "image/jpeg" : "image/" + format);
+    } finally {
+      writer.dispose();
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void deleteQuietly(String key) {
+    try {
+      blobStore.delete(key);
+    } catch (IOException e) {
+      log.warn("Failed to delete image variant: {}", key);
+    }
+  }
+}
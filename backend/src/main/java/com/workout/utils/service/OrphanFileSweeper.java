@@ -0,0 +1,157 @@
+package com.workout.utils.service;
+
+import com.workout.utils.repository.FileBlobRepository;
+import com.workout.utils.repository.FileRepository;
+import com.workout.utils.storage.BlobStore;
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 흐름이 중간에 끊겨 남은 파일을 주기적으로 정리합니다.
+ * <p>
+ * <ul>
+ *   <li>스테이징 파일: blob 이 이미 커밋되었으면(확정 직전 중단) 최종 위치로 옮기고, 아니면(롤백/중단) 삭제합니다.</li>
+ *   <li>{@link BlobStore}의 파일: {@code user_file}과 {@code file_blob} 어디에서도 참조하지 않으면(커밋 후 삭제 작업 유실) 축소본과
+ *   함께 삭제합니다.</li>
+ * </ul>
+ * 진행 중인 업로드를 건드리지 않도록 {@code upload.sweeper.grace}보다 오래된 파일만 대상으로 하며, 저장 파일 이름 형식({@code UUID.확장자})이
+ * 아닌 파일(축소본, 기본 프로필 이미지 등)은 무시합니다.
+ */
+@Slf4j
+@Component
+public class OrphanFileSweeper {
+
+  private static final Pattern STORED_FILE_NAME = Pattern.compile(
+      "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.[a-z0-9]+$");
+  private static final int BATCH_SIZE = 500;
+
+  private final FileService fileService;
+  private final FileRepository fileRepository;
+  private final FileBlobRepository fileBlobRepository;
+  private final ImageVariantService imageVariantService;
+  private final BlobStore blobStore;
+  private final String uploadDir;
+  private final Duration grace;
+
+  public OrphanFileSweeper(FileService fileService, FileRepository fileRepository,
+      FileBlobRepository fileBlobRepository, ImageVariantService imageVariantService,
+      BlobStore blobStore, @Value("${upload.local.dir}") String uploadDir,
+      @Value("${upload.sweeper.grace:1h}") Duration grace) {
+    this.fileService = fileService;
+    this.fileRepository = fileRepository;
+    this.fileBlobRepository = fileBlobRepository;
+    this.imageVariantService = imageVariantService;
+    this.blobStore = blobStore;
+    this.uploadDir = uploadDir;
+    this.grace = grace;
+  }
+
+  @Scheduled(fixedDelayString = "${upload.sweeper.interval-ms:3600000}")
+  public void sweep() {
+    Instant cutoff = Instant.now().minus(grace);
+    try {
+      sweepStaging(cutoff);
+      sweepUnreferenced(cutoff);
+    } catch (IOException e) {
+      log.error("Orphan file sweep failed.", e);
+    }
+  }
+
+  private void sweepStaging(Instant cutoff) throws IOException {
+    List<String> names = listStagedFiles(Paths.get(uploadDir, FileService.STAGING_DIR), cutoff);
+    int promoted = 0;
+    int deleted = 0;
+    for (List<String> batch : partition(names)) {
+      Set<String> committed = new HashSet<>(fileBlobRepository.findStoredFileNamesIn(batch));
+      for (String name : batch) {
+        Path staged = fileService.getStagingPath(name);
+        if (committed.contains(name) && !blobStore.exists(name)) {
+          try {
+            blobStore.putFile(name, staged, URLConnection.guessContentTypeFromName(name));
+            promoted++;
+          } catch (IOException e) {
+            log.warn("Failed to promote staged file: {}", staged, e);
+          }
+        } else {
+          FileService.deleteQuietly(staged);
+          deleted++;
+        }
+      }
+    }
+    if (promoted + deleted > 0) {
+      log.info("Swept staging directory. promoted: {}, deleted: {}", promoted, deleted);
+    }
+  }
+
+  private void sweepUnreferenced(Instant cutoff) throws IOException {
+    List<String> names = new ArrayList<>();
+    blobStore.forEach(blob -> {
+      if (isStoredFileName(blob.key()) && blob.lastModified().isBefore(cutoff)) {
+        names.add(blob.key());
+      }
+    });
+    int deleted = 0;
+    for (List<String> batch : partition(names)) {
+      Set<String> referenced = new HashSet<>(fileRepository.findStoredFileNamesIn(batch));
+      referenced.addAll(fileBlobRepository.findStoredFileNamesIn(batch));
+      for (String name : batch) {
+        if (!referenced.contains(name)) {
+          blobStore.delete(name);
+          imageVariantService.deleteVariants(name);
+          deleted++;
+        }
+      }
+    }
+    if (deleted > 0) {
+      log.info("Deleted {} unreferenced files.", deleted);
+    }
+  }
+
+  private static List<String> listStagedFiles(Path directory, Instant cutoff) throws IOException {
+    if (Files.notExists(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(Files::isRegularFile)
+          .filter(path -> isStoredFileName(path.getFileName().toString()))
+          .filter(path -> isOlderThan(path, cutoff))
+          .map(path -> path.getFileName().toString())
+          .toList();
+    }
+  }
+
+  private static boolean isStoredFileName(String name) {
+    return STORED_FILE_NAME.matcher(name).matches();
+  }
+
+  private static boolean isOlderThan(Path path, Instant cutoff) {
+    try {
+      return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static List<List<String>> partition(List<String> names) {
+    List<List<String>> batches = new ArrayList<>();
+    for (int from = 0; from < names.size(); from += BATCH_SIZE) {
+      batches.add(names.subList(from, Math.min(from + BATCH_SIZE, names.size())));
+    }
+    return batches;
+  }
+}
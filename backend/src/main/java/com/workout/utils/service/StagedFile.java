@@ -0,0 +1,41 @@
+package com.workout.utils.service;
+
+import com.workout.utils.domain.ImagePurpose;
+import lombok.Getter;
+
+/**
+ * 트랜잭션 밖에서 스테이징 디렉토리에 저장된 업로드.
+ * <p>
+ * {@link FileService#commitStaged}가 DB 반영 결과에 따라 최종 위치로 옮기거나(확정) 지웁니다. 같은 내용의 blob 이 이미 있으면
+ * 등록 시 기존 파일 이름으로 바뀌고, 스테이징 파일은 확정 대신 삭제됩니다.
+ */
+@Getter
+public final class StagedFile {
+
+  private final String stagedFileName;
+  private final String contentHash;
+  private final long fileSize;
+  private final String originalFileName;
+  private final String contentType;
+  private final ImagePurpose purpose;
+  private String storedFileName;
+
+  StagedFile(String stagedFileName, String contentHash, long fileSize, String originalFileName,
+      String contentType, ImagePurpose purpose) {
+    this.stagedFileName = stagedFileName;
+    this.contentHash = contentHash;
+    this.fileSize = fileSize;
+    this.originalFileName = originalFileName;
+    this.contentType = contentType;
+    this.purpose = purpose;
+    this.storedFileName = stagedFileName;
+  }
+
+  void reuse(String existingFileName) {
+    this.storedFileName = existingFileName;
+  }
+
+  public boolean isDuplicate() {
+    return !storedFileName.equals(stagedFileName);
+  }
+}
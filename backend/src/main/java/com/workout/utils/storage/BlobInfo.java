@@ -0,0 +1,7 @@
+package com.workout.utils.storage;
+
+import java.time.Instant;
+
+public record BlobInfo(String key, long size, Instant lastModified) {
+
+}
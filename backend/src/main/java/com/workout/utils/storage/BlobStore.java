@@ -0,0 +1,56 @@
+package com.workout.utils.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 원본과 축소본을 보관하는 저장소. 키는 저장 파일 이름({@code UUID.확장자}, 축소본은 {@code UUID_thumb.jpg})입니다.
+ * <p>
+ * {@code storage.type}에 따라 로컬 디렉토리({@link LocalBlobStore}) 또는 S3 호환 저장소({@link S3BlobStore})가 사용됩니다. 없는
+ * 키를 읽으면 {@link java.nio.file.NoSuchFileException}을 던집니다.
+ */
+public interface BlobStore {
+
+  /**
+   * 스트림을 버퍼링하지 않고 그대로 저장합니다. 같은 키가 있으면 덮어씁니다.
+   */
+  void put(String key, InputStream content, long length, String contentType) throws IOException;
+
+  /**
+   * 로컬 파일(스테이징 파일, 임시 파일)을 저장소로 옮깁니다. 성공하면 원본 파일은 삭제됩니다.
+   */
+  void putFile(String key, Path source, String contentType) throws IOException;
+
+  InputStream get(String key) throws IOException;
+
+  /**
+   * {@code start}부터 {@code end}(포함)까지의 구간만 읽습니다.
+   */
+  InputStream getRange(String key, long start, long end) throws IOException;
+
+  Optional<BlobInfo> stat(String key) throws IOException;
+
+  default boolean exists(String key) throws IOException {
+    return stat(key).isPresent();
+  }
+
+  /**
+   * 없는 키는 무시합니다.
+   */
+  void delete(String key) throws IOException;
+
+  /**
+   * 클라이언트가 앱 서버를 거치지 않고 직접 받을 수 있는 서명된 URL. 지원하지 않는 저장소는 빈 값을 반환합니다.
+   */
+  Optional<URI> presignedGetUrl(String key, Duration ttl);
+
+  /**
+   * 저장된 모든 객체를 순회합니다. (고아 파일 정리용)
+   */
+  void forEach(Consumer<BlobInfo> consumer) throws IOException;
+}
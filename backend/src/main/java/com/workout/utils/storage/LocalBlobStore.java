@@ -0,0 +1,162 @@
+package com.workout.utils.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code upload.local.dir}에 파일로 저장하는 단일 호스트용 저장소. 파일은 nginx 가 같은 볼륨에서 직접 서빙합니다.
+ * <p>
+ * 쓰기는 같은 디렉토리의 임시 파일에 쓴 뒤 이동하므로, 읽는 쪽은 완성된 파일만 봅니다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+  private final Path root;
+
+  public LocalBlobStore(@Value("${upload.local.dir}") String uploadDir) {
+    this.root = Paths.get(uploadDir).normalize();
+  }
+
+  @Override
+  public void put(String key, InputStream content, long length, String contentType)
+      throws IOException {
+    Path target = resolve(key);
+    Path temp = Files.createTempFile(root, ".blob-", ".tmp");
+    try {
+      Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  @Override
+  public void putFile(String key, Path source, String contentType) throws IOException {
+    Path target = resolve(key);
+    try {
+      moveAtomically(source, target);
+    } catch (AtomicMoveNotSupportedException e) {
+      // 다른 파일 시스템의 임시 파일이면 복사 후 이동
+      try (InputStream in = Files.newInputStream(source)) {
+        put(key, in, Files.size(source), contentType);
+      }
+      Files.delete(source);
+    }
+  }
+
+  void moveAtomically(Path source, Path target) throws IOException {
+    Files.move(source, target, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public InputStream get(String key) throws IOException {
+    return Files.newInputStream(resolve(key));
+  }
+
+  @Override
+  public InputStream getRange(String key, long start, long end) throws IOException {
+    FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+    channel.position(start);
+    return new RangeInputStream(Channels.newInputStream(channel), end - start + 1);
+  }
+
+  @Override
+  public Optional<BlobInfo> stat(String key) throws IOException {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(resolve(key),
+          BasicFileAttributes.class);
+      return Optional.of(new BlobInfo(key, attributes.size(),
+          attributes.lastModifiedTime().toInstant()));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void delete(String key) throws IOException {
+    Files.deleteIfExists(resolve(key));
+  }
+
+  @Override
+  public Optional<URI> presignedGetUrl(String key, Duration ttl) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void forEach(Consumer<BlobInfo> consumer) throws IOException {
+    try (Stream<Path> files = Files.list(root)) {
+      for (Path path : (Iterable<Path>) files::iterator) {
+        if (Files.isRegularFile(path)) {
+          stat(path.getFileName().toString()).ifPresent(consumer);
+        }
+      }
+    }
+  }
+
+  /**
+   * 키가 디렉토리 밖을 가리키지 않도록 파일 이름 부분만 사용합니다.
+   */
+  private Path resolve(String key) {
+    Path path = root.resolve(key).normalize();
+    if (!root.equals(path.getParent())) {
+      throw new IllegalArgumentException("Invalid blob key: " + key);
+    }
+    return path;
+  }
+
+  private static final class RangeInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    private RangeInputStream(InputStream in, long length) {
+      super(in);
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int b = super.read();
+      if (b != -1) {
+        remaining--;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int read = super.read(b, off, (int) Math.min(len, remaining));
+      if (read > 0) {
+        remaining -= read;
+      }
+      return read;
+    }
+  }
+}
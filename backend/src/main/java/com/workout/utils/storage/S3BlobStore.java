@@ -0,0 +1,140 @@
+package com.workout.utils.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+/**
+ * S3 API 호환 저장소(AWS S3, MinIO 등). 여러 앱 노드가 디스크를 공유하지 않고 같은 버킷을 사용합니다.
+ * <p>
+ * SDK 예외는 {@link IOException}으로 감싸며, 없는 키는 로컬 저장소와 같이 {@link NoSuchFileException}으로 알립니다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+  private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final String bucket;
+
+  public S3BlobStore(S3Client s3Client, S3Presigner s3Presigner,
+      @Value("${storage.s3.bucket}") String bucket) {
+    this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.bucket = bucket;
+  }
+
+  @Override
+  public void put(String key, InputStream content, long length, String contentType)
+      throws IOException {
+    try {
+      s3Client.putObject(putRequest(key, contentType),
+          RequestBody.fromInputStream(content, length));
+    } catch (SdkException e) {
+      throw new IOException("Failed to put blob: " + key, e);
+    }
+  }
+
+  @Override
+  public void putFile(String key, Path source, String contentType) throws IOException {
+    try {
+      s3Client.putObject(putRequest(key, contentType), RequestBody.fromFile(source));
+    } catch (SdkException e) {
+      throw new IOException("Failed to put blob: " + key, e);
+    }
+    Files.delete(source);
+  }
+
+  @Override
+  public InputStream get(String key) throws IOException {
+    return getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+  }
+
+  @Override
+  public InputStream getRange(String key, long start, long end) throws IOException {
+    return getObject(GetObjectRequest.builder().bucket(bucket).key(key)
+        .range("bytes=" + start + "-" + end).build());
+  }
+
+  @Override
+  public Optional<BlobInfo> stat(String key) throws IOException {
+    try {
+      HeadObjectResponse head = s3Client.headObject(request -> request.bucket(bucket).key(key));
+      return Optional.of(new BlobInfo(key, head.contentLength(), head.lastModified()));
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (SdkException e) {
+      throw new IOException("Failed to stat blob: " + key, e);
+    }
+  }
+
+  @Override
+  public void delete(String key) throws IOException {
+    try {
+      s3Client.deleteObject(request -> request.bucket(bucket).key(key));
+    } catch (SdkException e) {
+      throw new IOException("Failed to delete blob: " + key, e);
+    }
+  }
+
+  @Override
+  public Optional<URI> presignedGetUrl(String key, Duration ttl) {
+    GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+        .signatureDuration(ttl)
+        .getObjectRequest(request -> request.bucket(bucket).key(key))
+        .build();
+    try {
+      return Optional.of(s3Presigner.presignGetObject(presignRequest).url().toURI());
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Invalid presigned URL for key: " + key, e);
+    }
+  }
+
+  @Override
+  public void forEach(Consumer<BlobInfo> consumer) throws IOException {
+    try {
+      s3Client.listObjectsV2Paginator(request -> request.bucket(bucket)).contents()
+          .forEach(object -> consumer.accept(
+              new BlobInfo(object.key(), object.size(), object.lastModified())));
+    } catch (SdkException e) {
+      throw new IOException("Failed to list blobs in bucket: " + bucket, e);
+    }
+  }
+
+  private PutObjectRequest putRequest(String key, String contentType) {
+    // 키(UUID)별 내용이 바뀌지 않으므로 서명된 URL 로 받은 응답도 오래 캐시되도록 함
+    return PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType)
+        .cacheControl(IMMUTABLE_CACHE_CONTROL).build();
+  }
+
+  private InputStream getObject(GetObjectRequest request) throws IOException {
+    try {
+      return s3Client.getObject(request);
+    } catch (NoSuchKeyException e) {
+      throw new NoSuchFileException(request.key());
+    } catch (SdkException e) {
+      throw new IOException("Failed to get blob: " + request.key(), e);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.workout.workout.controller;
+
+import com.workout.auth.domain.UserPrincipal;
+import com.workout.global.dto.ApiResponse;
+import com.workout.workout.dto.analytics.ExerciseProgressResponse;
+import com.workout.workout.dto.analytics.MuscleVolumeResponse;
+import com.workout.workout.dto.analytics.PersonalRecordResponse;
+import com.workout.workout.service.WorkoutAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "운동 통계 (Workout Analytics)", description = "주간 볼륨, 추정 1RM, 개인 기록 등 진행 차트 API")
+@RestController
+@RequestMapping("/api/workout/analytics")
+public class WorkoutAnalyticsController {
+
+  private final WorkoutAnalyticsService workoutAnalyticsService;
+
+  public WorkoutAnalyticsController(WorkoutAnalyticsService workoutAnalyticsService) {
+    this.workoutAnalyticsService = workoutAnalyticsService;
+  }
+
+  @Operation(summary = "운동별 주간 기록 조회",
+      description = "회원(memberId)의 특정 운동에 대한 주간 세트 수, 볼륨, 최대 중량, 추정 1RM 을 기간 조회합니다. "
+          + "본인 또는 운동 기록을 공개한 담당 회원의 트레이너만 조회할 수 있습니다. (최대 104주)",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공 (주 시작일 오름차순)"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회 기간이 올바르지 않음"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "조회 권한 없음")
+  })
+  @GetMapping("/members/{memberId}/exercises/{exerciseId}")
+  public ResponseEntity<ApiResponse<List<ExerciseProgressResponse>>> getExerciseProgress(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "조회할 회원 ID", required = true) @PathVariable Long memberId,
+      @Parameter(description = "조회할 운동 ID", required = true) @PathVariable Long exerciseId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    List<ExerciseProgressResponse> responses = workoutAnalyticsService.findExerciseProgress(
+        userPrincipal.getUserId(), memberId, exerciseId, startDate, endDate);
+    return ResponseEntity.ok(ApiResponse.of(responses));
+  }
+
+  @Operation(summary = "부위별 주간 볼륨 조회",
+      description = "회원(memberId)의 주동근별 주간 볼륨(중량 x 횟수 합계)과 세트 수를 기간 조회합니다. (최대 104주)",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회 기간이 올바르지 않음"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "조회 권한 없음")
+  })
+  @GetMapping("/members/{memberId}/muscles")
+  public ResponseEntity<ApiResponse<List<MuscleVolumeResponse>>> getMuscleVolumes(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "조회할 회원 ID", required = true) @PathVariable Long memberId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    List<MuscleVolumeResponse> responses = workoutAnalyticsService.findMuscleVolumes(
+        userPrincipal.getUserId(), memberId, startDate, endDate);
+    return ResponseEntity.ok(ApiResponse.of(responses));
+  }
+
+  @Operation(summary = "개인 기록 조회",
+      description = "회원(memberId)의 운동별 최대 중량과 최고 추정 1RM 을 조회합니다.",
+      security = @SecurityRequirement(name = "cookieAuth"))
+  @ApiResponses(value = {
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+      @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "조회 권한 없음")
+  })
+  @GetMapping("/members/{memberId}/records")
+  public ResponseEntity<ApiResponse<List<PersonalRecordResponse>>> getPersonalRecords(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "조회할 회원 ID", required = true) @PathVariable Long memberId) {
+    List<PersonalRecordResponse> responses = workoutAnalyticsService.findPersonalRecords(
+        userPrincipal.getUserId(), memberId);
+    return ResponseEntity.ok(ApiResponse.of(responses));
+  }
+}
@@ -4,6 +4,8 @@ import com.workout.global.BaseEntity;
 import com.workout.member.domain.Member;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -38,17 +40,19 @@ public class Feedback extends BaseEntity {
   @Column(columnDefinition = "TEXT", nullable = false)
   private String content;
 
-  @ManyToOne(fetch = FetchType.LAZY)
+  /**
+   * 피드백이 속한 운동 일지. 운동/세트에 달린 피드백도 상위 일지를 함께 저장하여, 일지 단위 조회가 이 컬럼의 인덱스 하나로 끝나도록 합니다.
+   */
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "workout_log_id")
   private WorkoutLog workoutLog;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "workout_set_id")
-  private WorkoutSet workoutSet;
+  @Enumerated(EnumType.STRING)
+  @Column(name = "owner_type", nullable = false)
+  private FeedbackOwnerType ownerType;
 
-  @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "workout_exercise_id")
-  private WorkoutExercise workoutExercise;
+  @Column(name = "owner_id", nullable = false)
+  private Long ownerId;
 
   @Builder
   public Feedback(Member author, String content, WorkoutLog workoutLog,
@@ -63,21 +67,18 @@ public class Feedback extends BaseEntity {
 
     this.author = author;
     this.content = content;
-    this.workoutLog = workoutLog;
-    this.workoutExercise = workoutExercise;
-    this.workoutSet = workoutSet;
-  }
-
-  // 연관관계 편의 메소드
-  protected void setWorkoutLog(WorkoutLog workoutLog) {
-    this.workoutLog = workoutLog;
-  }
-
-  protected void setWorkoutExercise(WorkoutExercise workoutExercise) {
-    this.workoutExercise = workoutExercise;
-  }
-
-  protected void setWorkoutSet(WorkoutSet workoutSet) {
-    this.workoutSet = workoutSet;
+    if (workoutSet != null) {
+      this.workoutLog = workoutSet.getWorkoutExercise().getWorkoutLog();
+      this.ownerType = FeedbackOwnerType.SET;
+      this.ownerId = workoutSet.getId();
+    } else if (workoutExercise != null) {
+      this.workoutLog = workoutExercise.getWorkoutLog();
+      this.ownerType = FeedbackOwnerType.EXERCISE;
+      this.ownerId = workoutExercise.getId();
+    } else {
+      this.workoutLog = workoutLog;
+      this.ownerType = FeedbackOwnerType.LOG;
+      this.ownerId = workoutLog.getId();
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.workout.workout.domain.log;
+
+/**
+ * 피드백이 달린 대상. {@code feedback.owner_id}는 이 타입의 테이블 ID 입니다.
+ */
+public enum FeedbackOwnerType {
+  LOG,
+  EXERCISE,
+  SET
+}
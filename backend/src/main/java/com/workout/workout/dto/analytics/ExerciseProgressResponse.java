@@ -0,0 +1,18 @@
+package com.workout.workout.dto.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 한 운동의 주간 기록. {@code weekStart}는 해당 주의 월요일입니다.
+ */
+public record ExerciseProgressResponse(
+    LocalDate weekStart,
+    int setCount,
+    int totalReps,
+    BigDecimal totalVolume,
+    BigDecimal maxWeight,
+    BigDecimal estimatedOneRepMax
+) {
+
+}
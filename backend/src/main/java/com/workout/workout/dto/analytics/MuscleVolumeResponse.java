@@ -0,0 +1,19 @@
+package com.workout.workout.dto.analytics;
+
+import com.workout.workout.domain.muscle.MuscleGroup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주동근 기준 주간 볼륨. 한 운동의 볼륨은 그 운동의 주동근마다 합산됩니다.
+ */
+public record MuscleVolumeResponse(
+    LocalDate weekStart,
+    Long muscleId,
+    String muscleName,
+    MuscleGroup muscleGroup,
+    BigDecimal totalVolume,
+    int setCount
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.workout.workout.dto.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 운동별 개인 기록(최대 중량, 최고 추정 1RM)과 마지막으로 수행한 주
+ */
+public record PersonalRecordResponse(
+    Long exerciseId,
+    String exerciseName,
+    BigDecimal maxWeight,
+    BigDecimal estimatedOneRepMax,
+    LocalDate lastTrainedWeek
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.workout.workout.dto.log;
+
+/**
+ * 캐시에 저장되는 조립 완료된 운동 일지. 캐시 적중 시에도 권한 검사를 할 수 있도록 작성자 ID 를 함께 보관합니다.
+ */
+public record CachedWorkoutLog(
+    Long ownerId,
+    WorkoutLogResponse document
+) {
+
+}
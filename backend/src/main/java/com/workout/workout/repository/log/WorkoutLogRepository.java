@@ -1,13 +1,19 @@
 package com.workout.workout.repository.log;
 
 import com.workout.workout.domain.log.WorkoutLog;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
 
-  boolean existsByIdAndMemberId(Long logId, Long memberId);
+  @Query("SELECT wl.workoutDate FROM WorkoutLog wl WHERE wl.id = :logId AND wl.member.id = :memberId")
+  Optional<LocalDate> findWorkoutDateByIdAndMemberId(@Param("logId") Long logId,
+      @Param("memberId") Long memberId);
 
   List<WorkoutLog> findAllByMemberIdAndWorkoutDateBetweenOrderByWorkoutDateDesc(Long userId, LocalDateTime startDateTime, LocalDateTime endDateTime);
 }
@@ -0,0 +1,127 @@
+package com.workout.workout.service;
+
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.WorkoutErrorCode;
+import com.workout.member.service.MemberService;
+import com.workout.workout.domain.muscle.MuscleGroup;
+import com.workout.workout.dto.analytics.ExerciseProgressResponse;
+import com.workout.workout.dto.analytics.MuscleVolumeResponse;
+import com.workout.workout.dto.analytics.PersonalRecordResponse;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진행 차트용 조회. 모두 {@code workout_exercise_weekly_stat}(회원 x 운동 x 주) 집계 테이블만 읽으므로, 조회 비용은 세트 기록 수가
+ * 아니라 기간의 주 수에 비례합니다.
+ * <p>
+ * 본인 또는 운동 기록을 공개한 담당 회원의 트레이너만 조회할 수 있습니다. (운동 일지 조회와 같은 규칙)
+ */
+@Service
+public class WorkoutAnalyticsService {
+
+  private static final long MAX_RANGE_WEEKS = 104;
+
+  private static final String EXERCISE_PROGRESS_SQL =
+      "SELECT week_start, set_count, total_reps, total_volume, max_weight, best_e1rm "
+          + "FROM workout_exercise_weekly_stat "
+          + "WHERE member_id = :memberId AND exercise_id = :exerciseId "
+          + "AND week_start BETWEEN :from AND :to "
+          + "ORDER BY week_start";
+  private static final String MUSCLE_VOLUME_SQL =
+      "SELECT s.week_start, m.id AS muscle_id, m.korean_name, m.muscle_group, "
+          + "SUM(s.total_volume) AS total_volume, SUM(s.set_count) AS set_count "
+          + "FROM workout_exercise_weekly_stat s "
+          + "JOIN exercise_target_muscle etm ON etm.exercise_id = s.exercise_id "
+          + "AND etm.muscle_role = 'PRIMARY' "
+          + "JOIN muscle m ON m.id = etm.target_muscle_id "
+          + "WHERE s.member_id = :memberId AND s.week_start BETWEEN :from AND :to "
+          + "GROUP BY s.week_start, m.id, m.korean_name, m.muscle_group "
+          + "ORDER BY s.week_start, m.id";
+  private static final String PERSONAL_RECORDS_SQL =
+      "SELECT s.exercise_id, e.name, MAX(s.max_weight) AS max_weight, "
+          + "MAX(s.best_e1rm) AS best_e1rm, MAX(s.week_start) AS last_week "
+          + "FROM workout_exercise_weekly_stat s "
+          + "JOIN exercise e ON e.id = s.exercise_id "
+          + "WHERE s.member_id = :memberId "
+          + "GROUP BY s.exercise_id, e.name "
+          + "ORDER BY e.name";
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final MemberService memberService;
+  private final WorkoutLogService workoutLogService;
+
+  public WorkoutAnalyticsService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      MemberService memberService, WorkoutLogService workoutLogService) {
+    this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.memberService = memberService;
+    this.workoutLogService = workoutLogService;
+  }
+
+  public List<ExerciseProgressResponse> findExerciseProgress(Long userId, Long memberId,
+      Long exerciseId, LocalDate from, LocalDate to) {
+    validateAccess(userId, memberId);
+    MapSqlParameterSource params = rangeParams(memberId, from, to)
+        .addValue("exerciseId", exerciseId);
+
+    return namedParameterJdbcTemplate.query(EXERCISE_PROGRESS_SQL, params,
+        (rs, rowNum) -> new ExerciseProgressResponse(
+            rs.getDate("week_start").toLocalDate(),
+            rs.getInt("set_count"),
+            rs.getInt("total_reps"),
+            rs.getBigDecimal("total_volume"),
+            rs.getBigDecimal("max_weight"),
+            rs.getBigDecimal("best_e1rm")));
+  }
+
+  public List<MuscleVolumeResponse> findMuscleVolumes(Long userId, Long memberId,
+      LocalDate from, LocalDate to) {
+    validateAccess(userId, memberId);
+
+    return namedParameterJdbcTemplate.query(MUSCLE_VOLUME_SQL, rangeParams(memberId, from, to),
+        (rs, rowNum) -> new MuscleVolumeResponse(
+            rs.getDate("week_start").toLocalDate(),
+            rs.getLong("muscle_id"),
+            rs.getString("korean_name"),
+            MuscleGroup.valueOf(rs.getString("muscle_group")),
+            rs.getBigDecimal("total_volume"),
+            rs.getInt("set_count")));
+  }
+
+  public List<PersonalRecordResponse> findPersonalRecords(Long userId, Long memberId) {
+    validateAccess(userId, memberId);
+
+    return namedParameterJdbcTemplate.query(PERSONAL_RECORDS_SQL,
+        new MapSqlParameterSource("memberId", memberId),
+        (rs, rowNum) -> new PersonalRecordResponse(
+            rs.getLong("exercise_id"),
+            rs.getString("name"),
+            rs.getBigDecimal("max_weight"),
+            rs.getBigDecimal("best_e1rm"),
+            rs.getDate("last_week").toLocalDate()));
+  }
+
+  private void validateAccess(Long userId, Long memberId) {
+    if (userId.equals(memberId)) {
+      return;
+    }
+    workoutLogService.hasGetAuthority(memberService.findById(userId),
+        memberService.findById(memberId));
+  }
+
+  /**
+   * 조회 시작일은 그 주의 월요일로 내려 시작 주의 집계도 포함합니다.
+   */
+  private static MapSqlParameterSource rangeParams(Long memberId, LocalDate from, LocalDate to) {
+    if (from.isAfter(to) || ChronoUnit.WEEKS.between(from, to) > MAX_RANGE_WEEKS) {
+      throw new RestApiException(WorkoutErrorCode.INVALID_DATE_RANGE);
+    }
+    return new MapSqlParameterSource()
+        .addValue("memberId", memberId)
+        .addValue("from", WorkoutStatsWriter.weekStart(from))
+        .addValue("to", to);
+  }
+}
@@ -0,0 +1,131 @@
+package com.workout.workout.service;
+
+import com.workout.workout.domain.log.FeedbackOwnerType;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest.WorkoutExerciseDto;
+import com.workout.workout.dto.log.WorkoutLogCreateRequest.WorkoutSetDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운동 일지 하위 트리(운동, 세트, 피드백)를 테이블마다 한 번의 multi-row INSERT 로 저장합니다.
+ * <p>
+ * IDENTITY 전략에서는 Hibernate 가 INSERT 를 배치하지 못해 세트 수만큼 문장이 나가므로, {@code VALUES (...), (...)} 한 문장으로
+ * 넣고 생성된 키를 받아 다음 단계의 외래 키로 사용합니다. MySQL 은 행 수가 정해진 INSERT 의 auto-increment 값을 한 번에 연속으로 할당하므로
+ * 반환된 키의 순서는 VALUES 순서와 같습니다.
+ * <p>
+ * 호출 측 트랜잭션 안에서 실행되며, JPA 영속성 컨텍스트를 거치지 않으므로 저장된 엔티티를 반환하지 않습니다.
+ */
+@Component
+public class WorkoutLogBatchWriter {
+
+  private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Timer writeTimer;
+  private final DistributionSummary rowsPerLog;
+
+  public WorkoutLogBatchWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.writeTimer = Timer.builder("workout.log.write")
+        .description("운동 일지 하위 트리 저장 소요 시간")
+        .register(meterRegistry);
+    this.rowsPerLog = DistributionSummary.builder("workout.log.write.rows")
+        .description("운동 일지 1건당 저장한 운동/세트/피드백 행 수")
+        .register(meterRegistry);
+  }
+
+  public void write(Long workoutLogId, Long authorId, WorkoutLogCreateRequest request) {
+    writeTimer.record(() -> {
+      List<WorkoutExerciseDto> exerciseDtos = request.workoutExercises();
+      List<Object[]> exerciseRows = new ArrayList<>();
+      exerciseDtos.forEach(dto ->
+          exerciseRows.add(new Object[]{workoutLogId, dto.exerciseId(), dto.order()}));
+      List<Long> exerciseIds = insert(
+          "INSERT INTO workout_exercise (workout_log_id, exercise_id, log_order) VALUES ",
+          "(?, ?, ?)", exerciseRows);
+
+      List<Object[]> setRows = new ArrayList<>();
+      List<WorkoutSetDto> setDtos = new ArrayList<>();
+      for (int i = 0; i < exerciseDtos.size(); i++) {
+        Long exerciseId = exerciseIds.get(i);
+        for (WorkoutSetDto setDto : nullSafe(exerciseDtos.get(i).workoutSets())) {
+          setRows.add(new Object[]{exerciseId, setDto.order(), setDto.weight(), setDto.reps()});
+          setDtos.add(setDto);
+        }
+      }
+      List<Long> setIds = insert(
+          "INSERT INTO workout_set (workout_exercise_id, set_order, weight, reps) VALUES ",
+          "(?, ?, ?, ?)", setRows);
+
+      List<Object[]> feedbackRows = new ArrayList<>();
+      for (int i = 0; i < setDtos.size(); i++) {
+        if (isFeedbackPresent(setDtos.get(i).feedback())) {
+          feedbackRows.add(new Object[]{authorId, setDtos.get(i).feedback(), workoutLogId,
+              FeedbackOwnerType.SET.name(), setIds.get(i)});
+        }
+      }
+      if (isFeedbackPresent(request.logFeedback())) {
+        feedbackRows.add(new Object[]{authorId, request.logFeedback(), workoutLogId,
+            FeedbackOwnerType.LOG.name(), workoutLogId});
+      }
+      insert("INSERT INTO feedback "
+              + "(author_id, content, workout_log_id, owner_type, owner_id) VALUES ",
+          "(?, ?, ?, ?, ?)", feedbackRows);
+
+      rowsPerLog.record(exerciseRows.size() + setRows.size() + feedbackRows.size());
+    });
+  }
+
+  /**
+   * {@code MAX_ROWS_PER_STATEMENT}행씩 나누어 multi-row INSERT 를 실행하고, 생성된 키를 입력 순서대로 반환합니다.
+   */
+  private List<Long> insert(String insertPrefix, String rowPlaceholder, List<Object[]> rows) {
+    if (rows.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<Long> ids = new ArrayList<>(rows.size());
+    for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+      List<Object[]> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT,
+          rows.size()));
+      String sql = insertPrefix + String.join(", ", Collections.nCopies(chunk.size(),
+          rowPlaceholder));
+
+      KeyHolder keyHolder = new GeneratedKeyHolder();
+      jdbcTemplate.update(connection -> {
+        PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        int index = 1;
+        for (Object[] row : chunk) {
+          for (Object value : row) {
+            ps.setObject(index++, value);
+          }
+        }
+        return ps;
+      }, keyHolder);
+
+      for (Map<String, Object> key : keyHolder.getKeyList()) {
+        ids.add(((Number) key.values().iterator().next()).longValue());
+      }
+    }
+    return ids;
+  }
+
+  private static List<WorkoutSetDto> nullSafe(List<WorkoutSetDto> sets) {
+    return (sets != null) ? sets : Collections.emptyList();
+  }
+
+  private static boolean isFeedbackPresent(String feedback) {
+    return feedback != null && !feedback.isBlank();
+  }
+}
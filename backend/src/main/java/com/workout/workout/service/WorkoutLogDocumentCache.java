@@ -0,0 +1,164 @@
+package com.workout.workout.service;
+
+import com.workout.workout.dto.log.CachedWorkoutLog;
+import com.workout.workout.dto.log.WorkoutLogResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조립이 끝난 {@link WorkoutLogResponse}를 운동 일지 단위로 캐시합니다. ({@code workout:log:doc:{id}})
+ * <p>
+ * 지난 운동 일지는 거의 수정되지 않으므로, 상세 조회가 4번의 쿼리와 조립 대신 키 조회 한 번으로 끝나도록 합니다. 일지 하위 요소(운동, 세트,
+ * 피드백)가 바뀌면 커밋 후 {@link #evictAfterCommit(Long)}으로 무효화합니다. Redis 장애 시에는 miss 로 취급하여 DB 에서 조립합니다.
+ * <p>
+ * 삭제/수정 커밋 전에 DB 를 읽은 조회가 무효화 뒤에 적재하면 지난 문서가 TTL 동안 남으므로, 무효화는 문서를 지우면서
+ * {@code workout.log.cache.tombstone-ttl} 동안 tombstone({@code workout:log:doc:{id}:tombstone})을 남기고, 적재는
+ * tombstone 이 없을 때만 씁니다. (같은 hash tag 라 스크립트 하나로 확인과 쓰기를 원자적으로 수행)
+ */
+@Slf4j
+@Component
+public class WorkoutLogDocumentCache {
+
+  private static final String KEY_PREFIX = "workout:log:doc:";
+  private static final String TOMBSTONE_SUFFIX = ":tombstone";
+
+  // KEYS[1] = 문서, KEYS[2] = tombstone, ARGV[1] = 직렬화된 문서, ARGV[2] = TTL(ms)
+  private static final byte[] PUT_UNLESS_TOMBSTONED_SCRIPT = (
+      "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+          + "return 1").getBytes(StandardCharsets.UTF_8);
+
+  // KEYS[1] = 문서, KEYS[2] = tombstone, ARGV[1] = tombstone TTL(ms)
+  private static final byte[] EVICT_SCRIPT = (
+      "redis.call('SET', KEYS[2], '1', 'PX', ARGV[1]) "
+          + "return redis.call('DEL', KEYS[1])").getBytes(StandardCharsets.UTF_8);
+
+  private final RedisTemplate<String, CachedWorkoutLog> workoutLogRedisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Duration ttl;
+  private final Duration tombstoneTtl;
+
+  public WorkoutLogDocumentCache(
+      RedisTemplate<String, CachedWorkoutLog> workoutLogRedisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${workout.log.cache.ttl:7d}") Duration ttl,
+      @Value("${workout.log.cache.tombstone-ttl:30s}") Duration tombstoneTtl) {
+    this.workoutLogRedisTemplate = workoutLogRedisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.ttl = ttl;
+    this.tombstoneTtl = tombstoneTtl;
+  }
+
+  public Optional<CachedWorkoutLog> get(Long workoutLogId) {
+    try {
+      CachedWorkoutLog cached = workoutLogRedisTemplate.opsForValue().get(key(workoutLogId));
+      record(cached != null ? "hit" : "miss");
+      return Optional.ofNullable(cached);
+    } catch (DataAccessException e) {
+      record("error");
+      log.warn("Failed to read workout log document from cache. id: {}", workoutLogId, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 최근에 무효화된 일지(tombstone 이 남아 있음)는 적재하지 않습니다.
+   */
+  public void put(Long ownerId, WorkoutLogResponse document) {
+    try {
+      workoutLogRedisTemplate.execute((RedisCallback<Object>) connection ->
+          putUnlessTombstoned(connection, ownerId, document));
+    } catch (DataAccessException e) {
+      log.warn("Failed to cache workout log document. id: {}", document.workoutLogId(), e);
+    }
+  }
+
+  /**
+   * 여러 문서를 파이프라인 한 번으로 적재합니다. (월간 조회 시 이번 달 일지 미리 채우기)
+   */
+  public void putAll(Long ownerId, Collection<WorkoutLogResponse> documents) {
+    if (documents.isEmpty()) {
+      return;
+    }
+    try {
+      workoutLogRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        documents.forEach(document -> putUnlessTombstoned(connection, ownerId, document));
+        return null;
+      });
+    } catch (DataAccessException e) {
+      log.warn("Failed to warm up workout log documents for memberId: {}", ownerId, e);
+    }
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 문서를 삭제합니다. 트랜잭션 밖에서는 바로 삭제합니다.
+   */
+  public void evictAfterCommit(Long workoutLogId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(workoutLogId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict(workoutLogId);
+      }
+    });
+  }
+
+  private void evict(Long workoutLogId) {
+    try {
+      workoutLogRedisTemplate.execute((RedisCallback<Object>) connection ->
+          connection.scriptingCommands().eval(EVICT_SCRIPT, ReturnType.INTEGER, 2,
+              bytes(key(workoutLogId)), bytes(tombstoneKey(workoutLogId)),
+              bytes(Long.toString(tombstoneTtl.toMillis()))));
+    } catch (DataAccessException e) {
+      // 남은 문서는 TTL 로 만료됨
+      log.error("Failed to evict workout log document. id: {}", workoutLogId, e);
+    }
+  }
+
+  private Object putUnlessTombstoned(RedisConnection connection, Long ownerId,
+      WorkoutLogResponse document) {
+    Long workoutLogId = document.workoutLogId();
+    return connection.scriptingCommands().eval(PUT_UNLESS_TOMBSTONED_SCRIPT, ReturnType.INTEGER,
+        2, bytes(key(workoutLogId)), bytes(tombstoneKey(workoutLogId)),
+        valueSerializer().serialize(new CachedWorkoutLog(ownerId, document)),
+        bytes(Long.toString(ttl.toMillis())));
+  }
+
+  @SuppressWarnings("unchecked")
+  private RedisSerializer<CachedWorkoutLog> valueSerializer() {
+    return (RedisSerializer<CachedWorkoutLog>) workoutLogRedisTemplate.getValueSerializer();
+  }
+
+  static String key(Long workoutLogId) {
+    return KEY_PREFIX + "{" + workoutLogId + "}";
+  }
+
+  static String tombstoneKey(Long workoutLogId) {
+    return key(workoutLogId) + TOMBSTONE_SUFFIX;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void record(String result) {
+    meterRegistry.counter("workout.log.cache", "result", result).increment();
+  }
+}
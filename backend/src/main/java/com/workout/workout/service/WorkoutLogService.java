@@ -8,11 +8,8 @@ import com.workout.member.domain.Role;
 import com.workout.member.repository.MemberRepository;
 import com.workout.member.service.MemberService;
 import com.workout.pt.service.contract.PTContractService;
-import com.workout.workout.domain.exercise.Exercise;
-import com.workout.workout.domain.log.Feedback;
-import com.workout.workout.domain.log.WorkoutExercise;
 import com.workout.workout.domain.log.WorkoutLog;
-import com.workout.workout.domain.log.WorkoutSet;
+import com.workout.workout.dto.log.CachedWorkoutLog;
 import com.workout.workout.dto.log.WorkoutLogCreateRequest;
 import com.workout.workout.dto.log.WorkoutLogResponse;
 import com.workout.workout.repository.ExerciseRepository;
@@ -20,14 +17,12 @@ import com.workout.workout.repository.log.FeedbackRepository;
 import com.workout.workout.repository.log.WorkoutExerciseRepository;
 import com.workout.workout.repository.log.WorkoutLogRepository;
 import com.workout.workout.repository.log.WorkoutSetRepository;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +40,10 @@ public class WorkoutLogService {
   private final WorkoutExerciseRepository workoutExerciseRepository;
   private final MemberService memberService;
   private final PTContractService ptContractService;
+  private final WorkoutLogBatchWriter workoutLogBatchWriter;
+  private final WorkoutLogDocumentCache workoutLogDocumentCache;
+  private final WorkoutLogTreeReader workoutLogTreeReader;
+  private final WorkoutStatsWriter workoutStatsWriter;
 
   public WorkoutLogService(WorkoutLogRepository workoutLogRepository,
       MemberRepository userRepository,
@@ -52,7 +51,11 @@ public class WorkoutLogService {
       WorkoutSetRepository workoutSetRepository,
       WorkoutExerciseRepository workoutExerciseRepository,
       MemberService memberService,
-      PTContractService ptContractService) {
+      PTContractService ptContractService,
+      WorkoutLogBatchWriter workoutLogBatchWriter,
+      WorkoutLogDocumentCache workoutLogDocumentCache,
+      WorkoutLogTreeReader workoutLogTreeReader,
+      WorkoutStatsWriter workoutStatsWriter) {
     this.workoutLogRepository = workoutLogRepository;
     this.userRepository = userRepository;
     this.exerciseRepository = exerciseRepository;
@@ -61,6 +64,10 @@ public class WorkoutLogService {
     this.workoutExerciseRepository = workoutExerciseRepository;
     this.memberService = memberService;
     this.ptContractService = ptContractService;
+    this.workoutLogBatchWriter = workoutLogBatchWriter;
+    this.workoutLogDocumentCache = workoutLogDocumentCache;
+    this.workoutLogTreeReader = workoutLogTreeReader;
+    this.workoutStatsWriter = workoutStatsWriter;
   }
 
   @Transactional
@@ -69,51 +76,38 @@ public class WorkoutLogService {
     Member member = userRepository.findById(userId)
         .orElseThrow(() -> new RestApiException(MemberErrorCode.MEMBER_NOT_FOUND));
 
+    List<Long> exerciseIds = request.workoutExercises().stream()
+        .map(WorkoutLogCreateRequest.WorkoutExerciseDto::exerciseId)
+        .distinct().toList();
+    if (exerciseRepository.findAllByIdIn(exerciseIds).size() != exerciseIds.size()) {
+      throw new RestApiException(WorkoutErrorCode.NOT_FOUND_EXERCISE);
+    }
+
     WorkoutLog workoutLog = request.toEntity(member);
     workoutLogRepository.save(workoutLog);
 
-    Map<Long, Exercise> exerciseMap = exerciseRepository.findAllByIdIn(
-        request.workoutExercises().stream()
-            .map(WorkoutLogCreateRequest.WorkoutExerciseDto::exerciseId)
-            .distinct().toList()
-    ).stream().collect(Collectors.toMap(Exercise::getId, e -> e));
-
-    List<WorkoutExercise> exercisesToSave = new ArrayList<>();
-    List<WorkoutSet> setsToSave = new ArrayList<>();
-    List<Feedback> feedbacksToSave = new ArrayList<>();
-
-    request.workoutExercises().forEach(exerciseDto -> {
-      Exercise exercise = exerciseMap.get(exerciseDto.exerciseId());
-      if (exercise == null) {
-        throw new RestApiException(WorkoutErrorCode.NOT_FOUND_EXERCISE);
-      }
-      WorkoutExercise workoutExercise = exerciseDto.toEntity(workoutLog, exercise);
-      exercisesToSave.add(workoutExercise);
-
-      exerciseDto.workoutSets().forEach(setDto -> {
-        WorkoutSet workoutSet = setDto.toEntity(workoutExercise);
-        setsToSave.add(workoutSet);
-
-        if (isFeedbackPresent(setDto.feedback())) {
-          feedbacksToSave.add(Feedback.builder()
-              .author(member).content(setDto.feedback()).workoutSet(workoutSet).build());
-        }
-      });
-    });
-
-    if (isFeedbackPresent(request.logFeedback())) {
-      feedbacksToSave.add(Feedback.builder()
-          .author(member).content(request.logFeedback()).workoutLog(workoutLog).build());
-    }
-
-    workoutExerciseRepository.saveAll(exercisesToSave);
-    workoutSetRepository.saveAll(setsToSave);
-    feedbackRepository.saveAll(feedbacksToSave);
+    // 운동/세트/피드백은 테이블마다 multi-row INSERT 한 번으로 저장
+    workoutLogBatchWriter.write(workoutLog.getId(), member.getId(), request);
+    // 새 ID 이므로 보통 문서가 없지만, 복원 등으로 ID 가 재사용된 경우 남은 문서를 버림
+    workoutLogDocumentCache.evictAfterCommit(workoutLog.getId());
+    workoutStatsWriter.refreshWeekAfterCommit(member.getId(), workoutLog.getWorkoutDate());
 
     return workoutLog;
   }
 
+  /**
+   * 캐시된 문서가 있으면 DB 를 거치지 않고 반환합니다. 작성자 본인이 아닌 경우에만 회원 정보를 읽어 권한을 확인합니다.
+   */
   public WorkoutLogResponse findWorkoutLogById(Long workoutLogId, Long userId) {
+    Optional<CachedWorkoutLog> cached = workoutLogDocumentCache.get(workoutLogId);
+    if (cached.isPresent()) {
+      Long ownerId = cached.get().ownerId();
+      if (!ownerId.equals(userId)) {
+        hasGetAuthority(memberService.findById(userId), memberService.findById(ownerId));
+      }
+      return cached.get().document();
+    }
+
     Member member = memberService.findById(userId);
 
     WorkoutLog workoutLog = workoutLogRepository.findById(workoutLogId)
@@ -121,104 +115,40 @@ public class WorkoutLogService {
 
     hasGetAuthority(member, workoutLog);
 
-    // 자식 엔티티 목록 조회 (WorkoutExercise)
-    List<WorkoutExercise> exercises = workoutExerciseRepository.findAllByWorkoutLogIdOrderByOrderAsc(
-        workoutLogId);
-    List<Long> exerciseIds = exercises.stream().map(WorkoutExercise::getId).toList();
-
-    // 손자 엔티티 목록 조회 (WorkoutSet)
-    List<WorkoutSet> sets = exerciseIds.isEmpty() ? Collections.emptyList()
-        : workoutSetRepository.findAllByWorkoutExerciseIdInOrderByOrderAsc(exerciseIds);
-    List<Long> setIds = sets.stream().map(WorkoutSet::getId).toList();
-
-    // 모든 피드백 한 번에 조회
-    List<Feedback> feedbacks = feedbackRepository.findByWorkoutElements(workoutLogId, exerciseIds,
-        setIds);
-
-    // 조회된 엔티티들을 DTO로 조립
-    return WorkoutLogResponse.from(workoutLog, exercises, sets, feedbacks);
+    // 일지/운동/세트는 정렬된 조인 한 번, 피드백은 한 번 더 조회하여 조립
+    WorkoutLogResponse response = workoutLogTreeReader.readByIds(List.of(workoutLogId))
+        .get(workoutLogId);
+    workoutLogDocumentCache.put(workoutLog.getMember().getId(), response);
+    return response;
   }
 
   public List<WorkoutLogResponse> findMyWorkoutLogsByMonth(Long userId, int year, int month) {
 
     YearMonth yearMonth = YearMonth.of(year, month);
-    LocalDateTime startDateTime = yearMonth.atDay(1).atStartOfDay();
-    LocalDateTime endDateTime = yearMonth.atEndOfMonth().atTime(LocalTime.MAX);
+    List<WorkoutLogResponse> responses = workoutLogTreeReader.readByMemberAndDate(userId,
+        yearMonth.atDay(1), yearMonth.atEndOfMonth());
 
-    List<WorkoutLog> workoutLogs = workoutLogRepository.findAllByMemberIdAndWorkoutDateBetweenOrderByWorkoutDateDesc(
-        userId, startDateTime, endDateTime);
-
-    if (workoutLogs.isEmpty()) {
-      return Collections.emptyList();
+    // 이번 달 달력을 연 회원은 곧 개별 일지를 열어볼 가능성이 높으므로, 이미 조립한 문서로 캐시를 미리 채움
+    if (yearMonth.equals(YearMonth.now())) {
+      workoutLogDocumentCache.putAll(userId, responses);
     }
-
-    List<Long> workoutLogIds = workoutLogs.stream().map(WorkoutLog::getId).toList();
-    List<WorkoutExercise> exercises = workoutExerciseRepository.findAllByWorkoutLogIdInOrderByOrderAsc(
-        workoutLogIds);
-    List<Long> exerciseIds = exercises.stream().map(WorkoutExercise::getId).toList();
-    List<WorkoutSet> sets = exerciseIds.isEmpty() ? Collections.emptyList()
-        : workoutSetRepository.findAllByWorkoutExerciseIdInOrderByOrderAsc(exerciseIds);
-    List<Long> setIds = sets.stream().map(WorkoutSet::getId).toList();
-    List<Feedback> feedbacks = feedbackRepository.findByWorkoutElements(workoutLogIds, exerciseIds,
-        setIds);
-
-    Map<Long, List<WorkoutExercise>> exercisesByLogId = exercises.stream()
-        .collect(Collectors.groupingBy(exercise -> exercise.getWorkoutLog().getId()));
-    Map<Long, List<WorkoutSet>> setsByExerciseId = sets.stream()
-        .collect(Collectors.groupingBy(set -> set.getWorkoutExercise().getId()));
-
-    Map<Long, List<Feedback>> feedbacksByLogId = feedbacks.stream()
-        .filter(f -> f.getWorkoutLog() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutLog().getId()));
-    Map<Long, List<Feedback>> feedbacksByExerciseId = feedbacks.stream()
-        .filter(f -> f.getWorkoutExercise() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutExercise().getId()));
-    Map<Long, List<Feedback>> feedbacksBySetId = feedbacks.stream()
-        .filter(f -> f.getWorkoutSet() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutSet().getId()));
-
-    return workoutLogs.stream()
-        .map(log -> {
-          List<WorkoutExercise> exercisesForLog = exercisesByLogId.getOrDefault(log.getId(),
-              Collections.emptyList());
-
-          List<WorkoutSet> setsForLog = exercisesForLog.stream()
-              .flatMap(
-                  ex -> setsByExerciseId.getOrDefault(ex.getId(), Collections.emptyList()).stream())
-              .collect(Collectors.toList());
-
-          List<Feedback> feedbacksForLog = new ArrayList<>(
-              feedbacksByLogId.getOrDefault(log.getId(), Collections.emptyList()));
-          exercisesForLog.forEach(ex -> feedbacksForLog.addAll(
-              feedbacksByExerciseId.getOrDefault(ex.getId(), Collections.emptyList())));
-          setsForLog.forEach(set -> feedbacksForLog.addAll(
-              feedbacksBySetId.getOrDefault(set.getId(), Collections.emptyList())));
-
-          return WorkoutLogResponse.from(log, exercisesForLog, setsForLog, feedbacksForLog);
-        })
-        .collect(Collectors.toList());
+    return responses;
   }
 
   @Transactional
   public void deleteWorkoutLog(Long workoutLogId, Long userId) {
-    hasDeleteAuthority(workoutLogId, userId);
+    // 본인 일지인지 확인하면서 집계 갱신에 필요한 운동 날짜를 함께 조회
+    LocalDate workoutDate = workoutLogRepository
+        .findWorkoutDateByIdAndMemberId(workoutLogId, userId)
+        .orElseThrow(() -> new RestApiException(WorkoutErrorCode.NOT_ALLOWED_ACCESS));
 
-    // 삭제할 대상 ID 목록 조회 (자식 -> 손자 순)
+    // 삭제할 대상 ID 목록 조회
     List<Long> exerciseIds = workoutExerciseRepository.findIdsByWorkoutLogId(workoutLogId);
 
-    List<Long> setIds = exerciseIds.isEmpty() ? Collections.emptyList()
-        : workoutSetRepository.findIdsByWorkoutExerciseIdIn(exerciseIds);
-
     // 삭제는 반드시 하위 엔티티부터 순서대로 진행 (손자 -> 자식 -> 부모 순)
     // 외래 키 제약 조건(Foreign Key Constraint) 위반을 방지합니다.
 
-    // 피드백 삭제 (가장 하위)
-    if (!setIds.isEmpty()) {
-      feedbackRepository.deleteAllByWorkoutSetIdIn(setIds);
-    }
-    if (!exerciseIds.isEmpty()) {
-      feedbackRepository.deleteAllByWorkoutExerciseIdIn(exerciseIds);
-    }
+    // 피드백 삭제 (가장 하위, 운동/세트 피드백도 상위 일지 ID 로 함께 삭제)
     feedbackRepository.deleteAllByWorkoutLogId(workoutLogId);
 
     // 손자(WorkoutSet) 삭제
@@ -233,17 +163,21 @@ public class WorkoutLogService {
 
     // 최상위 부모(WorkoutLog) 삭제
     workoutLogRepository.deleteById(workoutLogId);
-  }
 
-  private boolean isFeedbackPresent(String feedback) {
-    return feedback != null && !feedback.isBlank();
+    workoutLogDocumentCache.evictAfterCommit(workoutLogId);
+    workoutStatsWriter.refreshWeekAfterCommit(userId, workoutDate);
   }
 
   //todo
   //트레이터가 운동일지id or 운동셋id를 통해 피드백 작성 가능
+  //피드백 저장 시 workoutLogDocumentCache.evictAfterCommit(운동일지id) 로 캐시된 문서를 무효화해야 함
 
   void hasGetAuthority(Member member, WorkoutLog workoutLog) {
-    if (member.getId().equals(workoutLog.getMember().getId())) {
+    hasGetAuthority(member, workoutLog.getMember());
+  }
+
+  void hasGetAuthority(Member member, Member owner) {
+    if (member.getId().equals(owner.getId())) {
       return;
     }
 
@@ -251,18 +185,11 @@ public class WorkoutLogService {
       throw new RestApiException(WorkoutErrorCode.NOT_ALLOWED_ACCESS);
     }
 
-    if (!ptContractService.isMyClient(member.getId(), workoutLog.getMember().getId())) {
-      throw new RestApiException(WorkoutErrorCode.NOT_ALLOWED_ACCESS);
-    }
-
-    if (!workoutLog.getMember().getIsOpenWorkoutRecord()) {
+    if (!ptContractService.isMyClient(member.getId(), owner.getId())) {
       throw new RestApiException(WorkoutErrorCode.NOT_ALLOWED_ACCESS);
     }
-  }
 
-  void hasDeleteAuthority(Long workoutLogId, Long userId) {
-    boolean hasAuthority = workoutLogRepository.existsByIdAndMemberId(workoutLogId, userId);
-    if (!hasAuthority) {
+    if (!owner.getIsOpenWorkoutRecord()) {
       throw new RestApiException(WorkoutErrorCode.NOT_ALLOWED_ACCESS);
     }
   }
@@ -274,57 +201,7 @@ public class WorkoutLogService {
       return Collections.emptyMap();
     }
 
-    List<Long> workoutLogIds = workoutLogs.stream().map(WorkoutLog::getId).toList();
-
-    List<WorkoutExercise> exercises = workoutExerciseRepository.findAllByWorkoutLogIdInOrderByOrderAsc(
-        workoutLogIds);
-    List<Long> exerciseIds = exercises.stream().map(WorkoutExercise::getId).toList();
-
-    List<WorkoutSet> sets = exerciseIds.isEmpty() ? Collections.emptyList()
-        : workoutSetRepository.findAllByWorkoutExerciseIdInOrderByOrderAsc(exerciseIds);
-    List<Long> setIds = sets.stream().map(WorkoutSet::getId).toList();
-
-    List<Feedback> feedbacks = feedbackRepository.findByWorkoutElements(workoutLogIds, exerciseIds,
-        setIds);
-
-    Map<Long, List<WorkoutExercise>> exercisesByLogId = exercises.stream()
-        .collect(Collectors.groupingBy(ex -> ex.getWorkoutLog().getId()));
-
-    Map<Long, List<WorkoutSet>> setsByExerciseId = sets.stream()
-        .collect(Collectors.groupingBy(set -> set.getWorkoutExercise().getId()));
-
-    Map<Long, List<Feedback>> feedbacksByLogId = feedbacks.stream()
-        .filter(f -> f.getWorkoutLog() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutLog().getId()));
-    Map<Long, List<Feedback>> feedbacksByExerciseId = feedbacks.stream()
-        .filter(f -> f.getWorkoutExercise() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutExercise().getId()));
-    Map<Long, List<Feedback>> feedbacksBySetId = feedbacks.stream()
-        .filter(f -> f.getWorkoutSet() != null)
-        .collect(Collectors.groupingBy(f -> f.getWorkoutSet().getId()));
-
-
-    return workoutLogs.stream()
-        .collect(Collectors.toMap(
-            WorkoutLog::getId,
-            log -> {
-              List<WorkoutExercise> exercisesForLog = exercisesByLogId.getOrDefault(log.getId(),
-                  Collections.emptyList());
-              List<WorkoutSet> setsForLog = exercisesForLog.stream()
-                  .flatMap(ex -> setsByExerciseId.getOrDefault(ex.getId(), Collections.emptyList())
-                      .stream())
-                  .toList();
-
-              List<Feedback> feedbacksForLog = new ArrayList<>(
-                  feedbacksByLogId.getOrDefault(log.getId(), Collections.emptyList()));
-              exercisesForLog.forEach(ex -> feedbacksForLog.addAll(
-                  feedbacksByExerciseId.getOrDefault(ex.getId(), Collections.emptyList())));
-              setsForLog.forEach(set -> feedbacksForLog.addAll(
-                  feedbacksBySetId.getOrDefault(set.getId(), Collections.emptyList())));
-
-              return WorkoutLogResponse.from(log, exercisesForLog, setsForLog,
-                  feedbacksForLog); // [수정] 필터링된 리스트 전달
-            }
-        ));
+    return workoutLogTreeReader.readByIds(
+        workoutLogs.stream().map(WorkoutLog::getId).toList());
   }
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+package com.workout.workout.service;
+
+import com.workout.workout.domain.log.FeedbackOwnerType;
+import com.workout.workout.dto.log.WorkoutLogResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.FeedbackResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutExerciseResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutSetResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운동 일지 트리(일지 - 운동 - 세트 - 피드백)를 두 번의 쿼리로 읽어 {@link WorkoutLogResponse}로 조립합니다.
+ * <p>
+ * 일지/운동/세트는 정렬된 LEFT JOIN 한 번으로 읽으므로 같은 일지와 운동의 행이 연속해서 오고, 행을 읽는 순서대로 부모 노드에 이어 붙이기만
+ * 하면 트리가 완성됩니다. 피드백은 같은 조인에 붙이면 행이 곱해지므로 {@code (workout_log_id, owner_type, owner_id)} 인덱스
+ * 범위 스캔 한 번으로 따로 읽어 대상 ID 로 붙입니다. 엔티티와 중간 그룹핑 맵을 만들지 않고 projection 컬럼에서 바로 응답 DTO 를 만듭니다.
+ */
+@Component
+public class WorkoutLogTreeReader {
+
+  private static final String TREE_SQL =
+      "SELECT wl.id AS log_id, wl.workout_date, "
+          + "we.id AS exercise_id, e.name AS exercise_name, we.log_order, "
+          + "ws.id AS set_id, ws.set_order, ws.weight, ws.reps "
+          + "FROM workout_log wl "
+          + "LEFT JOIN workout_exercise we ON we.workout_log_id = wl.id "
+          + "LEFT JOIN exercise e ON e.id = we.exercise_id "
+          + "LEFT JOIN workout_set ws ON ws.workout_exercise_id = we.id "
+          + "WHERE %s "
+          + "ORDER BY wl.workout_date DESC, wl.id DESC, we.log_order, we.id, ws.set_order, ws.id";
+  private static final String BY_MEMBER_AND_DATE =
+      "wl.member_id = :memberId AND wl.workout_date BETWEEN :startDate AND :endDate";
+  private static final String BY_IDS = "wl.id IN (:workoutLogIds)";
+
+  private static final String FEEDBACK_SQL =
+      "SELECT f.id, f.content, m.name AS author_name, f.owner_type, f.owner_id "
+          + "FROM feedback f JOIN member m ON m.id = f.author_id "
+          + "WHERE f.workout_log_id IN (:workoutLogIds)";
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final Timer readTimer;
+  private final DistributionSummary rowsPerRead;
+
+  public WorkoutLogTreeReader(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      MeterRegistry meterRegistry) {
+    this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    this.readTimer = Timer.builder("workout.log.read")
+        .description("운동 일지 트리 조회 및 조립 소요 시간")
+        .register(meterRegistry);
+    this.rowsPerRead = DistributionSummary.builder("workout.log.read.rows")
+        .description("운동 일지 트리 조회 1회당 읽은 행 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 회원의 기간 내 운동 일지를 운동 날짜 내림차순으로 반환합니다.
+   */
+  public List<WorkoutLogResponse> readByMemberAndDate(Long memberId, LocalDate startDate,
+      LocalDate endDate) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("memberId", memberId)
+        .addValue("startDate", startDate)
+        .addValue("endDate", endDate);
+    return readTimer.record(() -> read(BY_MEMBER_AND_DATE, params, 16));
+  }
+
+  /**
+   * 운동 일지 ID 별 응답을 반환합니다. 존재하지 않는 ID 는 결과에 포함되지 않습니다.
+   */
+  public Map<Long, WorkoutLogResponse> readByIds(Collection<Long> workoutLogIds) {
+    if (workoutLogIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    MapSqlParameterSource params = new MapSqlParameterSource("workoutLogIds", workoutLogIds);
+    List<WorkoutLogResponse> responses = readTimer.record(
+        () -> read(BY_IDS, params, workoutLogIds.size()));
+
+    Map<Long, WorkoutLogResponse> responseMap = new LinkedHashMap<>(
+        (int) (responses.size() / 0.75f) + 1);
+    responses.forEach(response -> responseMap.put(response.workoutLogId(), response));
+    return responseMap;
+  }
+
+  private List<WorkoutLogResponse> read(String condition, MapSqlParameterSource params,
+      int expectedLogs) {
+    List<LogNode> logs = new ArrayList<>(expectedLogs);
+    List<ExerciseNode> exercises = new ArrayList<>();
+    List<SetNode> sets = new ArrayList<>();
+
+    String sql = String.format(TREE_SQL, condition);
+    namedParameterJdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+      long logId = rs.getLong("log_id");
+      LogNode log = logs.isEmpty() ? null : logs.get(logs.size() - 1);
+      if (log == null || log.id != logId) {
+        log = new LogNode(logId, rs.getDate("workout_date").toLocalDate());
+        logs.add(log);
+      }
+
+      long exerciseId = rs.getLong("exercise_id");
+      if (rs.wasNull()) {
+        return; // 운동이 없는 일지
+      }
+      ExerciseNode exercise = log.exercises.isEmpty() ? null
+          : log.exercises.get(log.exercises.size() - 1);
+      if (exercise == null || exercise.id != exerciseId) {
+        exercise = new ExerciseNode(exerciseId, rs.getString("exercise_name"),
+            rs.getInt("log_order"));
+        log.exercises.add(exercise);
+        exercises.add(exercise);
+      }
+
+      long setId = rs.getLong("set_id");
+      if (rs.wasNull()) {
+        return; // 세트가 없는 운동
+      }
+      SetNode set = new SetNode(setId, rs.getInt("set_order"), rs.getBigDecimal("weight"),
+          rs.getInt("reps"));
+      exercise.sets.add(set);
+      sets.add(set);
+    });
+    rowsPerRead.record(logs.size() + exercises.size() + sets.size());
+
+    if (!logs.isEmpty()) {
+      attachFeedbacks(logs, exercises, sets);
+    }
+
+    List<WorkoutLogResponse> responses = new ArrayList<>(logs.size());
+    for (LogNode log : logs) {
+      responses.add(log.toResponse());
+    }
+    return responses;
+  }
+
+  /**
+   * 일지들에 달린 피드백(일지/운동/세트)을 한 번에 읽어 각 노드에 붙입니다.
+   */
+  private void attachFeedbacks(List<LogNode> logs, List<ExerciseNode> exercises,
+      List<SetNode> sets) {
+    Map<Long, LogNode> logIndex = new HashMap<>((int) (logs.size() / 0.75f) + 1);
+    logs.forEach(log -> logIndex.put(log.id, log));
+    Map<Long, ExerciseNode> exerciseIndex = new HashMap<>((int) (exercises.size() / 0.75f) + 1);
+    exercises.forEach(exercise -> exerciseIndex.put(exercise.id, exercise));
+    Map<Long, SetNode> setIndex = new HashMap<>((int) (sets.size() / 0.75f) + 1);
+    sets.forEach(set -> setIndex.put(set.id, set));
+
+    MapSqlParameterSource params = new MapSqlParameterSource("workoutLogIds",
+        logIndex.keySet());
+    namedParameterJdbcTemplate.query(FEEDBACK_SQL, params, (RowCallbackHandler) rs -> {
+      FeedbackResponse feedback = new FeedbackResponse(rs.getLong("id"),
+          rs.getString("author_name"), rs.getString("content"));
+      long ownerId = rs.getLong("owner_id");
+      FeedbackOwner owner = switch (FeedbackOwnerType.valueOf(rs.getString("owner_type"))) {
+        case LOG -> logIndex.get(ownerId);
+        case EXERCISE -> exerciseIndex.get(ownerId);
+        case SET -> setIndex.get(ownerId);
+      };
+      if (owner != null) {
+        owner.addFeedback(feedback);
+      }
+    });
+  }
+
+  private abstract static class FeedbackOwner {
+
+    private Set<FeedbackResponse> feedbacks;
+
+    void addFeedback(FeedbackResponse feedback) {
+      if (feedbacks == null) {
+        feedbacks = new HashSet<>(4);
+      }
+      feedbacks.add(feedback);
+    }
+
+    Set<FeedbackResponse> feedbacks() {
+      return (feedbacks != null) ? feedbacks : Collections.emptySet();
+    }
+  }
+
+  private static final class LogNode extends FeedbackOwner {
+
+    private final long id;
+    private final LocalDate workoutDate;
+    private final List<ExerciseNode> exercises = new ArrayList<>(8);
+
+    private LogNode(long id, LocalDate workoutDate) {
+      this.id = id;
+      this.workoutDate = workoutDate;
+    }
+
+    private WorkoutLogResponse toResponse() {
+      List<WorkoutExerciseResponse> exerciseResponses = new ArrayList<>(exercises.size());
+      for (ExerciseNode exercise : exercises) {
+        exerciseResponses.add(exercise.toResponse());
+      }
+      return new WorkoutLogResponse(id, workoutDate, feedbacks(), exerciseResponses);
+    }
+  }
+
+  private static final class ExerciseNode extends FeedbackOwner {
+
+    private final long id;
+    private final String name;
+    private final int order;
+    private final List<SetNode> sets = new ArrayList<>(8);
+
+    private ExerciseNode(long id, String name, int order) {
+      this.id = id;
+      this.name = name;
+      this.order = order;
+    }
+
+    private WorkoutExerciseResponse toResponse() {
+      List<WorkoutSetResponse> setResponses = new ArrayList<>(sets.size());
+      for (SetNode set : sets) {
+        setResponses.add(new WorkoutSetResponse(set.id, set.order, set.weight, set.reps,
+            set.feedbacks()));
+      }
+      return new WorkoutExerciseResponse(id, name, order, setResponses, feedbacks());
+    }
+  }
+
+  private static final class SetNode extends FeedbackOwner {
+
+    private final long id;
+    private final int order;
+    private final BigDecimal weight;
+    private final int reps;
+
+    private SetNode(long id, int order, BigDecimal weight, int reps) {
+      this.id = id;
+      this.order = order;
+      this.weight = weight;
+      this.reps = reps;
+    }
+  }
+}
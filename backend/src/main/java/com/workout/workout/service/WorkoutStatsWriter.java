@@ -0,0 +1,209 @@
+package com.workout.workout.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code workout_exercise_weekly_stat} 집계 테이블을 갱신합니다.
+ * <p>
+ * 최대 중량/추정 1RM 은 삭제 시 빼기로 되돌릴 수 없으므로, 변경된 (회원, 주) 구간을 원본 세트에서 다시 집계하여 교체합니다. 한 주의
+ * 기록은 몇 개의 일지뿐이라 {@code idx_workout_log_member_date} 범위 조회 한 번이면 충분합니다. 운동 일지 트랜잭션이 커밋된 뒤 전용
+ * 스레드 풀에서 실행되며, 큐가 가득 차 거절되었거나 재시도 후에도 실패한 구간은 {@code workout_stat_dirty_week}에 기록해 두고 복구
+ * 배치({@code repairWorkoutStatsJob})가 그 구간만 다시 집계합니다.
+ * <p>
+ * 교체는 삭제 후 INSERT 대신 {@code INSERT ... ON DUPLICATE KEY UPDATE}로 집계 행을 덮어쓰고, 원본에 더 이상 없는 (운동) 행만
+ * 지웁니다. 같은 새 구간을 동시에 갱신해도 중복 키 오류가 나지 않으며, InnoDB 갭 잠금으로 교착 상태가 나면 원본에서 다시 집계하므로
+ * {@code MAX_ATTEMPTS}번까지 재시도합니다.
+ */
+@Slf4j
+@Component
+public class WorkoutStatsWriter {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO workout_exercise_weekly_stat "
+          + "(member_id, week_start, exercise_id, set_count, total_reps, total_volume, "
+          + "max_weight, best_e1rm) "
+          + "SELECT * FROM ("
+          + "SELECT wl.member_id, "
+          + "DATE_SUB(wl.workout_date, INTERVAL WEEKDAY(wl.workout_date) DAY) AS week_start, "
+          + "we.exercise_id, COUNT(*) AS set_count, SUM(ws.reps) AS total_reps, "
+          + "SUM(ws.weight * ws.reps) AS total_volume, MAX(ws.weight) AS max_weight, "
+          + "MAX(ROUND(CASE WHEN ws.reps <= 1 THEN ws.weight "
+          + "ELSE ws.weight * (1 + ws.reps / 30) END, 2)) AS best_e1rm "
+          + "FROM workout_log wl "
+          + "JOIN workout_exercise we ON we.workout_log_id = wl.id "
+          + "JOIN workout_set ws ON ws.workout_exercise_id = we.id "
+          + "WHERE %s "
+          + "GROUP BY wl.member_id, week_start, we.exercise_id"
+          + ") AS agg "
+          + "ON DUPLICATE KEY UPDATE set_count = agg.set_count, total_reps = agg.total_reps, "
+          + "total_volume = agg.total_volume, max_weight = agg.max_weight, "
+          + "best_e1rm = agg.best_e1rm";
+  // 원본에 세트가 하나도 남지 않은 (회원, 주, 운동) 집계 행
+  private static final String DELETE_STALE_SQL =
+      "DELETE s FROM workout_exercise_weekly_stat s "
+          + "WHERE %s AND NOT EXISTS ("
+          + "SELECT 1 FROM workout_log wl "
+          + "JOIN workout_exercise we ON we.workout_log_id = wl.id "
+          + "JOIN workout_set ws ON ws.workout_exercise_id = we.id "
+          + "WHERE wl.member_id = s.member_id AND we.exercise_id = s.exercise_id "
+          + "AND wl.workout_date BETWEEN s.week_start AND DATE_ADD(s.week_start, INTERVAL 6 DAY))";
+  private static final String MARK_DIRTY_SQL =
+      "INSERT IGNORE INTO workout_stat_dirty_week (member_id, week_start) "
+          + "VALUES (:memberId, :weekStart)";
+  private static final String CLEAR_DIRTY_SQL =
+      "DELETE FROM workout_stat_dirty_week WHERE member_id = :memberId AND week_start = :weekStart";
+
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolTaskExecutor executor;
+  private final MeterRegistry meterRegistry;
+  private final Timer refreshTimer;
+
+  public WorkoutStatsWriter(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("workoutStatsExecutor") ThreadPoolTaskExecutor executor,
+      MeterRegistry meterRegistry) {
+    this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    // afterCommit 에서 실행되면 이미 커밋된 일지 트랜잭션에 참여해 아무것도 커밋되지 않으므로 항상 새 트랜잭션을 사용
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.executor = executor;
+    this.meterRegistry = meterRegistry;
+    this.refreshTimer = Timer.builder("workout.stats.refresh")
+        .description("회원의 한 주 운동 집계 재계산 소요 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 {@code workoutDate}가 속한 주의 집계를 다시 계산합니다. 트랜잭션 밖에서는 바로 예약합니다.
+   */
+  public void refreshWeekAfterCommit(Long memberId, LocalDate workoutDate) {
+    LocalDate weekStart = weekStart(workoutDate);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(memberId, weekStart);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        submit(memberId, weekStart);
+      }
+    });
+  }
+
+  /**
+   * 회원들의 전체 기록을 다시 집계합니다. (백필 배치용, 호출 측 트랜잭션 안에서 실행)
+   */
+  public void refreshMembers(Collection<Long> memberIds) {
+    if (memberIds.isEmpty()) {
+      return;
+    }
+    MapSqlParameterSource params = new MapSqlParameterSource("memberIds", memberIds);
+    namedParameterJdbcTemplate.update(String.format(UPSERT_SQL,
+        "wl.member_id IN (:memberIds)"), params);
+    namedParameterJdbcTemplate.update(String.format(DELETE_STALE_SQL,
+        "s.member_id IN (:memberIds)"), params);
+  }
+
+  /**
+   * 기록해 둔 (회원, 주) 구간을 다시 집계하고 기록을 지웁니다. (복구 배치용, 호출 측 트랜잭션 안에서 실행)
+   * <p>
+   * 기록을 먼저 지우므로, 재집계 중 같은 구간이 다시 실패로 기록되면 다음 복구 때 한 번 더 처리됩니다.
+   */
+  public void repairWeek(Long memberId, LocalDate weekStart) {
+    MapSqlParameterSource params = weekParams(memberId, weekStart);
+    namedParameterJdbcTemplate.update(CLEAR_DIRTY_SQL, params);
+    replaceWeek(params);
+  }
+
+  public static LocalDate weekStart(LocalDate date) {
+    return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  }
+
+  private void submit(Long memberId, LocalDate weekStart) {
+    try {
+      executor.execute(() -> {
+        try {
+          refreshTimer.record(() -> refreshWeek(memberId, weekStart));
+          meterRegistry.counter("workout.stats.refresh.result", "result", "ok").increment();
+        } catch (Exception e) {
+          meterRegistry.counter("workout.stats.refresh.result", "result", "failed").increment();
+          log.error("Failed to refresh workout stats. memberId: {}, weekStart: {}", memberId,
+              weekStart, e);
+          markDirty(memberId, weekStart);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      // 요청 스레드에서 재집계하지 않고 복구 배치로 넘김
+      meterRegistry.counter("workout.stats.refresh.result", "result", "rejected").increment();
+      log.warn("Workout stats queue is full, deferring to repair. memberId: {}, weekStart: {}",
+          memberId, weekStart);
+      markDirty(memberId, weekStart);
+    }
+  }
+
+  private void markDirty(Long memberId, LocalDate weekStart) {
+    try {
+      transactionTemplate.executeWithoutResult(status ->
+          namedParameterJdbcTemplate.update(MARK_DIRTY_SQL, weekParams(memberId, weekStart)));
+    } catch (Exception e) {
+      log.error("Failed to record dirty workout stats week. memberId: {}, weekStart: {}",
+          memberId, weekStart, e);
+    }
+  }
+
+  /**
+   * 재집계 덮어쓰기와 남은 행 삭제를 한 트랜잭션에서 실행하고, 교착 상태/잠금 대기 초과로 롤백되면 처음부터 다시 실행합니다.
+   */
+  private void refreshWeek(Long memberId, LocalDate weekStart) {
+    MapSqlParameterSource params = weekParams(memberId, weekStart);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> replaceWeek(params));
+        return;
+      } catch (PessimisticLockingFailureException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+        meterRegistry.counter("workout.stats.refresh.retry").increment();
+        log.warn("Retrying workout stats refresh after lock failure. memberId: {}, "
+            + "weekStart: {}, attempt: {}", memberId, weekStart, attempt);
+      }
+    }
+  }
+
+  private void replaceWeek(MapSqlParameterSource params) {
+    namedParameterJdbcTemplate.update(String.format(UPSERT_SQL,
+        "wl.member_id = :memberId AND wl.workout_date BETWEEN :weekStart AND :weekEnd"), params);
+    namedParameterJdbcTemplate.update(String.format(DELETE_STALE_SQL,
+        "s.member_id = :memberId AND s.week_start = :weekStart"), params);
+  }
+
+  private static MapSqlParameterSource weekParams(Long memberId, LocalDate weekStart) {
+    return new MapSqlParameterSource()
+        .addValue("memberId", memberId)
+        .addValue("weekStart", weekStart)
+        .addValue("weekEnd", weekStart.plusDays(6));
+  }
+}
@@ -0,0 +1,21 @@
+-- V10__Create_file_blob_table.sql
+-- 내용(SHA-256)이 같은 업로드 파일을 하나의 물리 파일로 공유하기 위한 blob 테이블과 참조 카운트를 추가합니다.
+CREATE TABLE IF NOT EXISTS file_blob
+(
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_hash     VARCHAR(64)  NOT NULL COMMENT '파일 내용의 SHA-256 (hex)',
+    stored_file_name VARCHAR(255) NOT NULL COMMENT '업로드 디렉토리 내 물리 파일 이름',
+    file_size        BIGINT       NOT NULL,
+    ref_count        INT          NOT NULL DEFAULT 0 COMMENT '이 파일을 참조하는 업로드 수',
+    created_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT uk_file_blob_content_hash UNIQUE (content_hash),
+    CONSTRAINT uk_file_blob_stored_file_name UNIQUE (stored_file_name)
+) COMMENT '내용 기준으로 중복 제거된 업로드 파일';
+
+-- 같은 blob 을 여러 user_file 이 참조할 수 있도록 stored_file_name 의 UNIQUE 제약을 일반 인덱스로 바꿉니다.
+ALTER TABLE user_file
+    DROP INDEX stored_file_name,
+    ADD COLUMN content_hash VARCHAR(64) NULL COMMENT '파일 내용의 SHA-256 (hex), 이전 업로드는 NULL';
+
+CREATE INDEX idx_user_file_stored_file_name ON user_file (stored_file_name);
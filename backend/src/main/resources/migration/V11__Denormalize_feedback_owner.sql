@@ -0,0 +1,41 @@
+-- V11__Denormalize_feedback_owner.sql
+-- 피드백 조회가 OR 조건(일지 OR 운동 OR 세트) 대신 인덱스 하나로 끝나도록, 모든 피드백에 상위 운동 일지 ID 를 저장하고
+-- 대상은 (owner_type, owner_id) 쌍으로 표현합니다.
+ALTER TABLE feedback
+    DROP CHECK chk_feedback_owner,
+    ADD COLUMN owner_type VARCHAR(20) NULL COMMENT '피드백 대상 (LOG, EXERCISE, SET)',
+    ADD COLUMN owner_id   BIGINT      NULL COMMENT '피드백 대상의 ID';
+
+UPDATE feedback
+SET owner_type = 'LOG',
+    owner_id   = workout_log_id
+WHERE workout_log_id IS NOT NULL;
+
+UPDATE feedback f
+    JOIN workout_exercise we ON we.id = f.workout_exercise_id
+SET f.owner_type     = 'EXERCISE',
+    f.owner_id       = we.id,
+    f.workout_log_id = we.workout_log_id;
+
+UPDATE feedback f
+    JOIN workout_set ws ON ws.id = f.workout_set_id
+    JOIN workout_exercise we ON we.id = ws.workout_exercise_id
+SET f.owner_type     = 'SET',
+    f.owner_id       = ws.id,
+    f.workout_log_id = we.workout_log_id;
+
+-- 운동/세트 FK 는 더 이상 필요 없음 (일지 삭제 시 workout_log_id FK 로 함께 삭제)
+ALTER TABLE feedback
+    DROP FOREIGN KEY fk_feedback_exercise,
+    DROP FOREIGN KEY fk_feedback_set;
+
+ALTER TABLE feedback
+    DROP COLUMN workout_exercise_id,
+    DROP COLUMN workout_set_id,
+    MODIFY workout_log_id BIGINT      NOT NULL,
+    MODIFY owner_type     VARCHAR(20) NOT NULL COMMENT '피드백 대상 (LOG, EXERCISE, SET)',
+    MODIFY owner_id       BIGINT      NOT NULL COMMENT '피드백 대상의 ID',
+    ADD CONSTRAINT chk_feedback_owner_type CHECK (owner_type IN ('LOG', 'EXERCISE', 'SET'));
+
+-- N 개 일지의 피드백을 인덱스 범위 스캔 한 번으로 찾고, 대상 구분과 작성자 조인에 필요한 컬럼도 인덱스에서 읽습니다.
+CREATE INDEX idx_feedback_log_owner ON feedback (workout_log_id, owner_type, owner_id, author_id);
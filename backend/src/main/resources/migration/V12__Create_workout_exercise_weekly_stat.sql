@@ -0,0 +1,22 @@
+-- V12__Create_workout_exercise_weekly_stat.sql
+-- 진행 차트(주간 볼륨, 추정 1RM, 개인 기록)를 전체 세트 기록을 훑지 않고 조회하기 위한 회원 x 운동 x 주 단위 집계 테이블입니다.
+-- 운동 일지 생성/삭제가 커밋된 뒤 해당 회원의 해당 주만 다시 집계합니다.
+CREATE TABLE IF NOT EXISTS workout_exercise_weekly_stat
+(
+    member_id    BIGINT         NOT NULL,
+    week_start   DATE           NOT NULL COMMENT '해당 주의 월요일',
+    exercise_id  BIGINT         NOT NULL,
+    set_count    INT            NOT NULL,
+    total_reps   INT            NOT NULL,
+    total_volume DECIMAL(14, 2) NOT NULL COMMENT 'SUM(weight * reps)',
+    max_weight   DECIMAL(10, 2) NOT NULL,
+    best_e1rm    DECIMAL(10, 2) NOT NULL COMMENT '세트별 추정 1RM (Epley) 중 최댓값',
+    updated_at   TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (member_id, week_start, exercise_id),
+    CONSTRAINT fk_weekly_stat_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE,
+    CONSTRAINT fk_weekly_stat_exercise FOREIGN KEY (exercise_id) REFERENCES exercise (id)
+) COMMENT '회원 x 운동 x 주 단위 운동 집계';
+
+-- 운동별 추이/개인 기록 조회용
+CREATE INDEX idx_weekly_stat_member_exercise_week
+    ON workout_exercise_weekly_stat (member_id, exercise_id, week_start);
@@ -0,0 +1,15 @@
+-- V13__Create_pt_trainer_schedule.sql
+-- 트레이너별 예약 쓰기를 직렬화하기 위한 잠금 행입니다. 예약 생성/시간 변경/취소는 이 행을 SELECT ... FOR UPDATE 로 잠근 뒤
+-- 겹침을 확인하고, 예약 구간이 바뀌면 version 을 올립니다. (노드 로컬 일정 인덱스가 최신인지 판단하는 기준)
+CREATE TABLE IF NOT EXISTS pt_trainer_schedule
+(
+    trainer_id BIGINT    NOT NULL PRIMARY KEY,
+    version    BIGINT    NOT NULL DEFAULT 0 COMMENT '예약 구간이 바뀔 때마다 1씩 증가',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_trainer_schedule_trainer FOREIGN KEY (trainer_id) REFERENCES member (id) ON DELETE CASCADE
+) COMMENT '트레이너별 예약 잠금 행';
+
+-- 기존 계약이 있는 트레이너는 미리 생성 (그 외에는 첫 예약 때 생성)
+INSERT INTO pt_trainer_schedule (trainer_id)
+SELECT DISTINCT trainer_id
+FROM pt_contract;
@@ -0,0 +1,11 @@
+-- V14__Create_workout_stat_dirty_week.sql
+-- 커밋 후 운동 집계 갱신이 거절(큐 가득 참)되었거나 재시도 후에도 실패한 (회원, 주) 구간입니다. 복구 배치가 이 구간만 다시 집계한 뒤
+-- 행을 지웁니다. (전체 재계산은 백필 배치를 수동으로 실행)
+CREATE TABLE IF NOT EXISTS workout_stat_dirty_week
+(
+    member_id  BIGINT    NOT NULL,
+    week_start DATE      NOT NULL COMMENT '해당 주의 월요일',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (member_id, week_start),
+    CONSTRAINT fk_stat_dirty_week_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) COMMENT '운동 집계 복구 대상 구간';
@@ -0,0 +1,14 @@
+-- V9__Add_reply_count_to_comment.sql
+-- 댓글 커서 페이지네이션을 위해 부모 댓글별 직계 대댓글 수를 비정규화하여 저장합니다.
+ALTER TABLE comment
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0 COMMENT '직계 대댓글 수';
+
+UPDATE comment p
+    JOIN (SELECT parent_comment_id, COUNT(*) AS cnt
+          FROM comment
+          WHERE parent_comment_id IS NOT NULL
+          GROUP BY parent_comment_id) r ON r.parent_comment_id = p.id
+SET p.reply_count = r.cnt;
+
+-- (feed_id, parent_comment_id, id) 순서로 최상위 댓글을 커서 조회합니다.
+CREATE INDEX idx_comment_feed_parent_id ON comment (feed_id, parent_comment_id, id);
@@ -0,0 +1,202 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.workout.feed.domain.Comment;
+import com.workout.feed.domain.Feed;
+import com.workout.feed.dto.CommentResponse;
+import com.workout.feed.repository.CommentRepository;
+import com.workout.feed.repository.FeedRepository;
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.CommentErrorCode;
+import com.workout.member.domain.Member;
+import com.workout.member.service.MemberService;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentService 단위 테스트")
+class CommentServiceTest {
+
+  @Mock
+  private CommentRepository commentRepository;
+  @Mock
+  private MemberService memberService;
+  @Mock
+  private FeedRepository feedRepository;
+  @Mock
+  private FeedCounterStore feedCounterStore;
+
+  @InjectMocks
+  private CommentService commentService;
+
+  @Test
+  @DisplayName("size + 1 개가 조회되면 size 개만 반환하고 다음 페이지가 있다고 알린다")
+  void getComments_hasNext() {
+    // given
+    List<Comment> fetched = comments(11, 13);
+    given(commentRepository.findParentCommentsWithCursor(eq(1L), eq(10L), any()))
+        .willReturn(fetched);
+
+    // when
+    Slice<CommentResponse> slice = commentService.getComments(1L, 10L, 2);
+
+    // then
+    assertThat(slice.getContent()).extracting(CommentResponse::getCommentId)
+        .containsExactly(11L, 12L);
+    assertThat(slice.hasNext()).isTrue();
+    assertThat(slice.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("size 개 이하가 조회되면 마지막 페이지다")
+  void getComments_lastPage() {
+    // given
+    List<Comment> fetched = comments(1, 2);
+    given(commentRepository.findParentCommentsFirstPage(1L, PageRequest.of(0, 3)))
+        .willReturn(fetched);
+
+    // when
+    Slice<CommentResponse> slice = commentService.getComments(1L, null, 2);
+
+    // then
+    assertThat(slice.getContent()).hasSize(2);
+    assertThat(slice.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("대댓글도 다음 페이지 여부를 함께 반환한다")
+  void getReplies_hasNext() {
+    // given
+    List<Comment> fetched = comments(6, 7);
+    given(commentRepository.findRepliesFirstPage(5L, PageRequest.of(0, 2)))
+        .willReturn(fetched);
+
+    // when
+    Slice<CommentResponse> slice = commentService.getReplies(5L, null, 1);
+
+    // then
+    assertThat(slice.getContent()).extracting(CommentResponse::getCommentId)
+        .containsExactly(6L);
+    assertThat(slice.hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("요청 크기는 최대 100개로 줄여 조회한다")
+  void getComments_clampsSize() {
+    // given
+    given(commentRepository.findParentCommentsFirstPage(1L, PageRequest.of(0, 101)))
+        .willReturn(List.of());
+
+    // when
+    Slice<CommentResponse> slice = commentService.getComments(1L, null, 10_000);
+
+    // then
+    assertThat(slice.getSize()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("0 이하의 요청 크기는 잘못된 요청이다")
+  void getReplies_rejectsNonPositiveSize() {
+    // when & then
+    assertThatThrownBy(() -> commentService.getReplies(5L, null, 0))
+        .isInstanceOf(RestApiException.class)
+        .extracting(e -> ((RestApiException) e).getErrorCode())
+        .isEqualTo(CommentErrorCode.INVALID_PARAMETER);
+    then(commentRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("하위 댓글 트리는 가장 깊은 단계부터 IN 절 청크로 지우고, 부모 대댓글 수와 피드 카운터는 한 번씩만 줄인다")
+  void deleteComment_deletesSubtreeDeepestFirstInChunks() {
+    // given: 100(부모) ← 1(삭제 대상) ← 2..1201(1200개, 청크 2개) ← 5000, 5001
+    Comment comment = comment(1L, 9L, 100L);
+    given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+    List<Long> children = LongStream.rangeClosed(2, 1201).boxed().toList();
+    List<Long> grandchildren = List.of(5000L, 5001L);
+    given(commentRepository.findIdsByParentIdIn(List.of(1L))).willReturn(children);
+    given(commentRepository.findIdsByParentIdIn(children.subList(0, 1000)))
+        .willReturn(grandchildren);
+    given(commentRepository.findIdsByParentIdIn(children.subList(1000, 1200)))
+        .willReturn(List.of());
+    given(commentRepository.findIdsByParentIdIn(grandchildren)).willReturn(List.of());
+    given(commentRepository.deleteAllByIdIn(anyList()))
+        .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    commentService.deleteComment(1L, 9L);
+
+    // then
+    InOrder order = inOrder(commentRepository);
+    order.verify(commentRepository).deleteAllByIdIn(grandchildren);
+    order.verify(commentRepository).deleteAllByIdIn(children.subList(0, 1000));
+    order.verify(commentRepository).deleteAllByIdIn(children.subList(1000, 1200));
+    order.verify(commentRepository).deleteAllByIdIn(List.of(1L));
+    then(commentRepository).should(times(4)).deleteAllByIdIn(anyList());
+    then(commentRepository).should(times(1)).addReplyCount(100L, -1);
+
+    then(feedCounterStore).should(never()).incrementIfPresent(anyString(), anyLong());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(feedCounterStore).should(times(1)).incrementIfPresent("counts:comment:feed:3", -1203L);
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static Comment comment(Long id, Long authorId, Long parentId) {
+    Member author = mock(Member.class);
+    given(author.getId()).willReturn(authorId);
+    Feed feed = mock(Feed.class);
+    given(feed.getId()).willReturn(3L);
+    Comment parent = mock(Comment.class);
+    given(parent.getId()).willReturn(parentId);
+    Comment comment = mock(Comment.class);
+    given(comment.getId()).willReturn(id);
+    given(comment.getMember()).willReturn(author);
+    given(comment.getFeed()).willReturn(feed);
+    given(comment.getParent()).willReturn(parent);
+    return comment;
+  }
+
+  private static List<Comment> comments(long fromId, long toId) {
+    Member member = mock(Member.class);
+    return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+      Comment comment = mock(Comment.class);
+      lenient().when(comment.getId()).thenReturn(id); // 잘려 나가는 size + 1 번째 행은 매핑되지 않음
+      lenient().when(comment.getMember()).thenReturn(member);
+      return comment;
+    }).toList();
+  }
+}
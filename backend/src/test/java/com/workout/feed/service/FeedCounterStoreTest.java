@@ -0,0 +1,140 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.workout.support.EmbeddedRedis;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("FeedCounterStore 단위 테스트 (embedded Redis)")
+class FeedCounterStoreTest {
+
+  private static EmbeddedRedis embeddedRedis;
+  private static RedisTemplate<String, Object> redisTemplate;
+
+  private FeedCounterStore feedCounterStore;
+
+  @BeforeAll
+  static void startRedis() {
+    embeddedRedis = EmbeddedRedis.start();
+    redisTemplate = embeddedRedis.redisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    feedCounterStore = new FeedCounterStore(redisTemplate, Duration.ofMinutes(10));
+  }
+
+  @Test
+  @DisplayName("키가 없으면 증감하지 않아 다음 조회에서 COUNT 복구가 일어난다")
+  void incrementIfPresent_skipsMissingKey() {
+    // when
+    feedCounterStore.incrementIfPresent("counts:like:feed:1", 1);
+
+    // then
+    assertThat(redisTemplate.hasKey("counts:like:feed:1")).isFalse();
+    assertThat(feedCounterStore.rebuild("counts:like:feed:1", () -> 7L)).isEqualTo(7L);
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:1")).longValue())
+        .isEqualTo(7L);
+  }
+
+  @Test
+  @DisplayName("복구된 키에는 증감이 적용되고 복구 TTL 이 남는다")
+  void incrementIfPresent_appliesToRebuiltKey() {
+    // given
+    feedCounterStore.rebuild("counts:comment:feed:1", () -> 3L);
+
+    // when
+    feedCounterStore.incrementIfPresent("counts:comment:feed:1", -2);
+
+    // then
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:comment:feed:1")).longValue())
+        .isEqualTo(1L);
+    assertThat(redisTemplate.getExpire("counts:comment:feed:1")).isPositive();
+  }
+
+  @Test
+  @DisplayName("파이프라인 증감은 있는 키에만 적용된다")
+  void incrementAllIfPresent_onlyExistingKeys() {
+    // given
+    redisTemplate.opsForValue().set("counts:like:feed:1", 5L);
+    Map<String, Long> deltas = new LinkedHashMap<>();
+    deltas.put("counts:like:feed:1", 2L);
+    deltas.put("counts:like:feed:2", 1L);
+
+    // when
+    feedCounterStore.incrementAllIfPresent(deltas);
+
+    // then
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:1")).longValue())
+        .isEqualTo(7L);
+    assertThat(redisTemplate.hasKey("counts:like:feed:2")).isFalse();
+  }
+
+  @Test
+  @DisplayName("이미 복구된 키는 덮어쓰지 않는다")
+  void rebuild_doesNotOverwriteExistingKey() {
+    // given
+    redisTemplate.opsForValue().set("counts:like:feed:1", 5L);
+
+    // when
+    long count = feedCounterStore.rebuild("counts:like:feed:1", () -> 4L);
+
+    // then
+    assertThat(count).isEqualTo(4L);
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:1")).longValue())
+        .isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("GROUP BY 결과로 여러 키를 한 번에 복구하되, 이미 있는 키는 덮어쓰지 않는다")
+  void rebuildAll_setsOnlyMissingKeys() {
+    // given
+    redisTemplate.opsForValue().set("counts:like:feed:1", 5L);
+    Map<String, Long> counts = new LinkedHashMap<>();
+    counts.put("counts:like:feed:1", 4L);
+    counts.put("counts:like:feed:2", 0L);
+
+    // when
+    feedCounterStore.rebuildAll(counts);
+
+    // then
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:1")).longValue())
+        .isEqualTo(5L);
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:2")).longValue())
+        .isZero();
+    assertThat(redisTemplate.getExpire("counts:like:feed:2")).isPositive();
+  }
+
+  @Test
+  @DisplayName("재집계 덮어쓰기는 있는 키만 바꾸고 복구 TTL 을 두며, 없는 키는 만들지 않는다")
+  void overwriteAllIfPresent_onlyExistingKeysWithTtl() {
+    // given
+    redisTemplate.opsForValue().set("counts:like:feed:1", 5L);
+    Map<String, Long> counts = new LinkedHashMap<>();
+    counts.put("counts:like:feed:1", 3L);
+    counts.put("counts:like:feed:2", 0L);
+
+    // when
+    feedCounterStore.overwriteAllIfPresent(counts);
+
+    // then
+    assertThat(((Number) redisTemplate.opsForValue().get("counts:like:feed:1")).longValue())
+        .isEqualTo(3L);
+    assertThat(redisTemplate.getExpire("counts:like:feed:1")).isPositive();
+    assertThat(redisTemplate.hasKey("counts:like:feed:2")).isFalse();
+  }
+}
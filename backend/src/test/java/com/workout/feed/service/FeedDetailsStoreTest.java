@@ -0,0 +1,102 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workout.feed.dto.FeedGridResponse;
+import com.workout.global.config.TypedJacksonRedisSerializer;
+import com.workout.support.EmbeddedRedis;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@DisplayName("FeedDetailsStore 단위 테스트 (embedded Redis)")
+class FeedDetailsStoreTest {
+
+  private static EmbeddedRedis embeddedRedis;
+  private static RedisTemplate<String, Object> redisTemplate;
+  private static RedisTemplate<String, FeedGridResponse> feedDetailsRedisTemplate;
+
+  private FeedDetailsStore feedDetailsStore;
+
+  @BeforeAll
+  static void startRedis() {
+    embeddedRedis = EmbeddedRedis.start();
+    redisTemplate = embeddedRedis.redisTemplate();
+    TypedJacksonRedisSerializer<FeedGridResponse> serializer =
+        TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class);
+    feedDetailsRedisTemplate = new RedisTemplate<>();
+    feedDetailsRedisTemplate.setConnectionFactory(embeddedRedis.connectionFactory());
+    feedDetailsRedisTemplate.setKeySerializer(new StringRedisSerializer());
+    feedDetailsRedisTemplate.setValueSerializer(serializer);
+    feedDetailsRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+    feedDetailsRedisTemplate.setHashValueSerializer(serializer);
+    feedDetailsRedisTemplate.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    feedDetailsStore = new FeedDetailsStore(redisTemplate, feedDetailsRedisTemplate,
+        new ObjectMapper(), 4);
+  }
+
+  @Test
+  @DisplayName("버킷 해시와 인덱스는 같은 hash tag 를 쓴다")
+  void putAll_writesBucketAndIndexWithSameHashTag() {
+    // when
+    feedDetailsStore.putAll(Map.of(5L, detail(5L)));
+
+    // then
+    assertThat(feedDetailsStore.bucketKey(5L)).isEqualTo("feeds:details:{1}");
+    assertThat(feedDetailsStore.indexKey(5L)).isEqualTo("feeds:details:index:{1}");
+    assertThat(redisTemplate.hasKey("feeds:details:{1}")).isTrue();
+    assertThat(redisTemplate.opsForZSet().score("feeds:details:index:{1}", 5L)).isNotNull();
+    assertThat(redisTemplate.hasKey("feeds:details:index")).isFalse();
+  }
+
+  @Test
+  @DisplayName("여러 버킷에 나뉜 상세 정보를 한 번에 조회한다")
+  void getAll_readsAcrossBuckets() {
+    // given
+    feedDetailsStore.putAll(Map.of(1L, detail(1L), 2L, detail(2L)));
+
+    // when
+    Map<Long, FeedGridResponse> details = feedDetailsStore.getAll(List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(details).containsOnlyKeys(1L, 2L);
+    assertThat(details.get(2L).imageUrl()).isEqualTo("image-2");
+  }
+
+  @Test
+  @DisplayName("만료 정리는 모든 버킷 인덱스를 확인한다")
+  void evictExpired_scansEveryBucketIndex() {
+    // given
+    feedDetailsStore.putAll(Map.of(1L, detail(1L), 2L, detail(2L), 7L, detail(7L)));
+
+    // when
+    long evicted = feedDetailsStore.evictExpired(Duration.ofMillis(-1000), 1);
+
+    // then
+    assertThat(evicted).isEqualTo(3L);
+    assertThat(feedDetailsStore.getAll(List.of(1L, 2L, 7L))).isEmpty();
+    assertThat(redisTemplate.opsForZSet().size("feeds:details:index:{3}")).isZero();
+  }
+
+  private static FeedGridResponse detail(Long feedId) {
+    return new FeedGridResponse(feedId, "image-" + feedId, null, null, "author", null);
+  }
+}
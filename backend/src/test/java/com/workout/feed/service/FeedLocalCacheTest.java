@@ -0,0 +1,107 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.workout.feed.dto.FeedGridResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedLocalCache 단위 테스트")
+class FeedLocalCacheTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private FeedLocalCache feedLocalCache;
+
+  @BeforeEach
+  void setUp() {
+    feedLocalCache = new FeedLocalCache(stringRedisTemplate, listenerContainer,
+        new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("적재한 페이지는 다음 조회 때 로더를 호출하지 않는다")
+  void getOrLoad_cachesLoadedPage() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    List<FeedGridResponse> page = page(1L, "url");
+
+    // when
+    feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      return page;
+    });
+    List<FeedGridResponse> second = feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      return page;
+    });
+
+    // then
+    assertThat(second).isEqualTo(page);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("적재 도중 무효화가 오면 그 결과는 캐시하지 않는다")
+  void getOrLoad_discardsLoadStartedBeforeInvalidation() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    List<FeedGridResponse> stale = page(1L, "stale");
+    List<FeedGridResponse> fresh = page(2L, "fresh");
+
+    // when
+    feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      feedLocalCache.invalidateGym(1L); // 다른 노드의 피드 추가 알림이 적재 중에 도착
+      return stale;
+    });
+    List<FeedGridResponse> next = feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      return fresh;
+    });
+
+    // then
+    assertThat(next).isEqualTo(fresh);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("다른 헬스장의 무효화는 적재 결과에 영향을 주지 않는다")
+  void getOrLoad_ignoresOtherGymInvalidation() {
+    // given
+    List<FeedGridResponse> page = page(1L, "url");
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      feedLocalCache.invalidateGym(2L);
+      return page;
+    });
+    feedLocalCache.getOrLoad(1L, null, null, 20, () -> {
+      loads.incrementAndGet();
+      return page;
+    });
+
+    // then
+    assertThat(loads).hasValue(1);
+  }
+
+  private static List<FeedGridResponse> page(Long feedId, String imageUrl) {
+    return List.of(new FeedGridResponse(feedId, imageUrl, null, null, "author", null));
+  }
+}
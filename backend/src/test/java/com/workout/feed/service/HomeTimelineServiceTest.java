@@ -0,0 +1,237 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workout.feed.dto.FeedGridResponse;
+import com.workout.feed.repository.FeedRepository;
+import com.workout.global.config.TypedJacksonRedisSerializer;
+import com.workout.member.repository.MemberRepository;
+import com.workout.pt.domain.contract.PTContractStatus;
+import com.workout.pt.repository.PTContractRepository;
+import com.workout.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@DisplayName("HomeTimelineService 단위 테스트 (embedded Redis)")
+class HomeTimelineServiceTest {
+
+  private static final Long GYM_ID = 7L;
+  private static final long PUSH_THRESHOLD = 100;
+
+  private static EmbeddedRedis embeddedRedis;
+  private static RedisTemplate<String, Object> redisTemplate;
+  private static RedisTemplate<String, FeedGridResponse> feedDetailsRedisTemplate;
+
+  private FeedRepository feedRepository;
+  private MemberRepository memberRepository;
+  private PTContractRepository ptContractRepository;
+  private FeedCacheService feedCacheService;
+  private FeedDetailsStore feedDetailsStore;
+  private HomeTimelineService homeTimelineService;
+
+  @BeforeAll
+  static void startRedis() {
+    embeddedRedis = EmbeddedRedis.start();
+    redisTemplate = embeddedRedis.redisTemplate();
+    TypedJacksonRedisSerializer<FeedGridResponse> serializer =
+        TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class);
+    feedDetailsRedisTemplate = new RedisTemplate<>();
+    feedDetailsRedisTemplate.setConnectionFactory(embeddedRedis.connectionFactory());
+    feedDetailsRedisTemplate.setKeySerializer(new StringRedisSerializer());
+    feedDetailsRedisTemplate.setValueSerializer(serializer);
+    feedDetailsRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+    feedDetailsRedisTemplate.setHashValueSerializer(serializer);
+    feedDetailsRedisTemplate.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    feedRepository = mock(FeedRepository.class);
+    memberRepository = mock(MemberRepository.class);
+    ptContractRepository = mock(PTContractRepository.class);
+    feedCacheService = mock(FeedCacheService.class);
+    feedDetailsStore = new FeedDetailsStore(redisTemplate, feedDetailsRedisTemplate,
+        new ObjectMapper(), 4);
+    ThreadPoolTaskExecutor fanoutExecutor = mock(ThreadPoolTaskExecutor.class);
+    willAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).given(fanoutExecutor).execute(any(Runnable.class));
+    homeTimelineService = new HomeTimelineService(redisTemplate, feedRepository,
+        memberRepository, ptContractRepository, feedCacheService, feedDetailsStore,
+        fanoutExecutor, new SimpleMeterRegistry(), 500, PUSH_THRESHOLD, Duration.ofDays(7));
+  }
+
+  @Test
+  @DisplayName("첫 조회는 DB 에서 타임라인을 채우고, 점수 0 자리표시 멤버는 반환하지 않는다")
+  void getHomeTimeline_seedsWithPlaceholder() {
+    // given
+    given(memberRepository.findGymIdById(1L)).willReturn(Optional.of(GYM_ID));
+    given(ptContractRepository.findCounterpartIds(1L, PTContractStatus.ACTIVE))
+        .willReturn(List.of());
+    given(feedRepository.findIdsByGymId(eq(GYM_ID), any(Pageable.class)))
+        .willReturn(List.of(3L, 2L, 1L));
+    putDetails(1L, 2L, 3L);
+
+    // when
+    List<FeedGridResponse> timeline = homeTimelineService.getHomeTimeline(1L, null, 10);
+
+    // then
+    assertThat(feedIds(timeline)).containsExactly(3L, 2L, 1L);
+    assertThat(redisTemplate.opsForZSet().score(timelineKey(1L), 0L)).isZero();
+    assertThat(redisTemplate.getExpire(timelineKey(1L))).isPositive();
+  }
+
+  @Test
+  @DisplayName("빈 타임라인도 자리표시 멤버로 키가 남아 이후 작성된 피드를 push 받는다")
+  void getHomeTimeline_emptySeedStillReceivesPush() {
+    // given
+    given(memberRepository.findGymIdById(2L)).willReturn(Optional.of(GYM_ID));
+    given(ptContractRepository.findCounterpartIds(2L, PTContractStatus.ACTIVE))
+        .willReturn(List.of());
+    given(feedRepository.findIdsByGymId(eq(GYM_ID), any(Pageable.class))).willReturn(List.of());
+    assertThat(homeTimelineService.getHomeTimeline(2L, null, 10)).isEmpty();
+    given(memberRepository.countByGymId(GYM_ID)).willReturn(3L);
+    given(memberRepository.findIdsByGymId(GYM_ID)).willReturn(List.of(1L, 2L));
+    given(ptContractRepository.findCounterpartIds(1L, PTContractStatus.ACTIVE))
+        .willReturn(List.of());
+    putDetails(100L);
+
+    // when
+    homeTimelineService.fanOut(100L, 1L, GYM_ID);
+
+    // then
+    assertThat(feedIds(homeTimelineService.getHomeTimeline(2L, null, 10))).containsExactly(100L);
+  }
+
+  @Test
+  @DisplayName("push 는 타임라인이 이미 있는 회원에게만 하고 새 키를 만들지 않는다")
+  void fanOut_pushesOnlyToExistingTimelines() {
+    // given
+    seedTimeline(2L);
+    given(ptContractRepository.findCounterpartIds(1L, PTContractStatus.ACTIVE))
+        .willReturn(List.of());
+    given(memberRepository.countByGymId(GYM_ID)).willReturn(3L);
+    given(memberRepository.findIdsByGymId(GYM_ID)).willReturn(List.of(1L, 2L, 3L));
+
+    // when
+    homeTimelineService.fanOut(100L, 1L, GYM_ID);
+
+    // then
+    assertThat(redisTemplate.opsForZSet().score(timelineKey(2L), 100L)).isEqualTo(100.0);
+    assertThat(redisTemplate.hasKey(timelineKey(1L))).isFalse();
+    assertThat(redisTemplate.hasKey(timelineKey(3L))).isFalse();
+    assertThat(redisTemplate.opsForSet().isMember("timeline:pull-gyms", GYM_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("회원 수가 기준을 넘는 헬스장은 pull 로 표시하고 PT 상대에게만 push 한다")
+  void fanOut_switchesLargeGymToPull() {
+    // given
+    seedTimeline(5L);
+    given(ptContractRepository.findCounterpartIds(1L, PTContractStatus.ACTIVE))
+        .willReturn(List.of(5L));
+    given(memberRepository.countByGymId(GYM_ID)).willReturn(PUSH_THRESHOLD + 1);
+
+    // when
+    homeTimelineService.fanOut(100L, 1L, GYM_ID);
+
+    // then
+    assertThat(redisTemplate.opsForSet().isMember("timeline:pull-gyms", GYM_ID)).isTrue();
+    assertThat(redisTemplate.opsForZSet().score(timelineKey(5L), 100L)).isEqualTo(100.0);
+    then(memberRepository).should(never()).findIdsByGymId(any());
+  }
+
+  @Test
+  @DisplayName("pull 헬스장 회원은 push 받은 피드와 헬스장 피드를 id 역순으로 병합하고 커서로 이어 읽는다")
+  void getHomeTimeline_mergesPullGymFeedsWithCursor() {
+    // given
+    seedTimeline(1L, 50L, 30L, 10L);
+    redisTemplate.opsForSet().add("timeline:pull-gyms", GYM_ID);
+    given(memberRepository.findGymIdById(1L)).willReturn(Optional.of(GYM_ID));
+    putDetails(50L, 30L, 10L);
+    given(feedCacheService.getFeedsForGrid(GYM_ID, null, null, 3))
+        .willReturn(List.of(detail(40L), detail(20L)));
+    given(feedCacheService.getFeedsForGrid(GYM_ID, 30L, null, 3))
+        .willReturn(List.of(detail(20L)));
+
+    // when
+    List<FeedGridResponse> first = homeTimelineService.getHomeTimeline(1L, null, 3);
+    List<FeedGridResponse> next = homeTimelineService.getHomeTimeline(1L, 30L, 3);
+
+    // then
+    assertThat(feedIds(first)).containsExactly(50L, 40L, 30L);
+    assertThat(feedIds(next)).containsExactly(20L, 10L);
+  }
+
+  @Test
+  @DisplayName("상세 캐시와 DB 모두에 없는(삭제된) 피드는 타임라인에서 지운다")
+  void getHomeTimeline_prunesDeletedFeeds() {
+    // given
+    seedTimeline(1L, 3L, 2L);
+    given(memberRepository.findGymIdById(1L)).willReturn(Optional.of(GYM_ID));
+    putDetails(3L);
+    given(feedRepository.findAllByIdInOrderByIdDesc(anyList())).willReturn(List.of());
+
+    // when
+    List<FeedGridResponse> timeline = homeTimelineService.getHomeTimeline(1L, null, 10);
+
+    // then
+    assertThat(feedIds(timeline)).containsExactly(3L);
+    assertThat(redisTemplate.opsForZSet().score(timelineKey(1L), 2L)).isNull();
+    assertThat(redisTemplate.opsForZSet().score(timelineKey(1L), 3L)).isEqualTo(3.0);
+  }
+
+  private void seedTimeline(Long memberId, Long... feedIds) {
+    redisTemplate.opsForZSet().add(timelineKey(memberId), 0L, 0.0);
+    for (Long feedId : feedIds) {
+      redisTemplate.opsForZSet().add(timelineKey(memberId), feedId, feedId);
+    }
+  }
+
+  private void putDetails(Long... feedIds) {
+    feedDetailsStore.putAll(Arrays.stream(feedIds)
+        .collect(Collectors.toMap(Function.identity(), HomeTimelineServiceTest::detail)));
+  }
+
+  private static String timelineKey(Long memberId) {
+    return "timeline:member:" + memberId;
+  }
+
+  private static FeedGridResponse detail(Long feedId) {
+    return new FeedGridResponse(feedId, "image-" + feedId, null, null, "author", null);
+  }
+
+  private static List<Long> feedIds(List<FeedGridResponse> feeds) {
+    return feeds.stream().map(FeedGridResponse::feedId).toList();
+  }
+}
@@ -0,0 +1,106 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeBatchWriter 단위 테스트")
+class LikeBatchWriterTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private FeedCounterStore feedCounterStore;
+  @Mock
+  private LikedFeedStore likedFeedStore;
+
+  private LikeBatchWriter likeBatchWriter;
+
+  @BeforeEach
+  void setUp() {
+    likeBatchWriter = new LikeBatchWriter(jdbcTemplate, namedParameterJdbcTemplate,
+        transactionTemplate, feedCounterStore, likedFeedStore, new SimpleMeterRegistry(), 200);
+  }
+
+  @Test
+  @DisplayName("같은 쌍의 짝수 번 토글은 상쇄되어 DB 에 쓰지 않는다")
+  void flush_evenTogglesCancelOut() {
+    // given
+    likeBatchWriter.enqueue(1L, 10L);
+    likeBatchWriter.enqueue(1L, 10L);
+
+    // when
+    likeBatchWriter.flush();
+
+    // then
+    then(transactionTemplate).should(never()).execute(any());
+    assertThat(likeBatchWriter.hasPendingFlip(1L, 10L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("트랜잭션을 시작하지 못하면(커넥션 풀 고갈 등) 토글을 다시 대기열에 넣는다")
+  void flush_requeuesWhenTransactionCannotStart() {
+    // given
+    likeBatchWriter.enqueue(1L, 10L);
+    given(transactionTemplate.execute(any()))
+        .willThrow(new CannotCreateTransactionException("pool exhausted"));
+
+    // when
+    likeBatchWriter.flush();
+
+    // then
+    assertThat(likeBatchWriter.hasPendingFlip(1L, 10L)).isTrue();
+    then(likedFeedStore).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("커밋에 실패하면 토글을 다시 대기열에 넣는다")
+  void flush_requeuesWhenCommitFails() {
+    // given
+    likeBatchWriter.enqueue(1L, 10L);
+    given(transactionTemplate.execute(any()))
+        .willThrow(new TransactionSystemException("commit failed"));
+
+    // when
+    likeBatchWriter.flush();
+
+    // then
+    assertThat(likeBatchWriter.hasPendingFlip(1L, 10L)).isTrue();
+  }
+
+  @Test
+  @DisplayName("쿼리가 실패하면 토글을 다시 대기열에 넣고, 이후 토글과 합쳐진다")
+  void flush_requeuedTogglesMergeWithNewOnes() {
+    // given
+    likeBatchWriter.enqueue(1L, 10L);
+    given(transactionTemplate.execute(any())).willThrow(new QueryTimeoutException("timeout"));
+
+    // when
+    likeBatchWriter.flush();
+    likeBatchWriter.enqueue(1L, 10L); // 재시도 전에 다시 눌러 취소
+
+    // then
+    assertThat(likeBatchWriter.hasPendingFlip(1L, 10L)).isFalse();
+  }
+}
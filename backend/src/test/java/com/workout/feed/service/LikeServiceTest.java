@@ -0,0 +1,54 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.workout.feed.domain.LikeType;
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.MemberErrorCode;
+import com.workout.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeService 단위 테스트")
+class LikeServiceTest {
+
+  @InjectMocks
+  private LikeService likeService;
+
+  @Mock
+  private LikeBatchWriter likeBatchWriter;
+  @Mock
+  private MemberService memberService;
+
+  @Test
+  @DisplayName("존재하는 회원의 토글은 버퍼에 적재한다")
+  void toggleLike_enqueuesForExistingMember() {
+    // when
+    likeService.toggleLike(1L, LikeType.FEED, 10L);
+
+    // then
+    then(memberService).should().findById(1L);
+    then(likeBatchWriter).should().enqueue(1L, 10L);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 회원의 토글은 적재하지 않고 예외를 던진다")
+  void toggleLike_rejectsUnknownMember() {
+    // given
+    given(memberService.findById(anyLong()))
+        .willThrow(new RestApiException(MemberErrorCode.MEMBER_NOT_FOUND));
+
+    // when & then
+    assertThatThrownBy(() -> likeService.toggleLike(99L, LikeType.FEED, 10L))
+        .isInstanceOf(RestApiException.class);
+    then(likeBatchWriter).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,116 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.workout.feed.domain.LikeType;
+import com.workout.feed.repository.LikeRepository;
+import com.workout.support.EmbeddedRedis;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * embedded Redis(2.8)에는 SMISMEMBER 가 없어 적재/반영 결과는 SISMEMBER 로 확인합니다.
+ */
+@DisplayName("LikedFeedStore 단위 테스트 (embedded Redis)")
+class LikedFeedStoreTest {
+
+  private static final String LIKED_KEY = "liked:feeds:member:{1}";
+
+  private static EmbeddedRedis embeddedRedis;
+  private static RedisTemplate<String, Object> redisTemplate;
+
+  private LikeRepository likeRepository;
+  private LikedFeedStore likedFeedStore;
+
+  @BeforeAll
+  static void startRedis() {
+    embeddedRedis = EmbeddedRedis.start();
+    redisTemplate = embeddedRedis.redisTemplate();
+  }
+
+  @AfterAll
+  static void stopRedis() {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    likeRepository = mock(LikeRepository.class);
+    likedFeedStore = new LikedFeedStore(redisTemplate, likeRepository);
+  }
+
+  @Test
+  @DisplayName("DB 기준으로 SET 을 적재하고 TTL 을 둔다")
+  void warm_writesSetWithTtl() {
+    // given
+    given(likeRepository.findTargetIdsByMemberIdAndTargetType(1L, LikeType.FEED))
+        .willReturn(List.of(10L, 20L));
+
+    // when
+    Set<Long> liked = likedFeedStore.warm(1L);
+
+    // then
+    assertThat(liked).containsExactlyInAnyOrder(10L, 20L);
+    assertThat(isMember(-1L)).isTrue(); // 적재 완료 마커
+    assertThat(isMember(20L)).isTrue();
+    assertThat(redisTemplate.getExpire(LIKED_KEY)).isPositive();
+  }
+
+  @Test
+  @DisplayName("DB 조회 중 커밋된 취소가 반영되면 적재를 버려 좋아요가 남지 않는다")
+  void warm_skippedWhenFlushAppliedWhileLoading() {
+    // given: DB 를 읽은 직후(SADD 전) 플러시가 취소를 반영
+    given(likeRepository.findTargetIdsByMemberIdAndTargetType(1L, LikeType.FEED))
+        .willAnswer(invocation -> {
+          likedFeedStore.applyChanges(Map.of(), Map.of(1L, Set.of(10L)));
+          return List.of(10L);
+        });
+
+    // when
+    likedFeedStore.warm(1L);
+
+    // then
+    assertThat(redisTemplate.hasKey(LIKED_KEY)).isFalse();
+  }
+
+  @Test
+  @DisplayName("적재되지 않은 회원의 변경분은 SET 을 만들지 않는다")
+  void applyChanges_skipsColdSet() {
+    // when
+    likedFeedStore.applyChanges(Map.of(1L, Set.of(10L)), Map.of());
+
+    // then
+    assertThat(redisTemplate.hasKey(LIKED_KEY)).isFalse();
+  }
+
+  @Test
+  @DisplayName("적재된 SET 에는 추가/삭제를 반영하고 TTL 을 갱신한다")
+  void applyChanges_updatesWarmSet() {
+    // given
+    given(likeRepository.findTargetIdsByMemberIdAndTargetType(1L, LikeType.FEED))
+        .willReturn(List.of(10L));
+    likedFeedStore.warm(1L);
+
+    // when
+    likedFeedStore.applyChanges(Map.of(1L, Set.of(20L)), Map.of(1L, Set.of(10L)));
+
+    // then
+    assertThat(isMember(10L)).isFalse();
+    assertThat(isMember(20L)).isTrue();
+    assertThat(redisTemplate.getExpire(LIKED_KEY)).isPositive();
+  }
+
+  private boolean isMember(Long feedId) {
+    return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(LIKED_KEY, feedId));
+  }
+}
@@ -0,0 +1,140 @@
+package com.workout.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+  private static final int CALLERS = 32;
+
+  private final SingleFlight<Long> singleFlight = new SingleFlight<>();
+
+  @Test
+  @DisplayName("같은 키로 동시에 들어온 요청은 작업을 한 번만 실행하고 모두 완료를 기다린다")
+  void concurrentCallsShareOneLoad() throws Exception {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(CALLERS);
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    // when
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(executor.submit(() -> {
+        started.countDown();
+        return singleFlight.run(1L, () -> {
+          loads.incrementAndGet();
+          await(release);
+        }, 5, TimeUnit.SECONDS);
+      }));
+    }
+    started.await();
+    Thread.sleep(100); // follower 들이 future 에 붙을 시간
+    release.countDown();
+
+    // then
+    int leaders = 0;
+    for (Future<Boolean> result : results) {
+      leaders += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+    }
+    executor.shutdown();
+    assertThat(loads).hasValue(1);
+    assertThat(leaders).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 키는 서로 기다리지 않는다")
+  void differentKeysRunIndependently() {
+    // when
+    boolean first = singleFlight.run(1L, () -> { }, 1, TimeUnit.SECONDS);
+    boolean second = singleFlight.run(2L, () -> { }, 1, TimeUnit.SECONDS);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+  }
+
+  @Test
+  @DisplayName("작업이 끝나면 다음 호출은 다시 leader 가 된다")
+  void completedFlightIsRemoved() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    singleFlight.run(1L, loads::incrementAndGet, 1, TimeUnit.SECONDS);
+
+    // when
+    boolean leader = singleFlight.run(1L, loads::incrementAndGet, 1, TimeUnit.SECONDS);
+
+    // then
+    assertThat(leader).isTrue();
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("leader 의 예외는 leader 에게만 전파되고 follower 는 그대로 돌아간다")
+  void failureDoesNotPropagateToFollowers() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<?> leader = executor.submit(() -> singleFlight.run(1L, () -> {
+      await(release);
+      throw new IllegalStateException("load failed");
+    }, 1, TimeUnit.SECONDS));
+    Thread.sleep(100);
+
+    // when
+    Thread follower = new Thread(() -> singleFlight.run(1L, () -> { }, 5, TimeUnit.SECONDS));
+    follower.start();
+    Thread.sleep(100);
+    release.countDown();
+    follower.join(5_000);
+
+    // then
+    assertThat(follower.isAlive()).isFalse();
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("follower 는 제한 시간이 지나면 기다리지 않고 돌아간다")
+  void followerGivesUpAfterTimeout() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    Thread leader = new Thread(() -> singleFlight.run(1L, () -> await(release), 5,
+        TimeUnit.SECONDS));
+    leader.start();
+    Thread.sleep(100);
+
+    // when
+    long startedAt = System.nanoTime();
+    boolean result = singleFlight.run(1L, () -> { }, 100, TimeUnit.MILLISECONDS);
+    long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(waitedMillis).isLessThan(2_000);
+    release.countDown();
+    leader.join(5_000);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
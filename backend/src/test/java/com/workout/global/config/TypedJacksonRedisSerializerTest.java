@@ -0,0 +1,81 @@
+package com.workout.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.workout.feed.dto.FeedGridResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+@DisplayName("TypedJacksonRedisSerializer 단위 테스트")
+class TypedJacksonRedisSerializerTest {
+
+  private final FeedGridResponse detail = new FeedGridResponse(1L, "image.jpg", "image_thumb.jpg",
+      null, "author", "profile.png");
+
+  @ParameterizedTest
+  @ValueSource(strings = {"smile", "json"})
+  @DisplayName("직렬화한 값을 같은 타입으로 그대로 복원한다")
+  void roundTrip(String format) {
+    // given
+    TypedJacksonRedisSerializer<FeedGridResponse> serializer =
+        TypedJacksonRedisSerializer.of(format, FeedGridResponse.class);
+
+    // when
+    FeedGridResponse restored = serializer.deserialize(serializer.serialize(detail));
+
+    // then
+    assertThat(restored).isEqualTo(detail);
+  }
+
+  @Test
+  @DisplayName("공용 직렬화기는 record 에 타입 정보를 싣지 않아 되읽지 못하고, smile 은 그보다 작다")
+  void readsTargetTypeAndSmileIsSmaller() {
+    // given
+    GenericJackson2JsonRedisSerializer shared =
+        new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper());
+    byte[] sharedBytes = shared.serialize(detail);
+
+    // when
+    byte[] smile = TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class)
+        .serialize(detail);
+
+    // then
+    assertThatThrownBy(() -> shared.deserialize(sharedBytes))
+        .isInstanceOf(SerializationException.class);
+    assertThat(smile.length).isLessThan(sharedBytes.length);
+  }
+
+  @Test
+  @DisplayName("포맷 전환 이전에 기록된 값 등 해석할 수 없는 값은 miss(null)로 취급한다")
+  void unreadableValueIsMiss() {
+    // given
+    TypedJacksonRedisSerializer<FeedGridResponse> smile =
+        TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class);
+    byte[] legacy = new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper())
+        .serialize(detail);
+
+    // when & then
+    assertThat(smile.deserialize(legacy)).isNull();
+    assertThat(smile.deserialize(new byte[0])).isNull();
+    assertThat(smile.deserialize(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("null 은 빈 바이트로 직렬화한다")
+  void serializeNull() {
+    assertThat(TypedJacksonRedisSerializer.of("smile", FeedGridResponse.class).serialize(null))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 포맷은 거부한다")
+  void unsupportedFormat() {
+    assertThatThrownBy(() -> TypedJacksonRedisSerializer.of("cbor", FeedGridResponse.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
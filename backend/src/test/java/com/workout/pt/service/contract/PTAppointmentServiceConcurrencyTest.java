@@ -0,0 +1,231 @@
+package com.workout.pt.service.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.PTErrorCode;
+import com.workout.member.domain.Member;
+import com.workout.member.service.MemberService;
+import com.workout.pt.domain.contract.PTAppointment;
+import com.workout.pt.domain.contract.PTContract;
+import com.workout.pt.domain.contract.PTContractStatus;
+import com.workout.pt.dto.request.AppointmentRequest;
+import com.workout.pt.repository.PTAppointmentRepository;
+import com.workout.pt.repository.PTContractRepository;
+import com.workout.trainer.domain.Trainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 두 노드(각자 스트라이프 잠금과 일정 인덱스를 가진 서비스)가 H2(MySQL 모드)의 같은 {@code pt_trainer_schedule} 행을 잠그며 한 트레이너에
+ * 동시에 예약을 넣습니다. 노드 간 무효화 메시지는 발행되지 않는 것으로 두어, 잠금 시점 version 비교만으로 다른 노드의 예약을 보는지 확인합니다.
+ * 예약 저장소는 커밋 직전에 예약을 공개하는 목록으로 대신합니다. (잠금 행 커밋 전에 보이므로 다음 잠금 보유자는 반드시 봄)
+ */
+@DisplayName("PTAppointmentService 동시 예약 테스트 (H2 행 잠금, 2개 노드)")
+class PTAppointmentServiceConcurrencyTest {
+
+  private static final int CALLERS = 32;
+  private static final Long TRAINER_ID = 1L;
+  private static final Long MEMBER_ID = 2L;
+  private static final Long CONTRACT_ID = 10L;
+
+  private final List<PTAppointment> committed = new CopyOnWriteArrayList<>();
+  private final AtomicLong appointmentIds = new AtomicLong();
+  private final LocalDateTime base = LocalDateTime.now().plusDays(7)
+      .truncatedTo(ChronoUnit.HOURS);
+
+  private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private PTAppointmentService[] nodes;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:pt-booking;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+    jdbcTemplate.execute("""
+        CREATE TABLE pt_trainer_schedule (
+            trainer_id BIGINT NOT NULL PRIMARY KEY,
+            version    BIGINT NOT NULL DEFAULT 0
+        )""");
+    namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+    PTContractRepository ptContractRepository = mock(PTContractRepository.class);
+    PTContract contract = contract();
+    given(ptContractRepository.findById(CONTRACT_ID)).willReturn(Optional.of(contract));
+    PTAppointmentRepository ptAppointmentRepository = appointmentRepository();
+
+    nodes = new PTAppointmentService[]{node(ptAppointmentRepository, ptContractRepository),
+        node(ptAppointmentRepository, ptContractRepository)};
+  }
+
+  @ParameterizedTest(name = "잠금 행 미리 생성: {0}")
+  @ValueSource(booleans = {true, false})
+  @DisplayName("한 트레이너의 겹치는 시간에 동시에 생성/제안하면 정확히 하나만 예약된다")
+  void concurrentOverlappingBookings_onlyOneWins(boolean scheduleRowExists) throws Exception {
+    // given: 기존 계약 트레이너(마이그레이션이 행을 만듦) / 첫 예약 트레이너(INSERT IGNORE 로 생성)
+    if (scheduleRowExists) {
+      namedParameterJdbcTemplate.getJdbcTemplate()
+          .update("INSERT INTO pt_trainer_schedule (trainer_id) VALUES (?)", TRAINER_ID);
+    }
+
+    // when: [0, 60), [10, 70), [20, 80), [30, 90)분 - 모두 서로 겹침
+    List<Object> results = runConcurrently(i -> base.plusMinutes((i % 4) * 10L),
+        Duration.ofMinutes(60));
+
+    // then
+    assertThat(results).filteredOn(Long.class::isInstance).hasSize(1);
+    assertThat(results).filteredOn(RestApiException.class::isInstance)
+        .hasSize(CALLERS - 1)
+        .allSatisfy(result -> assertThat(((RestApiException) result).getErrorCode())
+            .isEqualTo(PTErrorCode.ALREADY_PRESENT_APPOINTMENT));
+    assertThat(committed).hasSize(1);
+    assertThat(scheduleVersion()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("겹치지 않는 시간은 노드가 달라도 모두 예약되고 서로 겹치지 않는다")
+  void concurrentDisjointBookings_allSucceedWithoutOverlap() throws Exception {
+    // when: 호출마다 다른 1시간
+    List<Object> results = runConcurrently(i -> base.plusHours(i), Duration.ofHours(1));
+
+    // then
+    assertThat(results).allMatch(Long.class::isInstance);
+    assertThat(committed).hasSize(CALLERS);
+    assertNoOverlap(committed);
+    assertThat(scheduleVersion()).isEqualTo(CALLERS);
+  }
+
+  private List<Object> runConcurrently(IntFunction<LocalDateTime> startTimeOf, Duration length)
+      throws Exception {
+    CountDownLatch ready = new CountDownLatch(CALLERS);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    List<Future<Object>> futures = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      int caller = i;
+      futures.add(executor.submit(() -> {
+        LocalDateTime startTime = startTimeOf.apply(caller);
+        AppointmentRequest request = new AppointmentRequest(startTime, startTime.plus(length),
+            TRAINER_ID, MEMBER_ID, null, CONTRACT_ID);
+        PTAppointmentService node = nodes[caller % nodes.length];
+        ready.countDown();
+        start.await();
+        try {
+          // 트레이너는 생성, 회원은 제안 (둘 다 같은 잠금/겹침 확인을 거침)
+          return transactionTemplate.execute(status -> (caller % 4 < 2)
+              ? node.create(TRAINER_ID, request) : node.propose(MEMBER_ID, request));
+        } catch (RestApiException e) {
+          return e;
+        }
+      }));
+    }
+    ready.await();
+    start.countDown();
+
+    List<Object> results = new ArrayList<>();
+    for (Future<Object> future : futures) {
+      results.add(future.get(30, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    return results;
+  }
+
+  private PTAppointmentService node(PTAppointmentRepository ptAppointmentRepository,
+      PTContractRepository ptContractRepository) {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TrainerScheduleLock trainerScheduleLock = new TrainerScheduleLock(namedParameterJdbcTemplate,
+        meterRegistry, 256, Duration.ofSeconds(10));
+    TrainerScheduleIndex trainerScheduleIndex = new TrainerScheduleIndex(ptAppointmentRepository,
+        trainerScheduleLock, mock(StringRedisTemplate.class),
+        mock(RedisMessageListenerContainer.class), meterRegistry, 100, Duration.ofHours(1),
+        Duration.ofDays(1));
+    return new PTAppointmentService(ptAppointmentRepository, ptContractRepository,
+        mock(PTContractService.class), mock(MemberService.class), trainerScheduleIndex,
+        trainerScheduleLock);
+  }
+
+  private PTAppointmentRepository appointmentRepository() {
+    PTAppointmentRepository repository = mock(PTAppointmentRepository.class);
+    given(repository.save(any(PTAppointment.class))).willAnswer(invocation -> {
+      PTAppointment appointment = invocation.getArgument(0);
+      appointment.setId(appointmentIds.incrementAndGet());
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          committed.add(appointment);
+        }
+      });
+      return appointment;
+    });
+    given(repository.findAllByContract_Trainer_IdAndStatusNotAndEndTimeAfter(anyLong(), any(),
+        any())).willAnswer(invocation -> {
+          LocalDateTime endTimeAfter = invocation.getArgument(2);
+          return committed.stream()
+              .filter(appointment -> appointment.getEndTime().isAfter(endTimeAfter))
+              .toList();
+        });
+    return repository;
+  }
+
+  private static PTContract contract() {
+    Trainer trainer = mock(Trainer.class);
+    given(trainer.getId()).willReturn(TRAINER_ID);
+    Member member = mock(Member.class);
+    given(member.getId()).willReturn(MEMBER_ID);
+    PTContract contract = mock(PTContract.class);
+    given(contract.getTrainer()).willReturn(trainer);
+    given(contract.getMember()).willReturn(member);
+    given(contract.getStatus()).willReturn(PTContractStatus.ACTIVE);
+    given(contract.getRemainingSessions()).willReturn(100L);
+    return contract;
+  }
+
+  private long scheduleVersion() {
+    return namedParameterJdbcTemplate.getJdbcTemplate().queryForObject(
+        "SELECT version FROM pt_trainer_schedule WHERE trainer_id = ?", Long.class, TRAINER_ID);
+  }
+
+  private static void assertNoOverlap(List<PTAppointment> appointments) {
+    List<PTAppointment> sorted = new ArrayList<>(appointments);
+    sorted.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+    for (int i = 1; i < sorted.size(); i++) {
+      assertThat(sorted.get(i).getStartTime()).isAfterOrEqualTo(sorted.get(i - 1).getEndTime());
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.workout.pt.service.contract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.workout.pt.dto.response.FreeSlotResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TrainerSchedule 단위 테스트")
+class TrainerScheduleTest {
+
+  private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 19, 0, 0);
+  private static final long HOUR = 3600;
+
+  @Test
+  @DisplayName("구간은 [start, end) 라 끝과 시작이 맞닿으면 겹치지 않는다")
+  void overlaps_halfOpenBoundaries() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 10, 11));
+
+    // then
+    assertThat(schedule.overlaps(at(11), at(12))).isFalse();
+    assertThat(schedule.overlaps(at(9), at(10))).isFalse();
+    assertThat(schedule.overlaps(at(10) + 600, at(10) + 1200)).isTrue();
+    assertThat(schedule.overlaps(at(9), at(10) + 1)).isTrue();
+    assertThat(schedule.overlaps(at(9), at(12))).isTrue();
+  }
+
+  @Test
+  @DisplayName("앞에서 시작해 길게 이어지는 예약은 뒤의 짧은 예약에 가려져도 찾는다")
+  void overlaps_findsLongEarlierBooking() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 9, 17), booking(2L, 10, 11));
+
+    // then
+    assertThat(schedule.overlaps(at(12), at(13))).isTrue();
+    assertThat(schedule.overlaps(at(17), at(18))).isFalse();
+  }
+
+  @Test
+  @DisplayName("빈 일정은 어떤 구간과도 겹치지 않는다")
+  void overlaps_emptySchedule() {
+    // given
+    TrainerSchedule schedule = schedule();
+
+    // then
+    assertThat(schedule.overlaps(at(0), at(24))).isFalse();
+  }
+
+  @Test
+  @DisplayName("시간을 바꾸려는 예약 자신과의 겹침은 무시한다")
+  void overlaps_excludesOwnBooking() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 10, 11), booking(2L, 12, 13));
+
+    // then
+    assertThat(schedule.overlaps(at(10) + 1800, at(11) + 1800, 1L)).isFalse();
+    assertThat(schedule.overlaps(at(10) + 1800, at(12) + 1800, 1L)).isTrue();
+    assertThat(schedule.overlaps(at(10) + 1800, at(11) + 1800, 2L)).isTrue();
+  }
+
+  @Test
+  @DisplayName("예약 사이의 빈 구간 중 최소 길이 이상만 시간순으로 반환한다")
+  void freeSlots_betweenBookings() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 10, 11), booking(2L, 13, 14),
+        booking(3L, 15, 15) /* 길이 0 */);
+
+    // when
+    List<FreeSlotResponse> hourly = schedule.freeSlots(at(9), at(18), HOUR);
+    List<FreeSlotResponse> twoHours = schedule.freeSlots(at(9), at(18), 2 * HOUR);
+
+    // then
+    assertThat(hourly).containsExactly(slot(9, 10), slot(11, 13), slot(14, 15), slot(15, 18));
+    assertThat(twoHours).containsExactly(slot(11, 13), slot(15, 18));
+  }
+
+  @Test
+  @DisplayName("조회 시작 전에 시작해 걸쳐 있는 예약과 그 안의 예약은 건너뛴다")
+  void freeSlots_skipsBookingsSpanningFrom() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 8, 10), booking(2L, 8, 9),
+        booking(3L, 6, 7));
+
+    // when
+    List<FreeSlotResponse> slots = schedule.freeSlots(at(9), at(12), HOUR);
+
+    // then
+    assertThat(slots).containsExactly(slot(10, 12));
+  }
+
+  @Test
+  @DisplayName("조회 구간이 통째로 예약이면 빈 구간이 없다")
+  void freeSlots_fullyBooked() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 8, 12), booking(2L, 12, 20));
+
+    // then
+    assertThat(schedule.freeSlots(at(9), at(18), 1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 예약을 다시 넣으면 시각이 교체되고, 빼면 그 구간이 비어 version 이 오른다")
+  void upsertAndRemove_replaceInterval() {
+    // given
+    TrainerSchedule schedule = schedule(booking(1L, 10, 11));
+
+    // when
+    TrainerSchedule moved = schedule.upsert(1L, at(14), at(15), 2);
+    TrainerSchedule removed = moved.remove(1L, 3);
+
+    // then
+    assertThat(moved.size()).isEqualTo(1);
+    assertThat(moved.overlaps(at(10), at(11))).isFalse();
+    assertThat(moved.overlaps(at(14), at(15))).isTrue();
+    assertThat(removed.size()).isZero();
+    assertThat(removed.version()).isEqualTo(3);
+    assertThat(schedule.overlaps(at(10), at(11))).isTrue(); // 원본은 그대로
+  }
+
+  private static TrainerSchedule schedule(long[]... bookings) {
+    TrainerSchedule schedule = TrainerSchedule.of(0, DAY, List.of());
+    for (long[] booking : bookings) {
+      schedule = schedule.upsert(booking[0], booking[1], booking[2], 1);
+    }
+    return schedule;
+  }
+
+  private static long[] booking(long id, int startHour, int endHour) {
+    return new long[]{id, at(startHour), at(endHour)};
+  }
+
+  private static long at(int hour) {
+    return TrainerSchedule.toKey(DAY.plusHours(hour));
+  }
+
+  private static FreeSlotResponse slot(int startHour, int endHour) {
+    return new FreeSlotResponse(DAY.plusHours(startHour), DAY.plusHours(endHour));
+  }
+}
@@ -0,0 +1,59 @@
+package com.workout.support;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+/**
+ * Redis 스크립트/파이프라인 동작을 확인하는 테스트용 embedded Redis. 애플리케이션과 같은 직렬화기(String 키 + JSON 값)의 템플릿을
+ * 제공합니다.
+ */
+public final class EmbeddedRedis {
+
+  private static final int PORT = 16379;
+
+  private final RedisServer redisServer;
+  private final LettuceConnectionFactory connectionFactory;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private EmbeddedRedis() {
+    redisServer = new RedisServer(PORT);
+    redisServer.start();
+    connectionFactory = new LettuceConnectionFactory("localhost", PORT);
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(connectionFactory);
+    redisTemplate.setKeySerializer(new StringRedisSerializer());
+    redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+    redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+    redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+    redisTemplate.afterPropertiesSet();
+  }
+
+  public static EmbeddedRedis start() {
+    return new EmbeddedRedis();
+  }
+
+  public RedisTemplate<String, Object> redisTemplate() {
+    return redisTemplate;
+  }
+
+  public LettuceConnectionFactory connectionFactory() {
+    return connectionFactory;
+  }
+
+  public void flushAll() {
+    redisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    });
+  }
+
+  public void stop() {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+}
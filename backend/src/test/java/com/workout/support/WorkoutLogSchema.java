@@ -0,0 +1,64 @@
+package com.workout.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 운동 일지 트리 조회 테스트/벤치마크용 H2(MySQL 모드) 스키마. V1/V11 마이그레이션에서 조회에 쓰는 컬럼과 인덱스만 옮겼습니다.
+ */
+public final class WorkoutLogSchema {
+
+  private WorkoutLogSchema() {
+  }
+
+  public static void create(JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+    jdbcTemplate.execute("""
+        CREATE TABLE member (
+            id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+            name VARCHAR(255) NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE exercise (
+            id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+            name VARCHAR(255) NOT NULL UNIQUE
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE workout_log (
+            id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+            member_id    BIGINT NOT NULL,
+            workout_date DATE   NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE workout_exercise (
+            id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+            workout_log_id BIGINT NOT NULL,
+            exercise_id    BIGINT NOT NULL,
+            log_order      INT    NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE workout_set (
+            id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+            workout_exercise_id BIGINT         NOT NULL,
+            set_order           INT            NOT NULL,
+            weight              DECIMAL(10, 2) NOT NULL DEFAULT 0.00,
+            reps                INT            NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE feedback (
+            id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+            author_id      BIGINT      NOT NULL,
+            content        TEXT        NOT NULL,
+            workout_log_id BIGINT      NOT NULL,
+            owner_type     VARCHAR(20) NOT NULL,
+            owner_id       BIGINT      NOT NULL
+        )""");
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_workout_log_member_date ON workout_log (member_id, workout_date)");
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_workout_exercise_log ON workout_exercise (workout_log_id)");
+    jdbcTemplate.execute(
+        "CREATE INDEX idx_workout_set_exercise ON workout_set (workout_exercise_id)");
+    jdbcTemplate.execute("CREATE INDEX idx_feedback_log_owner "
+        + "ON feedback (workout_log_id, owner_type, owner_id, author_id)");
+  }
+}
@@ -0,0 +1,253 @@
+package com.workout.utils.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.workout.global.exception.handler.GlobalExceptionHandler;
+import com.workout.utils.storage.BlobInfo;
+import com.workout.utils.storage.BlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayName("ImageController 테스트")
+class ImageControllerTest {
+
+  private static final byte[] CONTENT = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final Instant LAST_MODIFIED = Instant.ofEpochSecond(0x65000000L);
+  // nginx 형식: "수정시각(초, 16진수)-크기(16진수)"
+  private static final String ETAG = "\"65000000-10\"";
+
+  private final BlobStore blobStore = mock(BlobStore.class);
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    meterRegistry = new SimpleMeterRegistry();
+    given(blobStore.stat(anyString())).willReturn(Optional.empty());
+  }
+
+  @Test
+  @DisplayName("원본은 ETag, Last-Modified, 1년 immutable 캐시 헤더와 함께 스트리밍한다")
+  void getImage_streamsWithCacheHeaders() throws Exception {
+    // given
+    givenBlob("a.jpg");
+
+    // when & then
+    mockMvc(false).perform(get("/images/a.jpg"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED.toEpochMilli()))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+        .andExpect(content().bytes(CONTENT));
+    assertThat(requests("direct", "ok")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304 를 응답한다")
+  void getImage_ifNoneMatchReturnsNotModified() throws Exception {
+    // given
+    givenBlob("a.jpg");
+
+    // when & then
+    mockMvc(false).perform(get("/images/a.jpg").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().bytes(new byte[0]));
+    then(blobStore).should(never()).get(anyString());
+    assertThat(requests("direct", "not_modified")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("If-None-Match 가 다르면 If-Modified-Since 와 상관없이 200 을 응답한다")
+  void getImage_ifNoneMatchMismatchReturnsOk() throws Exception {
+    // given
+    givenBlob("a.jpg");
+
+    // when & then
+    mockMvc(false).perform(get("/images/a.jpg")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+            .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED)))
+        .andExpect(status().isOk())
+        .andExpect(content().bytes(CONTENT));
+  }
+
+  @Test
+  @DisplayName("If-Modified-Since 가 수정 시각 이후면 304, 이전이면 200 을 응답한다")
+  void getImage_ifModifiedSince() throws Exception {
+    // given
+    givenBlob("a.jpg");
+    MockMvc mockMvc = mockMvc(false);
+
+    // when & then
+    mockMvc.perform(get("/images/a.jpg")
+            .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED)))
+        .andExpect(status().isNotModified());
+    mockMvc.perform(get("/images/a.jpg")
+            .header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED.minusSeconds(1))))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("단일 구간 Range 요청은 206 과 Content-Range 로 해당 구간만 응답한다")
+  void getImage_singleRangeReturnsPartialContent() throws Exception {
+    // given
+    givenBlob("a.jpg");
+    given(blobStore.getRange("a.jpg", 2, 5))
+        .willReturn(new ByteArrayInputStream(CONTENT, 2, 4));
+
+    // when & then
+    mockMvc(false).perform(get("/images/a.jpg").header(HttpHeaders.RANGE, "bytes=2-5"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/16"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().string("2345"));
+    assertThat(requests("direct", "partial")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("파일 크기를 벗어나거나 형식이 잘못된 Range 는 416 을 응답한다")
+  void getImage_invalidRangeReturns416() throws Exception {
+    // given
+    givenBlob("a.jpg");
+    MockMvc mockMvc = mockMvc(false);
+
+    // when & then
+    mockMvc.perform(get("/images/a.jpg").header(HttpHeaders.RANGE, "bytes=100-200"))
+        .andExpect(status().isRequestedRangeNotSatisfiable());
+    mockMvc.perform(get("/images/a.jpg").header(HttpHeaders.RANGE, "bytes=abc"))
+        .andExpect(status().isRequestedRangeNotSatisfiable());
+    then(blobStore).should(never()).getRange(anyString(), anyLong(), anyLong());
+  }
+
+  @Test
+  @DisplayName("WebP 협상이 켜져 있으면 Accept 에 image/webp 가 있을 때 WebP 축소본을 Vary: Accept 와 함께 응답한다")
+  void getImage_negotiatesWebpVariant() throws Exception {
+    // given
+    givenBlob("a_thumb.webp");
+    given(blobStore.exists("a_thumb.webp")).willReturn(true);
+
+    // when & then
+    mockMvc(true).perform(get("/images/a_thumb.jpg")
+            .header(HttpHeaders.ACCEPT, "image/avif,image/webp,*/*"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/webp"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andExpect(content().bytes(CONTENT));
+  }
+
+  @Test
+  @DisplayName("WebP 를 받지 않는 클라이언트에는 JPEG 축소본을 응답하되 Vary: Accept 는 유지한다")
+  void getImage_keepsJpegVariantWithoutWebpAccept() throws Exception {
+    // given
+    givenBlob("a_thumb.jpg");
+
+    // when & then
+    mockMvc(true).perform(get("/images/a_thumb.jpg").header(HttpHeaders.ACCEPT, "image/jpeg"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    then(blobStore).should(never()).exists("a_thumb.webp");
+  }
+
+  @Test
+  @DisplayName("WebP 협상이 꺼져 있으면 원본 요청에 Vary 를 붙이지 않는다")
+  void getImage_noVaryWhenNegotiationDisabled() throws Exception {
+    // given
+    givenBlob("a_thumb.jpg");
+
+    // when & then
+    mockMvc(false).perform(get("/images/a_thumb.jpg").header(HttpHeaders.ACCEPT, "image/webp"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.VARY))
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"));
+  }
+
+  @Test
+  @DisplayName("축소본이 아직 없으면 같은 이름의 원본으로 짧게 캐시되는 리다이렉트를 응답한다")
+  void getImage_missingVariantRedirectsToOriginal() throws Exception {
+    // given: 원본은 png 로 올라옴
+    given(blobStore.exists("a.png")).willReturn(true);
+
+    // when & then
+    mockMvc(false).perform(get("/images/a_thumb.jpg"))
+        .andExpect(status().isFound())
+        .andExpect(redirectedUrl("/images/a.png"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    assertThat(requests("direct", "variant_fallback")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("원본도 축소본도 없으면 404 를 응답한다")
+  void getImage_missingReturnsNotFound() throws Exception {
+    mockMvc(false).perform(get("/images/a_thumb.jpg"))
+        .andExpect(status().isNotFound());
+    mockMvc(false).perform(get("/images/b.jpg").header(ImageController.NGINX_FALLBACK_HEADER, "1"))
+        .andExpect(status().isNotFound());
+    assertThat(requests("nginx-fallback", "not_found")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("서명된 URL 을 지원하는 저장소는 앱이 중계하지 않고 서명된 URL 로 리다이렉트한다")
+  void getImage_redirectsToPresignedUrl() throws Exception {
+    // given
+    URI presigned = URI.create("https://bucket.s3.example.com/a.jpg?X-Amz-Signature=abc");
+    given(blobStore.presignedGetUrl("a.jpg", Duration.ofMinutes(10)))
+        .willReturn(Optional.of(presigned));
+
+    // when & then
+    mockMvc(false).perform(get("/images/a.jpg"))
+        .andExpect(status().isFound())
+        .andExpect(redirectedUrl(presigned.toString()))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, private"));
+    then(blobStore).should(never()).get(anyString());
+  }
+
+  private MockMvc mockMvc(boolean webpNegotiation) {
+    ImageController controller = new ImageController(blobStore, meterRegistry,
+        Duration.ofMinutes(10), webpNegotiation);
+    return MockMvcBuilders.standaloneSetup(controller)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  private void givenBlob(String key) throws IOException {
+    given(blobStore.stat(key))
+        .willReturn(Optional.of(new BlobInfo(key, CONTENT.length, LAST_MODIFIED)));
+    given(blobStore.get(key)).willAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+  }
+
+  private double requests(String source, String result) {
+    return meterRegistry.counter("image.requests", "source", source, "result", result).count();
+  }
+
+  private static String httpDate(Instant instant) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfModifiedSince(instant);
+    return headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE);
+  }
+}
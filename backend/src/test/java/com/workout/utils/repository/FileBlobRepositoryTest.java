@@ -0,0 +1,204 @@
+package com.workout.utils.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * {@link FileBlobRepository}의 참조 카운트 네이티브 쿼리를 H2(MySQL 모드)에서 그대로 실행해 검증합니다. 스키마는 V10 마이그레이션의
+ * {@code file_blob} 컬럼/제약만 옮긴 것입니다.
+ */
+@DisplayName("FileBlobRepository 참조 카운트 쿼리 테스트 (H2 MySQL 모드)")
+class FileBlobRepositoryTest {
+
+  private static final String HASH = "a".repeat(64);
+  private static final int UPLOADERS = 16;
+
+  private static String acquireSql;
+  private static String releaseSql;
+  private static String deleteIfUnreferencedSql;
+
+  private JdbcTemplate jdbcTemplate;
+  private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  @BeforeAll
+  static void readQueries() throws NoSuchMethodException {
+    acquireSql = nativeQuery("acquire", String.class, String.class, long.class);
+    releaseSql = nativeQuery("release", Long.class);
+    deleteIfUnreferencedSql = nativeQuery("deleteIfUnreferenced", Long.class);
+  }
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:file_blob;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS file_blob");
+    jdbcTemplate.execute("""
+        CREATE TABLE file_blob (
+            id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+            content_hash     VARCHAR(64)  NOT NULL,
+            stored_file_name VARCHAR(255) NOT NULL,
+            file_size        BIGINT       NOT NULL,
+            ref_count        INT          NOT NULL DEFAULT 0,
+            CONSTRAINT uk_file_blob_content_hash UNIQUE (content_hash),
+            CONSTRAINT uk_file_blob_stored_file_name UNIQUE (stored_file_name)
+        )""");
+  }
+
+  @Test
+  @DisplayName("같은 내용을 다시 올리면 행을 만들지 않고 참조 카운트만 올리며 처음 저장한 파일 이름을 유지한다")
+  void acquire_sameHashIncrementsRefCount() {
+    // when
+    acquire("first.jpg");
+    acquire("second.jpg");
+
+    // then
+    assertThat(jdbcTemplate.queryForList("SELECT stored_file_name, ref_count FROM file_blob"))
+        .containsExactly(Map.of("STORED_FILE_NAME", "first.jpg", "REF_COUNT", 2));
+  }
+
+  @Test
+  @DisplayName("동시에 같은 내용을 올려도 blob 은 하나이고 참조 카운트는 업로드 수와 같다")
+  void acquire_concurrentUploadsShareOneBlob() throws Exception {
+    // given
+    ExecutorService executor = Executors.newFixedThreadPool(UPLOADERS);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // when
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < UPLOADERS; i++) {
+      String storedFileName = "upload-" + i + ".jpg";
+      results.add(executor.submit(() -> {
+        start.await();
+        return acquire(storedFileName);
+      }));
+    }
+    start.countDown();
+    for (Future<?> result : results) {
+      result.get(10, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM file_blob", Integer.class))
+        .isEqualTo(1);
+    assertThat(refCount()).isEqualTo(UPLOADERS);
+  }
+
+  @Test
+  @DisplayName("참조 카운트는 0 아래로 내려가지 않는다")
+  void release_neverGoesBelowZero() {
+    // given
+    acquire("first.jpg");
+    Long id = blobId();
+
+    // when
+    int first = release(id);
+    int second = release(id);
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(refCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("참조가 남아 있으면 삭제하지 않고, 마지막 참조가 풀린 뒤에만 삭제한다")
+  void deleteIfUnreferenced_onlyAfterLastRelease() {
+    // given
+    acquire("first.jpg");
+    acquire("second.jpg");
+    Long id = blobId();
+    release(id);
+
+    // when
+    int whileReferenced = deleteIfUnreferenced(id);
+    release(id);
+    int afterLastRelease = deleteIfUnreferenced(id);
+
+    // then
+    assertThat(whileReferenced).isZero();
+    assertThat(afterLastRelease).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM file_blob", Integer.class))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("마지막 참조를 여러 요청이 동시에 풀어도 물리 파일 삭제는 한 번만 일어난다")
+  void concurrentRelease_deletesExactlyOnce() throws Exception {
+    // given
+    for (int i = 0; i < UPLOADERS; i++) {
+      acquire("upload-" + i + ".jpg");
+    }
+    Long id = blobId();
+    ExecutorService executor = Executors.newFixedThreadPool(UPLOADERS);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // when: FileService.releaseFile 과 같은 순서 (release -> deleteIfUnreferenced)
+    List<Future<Integer>> deleted = new ArrayList<>();
+    for (int i = 0; i < UPLOADERS; i++) {
+      deleted.add(executor.submit(() -> {
+        start.await();
+        release(id);
+        return deleteIfUnreferenced(id);
+      }));
+    }
+    start.countDown();
+    int deletions = 0;
+    for (Future<Integer> result : deleted) {
+      deletions += result.get(10, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(deletions).isEqualTo(1);
+  }
+
+  private int acquire(String storedFileName) {
+    return namedJdbcTemplate.update(acquireSql, Map.of("contentHash", HASH,
+        "storedFileName", storedFileName, "fileSize", 1024L));
+  }
+
+  private int release(Long id) {
+    return namedJdbcTemplate.update(releaseSql, Map.of("id", id));
+  }
+
+  private int deleteIfUnreferenced(Long id) {
+    return namedJdbcTemplate.update(deleteIfUnreferencedSql, Map.of("id", id));
+  }
+
+  private Long blobId() {
+    return jdbcTemplate.queryForObject("SELECT id FROM file_blob WHERE content_hash = ?",
+        Long.class, HASH);
+  }
+
+  private Integer refCount() {
+    return jdbcTemplate.queryForObject("SELECT ref_count FROM file_blob WHERE content_hash = ?",
+        Integer.class, HASH);
+  }
+
+  private static String nativeQuery(String methodName, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    Query query = FileBlobRepository.class.getMethod(methodName, parameterTypes)
+        .getAnnotation(Query.class);
+    assertThat(query.nativeQuery()).isTrue();
+    return query.value();
+  }
+}
@@ -0,0 +1,262 @@
+package com.workout.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.workout.feed.domain.Feed;
+import com.workout.feed.repository.CommentRepository;
+import com.workout.feed.repository.FeedRepository;
+import com.workout.feed.repository.LikeRepository;
+import com.workout.feed.service.FeedCacheService;
+import com.workout.feed.service.FeedLocalCache;
+import com.workout.feed.service.FeedService;
+import com.workout.feed.service.HomeTimelineService;
+import com.workout.global.exception.RestApiException;
+import com.workout.global.exception.errorcode.FileErrorCode;
+import com.workout.member.domain.Member;
+import com.workout.member.service.MemberService;
+import com.workout.utils.domain.UserFile;
+import com.workout.utils.repository.FileBlobRepository;
+import com.workout.utils.repository.FileRepository;
+import com.workout.utils.storage.BlobStore;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 중복 제거로 여러 회원이 같은 blob 을 공유할 때 {@link FileService}의 참조 해제가 업로드 행 하나당 한 번만 일어나는지 검증합니다. 두
+ * 리포지토리는 목으로 두되, 네이티브 쿼리는 H2(MySQL 모드)의 {@code user_file}/{@code file_blob} 테이블에서 그대로 실행합니다.
+ */
+@DisplayName("FileService 공유 blob 참조 해제 테스트 (H2 MySQL 모드)")
+class FileServiceTest {
+
+  private static final Long MEMBER_A = 1L;
+  private static final Long MEMBER_B = 2L;
+  private static final String STORED = "shared.jpg";
+  private static final String IMAGE_URL = "/images/" + STORED;
+
+  private JdbcTemplate jdbcTemplate;
+  private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  private final FileRepository fileRepository = mock(FileRepository.class);
+  private final FileBlobRepository fileBlobRepository = mock(FileBlobRepository.class);
+  private final ThreadPoolTaskExecutor fileIoExecutor = mock(ThreadPoolTaskExecutor.class);
+  private final BlobStore blobStore = mock(BlobStore.class);
+  private final FeedRepository feedRepository = mock(FeedRepository.class);
+
+  private FileService fileService;
+  private FeedService feedService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:file_service;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS user_file");
+    jdbcTemplate.execute("DROP TABLE IF EXISTS file_blob");
+    jdbcTemplate.execute("""
+        CREATE TABLE user_file (
+            id               BIGINT PRIMARY KEY,
+            member_id        BIGINT       NOT NULL,
+            stored_file_name VARCHAR(255) NOT NULL
+        )""");
+    jdbcTemplate.execute("""
+        CREATE TABLE file_blob (
+            id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+            stored_file_name VARCHAR(255) NOT NULL UNIQUE,
+            ref_count        INT          NOT NULL DEFAULT 0
+        )""");
+    bindRepositories();
+
+    fileService = new FileService(fileRepository, fileBlobRepository,
+        mock(ImageVariantService.class), mock(TransactionTemplate.class), fileIoExecutor,
+        blobStore);
+    feedService = new FeedService(mock(MemberService.class), feedRepository, fileService,
+        mock(LikeRepository.class), mock(FeedCacheService.class), mock(CommentRepository.class),
+        mock(FeedLocalCache.class), mock(HomeTimelineService.class));
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  @Test
+  @DisplayName("같은 이미지를 올린 두 회원 중 한 명이 피드와 파일을 지워도 다른 회원의 이미지는 남는다")
+  void deleteFeedThenFile_keepsOtherMembersImage() {
+    // given: A, B 가 같은 이미지를 올려 blob 하나를 공유 (ref_count = 2), A 의 피드가 그 이미지를 사용
+    seedSharedUpload();
+    givenFeed(10L, MEMBER_A);
+
+    // when
+    feedService.deleteFeed(10L, MEMBER_A);
+    assertThatThrownBy(() -> fileService.deleteFileById(100L, MEMBER_A))
+        .isInstanceOf(RestApiException.class)
+        .extracting(e -> ((RestApiException) e).getErrorCode())
+        .isEqualTo(FileErrorCode.FILE_NOT_FOUND);
+    commit();
+
+    // then
+    assertThat(refCount()).isEqualTo(1);
+    assertThat(ownerIds()).containsExactly(MEMBER_B);
+    then(fileIoExecutor).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("파일 삭제가 피드 삭제보다 먼저 행을 읽었어도 참조는 한 번만 해제된다")
+  void deleteFileAfterStaleRead_releasesOnce() {
+    // given: 파일 삭제가 행을 읽은 직후 피드 삭제가 같은 행을 지운 상황
+    seedSharedUpload();
+    givenFeed(10L, MEMBER_A);
+    UserFile staleRow = userFile(MEMBER_A);
+    given(fileRepository.findById(100L)).willAnswer(invocation -> {
+      feedService.deleteFeed(10L, MEMBER_A);
+      return Optional.of(staleRow);
+    });
+
+    // when
+    fileService.deleteFileById(100L, MEMBER_A);
+    commit();
+
+    // then
+    assertThat(refCount()).isEqualTo(1);
+    assertThat(ownerIds()).containsExactly(MEMBER_B);
+    then(fileIoExecutor).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("마지막 업로드 행이 지워질 때만 blob 을 지우고 커밋 후 물리 파일 삭제를 예약한다")
+  void deleteLastOwner_schedulesPhysicalDelete() {
+    // given
+    seedSharedUpload();
+    givenFeed(10L, MEMBER_A);
+    givenFeed(20L, MEMBER_B);
+
+    // when
+    feedService.deleteFeed(10L, MEMBER_A);
+    feedService.deleteFeed(20L, MEMBER_B);
+    commit();
+
+    // then
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM file_blob", Integer.class))
+        .isZero();
+    assertThat(ownerIds()).isEmpty();
+    then(fileIoExecutor).should().execute(any(Runnable.class));
+  }
+
+  @Test
+  @DisplayName("한 회원이 같은 이미지를 두 번 올렸으면 피드 하나를 지울 때 업로드 행도 하나만 지운다")
+  void deleteFeed_removesOneOfSameMembersRows() {
+    // given
+    jdbcTemplate.update("INSERT INTO file_blob (stored_file_name, ref_count) VALUES (?, 2)", STORED);
+    jdbcTemplate.update("INSERT INTO user_file VALUES (100, ?, ?)", MEMBER_A, STORED);
+    jdbcTemplate.update("INSERT INTO user_file VALUES (101, ?, ?)", MEMBER_A, STORED);
+    givenFeed(10L, MEMBER_A);
+
+    // when
+    feedService.deleteFeed(10L, MEMBER_A);
+    commit();
+
+    // then
+    assertThat(refCount()).isEqualTo(1);
+    assertThat(ownerIds()).containsExactly(MEMBER_A);
+  }
+
+  private void bindRepositories() throws NoSuchMethodException {
+    String deleteOwnedSql = nativeQuery(FileRepository.class,
+        "deleteOneByMemberIdAndStoredFileName", Long.class, String.class);
+    String deleteByIdSql = nativeQuery(FileRepository.class, "deleteOneById", Long.class);
+    String releaseSql = nativeQuery(FileBlobRepository.class, "release", Long.class);
+    String deleteIfUnreferencedSql = nativeQuery(FileBlobRepository.class,
+        "deleteIfUnreferenced", Long.class);
+
+    given(fileRepository.deleteOneByMemberIdAndStoredFileName(anyLong(), anyString()))
+        .willAnswer(invocation -> namedJdbcTemplate.update(deleteOwnedSql, Map.of(
+            "memberId", invocation.getArgument(0),
+            "storedFileName", invocation.getArgument(1))));
+    given(fileRepository.deleteOneById(anyLong())).willAnswer(invocation ->
+        namedJdbcTemplate.update(deleteByIdSql, Map.of("id", invocation.getArgument(0))));
+    given(fileRepository.findById(anyLong())).willAnswer(invocation -> jdbcTemplate.queryForList(
+            "SELECT member_id FROM user_file WHERE id = ?", Long.class,
+            (Long) invocation.getArgument(0)).stream()
+        .findFirst()
+        .map(this::userFile));
+
+    given(fileBlobRepository.findIdByStoredFileName(anyString())).willAnswer(invocation ->
+        jdbcTemplate.queryForList("SELECT id FROM file_blob WHERE stored_file_name = ?",
+            Long.class, (String) invocation.getArgument(0)).stream().findFirst());
+    given(fileBlobRepository.release(anyLong())).willAnswer(invocation ->
+        namedJdbcTemplate.update(releaseSql, Map.of("id", invocation.getArgument(0))));
+    given(fileBlobRepository.deleteIfUnreferenced(anyLong())).willAnswer(invocation ->
+        namedJdbcTemplate.update(deleteIfUnreferencedSql, Map.of("id", invocation.getArgument(0))));
+  }
+
+  private void seedSharedUpload() {
+    jdbcTemplate.update("INSERT INTO file_blob (stored_file_name, ref_count) VALUES (?, 2)", STORED);
+    jdbcTemplate.update("INSERT INTO user_file VALUES (100, ?, ?)", MEMBER_A, STORED);
+    jdbcTemplate.update("INSERT INTO user_file VALUES (200, ?, ?)", MEMBER_B, STORED);
+  }
+
+  private void givenFeed(Long feedId, Long memberId) {
+    Member member = member(memberId);
+    Feed feed = mock(Feed.class);
+    given(feed.getMember()).willReturn(member);
+    given(feed.getImageUrl()).willReturn(IMAGE_URL);
+    given(feedRepository.findByIdWithMember(feedId)).willReturn(Optional.of(feed));
+  }
+
+  private UserFile userFile(Long memberId) {
+    Member member = member(memberId);
+    UserFile userFile = mock(UserFile.class);
+    given(userFile.getMember()).willReturn(member);
+    given(userFile.getStoredFileName()).willReturn(STORED);
+    return userFile;
+  }
+
+  private static Member member(Long memberId) {
+    Member member = mock(Member.class);
+    given(member.getId()).willReturn(memberId);
+    return member;
+  }
+
+  private static void commit() {
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+  }
+
+  private Integer refCount() {
+    return jdbcTemplate.queryForObject(
+        "SELECT ref_count FROM file_blob WHERE stored_file_name = ?", Integer.class, STORED);
+  }
+
+  private List<Long> ownerIds() {
+    return jdbcTemplate.queryForList("SELECT member_id FROM user_file ORDER BY id", Long.class);
+  }
+
+  private static String nativeQuery(Class<?> repository, String name, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    Method method = repository.getMethod(name, parameterTypes);
+    return method.getAnnotation(Query.class).value();
+  }
+}
@@ -0,0 +1,107 @@
+package com.workout.utils.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.workout.utils.storage.BlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@DisplayName("ImageVariantService 단위 테스트")
+class ImageVariantServiceTest {
+
+  private BlobStore blobStore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    blobStore = mock(BlobStore.class);
+    given(blobStore.get("origin.png")).willAnswer(invocation -> png(200, 100));
+  }
+
+  @Test
+  @DisplayName("픽셀 수가 제한 이내면 등급별 축소본을 저장한다")
+  void generate_writesVariantsWithinPixelCap() throws IOException {
+    // given
+    ImageVariantService service = service(20_000);
+
+    // when
+    service.generate("origin.png");
+
+    // then
+    then(blobStore).should().putFile(eq("origin_thumb.jpg"), any(Path.class), eq("image/jpeg"));
+    then(blobStore).should().putFile(eq("origin_medium.jpg"), any(Path.class), eq("image/jpeg"));
+  }
+
+  @Test
+  @DisplayName("헤더의 가로x세로가 제한을 넘으면 디코딩하지 않고 건너뛴다")
+  void generate_skipsImageAbovePixelCap() throws IOException {
+    // given
+    ImageVariantService service = service(19_999);
+
+    // when
+    service.generate("origin.png");
+
+    // then
+    then(blobStore).should(never()).putFile(anyString(), any(Path.class), anyString());
+  }
+
+  @Test
+  @DisplayName("이미지가 아닌 파일은 건너뛴다")
+  void generate_skipsUnsupportedFile() throws IOException {
+    // given
+    given(blobStore.get("note.png"))
+        .willAnswer(invocation -> new ByteArrayInputStream("not an image".getBytes()));
+
+    // when
+    service(20_000).generate("note.png");
+
+    // then
+    then(blobStore).should(never()).putFile(anyString(), any(Path.class), anyString());
+  }
+
+  @Test
+  @DisplayName("작업 큐가 가득 차면 요청 스레드에서 만들지 않고 건너뛴 뒤 건수를 기록한다")
+  void generateAfterCommit_countsRejectedTask() throws IOException {
+    // given
+    ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+    willThrow(new TaskRejectedException("queue full")).given(executor).execute(any(Runnable.class));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ImageVariantService service = new ImageVariantService(executor, meterRegistry, blobStore,
+        false, 20_000);
+
+    // when
+    service.generateAfterCommit("origin.png");
+
+    // then
+    assertThat(meterRegistry.counter("image.variants.rejected").count()).isEqualTo(1);
+    then(blobStore).should(never()).get(anyString());
+  }
+
+  private ImageVariantService service(long maxPixels) {
+    return new ImageVariantService(mock(ThreadPoolTaskExecutor.class), new SimpleMeterRegistry(),
+        blobStore, false, maxPixels);
+  }
+
+  private static ByteArrayInputStream png(int width, int height) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+    return new ByteArrayInputStream(out.toByteArray());
+  }
+}
@@ -0,0 +1,195 @@
+package com.workout.utils.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("LocalBlobStore 테스트")
+class LocalBlobStoreTest {
+
+  private static final byte[] CONTENT = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  @TempDir
+  Path root;
+
+  @TempDir
+  Path staging;
+
+  private LocalBlobStore blobStore;
+
+  @BeforeEach
+  void setUp() {
+    blobStore = new LocalBlobStore(root.toString());
+  }
+
+  @Test
+  @DisplayName("구간 읽기는 start 부터 end 까지(포함)만 반환한다")
+  void getRange_returnsInclusiveSlice() throws IOException {
+    // given
+    put("a.jpg", CONTENT);
+
+    // when & then
+    assertThat(readAll(blobStore.getRange("a.jpg", 3, 7))).isEqualTo("34567");
+    assertThat(readAll(blobStore.getRange("a.jpg", 0, 0))).isEqualTo("0");
+    assertThat(readAll(blobStore.getRange("a.jpg", 10, 15))).isEqualTo("abcdef");
+  }
+
+  @Test
+  @DisplayName("한 바이트씩 읽어도 구간 끝에서 멈춘다")
+  void getRange_singleByteReadsStopAtEnd() throws IOException {
+    // given
+    put("a.jpg", CONTENT);
+
+    // when
+    StringBuilder read = new StringBuilder();
+    try (InputStream in = blobStore.getRange("a.jpg", 14, 15)) {
+      int b;
+      while ((b = in.read()) != -1) {
+        read.append((char) b);
+      }
+    }
+
+    // then
+    assertThat(read).hasToString("ef");
+  }
+
+  @Test
+  @DisplayName("putFile 은 원자적 이동으로 저장하고 원본 파일을 남기지 않는다")
+  void putFile_movesAtomically() throws IOException {
+    // given
+    Path source = Files.write(staging.resolve("staged.tmp"), CONTENT);
+
+    // when
+    blobStore.putFile("a.jpg", source, "image/jpeg");
+
+    // then
+    assertThat(root.resolve("a.jpg")).hasBinaryContent(CONTENT);
+    assertThat(source).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("원자적 이동이 안 되면 복사 후 이동하고 원본과 임시 파일을 남기지 않는다")
+  void putFile_fallsBackToCopyWhenAtomicMoveUnsupported() throws IOException {
+    // given: 다른 파일 시스템의 스테이징 파일
+    LocalBlobStore crossDeviceStore = new LocalBlobStore(root.toString()) {
+      @Override
+      void moveAtomically(Path source, Path target) throws IOException {
+        throw new AtomicMoveNotSupportedException(source.toString(), target.toString(),
+            "cross-device");
+      }
+    };
+    Path source = Files.write(staging.resolve("staged.tmp"), CONTENT);
+
+    // when
+    crossDeviceStore.putFile("a.jpg", source, "image/jpeg");
+
+    // then
+    assertThat(root.resolve("a.jpg")).hasBinaryContent(CONTENT);
+    assertThat(source).doesNotExist();
+    try (var files = Files.list(root)) {
+      assertThat(files).containsExactly(root.resolve("a.jpg"));
+    }
+  }
+
+  @Test
+  @DisplayName("put 은 같은 키를 덮어쓴다")
+  void put_overwritesExistingKey() throws IOException {
+    // given
+    put("a.jpg", CONTENT);
+
+    // when
+    put("a.jpg", "new".getBytes(StandardCharsets.US_ASCII));
+
+    // then
+    assertThat(readAll(blobStore.get("a.jpg"))).isEqualTo("new");
+  }
+
+  @Test
+  @DisplayName("stat/exists 는 크기와 수정 시각을 알려주고, 없는 키는 비어 있다")
+  void stat_andExists() throws IOException {
+    // given
+    put("a.jpg", CONTENT);
+
+    // when
+    BlobInfo info = blobStore.stat("a.jpg").orElseThrow();
+
+    // then
+    assertThat(info.key()).isEqualTo("a.jpg");
+    assertThat(info.size()).isEqualTo(CONTENT.length);
+    assertThat(info.lastModified()).isEqualTo(
+        Files.getLastModifiedTime(root.resolve("a.jpg")).toInstant());
+    assertThat(blobStore.exists("a.jpg")).isTrue();
+    assertThat(blobStore.stat("missing.jpg")).isEmpty();
+    assertThat(blobStore.exists("missing.jpg")).isFalse();
+  }
+
+  @Test
+  @DisplayName("없는 키를 읽으면 NoSuchFileException, 삭제는 무시한다")
+  void missingKey() throws IOException {
+    assertThatThrownBy(() -> blobStore.get("missing.jpg"))
+        .isInstanceOf(NoSuchFileException.class);
+    assertThatThrownBy(() -> blobStore.getRange("missing.jpg", 0, 1))
+        .isInstanceOf(NoSuchFileException.class);
+
+    blobStore.delete("missing.jpg");
+  }
+
+  @Test
+  @DisplayName("forEach 는 파일만 순회하고 하위 디렉토리는 건너뛴다")
+  void forEach_listsRegularFiles() throws IOException {
+    // given
+    put("a.jpg", CONTENT);
+    put("b.jpg", CONTENT);
+    Files.createDirectory(root.resolve("staging"));
+
+    // when
+    List<String> keys = new ArrayList<>();
+    blobStore.forEach(info -> keys.add(info.key()));
+
+    // then
+    assertThat(keys).containsExactlyInAnyOrder("a.jpg", "b.jpg");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"../escape.jpg", "staging/a.jpg", "/etc/passwd", "", "."})
+  @DisplayName("저장소 디렉토리 바로 아래가 아닌 키는 거부한다")
+  void rejectsKeysOutsideRoot(String key) {
+    assertThatThrownBy(() -> blobStore.get(key)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> blobStore.stat(key)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> blobStore.delete(key)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> put(key, CONTENT)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("로컬 저장소는 서명된 URL 을 지원하지 않는다")
+  void presignedGetUrl_isEmpty() {
+    assertThat(blobStore.presignedGetUrl("a.jpg", Duration.ofMinutes(5))).isEmpty();
+  }
+
+  private void put(String key, byte[] content) throws IOException {
+    blobStore.put(key, new ByteArrayInputStream(content), content.length, "image/jpeg");
+  }
+
+  private static String readAll(InputStream in) throws IOException {
+    try (in) {
+      return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+    }
+  }
+}
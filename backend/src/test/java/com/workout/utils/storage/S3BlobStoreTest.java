@@ -0,0 +1,382 @@
+package com.workout.utils.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.workout.global.config.StorageConfig;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * {@link S3BlobStore}를 실제 SDK 클라이언트({@link StorageConfig}와 같은 MinIO 용 설정)로 프로세스 안의 가짜 S3 엔드포인트에 붙여
+ * 검증합니다. 가짜 서버는 path-style 객체 PUT/GET(Range)/HEAD/DELETE 와 ListObjectsV2 만 흉내 내며 서명은 확인하지 않습니다.
+ */
+@DisplayName("S3BlobStore 테스트 (가짜 S3 엔드포인트)")
+class S3BlobStoreTest {
+
+  private static final String BUCKET = "workout";
+  private static final byte[] CONTENT = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  @TempDir
+  Path staging;
+
+  private FakeS3Server server;
+  private S3Client s3Client;
+  private S3Presigner s3Presigner;
+  private S3BlobStore blobStore;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = FakeS3Server.start(BUCKET);
+    StorageConfig config = new StorageConfig();
+    ReflectionTestUtils.setField(config, "region", "us-east-1");
+    ReflectionTestUtils.setField(config, "endpoint", server.endpoint());
+    ReflectionTestUtils.setField(config, "pathStyle", true);
+    ReflectionTestUtils.setField(config, "accessKey", "test-access");
+    ReflectionTestUtils.setField(config, "secretKey", "test-secret");
+    s3Client = config.s3Client();
+    s3Presigner = config.s3Presigner();
+    blobStore = new S3BlobStore(s3Client, s3Presigner, BUCKET);
+  }
+
+  @AfterEach
+  void tearDown() {
+    s3Client.close();
+    s3Presigner.close();
+    server.stop();
+  }
+
+  @Test
+  @DisplayName("put 은 내용과 Content-Type, 불변 Cache-Control 을 함께 저장한다")
+  void put_storesContentWithHeaders() throws IOException {
+    // when
+    blobStore.put("a.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+    // then
+    FakeS3Server.StoredObject stored = server.object("a.jpg");
+    assertThat(stored.content()).isEqualTo(CONTENT);
+    assertThat(stored.contentType()).isEqualTo("image/jpeg");
+    assertThat(stored.cacheControl()).isEqualTo("public, max-age=31536000, immutable");
+    assertThat(readAll(blobStore.get("a.jpg"))).isEqualTo("0123456789abcdef");
+  }
+
+  @Test
+  @DisplayName("putFile 은 업로드 후 로컬 원본 파일을 지운다")
+  void putFile_deletesSource() throws IOException {
+    // given
+    Path source = Files.write(staging.resolve("staged.tmp"), CONTENT);
+
+    // when
+    blobStore.putFile("a.jpg", source, "image/jpeg");
+
+    // then
+    assertThat(server.object("a.jpg").content()).isEqualTo(CONTENT);
+    assertThat(source).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("구간 읽기는 Range 헤더로 요청해 start 부터 end 까지(포함)만 받는다")
+  void getRange_sendsRangeHeader() throws IOException {
+    // given
+    blobStore.put("a.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+    // when
+    String slice = readAll(blobStore.getRange("a.jpg", 3, 7));
+
+    // then
+    assertThat(slice).isEqualTo("34567");
+    assertThat(server.lastRange()).isEqualTo("bytes=3-7");
+  }
+
+  @Test
+  @DisplayName("stat 은 크기와 수정 시각을 알려주고, 없는 키는 비어 있다")
+  void stat_andExists() throws IOException {
+    // given
+    blobStore.put("a.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+    // when
+    BlobInfo info = blobStore.stat("a.jpg").orElseThrow();
+
+    // then
+    assertThat(info.size()).isEqualTo(CONTENT.length);
+    assertThat(info.lastModified()).isEqualTo(server.object("a.jpg").lastModified());
+    assertThat(blobStore.exists("a.jpg")).isTrue();
+    assertThat(blobStore.stat("missing.jpg")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("없는 키를 읽으면 로컬 저장소와 같이 NoSuchFileException 을 던진다")
+  void get_missingKeyThrowsNoSuchFile() {
+    assertThatThrownBy(() -> blobStore.get("missing.jpg"))
+        .isInstanceOf(NoSuchFileException.class);
+    assertThatThrownBy(() -> blobStore.getRange("missing.jpg", 0, 1))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  @DisplayName("delete 후에는 객체가 없고, forEach 는 남은 객체만 순회한다")
+  void delete_andForEach() throws IOException {
+    // given
+    blobStore.put("a.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+    blobStore.put("b.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+    // when
+    blobStore.delete("a.jpg");
+    List<BlobInfo> listed = new ArrayList<>();
+    blobStore.forEach(listed::add);
+
+    // then
+    assertThat(blobStore.exists("a.jpg")).isFalse();
+    assertThat(listed).extracting(BlobInfo::key, BlobInfo::size)
+        .containsExactly(tuple("b.jpg", (long) CONTENT.length));
+  }
+
+  @Test
+  @DisplayName("서명된 URL 은 엔드포인트의 path-style 주소에 만료 시간과 서명을 담는다")
+  void presignedGetUrl_signsPathStyleUrl() {
+    // when
+    URI url = blobStore.presignedGetUrl("a.jpg", Duration.ofMinutes(10)).orElseThrow();
+
+    // then
+    assertThat(url.toString()).startsWith(server.endpoint() + "/" + BUCKET + "/a.jpg?");
+    assertThat(url.getQuery())
+        .contains("X-Amz-Algorithm=AWS4-HMAC-SHA256")
+        .contains("X-Amz-Expires=600")
+        .contains("X-Amz-Credential=test-access/")
+        .contains("X-Amz-Signature=");
+  }
+
+  private static String readAll(InputStream in) throws IOException {
+    try (in) {
+      return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+    }
+  }
+
+  /**
+   * 한 버킷만 가진 메모리 기반 S3 엔드포인트.
+   */
+  static final class FakeS3Server {
+
+    private static final DateTimeFormatter ISO_8601 = DateTimeFormatter.ISO_INSTANT;
+
+    record StoredObject(byte[] content, String contentType, String cacheControl,
+                        Instant lastModified) {
+
+    }
+
+    private final HttpServer httpServer;
+    private final String bucket;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private volatile String lastRange;
+
+    private FakeS3Server(HttpServer httpServer, String bucket) {
+      this.httpServer = httpServer;
+      this.bucket = bucket;
+    }
+
+    static FakeS3Server start(String bucket) throws IOException {
+      HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+      FakeS3Server server = new FakeS3Server(httpServer, bucket);
+      httpServer.createContext("/" + bucket, server::handle);
+      httpServer.start();
+      return server;
+    }
+
+    String endpoint() {
+      return "http://127.0.0.1:" + httpServer.getAddress().getPort();
+    }
+
+    StoredObject object(String key) {
+      return objects.get(key);
+    }
+
+    String lastRange() {
+      return lastRange;
+    }
+
+    void stop() {
+      httpServer.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+      try (exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String key = path.length() > bucket.length() + 2
+            ? path.substring(bucket.length() + 2) : "";
+        switch (exchange.getRequestMethod()) {
+          case "PUT" -> put(exchange, key);
+          case "GET" -> {
+            if (key.isEmpty()) {
+              list(exchange);
+            } else {
+              get(exchange, key);
+            }
+          }
+          case "HEAD" -> head(exchange, key);
+          case "DELETE" -> {
+            objects.remove(key);
+            exchange.sendResponseHeaders(204, -1);
+          }
+          default -> exchange.sendResponseHeaders(405, -1);
+        }
+      }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+      byte[] body = exchange.getRequestBody().readAllBytes();
+      String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+      if (contentSha != null && contentSha.startsWith("STREAMING-")) {
+        body = decodeAwsChunked(body);
+      }
+      objects.put(key, new StoredObject(body,
+          exchange.getRequestHeaders().getFirst("Content-Type"),
+          exchange.getRequestHeaders().getFirst("Cache-Control"),
+          Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+      exchange.getResponseHeaders().set("ETag", etag(body));
+      exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key) throws IOException {
+      StoredObject object = objects.get(key);
+      if (object == null) {
+        noSuchKey(exchange, key);
+        return;
+      }
+      byte[] content = object.content();
+      String range = exchange.getRequestHeaders().getFirst("Range");
+      lastRange = range;
+      int status = 200;
+      if (range != null) {
+        String[] bounds = range.substring("bytes=".length()).split("-");
+        int start = Integer.parseInt(bounds[0]);
+        int end = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+        exchange.getResponseHeaders().set("Content-Range",
+            "bytes " + start + "-" + end + "/" + content.length);
+        content = Arrays.copyOfRange(content, start, end + 1);
+        status = 206;
+      }
+      writeObjectHeaders(exchange, object);
+      exchange.sendResponseHeaders(status, content.length);
+      exchange.getResponseBody().write(content);
+    }
+
+    private void head(HttpExchange exchange, String key) throws IOException {
+      StoredObject object = objects.get(key);
+      if (object == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      writeObjectHeaders(exchange, object);
+      exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.content().length));
+      exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void list(HttpExchange exchange) throws IOException {
+      StringBuilder xml = new StringBuilder("""
+          <?xml version="1.0" encoding="UTF-8"?>
+          <ListBucketResult xmlns="http://s3.amazonaws.com/doc/2006-03-01/">""")
+          .append("<Name>").append(bucket).append("</Name>")
+          .append("<KeyCount>").append(objects.size()).append("</KeyCount>")
+          .append("<IsTruncated>false</IsTruncated>");
+      objects.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> xml
+          .append("<Contents><Key>").append(entry.getKey()).append("</Key>")
+          .append("<LastModified>").append(ISO_8601.format(entry.getValue().lastModified()))
+          .append("</LastModified>")
+          .append("<Size>").append(entry.getValue().content().length).append("</Size>")
+          .append("</Contents>"));
+      xml.append("</ListBucketResult>");
+      sendXml(exchange, 200, xml.toString());
+    }
+
+    private void noSuchKey(HttpExchange exchange, String key) throws IOException {
+      sendXml(exchange, 404, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error>"
+          + "<Code>NoSuchKey</Code><Message>The specified key does not exist.</Message>"
+          + "<Key>" + key + "</Key></Error>");
+    }
+
+    private static void writeObjectHeaders(HttpExchange exchange, StoredObject object) {
+      exchange.getResponseHeaders().set("ETag", etag(object.content()));
+      exchange.getResponseHeaders().set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME
+          .format(object.lastModified().atOffset(ZoneOffset.UTC)));
+      if (object.contentType() != null) {
+        exchange.getResponseHeaders().set("Content-Type", object.contentType());
+      }
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml)
+        throws IOException {
+      byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/xml");
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * {@code aws-chunked} 본문({@code 크기;chunk-signature=...\r\n데이터\r\n ... 0;...\r\n\r\n})에서 데이터만 꺼냅니다.
+     */
+    private static byte[] decodeAwsChunked(byte[] body) {
+      ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+      int pos = 0;
+      while (true) {
+        int lineEnd = indexOfCrlf(body, pos);
+        String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+        int size = Integer.parseInt(header.split(";")[0], 16);
+        if (size == 0) {
+          return decoded.toByteArray();
+        }
+        decoded.write(body, lineEnd + 2, size);
+        pos = lineEnd + 2 + size + 2;
+      }
+    }
+
+    private static int indexOfCrlf(byte[] body, int from) {
+      for (int i = from; i < body.length - 1; i++) {
+        if (body[i] == '\r' && body[i + 1] == '\n') {
+          return i;
+        }
+      }
+      throw new IllegalArgumentException("Malformed aws-chunked body");
+    }
+
+    private static String etag(byte[] content) {
+      try {
+        return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content))
+            + "\"";
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
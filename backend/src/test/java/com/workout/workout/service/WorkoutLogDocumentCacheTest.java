@@ -0,0 +1,103 @@
+package com.workout.workout.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.workout.global.config.TypedJacksonRedisSerializer;
+import com.workout.support.EmbeddedRedis;
+import com.workout.workout.dto.log.CachedWorkoutLog;
+import com.workout.workout.dto.log.WorkoutLogResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@DisplayName("WorkoutLogDocumentCache 단위 테스트 (embedded Redis)")
+class WorkoutLogDocumentCacheTest {
+
+  private static final Long OWNER_ID = 7L;
+
+  private static EmbeddedRedis embeddedRedis;
+  private static RedisTemplate<String, CachedWorkoutLog> workoutLogRedisTemplate;
+
+  private WorkoutLogDocumentCache cache;
+
+  @BeforeAll
+  static void startRedis() {
+    embeddedRedis = EmbeddedRedis.start();
+    TypedJacksonRedisSerializer<CachedWorkoutLog> serializer =
+        TypedJacksonRedisSerializer.of("smile", CachedWorkoutLog.class);
+    workoutLogRedisTemplate = new RedisTemplate<>();
+    workoutLogRedisTemplate.setConnectionFactory(embeddedRedis.connectionFactory());
+    workoutLogRedisTemplate.setKeySerializer(new StringRedisSerializer());
+    workoutLogRedisTemplate.setValueSerializer(serializer);
+    workoutLogRedisTemplate.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    cache = new WorkoutLogDocumentCache(workoutLogRedisTemplate, new SimpleMeterRegistry(),
+        Duration.ofDays(7), Duration.ofMillis(300));
+  }
+
+  @Test
+  @DisplayName("적재한 문서를 작성자 ID 와 함께 TTL 을 두고 조회한다")
+  void put_thenGet() {
+    // when
+    cache.put(OWNER_ID, document(1L));
+
+    // then
+    assertThat(cache.get(1L)).hasValueSatisfying(cached -> {
+      assertThat(cached.ownerId()).isEqualTo(OWNER_ID);
+      assertThat(cached.document().workoutLogId()).isEqualTo(1L);
+    });
+    assertThat(workoutLogRedisTemplate.getExpire(WorkoutLogDocumentCache.key(1L))).isPositive();
+  }
+
+  @Test
+  @DisplayName("무효화 직후에는 커밋 전 스냅샷으로 조립한 문서를 적재하지 않는다")
+  void put_skippedWhileTombstoned() {
+    // given: 조회가 DB 를 읽은 뒤 삭제가 커밋되어 무효화
+    cache.put(OWNER_ID, document(1L));
+    cache.evictAfterCommit(1L);
+
+    // when: 조회가 늦게 적재
+    cache.put(OWNER_ID, document(1L));
+    cache.putAll(OWNER_ID, List.of(document(1L), document(2L)));
+
+    // then
+    assertThat(cache.get(1L)).isEmpty();
+    assertThat(cache.get(2L)).isPresent();
+  }
+
+  @Test
+  @DisplayName("tombstone 이 만료되면 다시 적재한다")
+  void put_allowedAfterTombstoneExpires() throws InterruptedException {
+    // given
+    cache.evictAfterCommit(1L);
+    Thread.sleep(500);
+
+    // when
+    cache.put(OWNER_ID, document(1L));
+
+    // then
+    assertThat(cache.get(1L)).isPresent();
+  }
+
+  private static WorkoutLogResponse document(Long workoutLogId) {
+    return new WorkoutLogResponse(workoutLogId, LocalDate.of(2025, 3, 1), Set.of(), List.of());
+  }
+}
@@ -0,0 +1,126 @@
+package com.workout.workout.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.workout.support.WorkoutLogSchema;
+import com.workout.workout.dto.log.WorkoutLogResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.FeedbackResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutExerciseResponse;
+import com.workout.workout.dto.log.WorkoutLogResponse.WorkoutSetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("WorkoutLogTreeReader 조립 테스트 (H2 MySQL 모드)")
+class WorkoutLogTreeReaderTest {
+
+  private static final Long MEMBER_ID = 1L;
+  private static final Long TRAINER_ID = 2L;
+
+  private JdbcTemplate jdbcTemplate;
+  private WorkoutLogTreeReader reader;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:workout_log_tree;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    reader = new WorkoutLogTreeReader(new NamedParameterJdbcTemplate(dataSource),
+        new SimpleMeterRegistry());
+    WorkoutLogSchema.create(jdbcTemplate);
+
+    jdbcTemplate.update("INSERT INTO member (id, name) VALUES (1, '회원'), (2, '트레이너')");
+    jdbcTemplate.update("INSERT INTO exercise (id, name) VALUES (1, '스쿼트'), (2, '벤치프레스')");
+
+    // 10: 운동 2개(입력 순서와 log_order 가 반대), 11: 운동 없음, 12: 세트 없는 운동, 13: 다음 달, 14: 다른 회원
+    jdbcTemplate.update("INSERT INTO workout_log (id, member_id, workout_date) VALUES "
+        + "(10, 1, '2025-03-03'), (11, 1, '2025-03-05'), (12, 1, '2025-03-04'), "
+        + "(13, 1, '2025-04-01'), (14, 2, '2025-03-03')");
+    jdbcTemplate.update("INSERT INTO workout_exercise (id, workout_log_id, exercise_id, log_order) "
+        + "VALUES (100, 10, 2, 2), (101, 10, 1, 1), (102, 12, 1, 1), (103, 13, 1, 1)");
+    jdbcTemplate.update("INSERT INTO workout_set (id, workout_exercise_id, set_order, weight, reps) "
+        + "VALUES (1001, 101, 2, 100.00, 5), (1000, 101, 1, 80.00, 8), (1002, 100, 1, 60.00, 10), "
+        + "(1003, 103, 1, 90.00, 5)");
+    jdbcTemplate.update("INSERT INTO feedback "
+        + "(id, author_id, content, workout_log_id, owner_type, owner_id) VALUES "
+        + "(1, 2, '좋은 흐름', 10, 'LOG', 10), (2, 2, '가동 범위 확인', 10, 'EXERCISE', 100), "
+        + "(3, 1, '무릎 주의', 10, 'SET', 1000), (4, 2, '다음 달', 13, 'LOG', 13)");
+  }
+
+  @Test
+  @DisplayName("기간 내 본인 일지를 날짜 내림차순으로, 운동과 세트는 순서대로 조립한다")
+  void readByMemberAndDate_assemblesOrderedTree() {
+    // when
+    List<WorkoutLogResponse> logs = reader.readByMemberAndDate(MEMBER_ID,
+        LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+    // then
+    assertThat(logs).extracting(WorkoutLogResponse::workoutLogId).containsExactly(11L, 12L, 10L);
+
+    WorkoutLogResponse log = logs.get(2);
+    assertThat(log.workoutDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+    assertThat(log.workoutExercises()).extracting(WorkoutExerciseResponse::workoutExerciseId,
+        WorkoutExerciseResponse::exerciseName, WorkoutExerciseResponse::order)
+        .containsExactly(tuple(101L, "스쿼트", 1),
+            tuple(100L, "벤치프레스", 2));
+    assertThat(log.workoutExercises().get(0).workoutSets())
+        .extracting(WorkoutSetResponse::workoutSetId, WorkoutSetResponse::reps)
+        .containsExactly(tuple(1000L, 8),
+            tuple(1001L, 5));
+    assertThat(log.workoutExercises().get(0).workoutSets().get(0).weight())
+        .isEqualByComparingTo(new BigDecimal("80"));
+  }
+
+  @Test
+  @DisplayName("운동이 없는 일지와 세트가 없는 운동도 빈 목록으로 포함한다")
+  void readByMemberAndDate_keepsEmptyNodes() {
+    // when
+    List<WorkoutLogResponse> logs = reader.readByMemberAndDate(MEMBER_ID,
+        LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 5));
+
+    // then
+    assertThat(logs.get(0).workoutExercises()).isEmpty();
+    assertThat(logs.get(0).feedbacks()).isEmpty();
+    assertThat(logs.get(1).workoutExercises()).singleElement()
+        .satisfies(exercise -> assertThat(exercise.workoutSets()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("피드백은 대상(일지/운동/세트) 노드에만 붙는다")
+  void readByIds_attachesFeedbackToOwners() {
+    // when
+    WorkoutLogResponse log = reader.readByIds(List.of(10L)).get(10L);
+
+    // then
+    assertThat(log.feedbacks()).containsExactly(new FeedbackResponse(1L, "트레이너", "좋은 흐름"));
+    WorkoutExerciseResponse squat = log.workoutExercises().get(0);
+    WorkoutExerciseResponse bench = log.workoutExercises().get(1);
+    assertThat(squat.feedbacks()).isEmpty();
+    assertThat(bench.feedbacks()).containsExactly(new FeedbackResponse(2L, "트레이너", "가동 범위 확인"));
+    assertThat(squat.workoutSets().get(0).feedbacks())
+        .containsExactly(new FeedbackResponse(3L, "회원", "무릎 주의"));
+    assertThat(squat.workoutSets().get(1).feedbacks()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("ID 로 조회하면 존재하는 일지만 요청 순서와 무관하게 ID 별로 반환한다")
+  void readByIds_skipsMissingIds() {
+    // when
+    Map<Long, WorkoutLogResponse> logs = reader.readByIds(List.of(99L, 13L, 10L));
+
+    // then
+    assertThat(logs).containsOnlyKeys(10L, 13L);
+    assertThat(logs.get(13L).feedbacks()).extracting(FeedbackResponse::content)
+        .containsExactly("다음 달");
+    assertThat(reader.readByIds(List.of())).isEmpty();
+  }
+}
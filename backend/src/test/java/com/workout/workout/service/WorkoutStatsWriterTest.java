@@ -0,0 +1,194 @@
+package com.workout.workout.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("WorkoutStatsWriter 단위 테스트")
+class WorkoutStatsWriterTest {
+
+  private static final LocalDate WORKOUT_DATE = LocalDate.of(2026, 10, 14);
+  private static final LocalDate WEEK_START = LocalDate.of(2026, 10, 12);
+
+  private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+  private PlatformTransactionManager transactionManager;
+  private ThreadPoolTaskExecutor executor;
+  private SimpleMeterRegistry meterRegistry;
+  private WorkoutStatsWriter workoutStatsWriter;
+
+  @BeforeEach
+  void setUp() {
+    namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    executor = mock(ThreadPoolTaskExecutor.class);
+    willAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).given(executor).execute(any(Runnable.class));
+    meterRegistry = new SimpleMeterRegistry();
+    workoutStatsWriter = new WorkoutStatsWriter(namedParameterJdbcTemplate, transactionManager,
+        executor, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("교착 상태로 롤백되면 재집계를 처음부터 다시 실행한다")
+  void refreshWeek_retriesAfterDeadlock() {
+    // given
+    given(namedParameterJdbcTemplate.update(startsWith("INSERT"), any(SqlParameterSource.class)))
+        .willThrow(new CannotAcquireLockException("Deadlock found"))
+        .willReturn(1);
+
+    // when
+    workoutStatsWriter.refreshWeekAfterCommit(1L, WORKOUT_DATE);
+
+    // then
+    then(namedParameterJdbcTemplate).should(times(2))
+        .update(startsWith("INSERT"), any(SqlParameterSource.class));
+    then(namedParameterJdbcTemplate).should(times(1))
+        .update(startsWith("DELETE"), any(SqlParameterSource.class));
+    then(transactionManager).should().rollback(any());
+    assertThat(meterRegistry.counter("workout.stats.refresh.retry").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("workout.stats.refresh.result", "result", "ok").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("잠금 실패가 계속되면 정해진 횟수만 시도하고 구간을 복구 대상으로 기록한다")
+  void refreshWeek_givesUpAfterMaxAttemptsAndMarksDirty() {
+    // given
+    given(namedParameterJdbcTemplate.update(startsWith("INSERT INTO workout_exercise_weekly_stat"),
+        any(SqlParameterSource.class)))
+        .willThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+
+    // when
+    workoutStatsWriter.refreshWeekAfterCommit(1L, WORKOUT_DATE);
+
+    // then
+    then(namedParameterJdbcTemplate).should(times(3)).update(
+        startsWith("INSERT INTO workout_exercise_weekly_stat"), any(SqlParameterSource.class));
+    assertMarkedDirty(1L);
+    assertThat(meterRegistry.counter("workout.stats.refresh.result", "result", "failed").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차 거절되면 호출 스레드에서 재집계하지 않고 구간을 복구 대상으로 기록한다")
+  void refreshWeek_rejectedTaskMarksDirty() {
+    // given
+    willThrow(new TaskRejectedException("queue full")).given(executor)
+        .execute(any(Runnable.class));
+
+    // when
+    workoutStatsWriter.refreshWeekAfterCommit(1L, WORKOUT_DATE);
+
+    // then
+    then(namedParameterJdbcTemplate).should(never()).update(
+        startsWith("INSERT INTO workout_exercise_weekly_stat"), any(SqlParameterSource.class));
+    assertMarkedDirty(1L);
+    assertThat(meterRegistry.counter("workout.stats.refresh.result", "result", "rejected")
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("재집계는 커밋된 호출 측 트랜잭션에 참여하지 않도록 항상 새 트랜잭션에서 실행한다")
+  void refreshWeek_runsInNewTransaction() {
+    // when
+    workoutStatsWriter.refreshWeekAfterCommit(1L, WORKOUT_DATE);
+
+    // then
+    ArgumentCaptor<TransactionDefinition> definition =
+        ArgumentCaptor.forClass(TransactionDefinition.class);
+    then(transactionManager).should().getTransaction(definition.capture());
+    assertThat(definition.getValue().getPropagationBehavior())
+        .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    then(transactionManager).should().commit(any());
+  }
+
+  @Test
+  @DisplayName("afterCommit 에서 거절된 구간은 커밋되어 같은 주는 한 행만 남는다 (H2)")
+  void markDirty_fromAfterCommitKeepsOneRowPerWeek() {
+    // given
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:workout_stats;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("DROP TABLE IF EXISTS workout_stat_dirty_week");
+    jdbcTemplate.execute("""
+        CREATE TABLE workout_stat_dirty_week (
+            member_id  BIGINT NOT NULL,
+            week_start DATE   NOT NULL,
+            PRIMARY KEY (member_id, week_start)
+        )""");
+    DataSourceTransactionManager dataSourceTransactionManager =
+        new DataSourceTransactionManager(dataSource);
+    willThrow(new TaskRejectedException("queue full")).given(executor)
+        .execute(any(Runnable.class));
+    WorkoutStatsWriter writer = new WorkoutStatsWriter(
+        new NamedParameterJdbcTemplate(dataSource), dataSourceTransactionManager, executor,
+        meterRegistry);
+
+    // when: 운동 일지 트랜잭션이 커밋된 뒤 afterCommit 에서 거절
+    new TransactionTemplate(dataSourceTransactionManager).executeWithoutResult(status -> {
+      writer.refreshWeekAfterCommit(1L, WORKOUT_DATE);
+      writer.refreshWeekAfterCommit(1L, WORKOUT_DATE.plusDays(1)); // 같은 주는 한 행
+    });
+
+    // then
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT member_id, week_start FROM workout_stat_dirty_week"))
+        .containsExactly(Map.of("MEMBER_ID", 1L, "WEEK_START", Date.valueOf(WEEK_START)));
+  }
+
+  @Test
+  @DisplayName("복구는 기록을 지운 뒤 호출 측 트랜잭션 안에서 해당 구간만 다시 집계한다")
+  void repairWeek_clearsDirtyThenReplacesWeek() {
+    // when
+    workoutStatsWriter.repairWeek(1L, WEEK_START);
+
+    // then
+    InOrder inOrder = inOrder(namedParameterJdbcTemplate);
+    inOrder.verify(namedParameterJdbcTemplate).update(
+        startsWith("DELETE FROM workout_stat_dirty_week"), any(SqlParameterSource.class));
+    inOrder.verify(namedParameterJdbcTemplate).update(
+        startsWith("INSERT INTO workout_exercise_weekly_stat"), any(SqlParameterSource.class));
+    inOrder.verify(namedParameterJdbcTemplate).update(
+        startsWith("DELETE s FROM workout_exercise_weekly_stat"), any(SqlParameterSource.class));
+    then(transactionManager).shouldHaveNoInteractions();
+  }
+
+  private void assertMarkedDirty(Long memberId) {
+    ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+    then(namedParameterJdbcTemplate).should().update(
+        startsWith("INSERT IGNORE INTO workout_stat_dirty_week"), params.capture());
+    assertThat(params.getValue().getValue("memberId")).isEqualTo(memberId);
+    assertThat(params.getValue().getValue("weekStart")).isEqualTo(WEEK_START);
+  }
+}